@@ -1,6 +1,7 @@
 package com.rodrigo.tastyhub.modules.articles.application.dto.response;
 
 import com.rodrigo.tastyhub.modules.articles.domain.model.ArticleSortBy;
+import com.rodrigo.tastyhub.shared.enums.PaginationMode;
 import com.rodrigo.tastyhub.shared.enums.SortDirection;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Max;
@@ -8,6 +9,7 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.PositiveOrZero;
 
 import java.time.OffsetDateTime;
+import java.util.Arrays;
 
 @Schema(description = "Parameters for filtering and paginating articles")
 public record ListArticlesQuery(
@@ -52,12 +54,36 @@ public record ListArticlesQuery(
     OffsetDateTime minCreatedAt,
 
     @Schema(description = "Maximum Date of CreatedAt")
-    OffsetDateTime maxCreatedAt
+    OffsetDateTime maxCreatedAt,
+
+    @Schema(description = "OFFSET counts every match; SLICE skips the count and only reports `hasNext`; CURSOR ignores `page` and continues from the `after` token", defaultValue = "OFFSET")
+    PaginationMode mode,
+
+    @Schema(description = "Cursor returned as `nextCursor` by the previous page (cursor mode only)")
+    String after,
+
+    @Schema(description = "Include an approximate `estimatedTotal` in slice and cursor modes", defaultValue = "false")
+    Boolean estimateTotal
 ) {
     public ListArticlesQuery {
         page = (page == null) ? 0 : page;
         size = (size == null) ? 10 : size;
         sortBy = (sortBy == null) ? ArticleSortBy.CREATED_AT : sortBy;
         direction = (direction == null) ? SortDirection.DESC : direction;
+        mode = (mode == null) ? PaginationMode.OFFSET : mode;
+        estimateTotal = estimateTotal != null && estimateTotal;
+    }
+
+    public String filterKey() {
+        return Arrays.asList(
+            query,
+            language,
+            minComments,
+            maxComments,
+            minLikesCount,
+            maxLikesCount,
+            minCreatedAt,
+            maxCreatedAt
+        ).toString();
     }
 }
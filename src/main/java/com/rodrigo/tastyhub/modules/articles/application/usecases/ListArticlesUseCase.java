@@ -9,8 +9,11 @@ import com.rodrigo.tastyhub.modules.articles.domain.service.ArticleService;
 import com.rodrigo.tastyhub.modules.user.domain.model.User;
 import com.rodrigo.tastyhub.shared.config.security.SecurityService;
 import com.rodrigo.tastyhub.shared.dto.response.PaginationMetadata;
+import com.rodrigo.tastyhub.shared.enums.PaginationMode;
+import com.rodrigo.tastyhub.shared.kernel.pagination.KeysetWindow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -24,6 +27,38 @@ public class ListArticlesUseCase {
     public ArticlePaginationDto execute(ListArticlesQuery query) {
         User user = this.securityService.getCurrentUserOptional().orElse(null);
 
+        Long estimatedTotal = query.estimateTotal() && query.mode() != PaginationMode.OFFSET
+            ? this.articleService.estimateTotal(query, user)
+            : null;
+
+        if (query.mode() == PaginationMode.CURSOR) {
+            KeysetWindow<Article> window = this.articleService.findWindow(query, user);
+
+            List<SummaryArticleDto> articles = window.content()
+                .stream()
+                .map(ArticleMapper::toSummary)
+                .toList();
+
+            return new ArticlePaginationDto(
+                articles,
+                PaginationMetadata.ofCursor(query.size(), query.direction(), query.after() != null, window, estimatedTotal)
+            );
+        }
+
+        if (query.mode() == PaginationMode.SLICE) {
+            Slice<Article> slice = this.articleService.findSlice(query, user);
+
+            List<SummaryArticleDto> articles = slice.getContent()
+                .stream()
+                .map(ArticleMapper::toSummary)
+                .toList();
+
+            return new ArticlePaginationDto(
+                articles,
+                PaginationMetadata.ofSlice(slice, query.direction(), estimatedTotal)
+            );
+        }
+
         Page<Article> page = this.articleService.findAll(query, user, null);
 
         List<SummaryArticleDto> articles = page.getContent()
@@ -9,11 +9,16 @@ import com.rodrigo.tastyhub.modules.collections.domain.model.UserCollection;
 import com.rodrigo.tastyhub.modules.user.domain.model.User;
 import com.rodrigo.tastyhub.shared.enums.SortDirection;
 import com.rodrigo.tastyhub.shared.exception.ResourceNotFoundException;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.KeysetQueryExecutor;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.RowCountEstimator;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.SliceQueryExecutor;
+import com.rodrigo.tastyhub.shared.kernel.pagination.KeysetWindow;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +27,9 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ArticleService {
     private final ArticleRepository articleRepository;
+    private final KeysetQueryExecutor keysetQueryExecutor;
+    private final SliceQueryExecutor sliceQueryExecutor;
+    private final RowCountEstimator rowCountEstimator;
 
     public Long countByAuthorId(Long authorId) {
         return this.articleRepository.countByAuthorId(authorId);
@@ -53,6 +61,43 @@ public class ArticleService {
         );
     }
 
+    public Slice<Article> findSlice(ListArticlesQuery request, @Nullable User owner) {
+        Pageable pageable = PageRequest.of(
+            request.page(),
+            request.size(),
+            buildSort(request.sortBy(), request.direction())
+        );
+
+        return sliceQueryExecutor.fetch(
+            Article.class,
+            ArticleSpecification.withFilters(request, null, owner != null ? owner.getId() : null),
+            pageable
+        );
+    }
+
+    public Long estimateTotal(ListArticlesQuery request, @Nullable User owner) {
+        Long ownerId = owner != null ? owner.getId() : null;
+
+        return rowCountEstimator.estimate(
+            "articles",
+            ownerId + ":" + request.filterKey(),
+            () -> articleRepository.count(ArticleSpecification.withFilters(request, null, ownerId))
+        );
+    }
+
+    public KeysetWindow<Article> findWindow(ListArticlesQuery request, @Nullable User owner) {
+        String field = sortField(request.sortBy());
+
+        return keysetQueryExecutor.fetch(
+            Article.class,
+            ArticleSpecification.withFilters(request, null, owner != null ? owner.getId() : null),
+            KeysetQueryExecutor.SortKey.of(field, field, false),
+            request.direction(),
+            request.after(),
+            request.size()
+        );
+    }
+
     public Article create(
         String title,
         String content,
@@ -113,14 +158,18 @@ public class ArticleService {
         articleRepository.delete(article);
     }
 
-    @Transactional
-    private Sort buildSort(ArticleSortBy sortBy, SortDirection direction) {
-        String field = switch (sortBy) {
+    private static String sortField(ArticleSortBy sortBy) {
+        return switch (sortBy) {
             case TITLE -> "title";
             case RELEVANCE -> "statistics.likesCount";
             case LIKES -> "statistics.favoritesCount";
             default -> "createdAt";
         };
+    }
+
+    @Transactional
+    private Sort buildSort(ArticleSortBy sortBy, SortDirection direction) {
+        String field = sortField(sortBy);
 
         return direction == SortDirection.ASC
             ? Sort.by(field).ascending()
@@ -3,6 +3,7 @@ package com.rodrigo.tastyhub.modules.collections.domain.model;
 import com.rodrigo.tastyhub.modules.articles.domain.model.Article;
 import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
 import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.PooledSequences;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -21,7 +22,12 @@ import java.util.Set;
 @Table(name = "user_collections")
 public class UserCollection {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_collections_id_seq")
+    @SequenceGenerator(
+        name = "user_collections_id_seq",
+        sequenceName = "user_collections_id_seq",
+        allocationSize = PooledSequences.ALLOCATION_SIZE
+    )
     private Long id;
 
     @Column(name = "name")
@@ -80,15 +86,11 @@ public class UserCollection {
     @UpdateTimestamp
     private OffsetDateTime updatedAt;
 
-    public void addRecipe(Recipe recipe) {
-        if (this.recipes.add(recipe)) {
-            recipe.incrementFavorites();
-        }
+    public boolean addRecipe(Recipe recipe) {
+        return this.recipes.add(recipe);
     }
 
-    public void removeRecipe(Recipe recipe) {
-        if (this.recipes.remove(recipe)) {
-            recipe.decrementFavorites();
-        }
+    public boolean removeRecipe(Recipe recipe) {
+        return this.recipes.remove(recipe);
     }
 }
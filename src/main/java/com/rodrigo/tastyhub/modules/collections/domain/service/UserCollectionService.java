@@ -27,9 +27,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -120,11 +117,6 @@ public class UserCollectionService {
         return generateResponse(collectionRepository.save(collection));
     }
 
-    @Retryable(
-        retryFor = { ObjectOptimisticLockingFailureException.class },
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 500)
-    )
     @Transactional
     public void favoriteRecipe(Long recipeId) {
         User user = securityService.getCurrentUser();
@@ -143,13 +135,10 @@ public class UserCollectionService {
         favoritesCollection.addRecipe(recipe);
 
         collectionRepository.saveAndFlush(favoritesCollection);
+        recipeService.adjustFavorites(recipeId, 1);
+        recipeService.evictCachedDetail(recipeId);
     }
 
-    @Retryable(
-        retryFor = { ObjectOptimisticLockingFailureException.class },
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 500)
-    )
     @Transactional
     public void unfavoriteRecipe(Long recipeId) {
         User user = securityService.getCurrentUser();
@@ -168,6 +157,8 @@ public class UserCollectionService {
         favoritesCollection.removeRecipe(recipe);
 
         collectionRepository.saveAndFlush(favoritesCollection);
+        recipeService.adjustFavorites(recipeId, -1);
+        recipeService.evictCachedDetail(recipeId);
     }
 
     @RequiresVerification
@@ -185,9 +176,15 @@ public class UserCollectionService {
             throw new UnauthorizedException("You are not permitted to add recipe to this collection");
         }
 
-        collection.addRecipe(recipe);
+        boolean added = collection.addRecipe(recipe);
 
         collectionRepository.saveAndFlush(collection);
+
+        if (added) {
+            recipeService.adjustFavorites(recipeId, 1);
+        }
+
+        recipeService.evictCachedDetail(recipeId);
     }
 
     @RequiresVerification
@@ -209,9 +206,15 @@ public class UserCollectionService {
             throw new UnauthorizedException("You are not permitted to remove recipe from this collection");
         }
 
-        collection.removeRecipe(recipe);
+        boolean removed = collection.removeRecipe(recipe);
 
         collectionRepository.saveAndFlush(collection);
+
+        if (removed) {
+            recipeService.adjustFavorites(recipeId, -1);
+        }
+
+        recipeService.evictCachedDetail(recipeId);
     }
 
     private CollectionCounts getCollectionCountsById(Long collectionId) {
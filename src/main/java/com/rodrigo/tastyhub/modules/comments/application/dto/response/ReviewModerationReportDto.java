@@ -0,0 +1,12 @@
+package com.rodrigo.tastyhub.modules.comments.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of removing every review written by a user")
+public record ReviewModerationReportDto(
+    @Schema(description = "Number of reviews removed", example = "37")
+    int removedReviews,
+
+    @Schema(description = "Number of recipes whose statistics were adjusted", example = "12")
+    int affectedRecipes
+) {}
@@ -4,6 +4,8 @@ import com.rodrigo.tastyhub.modules.articles.domain.model.Article;
 import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
 import com.rodrigo.tastyhub.modules.user.domain.model.User;
 import com.rodrigo.tastyhub.shared.exception.DomainException;
+import com.rodrigo.tastyhub.shared.exception.ForbiddenException;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.PooledSequences;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -24,7 +26,12 @@ import java.time.OffsetDateTime;
 @AllArgsConstructor
 public class Comment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comments_id_seq")
+    @SequenceGenerator(
+        name = "comments_id_seq",
+        sequenceName = "comments_id_seq",
+        allocationSize = PooledSequences.ALLOCATION_SIZE
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -60,11 +67,23 @@ public class Comment {
         comment.recipe = recipe;
         comment.createdAt = OffsetDateTime.now();
 
-        recipe.updateStatisticRating(rating);
-
         return comment;
     }
 
+    public void editReview(BigDecimal rating, String content) {
+        validateRating(rating);
+        validateContent(content);
+
+        this.rating = rating;
+        this.content = content;
+    }
+
+    public void validateAuthorship(Long currentUserId) {
+        if (this.user == null || !this.user.getId().equals(currentUserId)) {
+            throw new ForbiddenException("You are not the author of this review and cannot modify it.");
+        }
+    }
+
     private static void validateRating(BigDecimal rating) {
         if (rating == null || rating.compareTo(BigDecimal.ZERO) < 0 || rating.compareTo(new BigDecimal("5")) > 0) {
             throw new DomainException("Rating must be between 0 and 5");
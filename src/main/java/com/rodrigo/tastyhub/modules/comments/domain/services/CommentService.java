@@ -1,6 +1,7 @@
 package com.rodrigo.tastyhub.modules.comments.domain.services;
 
 import com.rodrigo.tastyhub.modules.comments.application.dto.request.ReviewRequestDto;
+import com.rodrigo.tastyhub.modules.comments.application.dto.response.ReviewModerationReportDto;
 import com.rodrigo.tastyhub.modules.comments.application.dto.response.ReviewPagination;
 import com.rodrigo.tastyhub.modules.comments.application.dto.response.ReviewResponseDto;
 import com.rodrigo.tastyhub.modules.comments.application.dto.response.ReviewStarOverview;
@@ -8,29 +9,36 @@ import com.rodrigo.tastyhub.modules.comments.application.dto.response.ReviewSumm
 import com.rodrigo.tastyhub.modules.comments.application.mapper.CommentMapper;
 import com.rodrigo.tastyhub.modules.comments.domain.model.Comment;
 import com.rodrigo.tastyhub.modules.comments.domain.model.CommentSortBy;
-import com.rodrigo.tastyhub.modules.comments.domain.model.ReviewStatsProjection;
 import com.rodrigo.tastyhub.modules.comments.domain.repository.CommentRepository;
 import com.rodrigo.tastyhub.modules.comments.infrastructure.persistence.CommentSpecification;
+import com.rodrigo.tastyhub.modules.comments.infrastructure.persistence.ReviewModerationStore;
+import com.rodrigo.tastyhub.modules.comments.infrastructure.persistence.ReviewerLock;
 import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeStatistics;
 import com.rodrigo.tastyhub.modules.recipes.domain.service.RecipeService;
 import com.rodrigo.tastyhub.shared.kernel.annotations.RequiresVerification;
 import com.rodrigo.tastyhub.modules.user.domain.model.User;
 import com.rodrigo.tastyhub.shared.config.security.SecurityService;
 import com.rodrigo.tastyhub.shared.dto.response.PaginationMetadata;
+import com.rodrigo.tastyhub.shared.enums.PaginationMode;
 import com.rodrigo.tastyhub.shared.enums.SortDirection;
 import com.rodrigo.tastyhub.shared.exception.DomainException;
+import com.rodrigo.tastyhub.shared.exception.ResourceNotFoundException;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.KeysetQueryExecutor;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.SliceQueryExecutor;
+import com.rodrigo.tastyhub.shared.kernel.pagination.KeysetWindow;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.IntStream;
 
 @Service
@@ -39,8 +47,13 @@ public class CommentService {
     private final RecipeService recipeService;
     private final CommentRepository commentRepository;
     private final SecurityService securityService;
+    private final KeysetQueryExecutor keysetQueryExecutor;
+    private final SliceQueryExecutor sliceQueryExecutor;
+    private final ReviewModerationStore reviewModerationStore;
+    private final ReviewerLock reviewerLock;
 
     @RequiresVerification
+    @Transactional
     public Comment reviewRecipeById(Long recipeId, ReviewRequestDto reviewDto) {
         User author = securityService.getCurrentUser();
         Recipe recipe = recipeService.findByIdOrThrow(recipeId);
@@ -52,7 +65,71 @@ public class CommentService {
             recipe
         );
 
-        return commentRepository.save(comment);
+        reviewerLock.lock(recipeId, author.getId());
+        boolean firstByReviewer = commentRepository.findReviewsOfReviewerForUpdate(recipeId, author.getId()).isEmpty();
+
+        Comment review = commentRepository.save(comment);
+        recipeService.recordReview(recipeId, review.getRating(), firstByReviewer);
+        recipeService.evictCachedDetail(recipeId);
+
+        return review;
+    }
+
+    @RequiresVerification
+    @Transactional
+    public Comment editReview(Long reviewId, ReviewRequestDto reviewDto) {
+        User author = securityService.getCurrentUser();
+        Comment review = commentRepository.findReviewForUpdate(reviewId)
+            .orElseThrow(() -> new ResourceNotFoundException("Review not found with the provided ID"));
+
+        review.validateAuthorship(author.getId());
+
+        BigDecimal previousRating = review.getRating();
+        review.editReview(reviewDto.rating(), reviewDto.content());
+
+        Comment saved = commentRepository.save(review);
+        Long recipeId = saved.getRecipe().getId();
+
+        recipeService.changeReviewRating(recipeId, previousRating, saved.getRating());
+        recipeService.evictCachedDetail(recipeId);
+
+        return saved;
+    }
+
+    @RequiresVerification
+    @Transactional
+    public void deleteReview(Long reviewId) {
+        User author = securityService.getCurrentUser();
+        Long recipeId = commentRepository.findRecipeIdByReviewId(reviewId)
+            .orElseThrow(() -> new ResourceNotFoundException("Review not found with the provided ID"));
+
+        reviewerLock.lock(recipeId, author.getId());
+        List<Comment> reviewsOfReviewer = commentRepository.findReviewsOfReviewerForUpdate(recipeId, author.getId());
+        Comment review = reviewsOfReviewer.stream()
+            .filter(locked -> locked.getId().equals(reviewId))
+            .findFirst()
+            .orElseGet(() -> findReviewOrThrow(reviewId));
+
+        review.validateAuthorship(author.getId());
+
+        boolean lastByReviewer = reviewsOfReviewer.size() == 1;
+
+        commentRepository.delete(review);
+        recipeService.withdrawReview(recipeId, review.getRating(), lastByReviewer);
+        recipeService.evictCachedDetail(recipeId);
+    }
+
+    @Transactional
+    public ReviewModerationReportDto removeReviewsByUser(Long userId) {
+        if (userId == null || userId < 1)
+            throw new DomainException("User ID is required");
+
+        ReviewModerationStore.Removal removal = reviewModerationStore.removeReviewsByUser(userId);
+
+        removal.recipeIds().forEach(recipeService::evictCachedDetail);
+        removal.recipeIds().forEach(recipeService::refreshStatistics);
+
+        return new ReviewModerationReportDto(removal.removedReviews(), removal.recipeIds().size());
     }
 
     public ReviewPagination listReviewsByRecipeId(
@@ -60,11 +137,66 @@ public class CommentService {
         Integer pageNumber,
         Integer size,
         CommentSortBy sortBy,
-        SortDirection direction
+        SortDirection direction,
+        PaginationMode mode,
+        String after
     ) {
         if (recipeId == null || recipeId < 0)
             throw new DomainException("Recipe ID is required");
 
+        if (mode == PaginationMode.CURSOR) {
+            String field = sortField(sortBy);
+
+            KeysetWindow<Comment> window = keysetQueryExecutor.fetch(
+                Comment.class,
+                CommentSpecification.withFilters(recipeId),
+                KeysetQueryExecutor.SortKey.of(field, field, false),
+                direction,
+                after,
+                size
+            );
+
+            List<ReviewResponseDto> reviews = window.content()
+                .stream()
+                .map(CommentMapper::toReview)
+                .toList();
+
+            ReviewSummaryDto summaryDto = buildReviewSummary(recipeId);
+
+            PaginationMetadata metadata = PaginationMetadata.ofCursor(
+                size,
+                direction,
+                after != null,
+                window,
+                (long) summaryDto.totalReviews()
+            );
+
+            return new ReviewPagination(reviews, summaryDto, metadata);
+        }
+
+        if (mode == PaginationMode.SLICE) {
+            Slice<Comment> slice = sliceQueryExecutor.fetch(
+                Comment.class,
+                CommentSpecification.withFilters(recipeId),
+                PageRequest.of(pageNumber, size, buildSort(sortBy, direction))
+            );
+
+            List<ReviewResponseDto> reviews = slice.getContent()
+                .stream()
+                .map(CommentMapper::toReview)
+                .toList();
+
+            ReviewSummaryDto summaryDto = buildReviewSummary(recipeId);
+
+            PaginationMetadata metadata = PaginationMetadata.ofSlice(
+                slice,
+                direction,
+                (long) summaryDto.totalReviews()
+            );
+
+            return new ReviewPagination(reviews, summaryDto, metadata);
+        }
+
         Pageable pageable = PageRequest.of(
             pageNumber,
             size,
@@ -96,48 +228,50 @@ public class CommentService {
         return new ReviewPagination(reviews, summaryDto, metadata);
     }
 
-    @Transactional
+    public ReviewSummaryDto getReviewSummary(Long recipeId) {
+        if (recipeId == null || recipeId < 0)
+            throw new DomainException("Recipe ID is required");
+
+        return recipeService.findStatistics(recipeId)
+            .map(CommentService::toReviewSummary)
+            .orElseThrow(() -> new ResourceNotFoundException("Recipe not found with the provided ID"));
+    }
+
     public ReviewSummaryDto buildReviewSummary(Long recipeId) {
-        ReviewStatsProjection stats = commentRepository.getReviewStatsByRecipeId(recipeId);
+        return recipeService.findStatistics(recipeId)
+            .map(CommentService::toReviewSummary)
+            .orElseGet(() -> new ReviewSummaryDto(0, 0, 0.0, new ArrayList<>()));
+    }
 
-        if (stats == null || stats.getTotalReviews() == 0) {
+    private static ReviewSummaryDto toReviewSummary(RecipeStatistics statistics) {
+        int total = statistics.getReviewsCount();
+
+        if (total <= 0) {
             return new ReviewSummaryDto(0, 0, 0.0, new ArrayList<>());
         }
 
-        List<Map<String, Object>> breakdownRaw = commentRepository.getRatingCountBreakdown(recipeId);
-
-        List<ReviewStarOverview> overviews = mapToStarOverview(breakdownRaw, stats.getTotalReviews());
+        List<ReviewStarOverview> overviews = IntStream.iterate(5, stars -> stars >= 1, stars -> stars - 1)
+            .mapToObj(stars -> {
+                int count = statistics.countForStars(stars);
+                return new ReviewStarOverview(stars, (count * 100.0) / total, count);
+            })
+            .toList();
 
         return new ReviewSummaryDto(
-            stats.getTotalUsers(),
-            stats.getTotalReviews(),
-            stats.getAverageRating() != null ? stats.getAverageRating() : 0.0,
+            statistics.getReviewersCount() != null ? statistics.getReviewersCount() : 0,
+            total,
+            statistics.getAverageRating() != null ? statistics.getAverageRating() : 0.0,
             overviews
         );
     }
 
-    private List<ReviewStarOverview> mapToStarOverview(List<Map<String, Object>> raw, int total) {
-        Map<Integer, Integer> counts = new HashMap<>();
-        IntStream.rangeClosed(1, 5).forEach(i -> counts.put(i, 0));
-
-        for (Map<String, Object> row : raw) {
-            double rawRating = ((Number) row.get("ratingValue")).doubleValue();
-            int stars = (int) rawRating;
-
-            if (stars >= 1 && stars <= 5) {
-                counts.put(stars, counts.get(stars) + ((Number) row.get("count")).intValue());
-            } else if (stars < 1 && counts.containsKey(1)) {
-                counts.put(1, counts.get(1) + ((Number) row.get("count")).intValue());
-            }
-        }
+    private Comment findReviewOrThrow(Long reviewId) {
+        return commentRepository.findByIdAndRecipeIsNotNull(reviewId)
+            .orElseThrow(() -> new ResourceNotFoundException("Review not found with the provided ID"));
+    }
 
-        return counts.entrySet().stream()
-            .sorted(Map.Entry.<Integer, Integer>comparingByKey().reversed())
-            .map(entry -> {
-                double percentage = (total > 0) ? (entry.getValue() * 100.0) / total : 0.0;
-                return new ReviewStarOverview(entry.getKey(), percentage, entry.getValue());
-            })
-            .toList();
+    private static String sortField(CommentSortBy sortBy) {
+        return sortBy == CommentSortBy.RATING ? "rating" : "createdAt";
     }
 
     @Transactional
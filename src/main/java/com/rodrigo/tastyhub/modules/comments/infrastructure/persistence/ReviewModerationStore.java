@@ -0,0 +1,78 @@
+package com.rodrigo.tastyhub.modules.comments.infrastructure.persistence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+public class ReviewModerationStore {
+    public record Removal(int removedReviews, List<Long> recipeIds) {}
+
+    private static final String REMOVE_REVIEWS_BY_USER = """
+        WITH removed AS (
+            DELETE FROM comments
+            WHERE user_id = ? AND recipe_id IS NOT NULL
+            RETURNING recipe_id, rating, LEAST(GREATEST(TRUNC(rating), 1), 5) AS stars
+        ),
+        totals AS (
+            SELECT recipe_id,
+                   COUNT(*) AS reviews,
+                   SUM(rating) AS rating_sum,
+                   COUNT(*) FILTER (WHERE stars = 1) AS one_star,
+                   COUNT(*) FILTER (WHERE stars = 2) AS two_star,
+                   COUNT(*) FILTER (WHERE stars = 3) AS three_star,
+                   COUNT(*) FILTER (WHERE stars = 4) AS four_star,
+                   COUNT(*) FILTER (WHERE stars = 5) AS five_star
+            FROM removed
+            GROUP BY recipe_id
+        ),
+        applied AS (
+            INSERT INTO recipe_counter_deltas (
+                recipe_id, shard, favorites_delta, reviews_delta, rating_sum_delta,
+                one_star_delta, two_star_delta, three_star_delta, four_star_delta, five_star_delta, reviewers_delta
+            )
+            SELECT recipe_id, ?, 0, -reviews, -rating_sum,
+                   -one_star, -two_star, -three_star, -four_star, -five_star, -1
+            FROM totals
+            ON CONFLICT (recipe_id, shard) DO UPDATE
+            SET reviews_delta = recipe_counter_deltas.reviews_delta + EXCLUDED.reviews_delta,
+                rating_sum_delta = recipe_counter_deltas.rating_sum_delta + EXCLUDED.rating_sum_delta,
+                one_star_delta = recipe_counter_deltas.one_star_delta + EXCLUDED.one_star_delta,
+                two_star_delta = recipe_counter_deltas.two_star_delta + EXCLUDED.two_star_delta,
+                three_star_delta = recipe_counter_deltas.three_star_delta + EXCLUDED.three_star_delta,
+                four_star_delta = recipe_counter_deltas.four_star_delta + EXCLUDED.four_star_delta,
+                five_star_delta = recipe_counter_deltas.five_star_delta + EXCLUDED.five_star_delta,
+                reviewers_delta = recipe_counter_deltas.reviewers_delta + EXCLUDED.reviewers_delta
+            RETURNING recipe_id
+        )
+        SELECT (SELECT COUNT(*) FROM removed) AS removed_reviews,
+               ARRAY(SELECT recipe_id FROM applied) AS recipe_ids
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int shards;
+
+    public ReviewModerationStore(
+        JdbcTemplate jdbcTemplate,
+        @Value("${app.recipe-counters.shards:16}") int shards
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shards = Math.max(1, shards);
+    }
+
+    public Removal removeReviewsByUser(Long userId) {
+        return jdbcTemplate.queryForObject(
+            REMOVE_REVIEWS_BY_USER,
+            (rs, rowNum) -> new Removal(
+                rs.getInt("removed_reviews"),
+                Arrays.stream((Long[]) rs.getArray("recipe_ids").getArray()).toList()
+            ),
+            userId,
+            (short) ThreadLocalRandom.current().nextInt(shards)
+        );
+    }
+}
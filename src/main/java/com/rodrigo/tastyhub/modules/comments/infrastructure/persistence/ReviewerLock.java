@@ -0,0 +1,22 @@
+package com.rodrigo.tastyhub.modules.comments.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serializes review writes of one reviewer on one recipe until the surrounding transaction ends.
+ * Row locks cannot do this for a first review, since there is no row to lock yet.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewerLock {
+    private static final String LOCK_REVIEWER = "SELECT pg_advisory_xact_lock(hashint8(?), hashint8(?))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void lock(Long recipeId, Long userId) {
+        jdbcTemplate.query(LOCK_REVIEWER, (RowCallbackHandler) resultSet -> {}, recipeId, userId);
+    }
+}
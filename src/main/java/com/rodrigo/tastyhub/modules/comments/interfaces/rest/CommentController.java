@@ -1,13 +1,16 @@
 package com.rodrigo.tastyhub.modules.comments.interfaces.rest;
 
 import com.rodrigo.tastyhub.modules.comments.application.dto.request.ReviewRequestDto;
+import com.rodrigo.tastyhub.modules.comments.application.dto.response.ReviewModerationReportDto;
 import com.rodrigo.tastyhub.modules.comments.application.dto.response.ReviewPagination;
 import com.rodrigo.tastyhub.modules.comments.application.dto.response.ReviewResponseDto;
+import com.rodrigo.tastyhub.modules.comments.application.dto.response.ReviewSummaryDto;
 import com.rodrigo.tastyhub.modules.comments.application.mapper.CommentMapper;
 import com.rodrigo.tastyhub.modules.comments.domain.services.CommentService;
 import com.rodrigo.tastyhub.modules.comments.domain.model.Comment;
 import com.rodrigo.tastyhub.modules.comments.domain.model.CommentSortBy;
 import com.rodrigo.tastyhub.shared.dto.response.ErrorResponseDto;
+import com.rodrigo.tastyhub.shared.enums.PaginationMode;
 import com.rodrigo.tastyhub.shared.enums.SortDirection;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -124,9 +127,107 @@ public class CommentController {
 
         @Parameter(description = "Order direction")
         @RequestParam(value = "direction", required = false, defaultValue = "DESC")
-        SortDirection direction
+        SortDirection direction,
+
+        @Parameter(description = "OFFSET counts every review; SLICE skips the count and only reports `hasNext`; CURSOR ignores `page` and continues from the `after` token")
+        @RequestParam(value = "mode", required = false, defaultValue = "OFFSET")
+        PaginationMode mode,
+
+        @Parameter(description = "Cursor returned as `nextCursor` by the previous page (cursor mode only)")
+        @RequestParam(value = "after", required = false)
+        String after
     ) {
-        ReviewPagination response = commentService.listReviewsByRecipeId(recipeId, page, size, sortBy, direction);
+        ReviewPagination response = commentService.listReviewsByRecipeId(
+            recipeId,
+            page,
+            size,
+            sortBy,
+            direction,
+            mode,
+            after
+        );
         return ResponseEntity.ok(response);
     }
+
+    @Operation(
+        summary = "Get the rating summary of a recipe",
+        description = "Returns the review totals, average rating and star breakdown without listing any review."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Success"),
+        @ApiResponse(responseCode = "404", description = "Recipe not found",
+            content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @GetMapping("/recipe/{id}/summary")
+    public ResponseEntity<ReviewSummaryDto> getRecipeReviewSummary(
+        @Parameter(description = "ID of the recipe", required = true, example = "1")
+        @PathVariable("id")
+        @Min(value = 1, message = "The recipe ID must be a positive number")
+        Long recipeId
+    ) {
+        return ResponseEntity.ok(commentService.getReviewSummary(recipeId));
+    }
+
+    @Operation(summary = "Edit a review", description = "Updates the rating and content of a review. Only its author can edit it.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Review updated successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid input data",
+            content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+        @ApiResponse(responseCode = "403", description = "You are not the author of this review",
+            content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+        @ApiResponse(responseCode = "404", description = "Review not found",
+            content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @PutMapping("/{id}")
+    public ResponseEntity<ReviewResponseDto> editReview(
+        @Parameter(description = "ID of the review", required = true, example = "1")
+        @PathVariable("id")
+        @Min(value = 1, message = "The review ID must be a positive number")
+        Long reviewId,
+
+        @RequestBody
+        @Valid
+        ReviewRequestDto reviewDto
+    ) {
+        Comment response = commentService.editReview(reviewId, reviewDto);
+        return ResponseEntity.ok(CommentMapper.toReview(response));
+    }
+
+    @Operation(summary = "Delete a review", description = "Removes a review. Only its author can delete it.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Review deleted successfully"),
+        @ApiResponse(responseCode = "403", description = "You are not the author of this review",
+            content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+        @ApiResponse(responseCode = "404", description = "Review not found",
+            content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteReview(
+        @Parameter(description = "ID of the review", required = true, example = "1")
+        @PathVariable("id")
+        @Min(value = 1, message = "The review ID must be a positive number")
+        Long reviewId
+    ) {
+        commentService.deleteReview(reviewId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+        summary = "Remove every review written by a user",
+        description = "Moderation route for administrators. Deletes all recipe reviews of the user and adjusts the statistics of each affected recipe."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Reviews removed"),
+        @ApiResponse(responseCode = "403", description = "Only administrators can moderate reviews",
+            content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @DeleteMapping("/users/{userId}/reviews")
+    public ResponseEntity<ReviewModerationReportDto> removeReviewsByUser(
+        @Parameter(description = "ID of the user whose reviews are removed", required = true, example = "1")
+        @PathVariable("userId")
+        @Min(value = 1, message = "The user ID must be a positive number")
+        Long userId
+    ) {
+        return ResponseEntity.ok(commentService.removeReviewsByUser(userId));
+    }
 }
@@ -0,0 +1,24 @@
+package com.rodrigo.tastyhub.modules.recipes.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "Parameters for fuzzy ingredient lookup")
+public record IngredientSearchQuery(
+    @NotBlank
+    @Size(max = 100)
+    @Schema(description = "Ingredient name or part of it; tolerates typos and missing accents", example = "manjeric")
+    String q,
+
+    @Min(1)
+    @Max(50)
+    @Schema(description = "Maximum number of ingredients returned", defaultValue = "10")
+    Integer limit
+) {
+    public IngredientSearchQuery {
+        limit = (limit == null) ? 10 : limit;
+    }
+}
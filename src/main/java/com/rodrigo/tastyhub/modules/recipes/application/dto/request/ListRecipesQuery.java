@@ -1,11 +1,15 @@
 package com.rodrigo.tastyhub.modules.recipes.application.dto.request;
 
+import com.rodrigo.tastyhub.modules.recipes.domain.model.DifficultyLevel;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.IngredientMatchMode;
 import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeCategory;
 import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeSortBy;
+import com.rodrigo.tastyhub.shared.enums.PaginationMode;
 import com.rodrigo.tastyhub.shared.enums.SortDirection;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 
+import java.util.Arrays;
 import java.util.List;
 
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -13,7 +17,7 @@ import jakarta.validation.constraints.*;
 
 @Schema(description = "Parameters for filtering and paginating recipes")
 public record ListRecipesQuery(
-    @Schema(description = "Search by title or description", example = "Chocolate Cake")
+    @Schema(description = "Full-text search over title, description and tag names", example = "Chocolate Cake")
     String query,
 
     @Min(0)
@@ -37,9 +41,18 @@ public record ListRecipesQuery(
     @Schema(description = "Filter by recipe categories")
     List<RecipeCategory> categories,
 
-    @Schema(description = "Filter by specific ingredients")
+    @Schema(description = "Filter by difficulty levels")
+    List<DifficultyLevel> difficultyLevels,
+
+    @Schema(description = "Filter by recipe languages", example = "[\"en-US\", \"pt-BR\"]")
+    List<String> languages,
+
+    @Schema(description = "Filter by ingredient names", example = "[\"Eggs\", \"Flour\"]")
     List<String> ingredients,
 
+    @Schema(description = "Whether recipes must contain all or any of the given ingredients", defaultValue = "ALL")
+    IngredientMatchMode ingredientMatch,
+
     @Schema(description = "Filter by currency codes", example = "[\"USD\", \"BRL\"]")
     List<String> currencies,
 
@@ -52,11 +65,11 @@ public record ListRecipesQuery(
     Double maxRating,
 
     @PositiveOrZero
-    @Schema(description = "Minimum estimated cost")
+    @Schema(description = "Minimum estimated cost, converted to USD")
     Integer minCost,
 
     @PositiveOrZero
-    @Schema(description = "Maximum estimated cost")
+    @Schema(description = "Maximum estimated cost, converted to USD")
     Integer maxCost,
 
     @PositiveOrZero
@@ -65,12 +78,50 @@ public record ListRecipesQuery(
 
     @PositiveOrZero
     @Schema(description = "Maximum number of ingredients")
-    Integer maxIngredients
+    Integer maxIngredients,
+
+    @Schema(description = "OFFSET counts every match; SLICE skips the count and only reports `hasNext`; CURSOR ignores `page` and continues from the `after` token", defaultValue = "OFFSET")
+    PaginationMode mode,
+
+    @Schema(description = "Cursor returned as `nextCursor` by the previous page (cursor mode only)")
+    String after,
+
+    @Schema(description = "Include an approximate `estimatedTotal` in slice and cursor modes", defaultValue = "false")
+    Boolean estimateTotal
 ) {
     public ListRecipesQuery {
         page = (page == null) ? 0 : page;
         size = (size == null) ? 10 : size;
         sortBy = (sortBy == null) ? RecipeSortBy.CREATION_DATE : sortBy;
         direction = (direction == null) ? SortDirection.DESC : direction;
+        ingredientMatch = (ingredientMatch == null) ? IngredientMatchMode.ALL : ingredientMatch;
+        mode = (mode == null) ? PaginationMode.OFFSET : mode;
+        estimateTotal = estimateTotal != null && estimateTotal;
+    }
+
+    public boolean hasFacetFilters() {
+        return (tags != null && !tags.isEmpty())
+            || (categories != null && !categories.isEmpty())
+            || (difficultyLevels != null && !difficultyLevels.isEmpty())
+            || (languages != null && !languages.isEmpty());
+    }
+
+    public String filterKey() {
+        return Arrays.asList(
+            query,
+            tags,
+            categories,
+            difficultyLevels,
+            languages,
+            ingredients,
+            ingredientMatch,
+            currencies,
+            minRating,
+            maxRating,
+            minCost,
+            maxCost,
+            minIngredients,
+            maxIngredients
+        ).toString();
     }
 }
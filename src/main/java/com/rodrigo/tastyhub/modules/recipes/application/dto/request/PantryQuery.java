@@ -0,0 +1,32 @@
+package com.rodrigo.tastyhub.modules.recipes.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Ingredients available at home, used to find recipes the user can cook")
+public record PantryQuery(
+    @NotEmpty
+    @Size(max = 200)
+    @Schema(description = "Identifiers of the ingredients in the pantry", example = "[1, 4, 9]")
+    List<Long> ingredientIds,
+
+    @Min(0)
+    @Max(5)
+    @Schema(description = "Maximum number of ingredients a recipe may be missing", defaultValue = "2")
+    Integer maxMissing,
+
+    @Min(1)
+    @Max(50)
+    @Schema(description = "Maximum number of recipes", defaultValue = "20")
+    Integer limit
+) {
+    public PantryQuery {
+        maxMissing = (maxMissing == null) ? 2 : maxMissing;
+        limit = (limit == null) ? 20 : limit;
+    }
+}
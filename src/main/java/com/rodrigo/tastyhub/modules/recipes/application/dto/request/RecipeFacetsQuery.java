@@ -0,0 +1,33 @@
+package com.rodrigo.tastyhub.modules.recipes.application.dto.request;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.DifficultyLevel;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeCategory;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import java.util.List;
+
+@Schema(description = "Facet selection used to compute browse counts")
+public record RecipeFacetsQuery(
+    @Schema(description = "Selected tag names", example = "[\"Vegan\", \"Easy\"]")
+    List<String> tags,
+
+    @Schema(description = "Selected recipe categories")
+    List<RecipeCategory> categories,
+
+    @Schema(description = "Selected difficulty levels")
+    List<DifficultyLevel> difficultyLevels,
+
+    @Schema(description = "Selected recipe languages", example = "[\"en-US\"]")
+    List<String> languages,
+
+    @Min(1)
+    @Max(100)
+    @Schema(description = "Maximum number of tags returned", defaultValue = "20")
+    Integer tagLimit
+) {
+    public RecipeFacetsQuery {
+        tagLimit = (tagLimit == null) ? 20 : tagLimit;
+    }
+}
@@ -0,0 +1,30 @@
+package com.rodrigo.tastyhub.modules.recipes.application.dto.request;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.SuggestionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Parameters for prefix autocompletion")
+public record SuggestionQuery(
+    @NotBlank
+    @Size(max = 100)
+    @Schema(description = "Prefix typed by the user; matches the start of any word", example = "choc")
+    String q,
+
+    @Min(1)
+    @Max(20)
+    @Schema(description = "Maximum number of suggestions", defaultValue = "10")
+    Integer limit,
+
+    @Schema(description = "Restrict suggestions to these kinds; all kinds when empty")
+    List<SuggestionType> types
+) {
+    public SuggestionQuery {
+        limit = (limit == null) ? 10 : limit;
+    }
+}
@@ -0,0 +1,14 @@
+package com.rodrigo.tastyhub.modules.recipes.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+
+public record UpdateExchangeRateDto(
+    @Schema(example = "0.18", description = "How many units of the base currency (USD) one unit of this currency is worth")
+    @NotNull(message = "Rate is required")
+    @Positive(message = "Rate must be greater than zero")
+    BigDecimal rateToBase
+) {}
@@ -0,0 +1,11 @@
+package com.rodrigo.tastyhub.modules.recipes.application.dto.response;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+public record ExchangeRateDto(
+    String currencyCode,
+    String baseCurrencyCode,
+    BigDecimal rateToBase,
+    OffsetDateTime updatedAt
+) {}
@@ -0,0 +1,11 @@
+package com.rodrigo.tastyhub.modules.recipes.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record FacetCountDto(
+    @Schema(description = "Facet value", example = "VEGAN")
+    String value,
+
+    @Schema(description = "Number of visible recipes matching this value", example = "1204")
+    int count
+) {}
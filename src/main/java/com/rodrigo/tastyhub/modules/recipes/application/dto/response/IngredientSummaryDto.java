@@ -0,0 +1,11 @@
+package com.rodrigo.tastyhub.modules.recipes.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record IngredientSummaryDto(
+    @Schema(description = "Ingredient identifier used when authoring recipes", example = "12")
+    Long id,
+
+    @Schema(description = "Ingredient name", example = "Tomato")
+    String name
+) {}
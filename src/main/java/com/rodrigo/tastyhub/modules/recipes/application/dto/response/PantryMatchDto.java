@@ -0,0 +1,20 @@
+package com.rodrigo.tastyhub.modules.recipes.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Recipe ranked by how much of it the pantry covers")
+public record PantryMatchDto(
+    @Schema(description = "Summary of the matching recipe")
+    SummaryRecipeDto recipe,
+
+    @Schema(description = "Number of the recipe's ingredients found in the pantry", example = "7")
+    int matchedCount,
+
+    @Schema(description = "Share of the recipe's ingredients found in the pantry, from 0.0 to 1.0", example = "0.875")
+    double coverage,
+
+    @Schema(description = "Ingredients the user still needs to buy")
+    List<IngredientSummaryDto> missingIngredients
+) {}
@@ -0,0 +1,83 @@
+package com.rodrigo.tastyhub.modules.recipes.application.dto.response;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.DifficultyLevel;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeCategory;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Schema(description = "Self-contained recipe record written by the export endpoints, one per line")
+public record RecipeExportDto(
+    @Schema(description = "Unique identifier of the recipe", example = "101")
+    Long id,
+
+    @Schema(description = "Title of the recipe", example = "Classic Italian Lasagna")
+    String title,
+
+    @Schema(description = "Brief description of the recipe")
+    String description,
+
+    @Schema(example = "MEAL")
+    RecipeCategory category,
+
+    @Schema(example = "BEGINNER")
+    DifficultyLevel difficultyLevel,
+
+    @Schema(example = "en-US")
+    String language,
+
+    @Schema(description = "Minimum cooking time in minutes", example = "30")
+    Integer cookTimeMin,
+
+    @Schema(description = "Maximum cooking time in minutes", example = "45")
+    Integer cookTimeMax,
+
+    @Schema(description = "Estimated total cost", example = "45.50")
+    BigDecimal estimatedCost,
+
+    @Schema(description = "ISO code of the cost currency", example = "USD")
+    String currencyCode,
+
+    @Schema(example = "true")
+    boolean isPublic,
+
+    @Schema(description = "ID of the recipe author", example = "7")
+    Long authorId,
+
+    OffsetDateTime createdAt,
+
+    @Schema(description = "Tag names, alphabetically")
+    List<String> tags,
+
+    List<IngredientDto> ingredients,
+
+    @Schema(description = "Preparation steps in order")
+    List<PreparationStepDto> steps
+) {
+    public RecipeExportDto withChildren(
+        List<String> tags,
+        List<IngredientDto> ingredients,
+        List<PreparationStepDto> steps
+    ) {
+        return new RecipeExportDto(
+            id,
+            title,
+            description,
+            category,
+            difficultyLevel,
+            language,
+            cookTimeMin,
+            cookTimeMax,
+            estimatedCost,
+            currencyCode,
+            isPublic,
+            authorId,
+            createdAt,
+            tags,
+            ingredients,
+            steps
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.rodrigo.tastyhub.modules.recipes.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Facet counts for the current browse selection")
+public record RecipeFacetsDto(
+    @Schema(description = "Number of visible recipes matching every selected facet", example = "42")
+    int total,
+
+    @Schema(description = "Counts per category, ignoring the category selection itself")
+    List<FacetCountDto> categories,
+
+    @Schema(description = "Counts per difficulty level, ignoring the difficulty selection itself")
+    List<FacetCountDto> difficultyLevels,
+
+    @Schema(description = "Counts per language, ignoring the language selection itself")
+    List<FacetCountDto> languages,
+
+    @Schema(description = "Most frequent tags, ignoring the tag selection itself")
+    List<FacetCountDto> tags
+) {}
@@ -0,0 +1,12 @@
+package com.rodrigo.tastyhub.modules.recipes.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Line of the import file that could not be imported")
+public record RecipeImportErrorDto(
+    @Schema(description = "1-based line number in the uploaded file", example = "42")
+    long line,
+
+    @Schema(description = "Reason the line was rejected", example = "Ingredient not found with ID 999")
+    String message
+) {}
@@ -0,0 +1,20 @@
+package com.rodrigo.tastyhub.modules.recipes.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Outcome of a bulk recipe import")
+public record RecipeImportReportDto(
+    @Schema(description = "Number of non-blank lines read from the file", example = "5000")
+    long processedCount,
+
+    @Schema(description = "Number of recipes created", example = "4987")
+    long importedCount,
+
+    @Schema(description = "Number of lines rejected", example = "13")
+    long failedCount,
+
+    @Schema(description = "Rejected lines, capped at the configured maximum; failedCount is always exact")
+    List<RecipeImportErrorDto> errors
+) {}
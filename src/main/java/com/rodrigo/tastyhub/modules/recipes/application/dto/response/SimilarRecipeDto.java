@@ -0,0 +1,12 @@
+package com.rodrigo.tastyhub.modules.recipes.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Recipe sharing ingredients and tags with another recipe")
+public record SimilarRecipeDto(
+    @Schema(description = "Summary of the similar recipe")
+    SummaryRecipeDto recipe,
+
+    @Schema(description = "Jaccard similarity of ingredients and tags, from 0.0 to 1.0", example = "0.42")
+    double similarity
+) {}
@@ -0,0 +1,15 @@
+package com.rodrigo.tastyhub.modules.recipes.application.dto.response;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.SuggestionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record SuggestionDto(
+    @Schema(description = "Suggested text", example = "Chocolate Cake")
+    String text,
+
+    @Schema(description = "What the suggestion refers to", example = "RECIPE")
+    SuggestionType type,
+
+    @Schema(description = "Identifier of the suggested recipe, tag or ingredient", example = "42")
+    Long id
+) {}
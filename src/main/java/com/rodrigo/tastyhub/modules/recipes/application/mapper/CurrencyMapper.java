@@ -1,7 +1,10 @@
 package com.rodrigo.tastyhub.modules.recipes.application.mapper;
 
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.ExchangeRateDto;
 import com.rodrigo.tastyhub.modules.recipes.application.dto.response.RecipeCurrencyDto;
 import com.rodrigo.tastyhub.modules.recipes.domain.model.Currency;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.ExchangeRate;
+import com.rodrigo.tastyhub.modules.recipes.domain.service.CurrencyService;
 
 public final class CurrencyMapper {
     private CurrencyMapper() {}
@@ -14,4 +17,13 @@ public final class CurrencyMapper {
             currency.getSymbol()
         );
     }
+
+    public static ExchangeRateDto toExchangeRateDto(ExchangeRate exchangeRate) {
+        return new ExchangeRateDto(
+            exchangeRate.getCurrency().getCode(),
+            CurrencyService.BASE_CURRENCY_CODE,
+            exchangeRate.getRateToBase(),
+            exchangeRate.getUpdatedAt()
+        );
+    }
 }
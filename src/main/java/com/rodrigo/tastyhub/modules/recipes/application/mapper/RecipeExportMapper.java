@@ -0,0 +1,84 @@
+package com.rodrigo.tastyhub.modules.recipes.application.mapper;
+
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.RecipeExportDto;
+
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public final class RecipeExportMapper {
+    public static final String CSV_HEADER = String.join(",",
+        "id",
+        "title",
+        "description",
+        "category",
+        "difficulty_level",
+        "language",
+        "cook_time_min",
+        "cook_time_max",
+        "estimated_cost",
+        "currency",
+        "is_public",
+        "author_id",
+        "created_at",
+        "tags",
+        "ingredients",
+        "steps"
+    );
+
+    private RecipeExportMapper() {}
+
+    public static String toCsvRow(RecipeExportDto recipe) {
+        String ingredients = recipe.ingredients()
+            .stream()
+            .map(ingredient -> Stream.of(ingredient.quantity(), ingredient.unit(), ingredient.name())
+                .filter(Objects::nonNull)
+                .map(Object::toString)
+                .collect(Collectors.joining(" ")))
+            .collect(Collectors.joining(" | "));
+
+        String steps = recipe.steps()
+            .stream()
+            .map(step -> step.stepNumber() + ". " + step.instruction())
+            .collect(Collectors.joining(" | "));
+
+        return Stream.of(
+                recipe.id(),
+                recipe.title(),
+                recipe.description(),
+                recipe.category(),
+                recipe.difficultyLevel(),
+                recipe.language(),
+                recipe.cookTimeMin(),
+                recipe.cookTimeMax(),
+                recipe.estimatedCost(),
+                recipe.currencyCode(),
+                recipe.isPublic(),
+                recipe.authorId(),
+                recipe.createdAt(),
+                String.join(" | ", recipe.tags()),
+                ingredients,
+                steps
+            )
+            .map(RecipeExportMapper::escapeCsv)
+            .collect(Collectors.joining(","));
+    }
+
+    static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+
+        String text = value.toString();
+
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+            text = "'" + text;
+        }
+
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+
+        return text;
+    }
+}
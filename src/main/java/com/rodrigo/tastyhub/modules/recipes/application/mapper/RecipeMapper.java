@@ -4,7 +4,9 @@ import com.rodrigo.tastyhub.modules.recipes.application.dto.response.FullRecipeD
 import com.rodrigo.tastyhub.modules.recipes.application.dto.response.SummaryRecipeDto;
 import com.rodrigo.tastyhub.modules.recipes.domain.model.PreparationStep;
 import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeSummaryProjection;
 import com.rodrigo.tastyhub.modules.tags.application.mapper.TagMapper;
+import com.rodrigo.tastyhub.modules.user.application.dto.response.UserSummaryDto;
 import com.rodrigo.tastyhub.modules.user.application.mapper.UserMapper;
 import com.rodrigo.tastyhub.shared.config.storage.ImageStorageService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,13 +33,37 @@ public final class RecipeMapper {
             storageService.generateImageUrl(recipe.getCoverUrl()),
             recipe.getCoverAlt(),
             UserMapper.toSummary(recipe.getAuthor()),
-            recipe.getIngredients().size(),
+            recipe.getIngredientCount(),
             recipe.getStatistics().getAverageRating(),
             recipe.getStatistics().getFavoritesCount(),
             recipe.getStatistics().getReviewsCount()
         );
     }
 
+    public static SummaryRecipeDto toSummaryDto(RecipeSummaryProjection recipe) {
+        return new SummaryRecipeDto(
+            recipe.id(),
+            recipe.title(),
+            recipe.isPublic(),
+            recipe.cookTimeMin() != null ? recipe.cookTimeMin() : 0,
+            recipe.cookTimeMax() != null ? recipe.cookTimeMax() : 0,
+            storageService.generateImageUrl(recipe.coverUrl()),
+            recipe.coverAlt(),
+            new UserSummaryDto(
+                recipe.authorId(),
+                recipe.authorFirstName(),
+                recipe.authorLastName(),
+                recipe.authorUsername(),
+                storageService.generateImageUrl(recipe.authorProfilePictureUrl()),
+                recipe.authorProfilePictureAlt()
+            ),
+            recipe.ingredientCount() != null ? recipe.ingredientCount() : 0,
+            recipe.averageRating() != null ? recipe.averageRating() : 0.0,
+            recipe.favoritesCount() != null ? recipe.favoritesCount() : 0,
+            recipe.reviewsCount() != null ? recipe.reviewsCount() : 0
+        );
+    }
+
     public static FullRecipeDto toFullRecipeDto(Recipe recipe) {
         return new FullRecipeDto(
             recipe.getId(),
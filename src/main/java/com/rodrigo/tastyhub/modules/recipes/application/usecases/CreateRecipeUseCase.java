@@ -1,6 +1,7 @@
 package com.rodrigo.tastyhub.modules.recipes.application.usecases;
 
 import com.rodrigo.tastyhub.modules.recipes.application.dto.request.CreateRecipeDto;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.request.RecipeIngredientRequestDto;
 import com.rodrigo.tastyhub.modules.recipes.application.dto.response.FullRecipeDto;
 import com.rodrigo.tastyhub.modules.recipes.application.mapper.RecipeMapper;
 import com.rodrigo.tastyhub.modules.recipes.domain.model.*;
@@ -8,6 +9,7 @@ import com.rodrigo.tastyhub.modules.recipes.domain.service.CurrencyService;
 import com.rodrigo.tastyhub.modules.recipes.domain.service.IngredientService;
 import com.rodrigo.tastyhub.modules.recipes.domain.service.RecipeService;
 import com.rodrigo.tastyhub.modules.tags.domain.service.TagService;
+import com.rodrigo.tastyhub.modules.timeline.domain.service.TimelineService;
 import com.rodrigo.tastyhub.shared.kernel.annotations.RequiresVerification;
 import com.rodrigo.tastyhub.modules.user.domain.model.User;
 import com.rodrigo.tastyhub.shared.config.security.SecurityService;
@@ -16,6 +18,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +28,7 @@ public class CreateRecipeUseCase {
     private final SecurityService securityService;
     private final CurrencyService currencyService;
     private final IngredientService ingredientService;
+    private final TimelineService timelineService;
 
     @RequiresVerification
     @Transactional
@@ -43,16 +47,20 @@ public class CreateRecipeUseCase {
             ))
             .toList();
 
+        Map<Long, Ingredient> ingredientsById = ingredientService.findAllByIdsOrThrow(
+            newData.ingredients()
+                .stream()
+                .map(RecipeIngredientRequestDto::ingredientId)
+                .toList()
+        );
+
         List<RecipeIngredient> ingredients = newData.ingredients()
             .stream()
-            .map(recipeIngredient -> {
-                Ingredient ingredient = ingredientService.findByIdOrThrow(recipeIngredient.ingredientId());
-                return new RecipeIngredient(
-                    recipeIngredient.quantity(),
-                    recipeIngredient.unit(),
-                    ingredient
-                );
-            })
+            .map(recipeIngredient -> new RecipeIngredient(
+                recipeIngredient.quantity(),
+                recipeIngredient.unit(),
+                ingredientsById.get(recipeIngredient.ingredientId())
+            ))
             .toList();
 
         Recipe recipe = new Recipe(
@@ -72,6 +80,9 @@ public class CreateRecipeUseCase {
             ingredients
         );
 
-        return RecipeMapper.toFullRecipeDto(recipeService.create(recipe));
+        Recipe created = recipeService.create(recipe);
+        timelineService.publish(created);
+
+        return RecipeMapper.toFullRecipeDto(created);
     }
 }
@@ -0,0 +1,94 @@
+package com.rodrigo.tastyhub.modules.recipes.application.usecases;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rodrigo.tastyhub.modules.collections.domain.model.UserCollection;
+import com.rodrigo.tastyhub.modules.collections.domain.service.UserCollectionService;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.RecipeExportDto;
+import com.rodrigo.tastyhub.modules.recipes.application.mapper.RecipeExportMapper;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence.RecipeExportReader;
+import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import com.rodrigo.tastyhub.modules.user.domain.service.UserService;
+import com.rodrigo.tastyhub.shared.config.security.SecurityService;
+import com.rodrigo.tastyhub.shared.enums.ExportFormat;
+import com.rodrigo.tastyhub.shared.exception.ForbiddenException;
+import com.rodrigo.tastyhub.shared.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+public class ExportRecipesUseCase {
+    private final ObjectMapper objectMapper;
+    private final UserService userService;
+    private final SecurityService securityService;
+    private final UserCollectionService collectionService;
+    private final RecipeExportReader recipeExportReader;
+
+    public StreamingResponseBody byAuthor(Long authorId, ExportFormat format) {
+        if (!userService.existsById(authorId)) {
+            throw new ResourceNotFoundException("User does not exist or could not be found");
+        }
+
+        Long requesterId = currentUserId();
+
+        return output -> write(
+            new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)),
+            format,
+            sink -> recipeExportReader.streamByAuthor(authorId, requesterId, sink)
+        );
+    }
+
+    public StreamingResponseBody byCollection(Long collectionId, ExportFormat format) {
+        UserCollection collection = collectionService.findByIdOrThrow(collectionId);
+        Long requesterId = currentUserId();
+
+        if (!collection.isPublic() && !collection.getUser().getId().equals(requesterId)) {
+            throw new ForbiddenException("This collection is private and can only be exported by its owner.");
+        }
+
+        return output -> write(
+            new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)),
+            format,
+            sink -> recipeExportReader.streamByCollection(collectionId, requesterId, sink)
+        );
+    }
+
+    private void write(Writer writer, ExportFormat format, Consumer<Consumer<RecipeExportDto>> source) throws IOException {
+        if (format == ExportFormat.CSV) {
+            writer.write(RecipeExportMapper.CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try {
+            source.accept(recipe -> {
+                try {
+                    writer.write(format == ExportFormat.CSV
+                        ? RecipeExportMapper.toCsvRow(recipe)
+                        : objectMapper.writeValueAsString(recipe));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.flush();
+    }
+
+    private Long currentUserId() {
+        return securityService.getCurrentUserOptional()
+            .map(User::getId)
+            .orElse(null);
+    }
+}
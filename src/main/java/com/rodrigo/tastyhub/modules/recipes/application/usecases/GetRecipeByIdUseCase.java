@@ -4,7 +4,9 @@ import com.rodrigo.tastyhub.modules.recipes.application.dto.response.FullRecipeD
 import com.rodrigo.tastyhub.modules.recipes.application.mapper.RecipeMapper;
 import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
 import com.rodrigo.tastyhub.modules.recipes.domain.service.RecipeService;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.cache.RecipeDetailCache;
 import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import com.rodrigo.tastyhub.modules.user.domain.service.UserService;
 import com.rodrigo.tastyhub.shared.config.security.SecurityService;
 import com.rodrigo.tastyhub.shared.kernel.application.CanAccessResourceVerification;
 import lombok.RequiredArgsConstructor;
@@ -17,15 +19,36 @@ import java.util.Optional;
 public class GetRecipeByIdUseCase {
     private final SecurityService securityService;
     private final RecipeService recipeService;
+    private final UserService userService;
+    private final RecipeDetailCache recipeDetailCache;
     private final CanAccessResourceVerification canAccessResource;
 
     public FullRecipeDto execute(Long recipeId) {
-        Optional<User> user = securityService.getCurrentUserOptional();
-        Recipe recipe = recipeService.findByIdOrThrow(recipeId);
+        Optional<RecipeDetailCache.Entry> cached = recipeDetailCache.get(recipeId);
+
+        if (cached.isPresent()) {
+            Long authorId = cached.get().authorId();
+            verifyAccess(authorId, userService.isPrivate(authorId));
+
+            return cached.get().recipe();
+        }
+
+        Recipe recipe = recipeService.findFullByIdOrThrow(recipeId);
         User recipeOwner = recipe.getAuthor();
 
-        canAccessResource.verify(recipeOwner, user.map(User::getId).orElse(null));
+        verifyAccess(recipeOwner.getId(), recipeOwner.isPrivate());
+
+        FullRecipeDto response = RecipeMapper.toFullRecipeDto(recipe);
+        recipeDetailCache.put(recipeId, recipeOwner.getId(), response);
+
+        return response;
+    }
+
+    private void verifyAccess(Long ownerId, boolean ownerPrivate) {
+        Long requesterId = ownerPrivate
+            ? securityService.getCurrentUserOptional().map(User::getId).orElse(null)
+            : null;
 
-        return RecipeMapper.toFullRecipeDto(recipe);
+        canAccessResource.verify(ownerId, ownerPrivate, requesterId);
     }
 }
@@ -0,0 +1,17 @@
+package com.rodrigo.tastyhub.modules.recipes.application.usecases;
+
+import com.rodrigo.tastyhub.modules.recipes.application.dto.request.RecipeFacetsQuery;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.RecipeFacetsDto;
+import com.rodrigo.tastyhub.modules.recipes.domain.service.RecipeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class GetRecipeFacetsUseCase {
+    private final RecipeService recipeService;
+
+    public RecipeFacetsDto execute(RecipeFacetsQuery query) {
+        return this.recipeService.countFacets(query);
+    }
+}
@@ -0,0 +1,23 @@
+package com.rodrigo.tastyhub.modules.recipes.application.usecases;
+
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.SimilarRecipeDto;
+import com.rodrigo.tastyhub.modules.recipes.domain.service.RecipeService;
+import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import com.rodrigo.tastyhub.shared.config.security.SecurityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class GetSimilarRecipesUseCase {
+    private final SecurityService securityService;
+    private final RecipeService recipeService;
+
+    public List<SimilarRecipeDto> execute(Long recipeId, int limit) {
+        User user = this.securityService.getCurrentUserOptional().orElse(null);
+
+        return this.recipeService.findSimilar(recipeId, limit, user);
+    }
+}
@@ -0,0 +1,19 @@
+package com.rodrigo.tastyhub.modules.recipes.application.usecases;
+
+import com.rodrigo.tastyhub.modules.recipes.application.dto.request.SuggestionQuery;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.SuggestionDto;
+import com.rodrigo.tastyhub.modules.recipes.domain.service.RecipeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class GetSuggestionsUseCase {
+    private final RecipeService recipeService;
+
+    public List<SuggestionDto> execute(SuggestionQuery query) {
+        return this.recipeService.suggest(query);
+    }
+}
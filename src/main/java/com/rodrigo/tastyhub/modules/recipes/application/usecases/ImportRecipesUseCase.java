@@ -0,0 +1,339 @@
+package com.rodrigo.tastyhub.modules.recipes.application.usecases;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.request.CreateRecipeDto;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.request.RecipeIngredientRequestDto;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.RecipeImportErrorDto;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.RecipeImportReportDto;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Currency;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Ingredient;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.PreparationStep;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeIngredient;
+import com.rodrigo.tastyhub.modules.recipes.domain.service.CurrencyService;
+import com.rodrigo.tastyhub.modules.recipes.domain.service.IngredientService;
+import com.rodrigo.tastyhub.modules.recipes.domain.service.RecipeService;
+import com.rodrigo.tastyhub.modules.tags.domain.model.Tag;
+import com.rodrigo.tastyhub.modules.tags.domain.service.TagService;
+import com.rodrigo.tastyhub.modules.timeline.domain.service.TimelineService;
+import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import com.rodrigo.tastyhub.modules.user.domain.service.UserService;
+import com.rodrigo.tastyhub.shared.config.security.SecurityService;
+import com.rodrigo.tastyhub.shared.exception.DomainException;
+import com.rodrigo.tastyhub.shared.exception.InfrastructureException;
+import com.rodrigo.tastyhub.shared.exception.ResourceNotFoundException;
+import jakarta.annotation.Nullable;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class ImportRecipesUseCase {
+    private record ImportLine(long number, CreateRecipeDto content) {}
+
+    private record PreparedLine(long number, Recipe recipe) {}
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final TagService tagService;
+    private final UserService userService;
+    private final RecipeService recipeService;
+    private final SecurityService securityService;
+    private final CurrencyService currencyService;
+    private final IngredientService ingredientService;
+    private final TimelineService timelineService;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public ImportRecipesUseCase(
+        ObjectMapper objectMapper,
+        Validator validator,
+        TransactionTemplate transactionTemplate,
+        TagService tagService,
+        UserService userService,
+        RecipeService recipeService,
+        SecurityService securityService,
+        CurrencyService currencyService,
+        IngredientService ingredientService,
+        TimelineService timelineService,
+        @Value("${app.recipe-import.chunk-size:500}") int chunkSize,
+        @Value("${app.recipe-import.max-reported-errors:1000}") int maxReportedErrors
+    ) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.tagService = tagService;
+        this.userService = userService;
+        this.recipeService = recipeService;
+        this.securityService = securityService;
+        this.currencyService = currencyService;
+        this.ingredientService = ingredientService;
+        this.timelineService = timelineService;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxReportedErrors = Math.max(0, maxReportedErrors);
+    }
+
+    public RecipeImportReportDto execute(InputStream content, @Nullable Long authorId) {
+        User author = authorId != null
+            ? userService.findByIdOrThrow(authorId)
+            : securityService.getCurrentUser();
+
+        Report report = new Report(maxReportedErrors);
+        List<ImportLine> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                report.processedCount++;
+                CreateRecipeDto parsed = parse(lineNumber, line, report);
+
+                if (parsed != null) {
+                    chunk.add(new ImportLine(lineNumber, parsed));
+                }
+
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, author, report);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new InfrastructureException("Could not read the import stream: " + e.getMessage());
+        }
+
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, author, report);
+        }
+
+        log.info(
+            "Recipe import finished: {} processed, {} imported, {} failed",
+            report.processedCount, report.importedCount, report.failedCount
+        );
+
+        return report.toDto();
+    }
+
+    private CreateRecipeDto parse(long lineNumber, String line, Report report) {
+        CreateRecipeDto parsed;
+
+        try {
+            parsed = objectMapper.readValue(line, CreateRecipeDto.class);
+        } catch (JsonProcessingException e) {
+            report.fail(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+            return null;
+        }
+
+        Set<ConstraintViolation<CreateRecipeDto>> violations = validator.validate(parsed);
+
+        if (!violations.isEmpty()) {
+            report.fail(lineNumber, violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; ")));
+            return null;
+        }
+
+        try {
+            requireImportableFields(parsed);
+        } catch (DomainException e) {
+            report.fail(lineNumber, e.getMessage());
+            return null;
+        }
+
+        return parsed;
+    }
+
+    private static void requireImportableFields(CreateRecipeDto content) {
+        if (content.language() == null || content.language().isBlank()) {
+            throw new DomainException("language: Language is required");
+        }
+
+        if (content.steps().contains(null)) {
+            throw new DomainException("steps: Steps cannot contain empty entries");
+        }
+
+        if (content.ingredients().contains(null)) {
+            throw new DomainException("ingredients: Ingredients cannot contain empty entries");
+        }
+
+        if (content.tagIds() != null && content.tagIds().contains(null)) {
+            throw new DomainException("tagIds: Tag IDs cannot be null");
+        }
+    }
+
+    private void importChunk(List<ImportLine> chunk, User author, Report report) {
+        Map<Long, Ingredient> ingredients = indexById(
+            ingredientService.findAllByIds(chunk.stream()
+                .flatMap(line -> line.content().ingredients().stream())
+                .map(RecipeIngredientRequestDto::ingredientId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet())),
+            Ingredient::getId
+        );
+
+        Set<Long> tagIds = chunk.stream()
+            .map(line -> line.content().tagIds())
+            .filter(Objects::nonNull)
+            .flatMap(Set::stream)
+            .collect(Collectors.toSet());
+
+        Map<Long, Tag> tags = tagIds.isEmpty()
+            ? Map.of()
+            : indexById(tagService.findAllById(tagIds), Tag::getId);
+
+        Map<Short, Currency> currencies = indexById(
+            currencyService.findAllByIds(chunk.stream()
+                .map(line -> line.content().currencyId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet())),
+            Currency::getId
+        );
+
+        List<PreparedLine> prepared = new ArrayList<>(chunk.size());
+
+        for (ImportLine line : chunk) {
+            try {
+                prepared.add(new PreparedLine(
+                    line.number(),
+                    toRecipe(line.content(), author, ingredients, tags, currencies)
+                ));
+            } catch (DomainException | ResourceNotFoundException | IllegalArgumentException e) {
+                report.fail(line.number(), e.getMessage());
+            }
+        }
+
+        if (prepared.isEmpty()) {
+            return;
+        }
+
+        try {
+            save(prepared);
+            report.importedCount += prepared.size();
+        } catch (DataAccessException chunkFailure) {
+            log.warn("Import chunk of {} recipes failed, retrying line by line", prepared.size(), chunkFailure);
+
+            for (PreparedLine line : prepared) {
+                try {
+                    save(List.of(line));
+                    report.importedCount++;
+                } catch (DataAccessException e) {
+                    report.fail(line.number(), NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+                }
+            }
+        }
+    }
+
+    private void save(List<PreparedLine> lines) {
+        List<Recipe> recipes = lines.stream().map(PreparedLine::recipe).toList();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            recipeService.importAll(recipes);
+            recipes.forEach(timelineService::publish);
+        });
+    }
+
+    private Recipe toRecipe(
+        CreateRecipeDto content,
+        User author,
+        Map<Long, Ingredient> ingredients,
+        Map<Long, Tag> tags,
+        Map<Short, Currency> currencies
+    ) {
+        List<PreparationStep> steps = content.steps()
+            .stream()
+            .map(step -> new PreparationStep(step.stepNumber(), step.instruction()))
+            .toList();
+
+        List<RecipeIngredient> recipeIngredients = content.ingredients()
+            .stream()
+            .map(item -> new RecipeIngredient(
+                item.quantity(),
+                item.unit(),
+                require(ingredients, item.ingredientId(), "Ingredient")
+            ))
+            .toList();
+
+        List<Tag> recipeTags = content.tagIds() == null
+            ? null
+            : content.tagIds().stream().map(tagId -> require(tags, tagId, "Tag")).toList();
+
+        return new Recipe(
+            content.title(),
+            content.description(),
+            author,
+            content.isPublic(),
+            content.language(),
+            content.difficultyLevel(),
+            content.category(),
+            content.cookTimeMin(),
+            content.cookTimeMax(),
+            content.hasCurrency() ? content.estimatedCost() : null,
+            content.hasCurrency() ? require(currencies, content.currencyId(), "Currency") : null,
+            recipeTags,
+            steps,
+            recipeIngredients
+        );
+    }
+
+    private static <K, V> Map<K, V> indexById(Collection<V> values, Function<V, K> idGetter) {
+        return values.stream().collect(Collectors.toMap(idGetter, Function.identity()));
+    }
+
+    private static <K, V> V require(Map<K, V> values, K id, String type) {
+        V value = values.get(id);
+
+        if (value == null) {
+            throw new ResourceNotFoundException("%s not found with ID %s".formatted(type, id));
+        }
+
+        return value;
+    }
+
+    private static final class Report {
+        private final int maxReportedErrors;
+        private final List<RecipeImportErrorDto> errors = new ArrayList<>();
+        private long processedCount;
+        private long importedCount;
+        private long failedCount;
+
+        private Report(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void fail(long line, String message) {
+            failedCount++;
+
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new RecipeImportErrorDto(line, message));
+            }
+        }
+
+        private RecipeImportReportDto toDto() {
+            return new RecipeImportReportDto(processedCount, importedCount, failedCount, List.copyOf(errors));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.rodrigo.tastyhub.modules.recipes.application.usecases;
+
+import com.rodrigo.tastyhub.modules.recipes.application.dto.request.PantryQuery;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.PantryMatchDto;
+import com.rodrigo.tastyhub.modules.recipes.domain.service.RecipeService;
+import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import com.rodrigo.tastyhub.shared.config.security.SecurityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class MatchPantryUseCase {
+    private final SecurityService securityService;
+    private final RecipeService recipeService;
+
+    public List<PantryMatchDto> execute(PantryQuery query) {
+        User user = this.securityService.getCurrentUserOptional().orElse(null);
+
+        return this.recipeService.matchPantry(query, user);
+    }
+}
@@ -11,6 +11,7 @@ import com.rodrigo.tastyhub.modules.recipes.domain.service.CurrencyService;
 import com.rodrigo.tastyhub.modules.recipes.domain.service.IngredientService;
 import com.rodrigo.tastyhub.modules.recipes.domain.service.RecipeService;
 import com.rodrigo.tastyhub.modules.tags.domain.service.TagService;
+import com.rodrigo.tastyhub.modules.timeline.domain.service.TimelineService;
 import com.rodrigo.tastyhub.shared.kernel.annotations.RequiresVerification;
 import com.rodrigo.tastyhub.shared.config.security.SecurityService;
 import lombok.RequiredArgsConstructor;
@@ -27,15 +28,18 @@ public class UpdateRecipeUseCase {
     private final SecurityService securityService;
     private final CurrencyService currencyService;
     private final IngredientService ingredientService;
+    private final TimelineService timelineService;
 
     @RequiresVerification
     @Transactional
     public FullRecipeDto execute(Long recipeId, UpdateRecipeDto newData) {
         Long userId = securityService.getCurrentUser().getId();
-        Recipe recipe = recipeService.findByIdOrThrow(recipeId);
+        Recipe recipe = recipeService.findFullByIdOrThrow(recipeId);
 
        recipe.validateOwnership(userId);
 
+        boolean wasPublic = recipe.isPublic();
+
         List<RecipeIngredient> ingredients = ingredientService.preparerAll(
             newData.ingredients()
                 .stream()
@@ -57,18 +61,20 @@ public class UpdateRecipeUseCase {
            newData.currencyId() != null ? currencyService.findById(newData.currencyId()) : null,
            newData.tagIds() != null ? tagService.syncAll(newData.tagIds()) : null,
            ingredients,
-           newData.steps().stream().map(step -> new PreparationStep(
+           newData.steps() != null ? newData.steps().stream().map(step -> new PreparationStep(
                step.id(),
                step.stepNumber(),
                step.instruction(),
                recipe
-           )).toList()
+           )).toList() : null
        );
 
-        return RecipeMapper.toFullRecipeDto(
-            recipeService.update(
-                recipe
-            )
-        );
+        Recipe updated = recipeService.update(recipe);
+
+        if (!wasPublic) {
+            timelineService.publish(updated);
+        }
+
+        return RecipeMapper.toFullRecipeDto(updated);
     }
 }
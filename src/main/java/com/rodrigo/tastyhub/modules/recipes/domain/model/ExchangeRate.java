@@ -0,0 +1,33 @@
+package com.rodrigo.tastyhub.modules.recipes.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "exchange_rates")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExchangeRate {
+    @Id
+    @Column(name = "currency_id")
+    private Short currencyId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "currency_id")
+    private Currency currency;
+
+    @Column(name = "rate_to_base", nullable = false, precision = 18, scale = 8)
+    private BigDecimal rateToBase;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private OffsetDateTime updatedAt;
+}
@@ -0,0 +1,6 @@
+package com.rodrigo.tastyhub.modules.recipes.domain.model;
+
+public enum IngredientMatchMode {
+    ALL,
+    ANY
+}
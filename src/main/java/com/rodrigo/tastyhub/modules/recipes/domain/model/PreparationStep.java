@@ -1,5 +1,6 @@
 package com.rodrigo.tastyhub.modules.recipes.domain.model;
 
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.PooledSequences;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,7 +15,12 @@ import java.util.Objects;
 @Builder
 public class PreparationStep {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "preparation_steps_id_seq")
+    @SequenceGenerator(
+        name = "preparation_steps_id_seq",
+        sequenceName = "preparation_steps_id_seq",
+        allocationSize = PooledSequences.ALLOCATION_SIZE
+    )
     private Long id;
 
     @Column(name = "step_number", nullable = false)
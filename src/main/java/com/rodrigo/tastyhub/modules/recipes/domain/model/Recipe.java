@@ -5,6 +5,7 @@ import com.rodrigo.tastyhub.modules.tags.domain.model.Tag;
 import com.rodrigo.tastyhub.modules.user.domain.model.User;
 import com.rodrigo.tastyhub.shared.exception.DomainException;
 import com.rodrigo.tastyhub.shared.exception.ForbiddenException;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.PooledSequences;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -13,6 +14,7 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @NoArgsConstructor
@@ -22,9 +24,29 @@ import java.util.stream.Collectors;
 @Builder
 @Entity
 @Table(name = "recipes")
+@NamedEntityGraph(
+    name = Recipe.FULL_GRAPH,
+    attributeNodes = {
+        @NamedAttributeNode(value = "author", subgraph = "author"),
+        @NamedAttributeNode("currency"),
+        @NamedAttributeNode("statistics"),
+        @NamedAttributeNode(value = "ingredients", subgraph = "ingredients")
+    },
+    subgraphs = {
+        @NamedSubgraph(name = "author", attributeNodes = @NamedAttributeNode("settings")),
+        @NamedSubgraph(name = "ingredients", attributeNodes = @NamedAttributeNode("ingredient"))
+    }
+)
 public class Recipe {
+    public static final String FULL_GRAPH = "Recipe.full";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipes_id_seq")
+    @SequenceGenerator(
+        name = "recipes_id_seq",
+        sequenceName = "recipes_id_seq",
+        allocationSize = PooledSequences.ALLOCATION_SIZE
+    )
     private Long id;
 
     @Column(name = "title", nullable = false, length = 120)
@@ -42,6 +64,9 @@ public class Recipe {
     @Column(name = "estimated_cost")
     private BigDecimal estimatedCost;
 
+    @Column(name = "normalized_cost", precision = 12, scale = 2)
+    private BigDecimal normalizedCost;
+
     @Column(name = "language", nullable = false, length = 5)
     @Builder.Default
     private String language = "en-US";
@@ -77,6 +102,15 @@ public class Recipe {
     @Column(name = "is_public", length = 500)
     private boolean isPublic = true;
 
+    @Setter(AccessLevel.NONE)
+    @Column(
+        name = "search_vector",
+        columnDefinition = "tsvector",
+        insertable = false,
+        updatable = false
+    )
+    private String searchVector;
+
     @OneToOne(mappedBy = "recipe", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
     @PrimaryKeyJoinColumn
     private RecipeStatistics statistics;
@@ -90,6 +124,10 @@ public class Recipe {
     @OneToMany(mappedBy = "recipe", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<RecipeIngredient> ingredients = new ArrayList<>();
 
+    @Setter(AccessLevel.NONE)
+    @Column(name = "ingredient_count", nullable = false)
+    private int ingredientCount;
+
     @Builder.Default
     @OneToMany(mappedBy = "recipe", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<RecipeMedia> media = new ArrayList<>();
@@ -113,6 +151,9 @@ public class Recipe {
     @UpdateTimestamp
     private OffsetDateTime updatedAt;
 
+    @Column(name = "published_at")
+    private OffsetDateTime publishedAt;
+
     public Recipe(
         String title,
         String description,
@@ -188,14 +229,32 @@ public class Recipe {
         if (isPublic != null) this.isPublic = isPublic;
         if (difficultyLevel != null) this.difficultyLevel = difficultyLevel;
 
+        this.markPublished();
+
         this.updateMonetaryDetails(estimatedCost, currency);
         this.updateTiming(cookTimeMin, cookTimeMax);
         this.updateIngredients(recipeIngredients);
         this.updateSteps(steps);
     }
 
+    /**
+     * Stamps the moment the recipe first became public. Timelines order recipes by it, so making a
+     * recipe private and public again does not move it back to the top of anyone's feed.
+     */
+    @PrePersist
+    public void markPublished() {
+        if (this.isPublic && this.publishedAt == null) {
+            this.publishedAt = OffsetDateTime.now();
+        }
+    }
+
+    public void setIngredients(List<RecipeIngredient> ingredients) {
+        this.ingredients = ingredients;
+        this.ingredientCount = ingredients != null ? ingredients.size() : 0;
+    }
+
     public void updateAllTags(List<Tag> tags) {
-        this.getTags().clear();
+        this.getTags().retainAll(new HashSet<>(tags));
 
         this.getTags().addAll(tags);
     }
@@ -247,32 +306,60 @@ public class Recipe {
             return;
         }
 
-        if (newIngredients.isEmpty()) {
-            this.ingredients.clear();
-            return;
-        }
-
-        Set<Long> incomingIds = newIngredients.stream()
-            .map(RecipeIngredient::getId)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toSet());
+        Map<Long, RecipeIngredient> unclaimed = this.ingredients.stream()
+            .filter(existing -> existing.getId() != null)
+            .collect(Collectors.toMap(
+                RecipeIngredient::getId,
+                Function.identity(),
+                (first, second) -> first,
+                LinkedHashMap::new
+            ));
 
-        this.ingredients.removeIf(existing -> !incomingIds.contains(existing.getId()));
+        List<RecipeIngredient> withoutId = new ArrayList<>();
 
         for (RecipeIngredient incoming : newIngredients) {
-            if (incoming.getId() != null) {
-                this.ingredients.stream()
-                    .filter(existing -> existing.getId().equals(incoming.getId()))
-                    .findFirst()
-                    .ifPresent(existing -> {
-                        existing.setQuantity(incoming.getQuantity());
-                        existing.setUnit(incoming.getUnit());
-                    });
+            if (incoming.getId() == null) {
+                withoutId.add(incoming);
+                continue;
+            }
+
+            RecipeIngredient existing = unclaimed.remove(incoming.getId());
+
+            if (existing != null) {
+                existing.setQuantity(incoming.getQuantity());
+                existing.setUnit(incoming.getUnit());
+            }
+        }
+
+        Map<Long, Deque<RecipeIngredient>> reusableByIngredient = unclaimed.values()
+            .stream()
+            .collect(Collectors.groupingBy(
+                existing -> existing.getIngredient().getId(),
+                HashMap::new,
+                Collectors.toCollection(ArrayDeque::new)
+            ));
+
+        List<RecipeIngredient> added = new ArrayList<>();
+
+        for (RecipeIngredient incoming : withoutId) {
+            Deque<RecipeIngredient> reusable = incoming.getIngredient() != null
+                ? reusableByIngredient.get(incoming.getIngredient().getId())
+                : null;
+            RecipeIngredient existing = reusable != null ? reusable.poll() : null;
+
+            if (existing != null) {
+                unclaimed.remove(existing.getId());
+                existing.setQuantity(incoming.getQuantity());
+                existing.setUnit(incoming.getUnit());
             } else {
                 incoming.setRecipe(this);
-                this.ingredients.add(incoming);
+                added.add(incoming);
             }
         }
+
+        this.ingredients.removeIf(existing -> existing.getId() != null && unclaimed.containsKey(existing.getId()));
+        this.ingredients.addAll(added);
+        this.ingredientCount = this.ingredients.size();
     }
 
     public void updateSteps(List<PreparationStep> newSteps) {
@@ -284,14 +371,47 @@ public class Recipe {
             throw new DomainException("Recipe must have at least one preparation step");
         }
 
-        this.steps.clear();
+        Map<Long, PreparationStep> unclaimed = this.steps.stream()
+            .filter(existing -> existing.getId() != null)
+            .collect(Collectors.toMap(
+                PreparationStep::getId,
+                Function.identity(),
+                (first, second) -> first,
+                LinkedHashMap::new
+            ));
+
+        PreparationStep[] resolved = new PreparationStep[newSteps.size()];
+
+        for (int i = 0; i < newSteps.size(); i++) {
+            Long incomingId = newSteps.get(i).getId();
+
+            if (incomingId != null) {
+                resolved[i] = unclaimed.remove(incomingId);
+            }
+        }
+
+        Iterator<PreparationStep> reusable = unclaimed.values().iterator();
+
+        for (int i = 0; i < newSteps.size(); i++) {
+            String instruction = newSteps.get(i).getInstruction();
+            PreparationStep step = resolved[i];
+
+            if (step == null && reusable.hasNext()) {
+                step = reusable.next();
+                reusable.remove();
+            }
+
+            if (step == null) {
+                this.addStep(new PreparationStep(i + 1, instruction));
+                continue;
+            }
 
-        int stepNumber = 1;
-        for (PreparationStep step : newSteps) {
-            step.setStepNumber(stepNumber++);
-            step.setRecipe(this);
-            this.steps.add(step);
+            step.setStepNumber(i + 1);
+            step.setInstruction(instruction);
         }
+
+        this.steps.removeIf(existing -> existing.getId() != null && unclaimed.containsKey(existing.getId()));
+        this.steps.sort(Comparator.comparing(PreparationStep::getStepNumber));
     }
 
     public void addIngredient(Ingredient ingredient, BigDecimal quantity, IngredientUnitEnum unit) {
@@ -304,6 +424,7 @@ public class Recipe {
             .unit(unit)
             .build();
         this.ingredients.add(recipeIngredient);
+        this.ingredientCount = this.ingredients.size();
     }
 
     public void addStep(PreparationStep step) {
@@ -326,27 +447,5 @@ public class Recipe {
             .build();
 
         this.comments.add(comment);
-
-        updateStatisticRating(rating);
-    }
-
-    public void incrementFavorites() {
-        if (this.statistics == null) {
-            this.statistics = new RecipeStatistics();
-        }
-        this.statistics.incrementFavoritesCount();
-    }
-
-    public void decrementFavorites() {
-        if (this.statistics == null) {
-            this.statistics = new RecipeStatistics();
-        }
-        this.statistics.decrementFavoritesCount();
-    }
-
-    public void updateStatisticRating(BigDecimal rating) {
-        if (this.statistics != null) {
-            this.statistics.incrementRating(rating);
-        }
     }
 }
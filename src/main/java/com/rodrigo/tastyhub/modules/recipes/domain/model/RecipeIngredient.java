@@ -1,5 +1,6 @@
 package com.rodrigo.tastyhub.modules.recipes.domain.model;
 
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.PooledSequences;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,7 +15,12 @@ import java.math.BigDecimal;
 @Builder
 public class RecipeIngredient {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipe_ingredients_id_seq")
+    @SequenceGenerator(
+        name = "recipe_ingredients_id_seq",
+        sequenceName = "recipe_ingredients_id_seq",
+        allocationSize = PooledSequences.ALLOCATION_SIZE
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
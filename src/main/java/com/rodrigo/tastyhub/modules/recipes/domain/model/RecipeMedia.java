@@ -1,5 +1,6 @@
 package com.rodrigo.tastyhub.modules.recipes.domain.model;
 
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.PooledSequences;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -15,7 +16,12 @@ import java.time.OffsetDateTime;
 @Builder
 public class RecipeMedia {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipe_media_id_seq")
+    @SequenceGenerator(
+        name = "recipe_media_id_seq",
+        sequenceName = "recipe_media_id_seq",
+        allocationSize = PooledSequences.ALLOCATION_SIZE
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
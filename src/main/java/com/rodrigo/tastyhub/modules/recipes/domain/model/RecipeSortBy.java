@@ -6,4 +6,6 @@ public enum RecipeSortBy {
     CREATION_DATE,
     TITLE,
     INGREDIENTS_SIZE,
+    SEARCH_RANK,
+    COST,
 }
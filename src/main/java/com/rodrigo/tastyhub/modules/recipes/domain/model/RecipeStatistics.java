@@ -22,44 +22,71 @@ public class RecipeStatistics {
     private Recipe recipe;
 
     @Builder.Default
-    @Column(name = "favorites_count", nullable = false)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "favorites_count", nullable = false, insertable = false, updatable = false)
     private Integer favoritesCount = 0;
 
     @Builder.Default
-    @Column(name = "reviews_count", nullable = false)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "reviews_count", nullable = false, insertable = false, updatable = false)
     private Integer reviewsCount = 0;
 
     @Builder.Default
-    @Column(name = "total_rating_sum", nullable = false)
-    private Integer totalRatingSum = 0;
+    @Setter(AccessLevel.NONE)
+    @Column(name = "total_rating_sum", nullable = false, insertable = false, updatable = false)
+    private BigDecimal totalRatingSum = BigDecimal.ZERO;
 
     @Builder.Default
-    @Column(name = "average_rating", nullable = false)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "average_rating", nullable = false, insertable = false, updatable = false)
     private Double averageRating = 0.0;
 
-    @Version
-    @Builder.Default
-    private Long version = 0L;
+    @Setter(AccessLevel.NONE)
+    @Column(name = "bayesian_rating", insertable = false, updatable = false)
+    private Double bayesianRating;
 
-    public void incrementRating(BigDecimal newRating) {
-        this.reviewsCount++;
-        this.totalRatingSum += newRating.intValue();
-        this.averageRating = (double) this.totalRatingSum / this.reviewsCount;
-    }
+    @Setter(AccessLevel.NONE)
+    @Column(name = "relevance_score", insertable = false, updatable = false)
+    private Double relevanceScore;
 
-    public void decrementRating(BigDecimal newRating) {
-        this.reviewsCount--;
-        this.totalRatingSum -= newRating.intValue();
-        this.averageRating = (double) this.totalRatingSum / this.reviewsCount;
-    }
+    @Setter(AccessLevel.NONE)
+    @Column(name = "one_star_count", insertable = false, updatable = false)
+    private Integer oneStarCount;
+
+    @Setter(AccessLevel.NONE)
+    @Column(name = "two_star_count", insertable = false, updatable = false)
+    private Integer twoStarCount;
+
+    @Setter(AccessLevel.NONE)
+    @Column(name = "three_star_count", insertable = false, updatable = false)
+    private Integer threeStarCount;
 
-    public void incrementFavoritesCount() {
-        this.favoritesCount++;
+    @Setter(AccessLevel.NONE)
+    @Column(name = "four_star_count", insertable = false, updatable = false)
+    private Integer fourStarCount;
+
+    @Setter(AccessLevel.NONE)
+    @Column(name = "five_star_count", insertable = false, updatable = false)
+    private Integer fiveStarCount;
+
+    @Setter(AccessLevel.NONE)
+    @Column(name = "reviewers_count", insertable = false, updatable = false)
+    private Integer reviewersCount;
+
+    public static int starsOf(BigDecimal rating) {
+        return Math.min(5, Math.max(1, rating.intValue()));
     }
 
-    public void decrementFavoritesCount() {
-        if (this.favoritesCount > 0) {
-            this.favoritesCount--;
-        }
+    public int countForStars(int stars) {
+        Integer count = switch (stars) {
+            case 1 -> oneStarCount;
+            case 2 -> twoStarCount;
+            case 3 -> threeStarCount;
+            case 4 -> fourStarCount;
+            case 5 -> fiveStarCount;
+            default -> throw new IllegalArgumentException("Stars must be between 1 and 5");
+        };
+
+        return count != null ? count : 0;
     }
 }
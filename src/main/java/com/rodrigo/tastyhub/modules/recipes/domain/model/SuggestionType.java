@@ -0,0 +1,7 @@
+package com.rodrigo.tastyhub.modules.recipes.domain.model;
+
+public enum SuggestionType {
+    RECIPE,
+    TAG,
+    INGREDIENT
+}
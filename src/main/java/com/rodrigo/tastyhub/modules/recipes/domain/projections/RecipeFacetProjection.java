@@ -0,0 +1,14 @@
+package com.rodrigo.tastyhub.modules.recipes.domain.projections;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.DifficultyLevel;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeCategory;
+import com.rodrigo.tastyhub.modules.settings.domain.model.ProfileVisibility;
+
+public record RecipeFacetProjection(
+    Long id,
+    RecipeCategory category,
+    DifficultyLevel difficultyLevel,
+    String language,
+    boolean isPublic,
+    ProfileVisibility authorVisibility
+) {}
@@ -0,0 +1,21 @@
+package com.rodrigo.tastyhub.modules.recipes.domain.projections;
+
+public record RecipeSummaryProjection(
+    Long id,
+    String title,
+    Boolean isPublic,
+    Integer cookTimeMin,
+    Integer cookTimeMax,
+    String coverUrl,
+    String coverAlt,
+    Long authorId,
+    String authorFirstName,
+    String authorLastName,
+    String authorUsername,
+    String authorProfilePictureUrl,
+    String authorProfilePictureAlt,
+    Integer ingredientCount,
+    Double averageRating,
+    Integer favoritesCount,
+    Integer reviewsCount
+) {}
@@ -0,0 +1,3 @@
+package com.rodrigo.tastyhub.modules.recipes.domain.projections;
+
+public record SuggestionProjection(Long id, String text, Long weight) {}
@@ -4,6 +4,13 @@ import com.rodrigo.tastyhub.modules.recipes.domain.model.Currency;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface CurrencyRepository extends JpaRepository<Currency, Short> {
+    Optional<Currency> findByCode(String code);
+
+    List<Currency> findAllByCodeIn(Collection<String> codes);
 }
@@ -0,0 +1,9 @@
+package com.rodrigo.tastyhub.modules.recipes.domain.repository;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.ExchangeRate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ExchangeRateRepository extends JpaRepository<ExchangeRate, Short> {
+}
@@ -1,9 +1,50 @@
 package com.rodrigo.tastyhub.modules.recipes.domain.repository;
 
 import com.rodrigo.tastyhub.modules.recipes.domain.model.Ingredient;
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.SuggestionProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface IngredientRepository extends JpaRepository<Ingredient, Long> {
+    @Query("SELECT i FROM Ingredient i WHERE LOWER(i.name) IN :names")
+    List<Ingredient> findAllByLowerNameIn(@Param("names") Collection<String> names);
+
+    @Query(
+        "SELECT new com.rodrigo.tastyhub.modules.recipes.domain.projections.SuggestionProjection(" +
+        "i.id, i.name, COUNT(ri.id)) " +
+        "FROM Ingredient i LEFT JOIN RecipeIngredient ri ON ri.ingredient = i " +
+        "GROUP BY i.id, i.name"
+    )
+    List<SuggestionProjection> findNameSuggestions();
+
+    @Query(
+        "SELECT new com.rodrigo.tastyhub.modules.recipes.domain.projections.SuggestionProjection(" +
+        "i.id, i.name, COUNT(ri.id)) " +
+        "FROM Ingredient i LEFT JOIN RecipeIngredient ri ON ri.ingredient = i " +
+        "WHERE i.id IN :ingredientIds " +
+        "GROUP BY i.id, i.name"
+    )
+    List<SuggestionProjection> findNameSuggestionsByIds(@Param("ingredientIds") Collection<Long> ingredientIds);
+
+    @Query(
+        value = """
+            SELECT i.*
+            FROM ingredients i
+            WHERE normalize_search_text(:term) <% normalize_search_text(i.name)
+            ORDER BY
+                starts_with(normalize_search_text(i.name), normalize_search_text(:term)) DESC,
+                word_similarity(normalize_search_text(:term), normalize_search_text(i.name)) DESC,
+                length(i.name),
+                i.id
+            LIMIT :limit
+            """,
+        nativeQuery = true
+    )
+    List<Ingredient> searchByName(@Param("term") String term, @Param("limit") int limit);
 }
@@ -1,11 +1,111 @@
 package com.rodrigo.tastyhub.modules.recipes.domain.repository;
 
 import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeFacetProjection;
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeIngredientLinkProjection;
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeTagLinkProjection;
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeTagProjection;
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.SuggestionProjection;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface RecipeRepository extends JpaRepository<Recipe, Long>, JpaSpecificationExecutor<Recipe> {
+public interface RecipeRepository extends
+    JpaRepository<Recipe, Long>,
+    JpaSpecificationExecutor<Recipe>,
+    RecipeSummaryRepository {
     long countByAuthorId(Long userId);
+
+    @EntityGraph(Recipe.FULL_GRAPH)
+    @Query("SELECT r FROM Recipe r WHERE r.id = :id")
+    Optional<Recipe> findFullById(@Param("id") Long id);
+
+    @Query("SELECT r FROM Recipe r LEFT JOIN FETCH r.steps WHERE r.id = :id")
+    Optional<Recipe> fetchStepsById(@Param("id") Long id);
+
+    @Query("SELECT r FROM Recipe r LEFT JOIN FETCH r.tags WHERE r.id = :id")
+    Optional<Recipe> fetchTagsById(@Param("id") Long id);
+
+    @Query(
+        "SELECT new com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeFacetProjection(" +
+        "r.id, r.category, r.difficultyLevel, r.language, r.isPublic, s.profileVisibility) " +
+        "FROM Recipe r JOIN r.author a LEFT JOIN a.settings s"
+    )
+    List<RecipeFacetProjection> findAllFacets();
+
+    @Query(
+        "SELECT new com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeTagProjection(r.id, t.name) " +
+        "FROM Recipe r JOIN r.tags t"
+    )
+    List<RecipeTagProjection> findAllTagNames();
+
+    @Query(
+        "SELECT new com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeIngredientLinkProjection(" +
+        "r.id, ri.ingredient.id) " +
+        "FROM Recipe r JOIN r.ingredients ri JOIN r.author a LEFT JOIN a.settings s " +
+        "WHERE r.isPublic = true " +
+        "AND (s.profileVisibility IS NULL " +
+        "OR s.profileVisibility <> com.rodrigo.tastyhub.modules.settings.domain.model.ProfileVisibility.PRIVATE) " +
+        "ORDER BY r.id, ri.ingredient.id"
+    )
+    List<RecipeIngredientLinkProjection> findVisibleIngredientLinks();
+
+    @Query(
+        "SELECT new com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeTagLinkProjection(r.id, t.id) " +
+        "FROM Recipe r JOIN r.tags t JOIN r.author a LEFT JOIN a.settings s " +
+        "WHERE r.isPublic = true " +
+        "AND (s.profileVisibility IS NULL " +
+        "OR s.profileVisibility <> com.rodrigo.tastyhub.modules.settings.domain.model.ProfileVisibility.PRIVATE) " +
+        "ORDER BY r.id, t.id"
+    )
+    List<RecipeTagLinkProjection> findVisibleTagLinks();
+
+    @Query(
+        "SELECT new com.rodrigo.tastyhub.modules.recipes.domain.projections.SuggestionProjection(" +
+        "r.id, r.title, CAST(s.favoritesCount + s.reviewsCount AS Long)) " +
+        "FROM Recipe r JOIN r.statistics s JOIN r.author a LEFT JOIN a.settings us " +
+        "WHERE r.isPublic = true " +
+        "AND (us.profileVisibility IS NULL " +
+        "OR us.profileVisibility <> com.rodrigo.tastyhub.modules.settings.domain.model.ProfileVisibility.PRIVATE)"
+    )
+    List<SuggestionProjection> findTitleSuggestions();
+
+    @Query(
+        "SELECT new com.rodrigo.tastyhub.modules.recipes.domain.projections.SuggestionProjection(" +
+        "t.id, t.name, COUNT(r.id)) " +
+        "FROM Recipe r JOIN r.tags t " +
+        "GROUP BY t.id, t.name"
+    )
+    List<SuggestionProjection> findTagSuggestions();
+
+    @Query(
+        "SELECT new com.rodrigo.tastyhub.modules.recipes.domain.projections.SuggestionProjection(" +
+        "t.id, t.name, COUNT(r.id)) " +
+        "FROM Recipe r JOIN r.tags t " +
+        "WHERE t.id IN :tagIds " +
+        "GROUP BY t.id, t.name"
+    )
+    List<SuggestionProjection> findTagSuggestionsByIds(@Param("tagIds") Collection<Long> tagIds);
+
+    @Modifying
+    @Query(
+        "UPDATE Recipe r " +
+        "SET r.normalizedCost = ROUND(r.estimatedCost * :rateToBase, 2) " +
+        "WHERE r.currency.id = :currencyId " +
+        "AND r.estimatedCost IS NOT NULL"
+    )
+    int renormalizeCostByCurrencyId(
+        @Param("currencyId") Short currencyId,
+        @Param("rateToBase") BigDecimal rateToBase
+    );
 }
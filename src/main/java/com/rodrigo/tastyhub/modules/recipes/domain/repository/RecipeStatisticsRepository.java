@@ -0,0 +1,75 @@
+package com.rodrigo.tastyhub.modules.recipes.domain.repository;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeStatistics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+
+@Repository
+public interface RecipeStatisticsRepository extends JpaRepository<RecipeStatistics, Long> {
+    @Query("SELECT COALESCE(AVG(s.averageRating), 0) FROM RecipeStatistics s WHERE s.reviewsCount > 0")
+    double findMeanRating();
+
+    @Transactional
+    @Modifying
+    @Query(
+        value = """
+            WITH batch AS (
+                SELECT s.recipe_id
+                FROM recipe_statistics s
+                WHERE s.score_stale OR s.score_refreshed_at < :staleBefore
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            ),
+            velocity AS (
+                SELECT c.recipe_id, COUNT(*) AS recent_reviews
+                FROM comments c
+                JOIN batch b ON b.recipe_id = c.recipe_id
+                WHERE c.created_at >= :velocitySince
+                GROUP BY c.recipe_id
+            ),
+            scored AS (
+                SELECT
+                    s.recipe_id,
+                    (:priorWeight * :priorMean + s.reviews_count * s.average_rating)
+                        / (:priorWeight + s.reviews_count) AS bayesian_rating,
+                    s.favorites_count,
+                    COALESCE(v.recent_reviews, 0) AS recent_reviews,
+                    EXTRACT(EPOCH FROM (now() - r.created_at)) / 86400.0 AS age_days
+                FROM batch b
+                JOIN recipe_statistics s ON s.recipe_id = b.recipe_id
+                JOIN recipes r ON r.id = b.recipe_id
+                LEFT JOIN velocity v ON v.recipe_id = b.recipe_id
+            )
+            UPDATE recipe_statistics s
+            SET bayesian_rating = sc.bayesian_rating,
+                relevance_score =
+                    :ratingWeight * sc.bayesian_rating / 5.0
+                    + :favoritesWeight * LN(1 + sc.favorites_count)
+                    + :velocityWeight * LN(1 + sc.recent_reviews)
+                    + :recencyWeight * EXP(-LN(2) * GREATEST(sc.age_days, 0) / :halfLifeDays),
+                score_stale = FALSE,
+                score_refreshed_at = now()
+            FROM scored sc
+            WHERE s.recipe_id = sc.recipe_id
+            """,
+        nativeQuery = true
+    )
+    int refreshRelevanceScores(
+        @Param("staleBefore") OffsetDateTime staleBefore,
+        @Param("velocitySince") OffsetDateTime velocitySince,
+        @Param("priorMean") double priorMean,
+        @Param("priorWeight") double priorWeight,
+        @Param("ratingWeight") double ratingWeight,
+        @Param("favoritesWeight") double favoritesWeight,
+        @Param("velocityWeight") double velocityWeight,
+        @Param("recencyWeight") double recencyWeight,
+        @Param("halfLifeDays") double halfLifeDays,
+        @Param("batchSize") int batchSize
+    );
+}
@@ -0,0 +1,26 @@
+package com.rodrigo.tastyhub.modules.recipes.domain.repository;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeSummaryProjection;
+import com.rodrigo.tastyhub.shared.enums.SortDirection;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.KeysetQueryExecutor;
+import com.rodrigo.tastyhub.shared.kernel.pagination.KeysetWindow;
+import jakarta.annotation.Nullable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface RecipeSummaryRepository {
+    Page<RecipeSummaryProjection> findSummaries(Specification<Recipe> specification, Pageable pageable);
+
+    Slice<RecipeSummaryProjection> findSummarySlice(Specification<Recipe> specification, Pageable pageable);
+
+    KeysetWindow<RecipeSummaryProjection> findSummaryWindow(
+        Specification<Recipe> specification,
+        KeysetQueryExecutor.SortKey<Recipe> sortKey,
+        SortDirection direction,
+        @Nullable String after,
+        int size
+    );
+}
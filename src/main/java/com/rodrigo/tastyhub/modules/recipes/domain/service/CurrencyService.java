@@ -1,18 +1,119 @@
 package com.rodrigo.tastyhub.modules.recipes.domain.service;
 
 import com.rodrigo.tastyhub.modules.recipes.domain.model.Currency;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.ExchangeRate;
 import com.rodrigo.tastyhub.modules.recipes.domain.repository.CurrencyRepository;
+import com.rodrigo.tastyhub.modules.recipes.domain.repository.ExchangeRateRepository;
+import com.rodrigo.tastyhub.modules.recipes.domain.repository.RecipeRepository;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.cache.ReferenceDataCache;
 import com.rodrigo.tastyhub.shared.exception.DomainException;
+import com.rodrigo.tastyhub.shared.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CurrencyService {
+    public static final String BASE_CURRENCY_CODE = "USD";
+
     private final CurrencyRepository currencyRepository;
+    private final ExchangeRateRepository exchangeRateRepository;
+    private final RecipeRepository recipeRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     public Currency findById(Short id) {
-        return currencyRepository.findById(id)
+        return Optional.ofNullable(findAllByIdsAsMap(Set.of(id)).get(id))
             .orElseThrow(() -> new DomainException("The currency specified does not exist!"));
     }
+
+    public List<Currency> findAllByIds(Collection<Short> ids) {
+        return List.copyOf(findAllByIdsAsMap(ids).values());
+    }
+
+    public Set<Short> findIdsByCodes(Collection<String> codes) {
+        Set<String> distinctCodes = codes.stream()
+            .filter(Objects::nonNull)
+            .map(String::toUpperCase)
+            .collect(Collectors.toSet());
+
+        if (distinctCodes.isEmpty()) {
+            return Set.of();
+        }
+
+        return Set.copyOf(referenceDataCache.getCurrencyIdsByCode(distinctCodes, currencyRepository::findAllByCodeIn).values());
+    }
+
+    private Map<Short, Currency> findAllByIdsAsMap(Collection<Short> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<Short> distinctIds = ids.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return referenceDataCache.getCurrencies(distinctIds, currencyRepository::findAllById);
+    }
+
+    public BigDecimal toBaseCurrency(BigDecimal amount, Currency currency) {
+        if (amount == null || currency == null || currency.getId() == null) {
+            return null;
+        }
+
+        return exchangeRateRepository.findById(currency.getId())
+            .map(rate -> toBaseAmount(amount, rate.getRateToBase()))
+            .orElse(null);
+    }
+
+    public BigDecimal toBaseAmount(BigDecimal amount, BigDecimal rateToBase) {
+        if (amount == null || rateToBase == null) {
+            return null;
+        }
+
+        return amount.multiply(rateToBase).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    public Map<Short, BigDecimal> findRatesToBase(Collection<Short> currencyIds) {
+        if (currencyIds == null || currencyIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return exchangeRateRepository.findAllById(currencyIds)
+            .stream()
+            .collect(Collectors.toMap(ExchangeRate::getCurrencyId, ExchangeRate::getRateToBase));
+    }
+
+    @Transactional
+    public ExchangeRate updateExchangeRate(String currencyCode, BigDecimal rateToBase) {
+        if (rateToBase == null || rateToBase.signum() <= 0) {
+            throw new DomainException("The exchange rate must be greater than zero.");
+        }
+
+        Currency currency = currencyRepository.findByCode(currencyCode.toUpperCase())
+            .orElseThrow(() -> new ResourceNotFoundException("Currency not found with the provided code"));
+
+        ExchangeRate exchangeRate = exchangeRateRepository.findById(currency.getId())
+            .orElseGet(() -> ExchangeRate.builder().currency(currency).build());
+
+        exchangeRate.setRateToBase(rateToBase);
+
+        ExchangeRate savedRate = exchangeRateRepository.saveAndFlush(exchangeRate);
+
+        recipeRepository.renormalizeCostByCurrencyId(currency.getId(), rateToBase);
+
+        return savedRate;
+    }
 }
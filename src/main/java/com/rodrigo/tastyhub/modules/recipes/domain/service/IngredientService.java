@@ -1,31 +1,128 @@
 package com.rodrigo.tastyhub.modules.recipes.domain.service;
 
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.IngredientSummaryDto;
 import com.rodrigo.tastyhub.modules.recipes.domain.model.Ingredient;
 import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
 import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeIngredient;
 import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeIngredientCommand;
 import com.rodrigo.tastyhub.modules.recipes.domain.repository.IngredientRepository;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.cache.IngredientSearchCache;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.cache.ReferenceDataCache;
 import com.rodrigo.tastyhub.shared.exception.DomainException;
 import com.rodrigo.tastyhub.shared.exception.ResourceNotFoundException;
+import com.rodrigo.tastyhub.shared.kernel.text.SearchText;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class IngredientService {
     private final IngredientRepository ingredientRepository;
+    private final IngredientSearchCache ingredientSearchCache;
+    private final ReferenceDataCache referenceDataCache;
 
     public Optional<Ingredient> findById(Long id) {
         return this.ingredientRepository.findById(id);
     }
 
     public Ingredient findByIdOrThrow(Long id) {
-        return this.ingredientRepository.findById(id)
-            .orElseThrow(() -> new DomainException("Ingredient couldn't be found!"));
+        Ingredient ingredient = this.findAllByIdsAsMap(Set.of(id)).get(id);
+
+        if (ingredient == null) {
+            throw new DomainException("Ingredient couldn't be found!");
+        }
+
+        return ingredient;
+    }
+
+    public List<Ingredient> findAllByIds(Collection<Long> ids) {
+        return new ArrayList<>(this.findAllByIdsAsMap(ids).values());
+    }
+
+    public Map<Long, Ingredient> findAllByIdsOrThrow(Collection<Long> ids) {
+        Map<Long, Ingredient> ingredients = this.findAllByIdsAsMap(ids);
+
+        List<Long> missingIds = ids.stream()
+            .filter(id -> id == null || !ingredients.containsKey(id))
+            .distinct()
+            .toList();
+
+        if (!missingIds.isEmpty()) {
+            throw new ResourceNotFoundException("Ingredients not found with IDs: " + missingIds);
+        }
+
+        return ingredients;
+    }
+
+    private Map<Long, Ingredient> findAllByIdsAsMap(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<Long> distinctIds = ids.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return this.referenceDataCache.getIngredients(distinctIds, this.ingredientRepository::findAllById);
+    }
+
+    public List<Ingredient> findAllByNames(Collection<String> names) {
+        if (names == null || names.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> normalizedNames = names.stream()
+            .filter(Objects::nonNull)
+            .map(name -> name.trim().toLowerCase())
+            .filter(name -> !name.isEmpty())
+            .collect(Collectors.toSet());
+
+        if (normalizedNames.isEmpty()) {
+            return List.of();
+        }
+
+        return this.ingredientRepository.findAllByLowerNameIn(normalizedNames);
+    }
+
+    public Ingredient create(String name) {
+        Ingredient created = ingredientRepository.save(new Ingredient(null, name));
+        ingredientSearchCache.evictAll();
+
+        return created;
+    }
+
+    public List<IngredientSummaryDto> search(String term, int limit) {
+        String normalizedTerm = SearchText.normalize(term);
+
+        if (normalizedTerm.isEmpty()) {
+            return List.of();
+        }
+
+        Optional<List<IngredientSummaryDto>> cached = ingredientSearchCache.get(normalizedTerm, limit);
+
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        List<IngredientSummaryDto> ingredients = ingredientRepository.searchByName(normalizedTerm, limit)
+            .stream()
+            .map(ingredient -> new IngredientSummaryDto(ingredient.getId(), ingredient.getName()))
+            .toList();
+
+        ingredientSearchCache.put(normalizedTerm, limit, ingredients);
+
+        return ingredients;
     }
 
     public List<RecipeIngredient> preparerAll(List<RecipeIngredientCommand> recipeIngredients, Recipe recipe) {
@@ -33,6 +130,11 @@ public class IngredientService {
             throw new IllegalArgumentException("It must have at least one ingredient!");
         }
 
+        Map<Long, Ingredient> ingredients = this.findAllByIdsOrThrow(recipeIngredients.stream()
+            .filter(recipeIngredient -> recipeIngredient.id() == null)
+            .map(RecipeIngredientCommand::ingredientId)
+            .toList());
+
         return recipeIngredients.stream().map(recipeIngredient -> {
             if (recipeIngredient.id() != null) {
                 return RecipeIngredient.builder()
@@ -42,11 +144,8 @@ public class IngredientService {
                     .recipe(recipe)
                     .build();
             } else {
-                Ingredient ingredient = this.findById(recipeIngredient.ingredientId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Ingredient not found"));
-
                 return RecipeIngredient.builder()
-                    .ingredient(ingredient)
+                    .ingredient(ingredients.get(recipeIngredient.ingredientId()))
                     .quantity(recipeIngredient.quantity())
                     .unit(recipeIngredient.unit())
                     .recipe(recipe)
@@ -2,16 +2,37 @@ package com.rodrigo.tastyhub.modules.recipes.domain.service;
 
 import com.rodrigo.tastyhub.modules.collections.domain.model.UserCollection;
 import com.rodrigo.tastyhub.modules.recipes.application.dto.request.*;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.FacetCountDto;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.IngredientSummaryDto;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.PantryMatchDto;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.RecipeFacetsDto;
 import com.rodrigo.tastyhub.modules.recipes.application.dto.response.RecipePagination;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.SimilarRecipeDto;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.SuggestionDto;
 import com.rodrigo.tastyhub.modules.recipes.application.dto.response.SummaryRecipeDto;
 import com.rodrigo.tastyhub.modules.recipes.application.mapper.RecipeMapper;
 import com.rodrigo.tastyhub.modules.recipes.domain.model.*;
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeSummaryProjection;
 import com.rodrigo.tastyhub.modules.recipes.domain.repository.RecipeRepository;
+import com.rodrigo.tastyhub.modules.recipes.domain.repository.RecipeStatisticsRepository;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.cache.RecipeDetailCache;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.index.RecipeFacetIndex;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.index.RecipePantryIndex;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.index.RecipeSimilarityIndex;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.index.RecipeSuggestionIndex;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence.RecipeBatchWriter;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence.RecipeCounterStore;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence.RecipeFacetCountReader;
 import com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence.RecipeSpecification;
 import com.rodrigo.tastyhub.shared.kernel.annotations.RequiresVerification;
 import com.rodrigo.tastyhub.modules.user.domain.model.User;
 import com.rodrigo.tastyhub.shared.dto.response.PaginationMetadata;
+import com.rodrigo.tastyhub.shared.enums.PaginationMode;
 import com.rodrigo.tastyhub.shared.enums.SortDirection;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.AfterCommit;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.KeysetQueryExecutor;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.RowCountEstimator;
+import com.rodrigo.tastyhub.shared.kernel.pagination.KeysetWindow;
 import com.rodrigo.tastyhub.shared.exception.ResourceNotFoundException;
 import com.rodrigo.tastyhub.shared.kernel.annotations.FileCleanup;
 import jakarta.annotation.Nullable;
@@ -20,15 +41,31 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class RecipeService {
     private final RecipeRepository recipeRepository;
+    private final IngredientService ingredientService;
+    private final CurrencyService currencyService;
+    private final RowCountEstimator rowCountEstimator;
+    private final RecipeDetailCache recipeDetailCache;
+    private final RecipeFacetIndex recipeFacetIndex;
+    private final RecipeSuggestionIndex recipeSuggestionIndex;
+    private final RecipePantryIndex recipePantryIndex;
+    private final RecipeSimilarityIndex recipeSimilarityIndex;
+    private final RecipeBatchWriter recipeBatchWriter;
+    private final RecipeCounterStore recipeCounterStore;
+    private final RecipeStatisticsRepository recipeStatisticsRepository;
+    private final RecipeFacetCountReader recipeFacetCountReader;
 
     public Long countByAuthorId(Long authorId) {
         return recipeRepository.countByAuthorId(authorId);
@@ -39,25 +76,58 @@ public class RecipeService {
             .orElseThrow(() -> new ResourceNotFoundException("Recipe not found with the provided ID"));
     }
 
+    @Transactional(readOnly = true)
+    public Recipe findFullByIdOrThrow(Long recipeId) {
+        Recipe recipe = recipeRepository.findFullById(recipeId)
+            .orElseThrow(() -> new ResourceNotFoundException("Recipe not found with the provided ID"));
+
+        recipeRepository.fetchStepsById(recipeId);
+        recipeRepository.fetchTagsById(recipeId);
+
+        return recipe;
+    }
+
     public RecipePagination findAll(
         ListRecipesQuery request,
         @Nullable User owner,
         @Nullable UserCollection collection
     ) {
+        Specification<Recipe> specification = buildFilters(
+            request,
+            collection == null ? null : collection.getId(),
+            owner != null ? owner.getId() : null
+        );
+
+        if (request.ingredients() != null && !request.ingredients().isEmpty()) {
+            specification = specification.and(buildIngredientFilter(request));
+        }
+
+        Long estimatedTotal = request.estimateTotal() && request.mode() != PaginationMode.OFFSET
+            ? estimateTotal(request, specification, owner, collection)
+            : null;
+
+        if (request.mode() == PaginationMode.CURSOR) {
+            return findWindow(request, specification, estimatedTotal);
+        }
+
         Pageable pageable = PageRequest.of(
             request.page(),
             request.size(),
-            buildSort(request.sortBy(), request.direction())
+            RecipeSpecification.isRankedSearch(request)
+                ? Sort.unsorted()
+                : buildSort(request.sortBy(), request.direction())
         );
 
-        Page<Recipe> page = recipeRepository.findAll(
-            RecipeSpecification.withFilters(
-                request,
-                collection == null ? null : collection.getId(),
-                owner != null ? owner.getId() : null
-            ),
-            pageable
-        );
+        if (request.mode() == PaginationMode.SLICE) {
+            Slice<RecipeSummaryProjection> slice = recipeRepository.findSummarySlice(specification, pageable);
+
+            return new RecipePagination(
+                slice.getContent().stream().map(RecipeMapper::toSummaryDto).toList(),
+                PaginationMetadata.ofSlice(slice, request.direction(), estimatedTotal)
+            );
+        }
+
+        Page<RecipeSummaryProjection> page = recipeRepository.findSummaries(specification, pageable);
 
         List<SummaryRecipeDto> recipes = page.getContent()
             .stream()
@@ -77,6 +147,52 @@ public class RecipeService {
         return new RecipePagination(recipes, metadata);
     }
 
+    private Long estimateTotal(
+        ListRecipesQuery request,
+        Specification<Recipe> specification,
+        @Nullable User owner,
+        @Nullable UserCollection collection
+    ) {
+        Long ownerId = owner != null ? owner.getId() : null;
+        Long collectionId = collection != null ? collection.getId() : null;
+
+        return rowCountEstimator.estimate(
+            "recipes",
+            ownerId + ":" + collectionId + ":" + request.filterKey(),
+            () -> recipeRepository.count(specification)
+        );
+    }
+
+    private RecipePagination findWindow(
+        ListRecipesQuery request,
+        Specification<Recipe> specification,
+        Long estimatedTotal
+    ) {
+        KeysetWindow<RecipeSummaryProjection> window = recipeRepository.findSummaryWindow(
+            specification,
+            buildSortKey(request),
+            request.direction(),
+            request.after(),
+            request.size()
+        );
+
+        List<SummaryRecipeDto> recipes = window.content()
+            .stream()
+            .map(RecipeMapper::toSummaryDto)
+            .toList();
+
+        return new RecipePagination(
+            recipes,
+            PaginationMetadata.ofCursor(
+                request.size(),
+                request.direction(),
+                request.after() != null,
+                window,
+                estimatedTotal
+            )
+        );
+    }
+
     public Recipe create(Recipe newRecipe) {
         if (newRecipe.getSteps().isEmpty()) {
             throw new IllegalArgumentException("Recipe must have at least one step!");
@@ -86,11 +202,42 @@ public class RecipeService {
             throw new IllegalArgumentException("Recipe must have at least one ingredient!");
         }
 
-        return recipeRepository.save(newRecipe);
+        normalizeCost(newRecipe);
+
+        Recipe created = recipeRepository.save(newRecipe);
+        index(created);
+
+        return created;
+    }
+
+    public List<Recipe> importAll(List<Recipe> newRecipes) {
+        Set<Short> currencyIds = newRecipes.stream()
+            .filter(recipe -> recipe.getCurrency() != null)
+            .map(recipe -> recipe.getCurrency().getId())
+            .collect(Collectors.toSet());
+
+        Map<Short, BigDecimal> ratesToBase = currencyService.findRatesToBase(currencyIds);
+
+        newRecipes.forEach(recipe -> recipe.setNormalizedCost(
+            recipe.getCurrency() == null
+                ? null
+                : currencyService.toBaseAmount(recipe.getEstimatedCost(), ratesToBase.get(recipe.getCurrency().getId()))
+        ));
+
+        recipeBatchWriter.insertAll(newRecipes);
+        indexAll(newRecipes);
+
+        return newRecipes;
     }
 
     public Recipe update(Recipe newRecipe) {
-        return recipeRepository.save(newRecipe);
+        normalizeCost(newRecipe);
+
+        Recipe updated = recipeRepository.save(newRecipe);
+        recipeDetailCache.evict(updated.getId());
+        index(updated);
+
+        return updated;
     }
 
     @RequiresVerification
@@ -101,6 +248,11 @@ public class RecipeService {
         recipe.validateOwnership(ownerId);
 
         recipeRepository.delete(recipe);
+        recipeDetailCache.evict(recipeId);
+        recipeFacetIndex.remove(recipeId);
+        recipeSuggestionIndex.remove(recipeId);
+        recipePantryIndex.remove(recipeId);
+        recipeSimilarityIndex.remove(recipeId);
     }
 
     @FileCleanup
@@ -116,18 +268,263 @@ public class RecipeService {
         recipe.validateOwnership(owner.getId());
 
         recipe.updateCover(newCoverUrl, newAlternativeText);
+        recipeDetailCache.evict(recipeId);
 
         return recipeRepository.save(recipe);
     }
 
-    @Transactional
-    private Sort buildSort(RecipeSortBy sortBy, SortDirection direction) {
-        String field = switch (sortBy) {
+    public RecipeFacetsDto countFacets(RecipeFacetsQuery query) {
+        RecipeFacetIndex.Selection selection = new RecipeFacetIndex.Selection(
+            query.tags(),
+            query.categories(),
+            query.difficultyLevels(),
+            query.languages()
+        );
+
+        RecipeFacetIndex.FacetCounts counts = recipeFacetIndex.countFacets(selection, query.tagLimit())
+            .orElseGet(() -> recipeFacetCountReader.count(selection, query.tagLimit()));
+
+        return new RecipeFacetsDto(
+            counts.total(),
+            toFacetCounts(counts.categories()),
+            toFacetCounts(counts.difficultyLevels()),
+            toFacetCounts(counts.languages()),
+            toFacetCounts(counts.tags())
+        );
+    }
+
+    public List<SuggestionDto> suggest(SuggestionQuery query) {
+        return recipeSuggestionIndex.suggest(query.q(), query.limit(), query.types())
+            .stream()
+            .map(suggestion -> new SuggestionDto(
+                suggestion.entry().text(),
+                suggestion.type(),
+                suggestion.entry().id()
+            ))
+            .toList();
+    }
+
+    public List<PantryMatchDto> matchPantry(PantryQuery query, @Nullable User viewer) {
+        List<RecipePantryIndex.Match> matches = recipePantryIndex.match(
+            query.ingredientIds(),
+            query.maxMissing(),
+            query.limit()
+        );
+
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, SummaryRecipeDto> recipes = findSummariesByIds(
+            matches.stream().map(RecipePantryIndex.Match::recipeId).toList(),
+            viewer
+        );
+
+        Set<Long> missingIds = matches.stream()
+            .flatMap(match -> match.missingIngredientIds().stream())
+            .collect(Collectors.toSet());
+
+        Map<Long, IngredientSummaryDto> missingIngredients = ingredientService.findAllByIds(missingIds)
+            .stream()
+            .collect(Collectors.toMap(
+                Ingredient::getId,
+                ingredient -> new IngredientSummaryDto(ingredient.getId(), ingredient.getName())
+            ));
+
+        return matches.stream()
+            .filter(match -> recipes.containsKey(match.recipeId()))
+            .map(match -> new PantryMatchDto(
+                recipes.get(match.recipeId()),
+                match.matchedCount(),
+                match.coverage(),
+                match.missingIngredientIds()
+                    .stream()
+                    .map(missingIngredients::get)
+                    .filter(Objects::nonNull)
+                    .toList()
+            ))
+            .toList();
+    }
+
+    public List<SimilarRecipeDto> findSimilar(Long recipeId, int limit, @Nullable User viewer) {
+        List<RecipeSimilarityIndex.Neighbor> neighbors = recipeSimilarityIndex.findSimilar(recipeId, limit);
+
+        if (neighbors.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, SummaryRecipeDto> recipes = findSummariesByIds(
+            neighbors.stream().map(RecipeSimilarityIndex.Neighbor::recipeId).toList(),
+            viewer
+        );
+
+        return neighbors.stream()
+            .filter(neighbor -> recipes.containsKey(neighbor.recipeId()))
+            .map(neighbor -> new SimilarRecipeDto(recipes.get(neighbor.recipeId()), neighbor.similarity()))
+            .toList();
+    }
+
+    /**
+     * Loads the summaries of the given recipes that the viewer may see, applying the same
+     * public-recipe and non-private-author rule as the listings. Hidden recipes are absent from the map.
+     */
+    public Map<Long, SummaryRecipeDto> findSummariesByIds(List<Long> recipeIds, @Nullable User viewer) {
+        Specification<Recipe> specification = RecipeSpecification.withIds(recipeIds)
+            .and(RecipeSpecification.visibleTo(viewer != null ? viewer.getId() : null));
+
+        return recipeRepository
+            .findSummarySlice(specification, PageRequest.of(0, recipeIds.size()))
+            .getContent()
+            .stream()
+            .map(RecipeMapper::toSummaryDto)
+            .collect(Collectors.toMap(SummaryRecipeDto::id, recipe -> recipe));
+    }
+
+    public void evictCachedDetail(Long recipeId) {
+        recipeDetailCache.evict(recipeId);
+    }
+
+    public void adjustFavorites(Long recipeId, int delta) {
+        recipeCounterStore.addFavorites(recipeId, delta);
+    }
+
+    public void recordReview(Long recipeId, BigDecimal rating, boolean firstByReviewer) {
+        recipeCounterStore.addReviews(recipeId, 1, rating, firstByReviewer ? 1 : 0);
+        refreshStatistics(recipeId);
+    }
+
+    public void changeReviewRating(Long recipeId, BigDecimal previousRating, BigDecimal rating) {
+        if (previousRating.compareTo(rating) != 0) {
+            recipeCounterStore.changeRating(recipeId, previousRating, rating);
+            refreshStatistics(recipeId);
+        }
+    }
+
+    public void withdrawReview(Long recipeId, BigDecimal rating, boolean lastByReviewer) {
+        recipeCounterStore.addReviews(recipeId, -1, rating, lastByReviewer ? -1 : 0);
+        refreshStatistics(recipeId);
+    }
+
+    /**
+     * Folds the recipe's pending counter deltas once the current transaction commits, so the
+     * author of a review sees it reflected in the summary without waiting for the fold job.
+     */
+    public void refreshStatistics(Long recipeId) {
+        AfterCommit.run(() -> {
+            recipeCounterStore.fold(recipeId);
+            recipeDetailCache.evict(recipeId);
+        });
+    }
+
+    public Optional<RecipeStatistics> findStatistics(Long recipeId) {
+        return recipeStatisticsRepository.findById(recipeId);
+    }
+
+    private Specification<Recipe> buildFilters(ListRecipesQuery request, Long collectionId, Long ownerId) {
+        Specification<Recipe> filters = buildIndexedFilters(request, collectionId, ownerId);
+
+        if (request.currencies() != null && !request.currencies().isEmpty()) {
+            filters = filters.and(RecipeSpecification.withCurrencyIds(currencyService.findIdsByCodes(request.currencies())));
+        }
+
+        return filters;
+    }
+
+    private Specification<Recipe> buildIndexedFilters(ListRecipesQuery request, Long collectionId, Long ownerId) {
+        if (request.hasFacetFilters()) {
+            Optional<List<Long>> candidates = recipeFacetIndex.findCandidateIds(new RecipeFacetIndex.Selection(
+                request.tags(),
+                request.categories(),
+                request.difficultyLevels(),
+                request.languages()
+            ));
+
+            if (candidates.isPresent()) {
+                return RecipeSpecification.withFilters(request, collectionId, ownerId, false)
+                    .and(RecipeSpecification.withIds(candidates.get()));
+            }
+        }
+
+        return RecipeSpecification.withFilters(request, collectionId, ownerId);
+    }
+
+    private static List<FacetCountDto> toFacetCounts(Map<?, Integer> counts) {
+        return counts.entrySet()
+            .stream()
+            .map(facet -> new FacetCountDto(facet.getKey().toString(), facet.getValue()))
+            .toList();
+    }
+
+    private void index(Recipe recipe) {
+        indexAll(List.of(recipe));
+    }
+
+    private void indexAll(List<Recipe> recipes) {
+        recipes.forEach(recipeFacetIndex::index);
+        recipeSuggestionIndex.indexAll(recipes);
+        recipes.forEach(recipePantryIndex::index);
+        recipes.forEach(recipeSimilarityIndex::index);
+    }
+
+    private void normalizeCost(Recipe recipe) {
+        recipe.setNormalizedCost(
+            currencyService.toBaseCurrency(recipe.getEstimatedCost(), recipe.getCurrency())
+        );
+    }
+
+    private Specification<Recipe> buildIngredientFilter(ListRecipesQuery request) {
+        Set<String> requestedNames = request.ingredients()
+            .stream()
+            .filter(Objects::nonNull)
+            .map(name -> name.trim().toLowerCase())
+            .filter(name -> !name.isEmpty())
+            .collect(Collectors.toSet());
+
+        List<Ingredient> ingredients = ingredientService.findAllByNames(requestedNames);
+
+        Set<String> resolvedNames = ingredients.stream()
+            .map(ingredient -> ingredient.getName().toLowerCase())
+            .collect(Collectors.toSet());
+
+        if (request.ingredientMatch() == IngredientMatchMode.ALL && !resolvedNames.containsAll(requestedNames)) {
+            return RecipeSpecification.withIngredients(Set.of(), IngredientMatchMode.ALL);
+        }
+
+        Set<Long> ingredientIds = ingredients.stream()
+            .map(Ingredient::getId)
+            .collect(Collectors.toSet());
+
+        return RecipeSpecification.withIngredients(ingredientIds, request.ingredientMatch());
+    }
+
+    private KeysetQueryExecutor.SortKey<Recipe> buildSortKey(ListRecipesQuery request) {
+        if (RecipeSpecification.isRankedSearch(request)) {
+            return new KeysetQueryExecutor.SortKey<>(
+                "searchRank",
+                (root, cb) -> RecipeSpecification.searchRank(root, cb, request.query()),
+                false
+            );
+        }
+
+        String field = sortField(request.sortBy());
+
+        return KeysetQueryExecutor.SortKey.of(field, field, request.sortBy() == RecipeSortBy.COST);
+    }
+
+    private static String sortField(RecipeSortBy sortBy) {
+        return switch (sortBy) {
             case TITLE -> "title";
-            case REVIEWS -> "statistics.averageRating";
-            case RELEVANCE -> "statistics.favoritesCount";
+            case REVIEWS -> "statistics.bayesianRating";
+            case RELEVANCE -> "statistics.relevanceScore";
+            case COST -> "normalizedCost";
+            case INGREDIENTS_SIZE -> "ingredientCount";
             default -> "createdAt";
         };
+    }
+
+    @Transactional
+    private Sort buildSort(RecipeSortBy sortBy, SortDirection direction) {
+        String field = sortField(sortBy);
 
         return direction == SortDirection.ASC
             ? Sort.by(field).ascending()
@@ -0,0 +1,53 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.IngredientSummaryDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class IngredientSearchCache {
+    private final Cache<String, List<IngredientSummaryDto>> cache;
+
+    public IngredientSearchCache(
+        @Value("${app.cache.ingredient-search.maximum-size:1000}") long maximumSize,
+        @Value("${app.cache.ingredient-search.ttl-minutes:30}") long ttlMinutes
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+            .build();
+    }
+
+    public Optional<List<IngredientSummaryDto>> get(String term, int limit) {
+        return Optional.ofNullable(cache.getIfPresent(key(term, limit)));
+    }
+
+    public void put(String term, int limit, List<IngredientSummaryDto> ingredients) {
+        cache.put(key(term, limit), List.copyOf(ingredients));
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll();
+                }
+            });
+        }
+    }
+
+    private static String key(String term, int limit) {
+        return limit + ":" + term;
+    }
+}
@@ -0,0 +1,50 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.FullRecipeDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Component
+public class RecipeDetailCache {
+    public record Entry(Long authorId, FullRecipeDto recipe) {}
+
+    private final Cache<Long, Entry> cache;
+
+    public RecipeDetailCache(
+        @Value("${app.cache.recipe-detail.maximum-size:10000}") long maximumSize,
+        @Value("${app.cache.recipe-detail.ttl-minutes:10}") long ttlMinutes
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+            .build();
+    }
+
+    public Optional<Entry> get(Long recipeId) {
+        return Optional.ofNullable(cache.getIfPresent(recipeId));
+    }
+
+    public void put(Long recipeId, Long authorId, FullRecipeDto recipe) {
+        cache.put(recipeId, new Entry(authorId, recipe));
+    }
+
+    public void evict(Long recipeId) {
+        cache.invalidate(recipeId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(recipeId);
+                }
+            });
+        }
+    }
+}
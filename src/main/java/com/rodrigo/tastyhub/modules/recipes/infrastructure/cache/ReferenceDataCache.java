@@ -0,0 +1,60 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Currency;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Ingredient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class ReferenceDataCache {
+    private final Cache<Short, Currency> currencies;
+    private final Cache<String, Short> currencyIdsByCode;
+    private final Cache<Long, Ingredient> ingredients;
+
+    public ReferenceDataCache(
+        @Value("${app.cache.reference-data.currency-ttl-minutes:60}") long currencyTtlMinutes,
+        @Value("${app.cache.reference-data.ingredient-maximum-size:10000}") long ingredientMaximumSize,
+        @Value("${app.cache.reference-data.ingredient-ttl-minutes:60}") long ingredientTtlMinutes
+    ) {
+        this.currencies = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(currencyTtlMinutes))
+            .build();
+
+        this.currencyIdsByCode = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(currencyTtlMinutes))
+            .build();
+
+        this.ingredients = Caffeine.newBuilder()
+            .maximumSize(ingredientMaximumSize)
+            .expireAfterWrite(Duration.ofMinutes(ingredientTtlMinutes))
+            .build();
+    }
+
+    public Map<Short, Currency> getCurrencies(Collection<Short> ids, Function<Set<Short>, List<Currency>> loader) {
+        return currencies.getAll(ids, missing -> indexById(loader.apply(Set.copyOf(missing)), Currency::getId));
+    }
+
+    public Map<String, Short> getCurrencyIdsByCode(Collection<String> codes, Function<Set<String>, List<Currency>> loader) {
+        return currencyIdsByCode.getAll(codes, missing -> loader.apply(Set.copyOf(missing))
+            .stream()
+            .collect(Collectors.toMap(Currency::getCode, Currency::getId)));
+    }
+
+    public Map<Long, Ingredient> getIngredients(Collection<Long> ids, Function<Set<Long>, List<Ingredient>> loader) {
+        return ingredients.getAll(ids, missing -> indexById(loader.apply(Set.copyOf(missing)), Ingredient::getId));
+    }
+
+    private static <K, V> Map<K, V> indexById(List<V> values, Function<V, K> idGetter) {
+        return values.stream().collect(Collectors.toMap(idGetter, Function.identity()));
+    }
+}
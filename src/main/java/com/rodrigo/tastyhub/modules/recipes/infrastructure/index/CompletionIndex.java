@@ -0,0 +1,356 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.index;
+
+import com.rodrigo.tastyhub.shared.kernel.text.SearchText;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Prefix completion over entry texts, matching the start of any of the first words of each entry.
+ * Keys are word offsets into the entry's normalized text, so an entry's suffixes share one string
+ * instead of being copied per word.
+ */
+public class CompletionIndex {
+    public record Entry(long id, String text, long weight) {}
+
+    private static final int MAX_WORD_KEYS = 8;
+
+    private record Key(String text, int offset, long id) {}
+
+    private static final Comparator<Key> KEY_ORDER = (a, b) -> {
+        int bySuffix = compareSuffix(a.text(), a.offset(), b.text(), b.offset());
+        return bySuffix != 0 ? bySuffix : Long.compare(a.id(), b.id());
+    };
+
+    private record State(
+        Snapshot base,
+        NavigableMap<Key, Entry> overlay,
+        Map<Long, List<Key>> overlayKeys,
+        Set<Long> hidden
+    ) {
+        static State of(Snapshot base) {
+            return new State(
+                base,
+                new ConcurrentSkipListMap<>(KEY_ORDER),
+                new ConcurrentHashMap<>(),
+                ConcurrentHashMap.newKeySet()
+            );
+        }
+    }
+
+    private final int maxOverlaySize;
+    private volatile State state;
+
+    public CompletionIndex(int maxOverlaySize) {
+        this.maxOverlaySize = maxOverlaySize;
+        this.state = State.of(Snapshot.build(List.of()));
+    }
+
+    public synchronized void replaceAll(Collection<Entry> entries) {
+        state = State.of(Snapshot.build(entries));
+    }
+
+    public synchronized void upsert(Entry entry) {
+        State current = state;
+        String normalized = SearchText.normalize(entry.text());
+
+        List<Key> keys = new ArrayList<>();
+        for (int offset : wordStarts(normalized)) {
+            keys.add(new Key(normalized, offset, entry.id()));
+        }
+
+        keys.forEach(key -> current.overlay().put(key, entry));
+        current.hidden().add(entry.id());
+
+        List<Key> previousKeys = current.overlayKeys().put(entry.id(), keys);
+        if (previousKeys != null) {
+            previousKeys.stream()
+                .filter(key -> !keys.contains(key))
+                .forEach(current.overlay()::remove);
+        }
+
+        if (current.overlayKeys().size() > maxOverlaySize) {
+            compact();
+        }
+    }
+
+    public synchronized void remove(long id) {
+        State current = state;
+
+        current.hidden().add(id);
+
+        List<Key> previousKeys = current.overlayKeys().remove(id);
+        if (previousKeys != null) {
+            previousKeys.forEach(current.overlay()::remove);
+        }
+
+        if (current.hidden().size() > maxOverlaySize) {
+            compact();
+        }
+    }
+
+    public boolean contains(long id) {
+        State current = state;
+        return current.overlayKeys().containsKey(id)
+            || (!current.hidden().contains(id) && current.base().contains(id));
+    }
+
+    public List<Entry> complete(String prefix, int limit) {
+        String normalized = SearchText.normalize(prefix);
+
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        State current = state;
+        Map<Long, Entry> matches = new HashMap<>();
+
+        for (Map.Entry<Key, Entry> overlaid : current.overlay().tailMap(new Key(normalized, 0, Long.MIN_VALUE)).entrySet()) {
+            Key key = overlaid.getKey();
+
+            if (!key.text().startsWith(normalized, key.offset())) {
+                break;
+            }
+
+            matches.putIfAbsent(overlaid.getValue().id(), overlaid.getValue());
+        }
+
+        for (Entry entry : current.base().top(normalized, limit, current.hidden())) {
+            matches.putIfAbsent(entry.id(), entry);
+        }
+
+        return matches.values()
+            .stream()
+            .sorted(Comparator.comparingLong(Entry::weight).reversed().thenComparing(Entry::text))
+            .limit(limit)
+            .toList();
+    }
+
+    private void compact() {
+        State current = state;
+        Map<Long, Entry> merged = new LinkedHashMap<>();
+
+        for (Entry entry : current.base().entries) {
+            if (!current.hidden().contains(entry.id())) {
+                merged.put(entry.id(), entry);
+            }
+        }
+
+        current.overlay().values().forEach(entry -> merged.put(entry.id(), entry));
+
+        state = State.of(Snapshot.build(merged.values()));
+    }
+
+    private static int[] wordStarts(String normalized) {
+        if (normalized.isEmpty()) {
+            return new int[0];
+        }
+
+        int[] starts = new int[MAX_WORD_KEYS];
+        int count = 0;
+
+        starts[count++] = 0;
+
+        int space = normalized.indexOf(' ');
+        while (space >= 0 && count < MAX_WORD_KEYS) {
+            starts[count++] = space + 1;
+            space = normalized.indexOf(' ', space + 1);
+        }
+
+        return Arrays.copyOf(starts, count);
+    }
+
+    private static int compareSuffix(String a, int fromA, String b, int fromB) {
+        int lengthA = a.length() - fromA;
+        int lengthB = b.length() - fromB;
+        int shared = Math.min(lengthA, lengthB);
+
+        for (int i = 0; i < shared; i++) {
+            char charA = a.charAt(fromA + i);
+            char charB = b.charAt(fromB + i);
+
+            if (charA != charB) {
+                return charA - charB;
+            }
+        }
+
+        return lengthA - lengthB;
+    }
+
+    private static class Snapshot {
+        private final String[] texts;
+        private final int[] refs;
+        private final int[] offsets;
+        private final Entry[] entries;
+        private final int[] tree;
+        private final long[] ids;
+
+        private Snapshot(String[] texts, int[] refs, int[] offsets, Entry[] entries, long[] ids) {
+            this.texts = texts;
+            this.refs = refs;
+            this.offsets = offsets;
+            this.entries = entries;
+            this.ids = ids;
+            this.tree = new int[Math.max(2 * refs.length, 2)];
+
+            for (int i = 0; i < refs.length; i++) {
+                tree[refs.length + i] = i;
+            }
+
+            for (int i = refs.length - 1; i > 0; i--) {
+                tree[i] = better(tree[2 * i], tree[2 * i + 1]);
+            }
+        }
+
+        static Snapshot build(Collection<Entry> source) {
+            Entry[] entries = source.toArray(new Entry[0]);
+            String[] texts = new String[entries.length];
+            int[][] starts = new int[entries.length][];
+            long[] ids = new long[entries.length];
+            int size = 0;
+
+            for (int i = 0; i < entries.length; i++) {
+                ids[i] = entries[i].id();
+                texts[i] = SearchText.normalize(entries[i].text());
+                starts[i] = wordStarts(texts[i]);
+                size += starts[i].length;
+            }
+
+            Integer[] order = new Integer[size];
+            int[] unsortedRefs = new int[size];
+            int[] unsortedOffsets = new int[size];
+            int position = 0;
+
+            for (int i = 0; i < entries.length; i++) {
+                for (int offset : starts[i]) {
+                    order[position] = position;
+                    unsortedRefs[position] = i;
+                    unsortedOffsets[position] = offset;
+                    position++;
+                }
+            }
+
+            Arrays.sort(order, (a, b) -> compareSuffix(
+                texts[unsortedRefs[a]], unsortedOffsets[a],
+                texts[unsortedRefs[b]], unsortedOffsets[b]
+            ));
+            Arrays.sort(ids);
+
+            int[] refs = new int[size];
+            int[] offsets = new int[size];
+
+            for (int i = 0; i < size; i++) {
+                refs[i] = unsortedRefs[order[i]];
+                offsets[i] = unsortedOffsets[order[i]];
+            }
+
+            return new Snapshot(texts, refs, offsets, entries, ids);
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, id) >= 0;
+        }
+
+        List<Entry> top(String prefix, int limit, Set<Long> hidden) {
+            int from = lowerBound(prefix);
+            int to = prefixEnd(prefix, from);
+
+            if (from >= to) {
+                return List.of();
+            }
+
+            PriorityQueue<int[]> ranges = new PriorityQueue<>(
+                (a, b) -> better(a[2], b[2]) == a[2] ? -1 : 1
+            );
+            ranges.add(new int[] { from, to, argmax(from, to) });
+
+            Set<Integer> seen = new HashSet<>();
+            List<Entry> result = new ArrayList<>(limit);
+
+            while (!ranges.isEmpty() && result.size() < limit) {
+                int[] range = ranges.poll();
+                int position = range[2];
+                int ref = refs[position];
+
+                if (seen.add(ref) && !hidden.contains(entries[ref].id())) {
+                    result.add(entries[ref]);
+                }
+
+                if (range[0] < position) {
+                    ranges.add(new int[] { range[0], position, argmax(range[0], position) });
+                }
+
+                if (position + 1 < range[1]) {
+                    ranges.add(new int[] { position + 1, range[1], argmax(position + 1, range[1]) });
+                }
+            }
+
+            return result;
+        }
+
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = refs.length;
+
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+
+                if (compareSuffix(texts[refs[middle]], offsets[middle], prefix, 0) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            return low;
+        }
+
+        private int prefixEnd(String prefix, int from) {
+            int low = from;
+            int high = refs.length;
+
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+
+                if (texts[refs[middle]].startsWith(prefix, offsets[middle])) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            return low;
+        }
+
+        private int argmax(int from, int to) {
+            int best = -1;
+
+            for (int left = from + refs.length, right = to + refs.length; left < right; left >>= 1, right >>= 1) {
+                if ((left & 1) == 1) {
+                    best = better(best, tree[left++]);
+                }
+
+                if ((right & 1) == 1) {
+                    best = better(best, tree[--right]);
+                }
+            }
+
+            return best;
+        }
+
+        private int better(int a, int b) {
+            if (a < 0) return b;
+            if (b < 0) return a;
+
+            long weightA = entries[refs[a]].weight();
+            long weightB = entries[refs[b]].weight();
+
+            if (weightA != weightB) {
+                return weightA > weightB ? a : b;
+            }
+
+            return a < b ? a : b;
+        }
+    }
+}
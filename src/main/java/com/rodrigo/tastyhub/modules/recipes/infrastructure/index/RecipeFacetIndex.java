@@ -0,0 +1,399 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.index;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.DifficultyLevel;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeCategory;
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeFacetProjection;
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeTagProjection;
+import com.rodrigo.tastyhub.modules.recipes.domain.repository.RecipeRepository;
+import com.rodrigo.tastyhub.modules.settings.domain.model.ProfileVisibility;
+import com.rodrigo.tastyhub.modules.tags.domain.model.Tag;
+import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class RecipeFacetIndex {
+    public record Selection(
+        Collection<String> tags,
+        Collection<RecipeCategory> categories,
+        Collection<DifficultyLevel> difficultyLevels,
+        Collection<String> languages
+    ) {}
+
+    public record FacetCounts(
+        int total,
+        Map<RecipeCategory, Integer> categories,
+        Map<DifficultyLevel, Integer> difficultyLevels,
+        Map<String, Integer> languages,
+        Map<String, Integer> tags
+    ) {}
+
+    private record Entry(
+        RecipeCategory category,
+        DifficultyLevel difficultyLevel,
+        String language,
+        Set<String> tags,
+        boolean visible
+    ) {}
+
+    private final RecipeRepository recipeRepository;
+    private final int maxCandidates;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Snapshot snapshot = new Snapshot();
+    private List<Consumer<Snapshot>> pendingChanges;
+    private volatile boolean ready = false;
+
+    public RecipeFacetIndex(
+        RecipeRepository recipeRepository,
+        @Value("${app.facets.max-candidates:2000}") int maxCandidates
+    ) {
+        this.recipeRepository = recipeRepository;
+        this.maxCandidates = maxCandidates;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(
+        fixedDelayString = "${app.facets.rebuild-interval-ms:1800000}",
+        initialDelayString = "${app.facets.rebuild-interval-ms:1800000}"
+    )
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Snapshot rebuilt = new Snapshot();
+
+        try {
+            Map<Long, Set<String>> tagsByRecipe = recipeRepository.findAllTagNames()
+                .stream()
+                .collect(Collectors.groupingBy(
+                    RecipeTagProjection::recipeId,
+                    Collectors.mapping(RecipeTagProjection::tagName, Collectors.toSet())
+                ));
+
+            for (RecipeFacetProjection row : recipeRepository.findAllFacets()) {
+                rebuilt.put(row.id(), new Entry(
+                    row.category(),
+                    row.difficultyLevel(),
+                    row.language(),
+                    tagsByRecipe.getOrDefault(row.id(), Set.of()),
+                    row.isPublic() && row.authorVisibility() != ProfileVisibility.PRIVATE
+                ));
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingChanges.forEach(change -> change.accept(rebuilt));
+            pendingChanges = null;
+            rebuilt.optimize();
+            snapshot = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.debug("Recipe facet index rebuilt with {} recipes", rebuilt.entries.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void index(Recipe recipe) {
+        User author = recipe.getAuthor();
+        boolean authorPrivate = author != null && author.getSettings() != null && author.isPrivate();
+
+        Entry entry = new Entry(
+            recipe.getCategory(),
+            recipe.getDifficultyLevel(),
+            recipe.getLanguage(),
+            recipe.getTags().stream().map(Tag::getName).collect(Collectors.toSet()),
+            recipe.isPublic() && !authorPrivate
+        );
+
+        Long recipeId = recipe.getId();
+        AfterCommit.run(() -> apply(current -> current.put(recipeId, entry)));
+    }
+
+    public void remove(Long recipeId) {
+        AfterCommit.run(() -> apply(current -> current.remove(recipeId)));
+    }
+
+    public Optional<List<Long>> findCandidateIds(Selection selection) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (snapshot.overflowed) {
+                return Optional.empty();
+            }
+
+            RoaringBitmap candidates = snapshot.match(selection, null, null);
+
+            if (candidates == null || candidates.getCardinality() > maxCandidates) {
+                return Optional.empty();
+            }
+
+            return Optional.of(candidates.stream().mapToObj(Long::valueOf).toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts facets from the bitmaps, or returns empty when the index is still loading or holds a
+     * recipe id that does not fit in a bitmap, in which case the caller should count with SQL.
+     */
+    public Optional<FacetCounts> countFacets(Selection selection, int tagLimit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            Snapshot current = snapshot;
+
+            if (current.overflowed) {
+                return Optional.empty();
+            }
+
+            int total = current.match(selection, current.visible, null).getCardinality();
+
+            Map<RecipeCategory, Integer> categories = new EnumMap<>(RecipeCategory.class);
+            RoaringBitmap categoryBase = current.match(selection, current.visible, Facet.CATEGORY);
+            for (RecipeCategory category : RecipeCategory.values()) {
+                categories.put(category, intersectionSize(categoryBase, current.categories.get(category)));
+            }
+
+            Map<DifficultyLevel, Integer> difficultyLevels = new EnumMap<>(DifficultyLevel.class);
+            RoaringBitmap difficultyBase = current.match(selection, current.visible, Facet.DIFFICULTY);
+            for (DifficultyLevel difficultyLevel : DifficultyLevel.values()) {
+                difficultyLevels.put(
+                    difficultyLevel,
+                    intersectionSize(difficultyBase, current.difficultyLevels.get(difficultyLevel))
+                );
+            }
+
+            RoaringBitmap languageBase = current.match(selection, current.visible, Facet.LANGUAGE);
+            Map<String, Integer> languages = countAll(current.languages, languageBase, Integer.MAX_VALUE);
+
+            RoaringBitmap tagBase = current.match(selection, current.visible, Facet.TAG);
+            Map<String, Integer> tags = countAll(current.tags, tagBase, tagLimit);
+
+            return Optional.of(new FacetCounts(total, categories, difficultyLevels, languages, tags));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<Snapshot> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(snapshot);
+
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Map<String, Integer> countAll(Map<String, RoaringBitmap> bitmaps, RoaringBitmap base, int limit) {
+        return bitmaps.entrySet()
+            .stream()
+            .map(facet -> Map.entry(facet.getKey(), intersectionSize(base, facet.getValue())))
+            .filter(facet -> facet.getValue() > 0)
+            .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+            .limit(limit)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    private static int intersectionSize(RoaringBitmap base, RoaringBitmap facet) {
+        if (facet == null) {
+            return 0;
+        }
+
+        return RoaringBitmap.andCardinality(base, facet);
+    }
+
+    private enum Facet { CATEGORY, DIFFICULTY, LANGUAGE, TAG }
+
+    private static class Snapshot {
+        private final Map<Integer, Entry> entries = new HashMap<>();
+        private final RoaringBitmap visible = new RoaringBitmap();
+        private final Map<RecipeCategory, RoaringBitmap> categories = new EnumMap<>(RecipeCategory.class);
+        private final Map<DifficultyLevel, RoaringBitmap> difficultyLevels = new EnumMap<>(DifficultyLevel.class);
+        private final Map<String, RoaringBitmap> languages = new HashMap<>();
+        private final Map<String, RoaringBitmap> tags = new HashMap<>();
+        private boolean overflowed = false;
+
+        void put(Long recipeId, Entry entry) {
+            if (recipeId == null) {
+                return;
+            }
+
+            if (recipeId > Integer.MAX_VALUE) {
+                overflowed = true;
+                return;
+            }
+
+            int bit = recipeId.intValue();
+            remove(recipeId);
+
+            entries.put(bit, entry);
+            if (entry.visible()) {
+                visible.add(bit);
+            }
+            set(categories, entry.category(), bit);
+            set(difficultyLevels, entry.difficultyLevel(), bit);
+            set(languages, entry.language(), bit);
+            entry.tags().forEach(tag -> set(tags, tag, bit));
+        }
+
+        void remove(Long recipeId) {
+            if (recipeId == null || recipeId > Integer.MAX_VALUE) {
+                return;
+            }
+
+            int bit = recipeId.intValue();
+            Entry entry = entries.remove(bit);
+
+            if (entry == null) {
+                return;
+            }
+
+            visible.remove(bit);
+            clear(categories, entry.category(), bit);
+            clear(difficultyLevels, entry.difficultyLevel(), bit);
+            clear(languages, entry.language(), bit);
+            entry.tags().forEach(tag -> clear(tags, tag, bit));
+        }
+
+        /**
+         * Intersects the base with the selected values of every facet but the excluded one. The
+         * result may be one of the snapshot's own bitmaps, so callers must only read it.
+         */
+        RoaringBitmap match(Selection selection, RoaringBitmap base, Facet excluded) {
+            List<RoaringBitmap> filters = new ArrayList<>();
+
+            if (base != null) {
+                filters.add(base);
+            }
+
+            if (excluded != Facet.CATEGORY) {
+                addUnion(filters, categories, selection.categories());
+            }
+
+            if (excluded != Facet.DIFFICULTY) {
+                addUnion(filters, difficultyLevels, selection.difficultyLevels());
+            }
+
+            if (excluded != Facet.LANGUAGE) {
+                addUnion(filters, languages, selection.languages());
+            }
+
+            if (excluded != Facet.TAG) {
+                addUnion(filters, tags, selection.tags());
+            }
+
+            if (filters.isEmpty()) {
+                return null;
+            }
+
+            if (filters.size() == 1) {
+                return filters.get(0);
+            }
+
+            RoaringBitmap result = RoaringBitmap.and(filters.get(0), filters.get(1));
+
+            for (int i = 2; i < filters.size(); i++) {
+                result.and(filters.get(i));
+            }
+
+            return result;
+        }
+
+        void optimize() {
+            visible.runOptimize();
+            categories.values().forEach(RoaringBitmap::runOptimize);
+            difficultyLevels.values().forEach(RoaringBitmap::runOptimize);
+            languages.values().forEach(RoaringBitmap::runOptimize);
+            tags.values().forEach(RoaringBitmap::runOptimize);
+        }
+
+        private static <K> void addUnion(List<RoaringBitmap> filters, Map<K, RoaringBitmap> bitmaps, Collection<K> values) {
+            if (values == null || values.isEmpty()) {
+                return;
+            }
+
+            List<RoaringBitmap> selected = new ArrayList<>();
+
+            for (K value : values) {
+                RoaringBitmap bitmap = bitmaps.get(value);
+
+                if (bitmap != null) {
+                    selected.add(bitmap);
+                }
+            }
+
+            filters.add(selected.size() == 1 ? selected.get(0) : FastAggregation.or(selected.iterator()));
+        }
+
+        private static <K> void set(Map<K, RoaringBitmap> bitmaps, K key, int bit) {
+            if (key != null) {
+                bitmaps.computeIfAbsent(key, ignored -> new RoaringBitmap()).add(bit);
+            }
+        }
+
+        private static <K> void clear(Map<K, RoaringBitmap> bitmaps, K key, int bit) {
+            if (key == null) {
+                return;
+            }
+
+            RoaringBitmap bitmap = bitmaps.get(key);
+
+            if (bitmap != null) {
+                bitmap.remove(bit);
+
+                if (bitmap.isEmpty()) {
+                    bitmaps.remove(key);
+                }
+            }
+        }
+    }
+}
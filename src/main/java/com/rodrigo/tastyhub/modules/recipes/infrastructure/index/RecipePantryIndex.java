@@ -0,0 +1,298 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.index;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Ingredient;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeIngredient;
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeIngredientLinkProjection;
+import com.rodrigo.tastyhub.modules.recipes.domain.repository.RecipeRepository;
+import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import com.rodrigo.tastyhub.shared.exception.ServiceUnavailableException;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+public class RecipePantryIndex {
+    public record Match(long recipeId, int matchedCount, int ingredientsCount, List<Long> missingIngredientIds) {
+        public double coverage() {
+            return ingredientsCount == 0 ? 0 : (double) matchedCount / ingredientsCount;
+        }
+    }
+
+    private record Entry(long recipeId, long[] ingredientIds) {}
+
+    private static final Comparator<Match> RANKING = Comparator
+        .comparingInt((Match match) -> match.missingIngredientIds().size())
+        .thenComparing(Comparator.comparingInt(Match::matchedCount).reversed())
+        .thenComparing(Comparator.comparingLong(Match::recipeId).reversed());
+
+    private final RecipeRepository recipeRepository;
+    private final int parallelThreshold;
+    private final Object lock = new Object();
+
+    private Map<Long, Entry> entries = new HashMap<>();
+    private List<Consumer<Map<Long, Entry>>> pendingChanges;
+    private volatile Entry[] snapshot = new Entry[0];
+    private volatile boolean ready = false;
+
+    public RecipePantryIndex(
+        RecipeRepository recipeRepository,
+        @Value("${app.pantry.parallel-threshold:4096}") int parallelThreshold
+    ) {
+        this.recipeRepository = recipeRepository;
+        this.parallelThreshold = Math.max(1, parallelThreshold);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(
+        fixedDelayString = "${app.pantry.rebuild-interval-ms:1800000}",
+        initialDelayString = "${app.pantry.rebuild-interval-ms:1800000}"
+    )
+    public synchronized void rebuild() {
+        synchronized (lock) {
+            pendingChanges = new ArrayList<>();
+        }
+
+        Map<Long, Entry> rebuilt = new HashMap<>();
+
+        try {
+            List<RecipeIngredientLinkProjection> links = recipeRepository.findVisibleIngredientLinks();
+            int start = 0;
+
+            for (int i = 1; i <= links.size(); i++) {
+                if (i == links.size() || !links.get(i).recipeId().equals(links.get(start).recipeId())) {
+                    Long recipeId = links.get(start).recipeId();
+                    long[] ingredientIds = links.subList(start, i)
+                        .stream()
+                        .map(RecipeIngredientLinkProjection::ingredientId)
+                        .filter(Objects::nonNull)
+                        .mapToLong(Long::longValue)
+                        .toArray();
+
+                    put(rebuilt, recipeId, ingredientIds);
+                    start = i;
+                }
+            }
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                pendingChanges = null;
+            }
+            throw e;
+        }
+
+        synchronized (lock) {
+            pendingChanges.forEach(change -> change.accept(rebuilt));
+            pendingChanges = null;
+            entries = rebuilt;
+            snapshot = null;
+            ready = true;
+        }
+
+        log.debug("Recipe pantry index rebuilt with {} recipes", rebuilt.size());
+    }
+
+    public void index(Recipe recipe) {
+        User author = recipe.getAuthor();
+        boolean authorPrivate = author != null && author.getSettings() != null && author.isPrivate();
+
+        Long recipeId = recipe.getId();
+        long[] ingredientIds = recipe.getIngredients()
+            .stream()
+            .map(RecipeIngredient::getIngredient)
+            .filter(Objects::nonNull)
+            .map(Ingredient::getId)
+            .filter(Objects::nonNull)
+            .mapToLong(Long::longValue)
+            .toArray();
+
+        if (!recipe.isPublic() || authorPrivate) {
+            remove(recipeId);
+            return;
+        }
+
+        AfterCommit.run(() -> apply(current -> put(current, recipeId, ingredientIds)));
+    }
+
+    public void remove(Long recipeId) {
+        AfterCommit.run(() -> apply(current -> current.remove(recipeId)));
+    }
+
+    public List<Match> match(Collection<Long> pantryIngredientIds, int maxMissing, int limit) {
+        if (!ready) {
+            throw new ServiceUnavailableException("Pantry matching is still loading, please try again shortly");
+        }
+
+        long[] pantry = pantryIngredientIds.stream()
+            .filter(Objects::nonNull)
+            .mapToLong(Long::longValue)
+            .sorted()
+            .distinct()
+            .toArray();
+
+        if (pantry.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        Entry[] current = currentSnapshot();
+
+        return ForkJoinPool.commonPool()
+            .invoke(new ScanTask(current, 0, current.length, pantry, Math.max(0, maxMissing), limit));
+    }
+
+    private Entry[] currentSnapshot() {
+        Entry[] current = snapshot;
+
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (lock) {
+            if (snapshot == null) {
+                snapshot = entries.values().toArray(new Entry[0]);
+            }
+
+            return snapshot;
+        }
+    }
+
+    private void apply(Consumer<Map<Long, Entry>> change) {
+        synchronized (lock) {
+            change.accept(entries);
+            snapshot = null;
+
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        }
+    }
+
+    private static void put(Map<Long, Entry> entries, Long recipeId, long[] ingredientIds) {
+        if (recipeId == null) {
+            return;
+        }
+
+        long[] sorted = Arrays.stream(ingredientIds).sorted().distinct().toArray();
+
+        if (sorted.length == 0) {
+            entries.remove(recipeId);
+            return;
+        }
+
+        entries.put(recipeId, new Entry(recipeId, sorted));
+    }
+
+    static Match score(long recipeId, long[] ingredientIds, long[] pantry, int maxMissing) {
+        long[] missing = null;
+        int missingCount = 0;
+        int cursor = 0;
+
+        for (long ingredientId : ingredientIds) {
+            while (cursor < pantry.length && pantry[cursor] < ingredientId) {
+                cursor++;
+            }
+
+            if (cursor < pantry.length && pantry[cursor] == ingredientId) {
+                continue;
+            }
+
+            if (missingCount == maxMissing) {
+                return null;
+            }
+
+            if (missing == null) {
+                missing = new long[maxMissing];
+            }
+
+            missing[missingCount++] = ingredientId;
+        }
+
+        int matchedCount = ingredientIds.length - missingCount;
+
+        if (matchedCount == 0) {
+            return null;
+        }
+
+        List<Long> missingIngredientIds = missing == null
+            ? List.of()
+            : Arrays.stream(missing, 0, missingCount).boxed().toList();
+
+        return new Match(recipeId, matchedCount, ingredientIds.length, missingIngredientIds);
+    }
+
+    private final class ScanTask extends RecursiveTask<List<Match>> {
+        private final Entry[] entries;
+        private final int from;
+        private final int to;
+        private final long[] pantry;
+        private final int maxMissing;
+        private final int limit;
+
+        ScanTask(Entry[] entries, int from, int to, long[] pantry, int maxMissing, int limit) {
+            this.entries = entries;
+            this.from = from;
+            this.to = to;
+            this.pantry = pantry;
+            this.maxMissing = maxMissing;
+            this.limit = limit;
+        }
+
+        @Override
+        protected List<Match> compute() {
+            if (to - from <= parallelThreshold) {
+                return scan();
+            }
+
+            int middle = (from + to) >>> 1;
+            ScanTask left = new ScanTask(entries, from, middle, pantry, maxMissing, limit);
+            ScanTask right = new ScanTask(entries, middle, to, pantry, maxMissing, limit);
+
+            left.fork();
+            List<Match> rightMatches = right.compute();
+            List<Match> leftMatches = left.join();
+
+            List<Match> merged = new ArrayList<>(leftMatches.size() + rightMatches.size());
+            merged.addAll(leftMatches);
+            merged.addAll(rightMatches);
+            merged.sort(RANKING);
+
+            return merged.size() > limit ? merged.subList(0, limit) : merged;
+        }
+
+        private List<Match> scan() {
+            PriorityQueue<Match> best = new PriorityQueue<>(RANKING.reversed());
+
+            for (int i = from; i < to; i++) {
+                Match match = score(entries[i].recipeId(), entries[i].ingredientIds(), pantry, maxMissing);
+
+                if (match == null) {
+                    continue;
+                }
+
+                if (best.size() < limit) {
+                    best.add(match);
+                } else if (RANKING.compare(match, best.peek()) < 0) {
+                    best.poll();
+                    best.add(match);
+                }
+            }
+
+            List<Match> matches = new ArrayList<>(best);
+            matches.sort(RANKING);
+            return matches;
+        }
+    }
+}
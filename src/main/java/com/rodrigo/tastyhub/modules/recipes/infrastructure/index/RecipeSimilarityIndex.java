@@ -0,0 +1,332 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.index;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Ingredient;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeIngredient;
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeIngredientLinkProjection;
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeTagLinkProjection;
+import com.rodrigo.tastyhub.modules.recipes.domain.repository.RecipeRepository;
+import com.rodrigo.tastyhub.modules.tags.domain.model.Tag;
+import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import com.rodrigo.tastyhub.shared.exception.ServiceUnavailableException;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+@Slf4j
+@Component
+public class RecipeSimilarityIndex {
+    public record Neighbor(long recipeId, double similarity) {}
+
+    private record Entry(long[] features, long[] bandKeys) {}
+
+    private final RecipeRepository recipeRepository;
+    private final int bands;
+    private final int rows;
+    private final int maxCandidates;
+    private final long[] seeds;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Snapshot snapshot;
+    private List<Consumer<Snapshot>> pendingChanges;
+    private volatile boolean ready = false;
+
+    public RecipeSimilarityIndex(
+        RecipeRepository recipeRepository,
+        @Value("${app.similarity.bands:20}") int bands,
+        @Value("${app.similarity.rows:3}") int rows,
+        @Value("${app.similarity.max-candidates:500}") int maxCandidates
+    ) {
+        this.recipeRepository = recipeRepository;
+        this.bands = bands;
+        this.rows = rows;
+        this.maxCandidates = maxCandidates;
+        this.seeds = new SplittableRandom(0x7A57F0B5L).longs((long) bands * rows).toArray();
+        this.snapshot = new Snapshot(bands);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(
+        fixedDelayString = "${app.similarity.rebuild-interval-ms:1800000}",
+        initialDelayString = "${app.similarity.rebuild-interval-ms:1800000}"
+    )
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Snapshot rebuilt = new Snapshot(bands);
+
+        try {
+            Map<Long, LongStream.Builder> features = new HashMap<>();
+
+            for (RecipeIngredientLinkProjection link : recipeRepository.findVisibleIngredientLinks()) {
+                if (link.ingredientId() != null) {
+                    features.computeIfAbsent(link.recipeId(), ignored -> LongStream.builder())
+                        .add(ingredientFeature(link.ingredientId()));
+                }
+            }
+
+            for (RecipeTagLinkProjection link : recipeRepository.findVisibleTagLinks()) {
+                features.computeIfAbsent(link.recipeId(), ignored -> LongStream.builder())
+                    .add(tagFeature(link.tagId()));
+            }
+
+            features.forEach((recipeId, builder) -> rebuilt.put(recipeId, toEntry(builder.build())));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingChanges.forEach(change -> change.accept(rebuilt));
+            pendingChanges = null;
+            snapshot = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.debug("Recipe similarity index rebuilt with {} recipes", rebuilt.entries.size());
+    }
+
+    public void index(Recipe recipe) {
+        User author = recipe.getAuthor();
+        boolean authorPrivate = author != null && author.getSettings() != null && author.isPrivate();
+        Long recipeId = recipe.getId();
+
+        if (!recipe.isPublic() || authorPrivate) {
+            remove(recipeId);
+            return;
+        }
+
+        LongStream ingredients = recipe.getIngredients()
+            .stream()
+            .map(RecipeIngredient::getIngredient)
+            .filter(Objects::nonNull)
+            .map(Ingredient::getId)
+            .filter(Objects::nonNull)
+            .mapToLong(RecipeSimilarityIndex::ingredientFeature);
+
+        LongStream tags = recipe.getTags()
+            .stream()
+            .map(Tag::getId)
+            .filter(Objects::nonNull)
+            .mapToLong(RecipeSimilarityIndex::tagFeature);
+
+        Entry entry = toEntry(LongStream.concat(ingredients, tags));
+
+        AfterCommit.run(() -> apply(current -> current.put(recipeId, entry)));
+    }
+
+    public void remove(Long recipeId) {
+        AfterCommit.run(() -> apply(current -> current.remove(recipeId)));
+    }
+
+    public List<Neighbor> findSimilar(Long recipeId, int limit) {
+        if (!ready) {
+            throw new ServiceUnavailableException("Similar recipes are still loading, please try again shortly");
+        }
+
+        lock.readLock().lock();
+        try {
+            Snapshot current = snapshot;
+            Entry source = current.entries.get(recipeId);
+
+            if (source == null) {
+                return List.of();
+            }
+
+            Map<Long, Integer> collisions = new HashMap<>();
+
+            for (int band = 0; band < bands; band++) {
+                Set<Long> bucket = current.buckets.get(band).get(source.bandKeys()[band]);
+
+                if (bucket != null) {
+                    bucket.forEach(candidate -> collisions.merge(candidate, 1, Integer::sum));
+                }
+            }
+
+            collisions.remove(recipeId);
+
+            return collisions.entrySet()
+                .stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(maxCandidates)
+                .map(candidate -> new Neighbor(
+                    candidate.getKey(),
+                    jaccard(source.features(), current.entries.get(candidate.getKey()).features())
+                ))
+                .sorted(Comparator.comparingDouble(Neighbor::similarity).reversed()
+                    .thenComparing(Comparator.comparingLong(Neighbor::recipeId).reversed()))
+                .limit(limit)
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<Snapshot> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(snapshot);
+
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Entry toEntry(LongStream rawFeatures) {
+        long[] features = rawFeatures.sorted().distinct().toArray();
+
+        if (features.length == 0) {
+            return null;
+        }
+
+        long[] signature = new long[seeds.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+
+        for (long feature : features) {
+            for (int i = 0; i < seeds.length; i++) {
+                long hash = mix(feature ^ seeds[i]);
+
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+
+        long[] bandKeys = new long[bands];
+
+        for (int band = 0; band < bands; band++) {
+            long key = band;
+
+            for (int row = 0; row < rows; row++) {
+                key = mix(key * 31 + signature[band * rows + row]);
+            }
+
+            bandKeys[band] = key;
+        }
+
+        return new Entry(features, bandKeys);
+    }
+
+    static double jaccard(long[] left, long[] right) {
+        int shared = 0;
+        int i = 0;
+        int j = 0;
+
+        while (i < left.length && j < right.length) {
+            if (left[i] == right[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (left[i] < right[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+
+        int union = left.length + right.length - shared;
+        return union == 0 ? 0 : (double) shared / union;
+    }
+
+    private static long ingredientFeature(long ingredientId) {
+        return ingredientId << 1;
+    }
+
+    private static long tagFeature(long tagId) {
+        return (tagId << 1) | 1;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    private static class Snapshot {
+        private final Map<Long, Entry> entries = new HashMap<>();
+        private final List<Map<Long, Set<Long>>> buckets;
+
+        Snapshot(int bands) {
+            buckets = new ArrayList<>(bands);
+
+            for (int band = 0; band < bands; band++) {
+                buckets.add(new HashMap<>());
+            }
+        }
+
+        void put(Long recipeId, Entry entry) {
+            if (recipeId == null) {
+                return;
+            }
+
+            if (entry == null) {
+                remove(recipeId);
+                return;
+            }
+
+            Entry existing = entries.get(recipeId);
+
+            if (existing != null && Arrays.equals(existing.features(), entry.features())) {
+                return;
+            }
+
+            remove(recipeId);
+            entries.put(recipeId, entry);
+
+            for (int band = 0; band < buckets.size(); band++) {
+                buckets.get(band).computeIfAbsent(entry.bandKeys()[band], ignored -> new HashSet<>()).add(recipeId);
+            }
+        }
+
+        void remove(Long recipeId) {
+            Entry entry = entries.remove(recipeId);
+
+            if (entry == null) {
+                return;
+            }
+
+            for (int band = 0; band < buckets.size(); band++) {
+                Map<Long, Set<Long>> bandBuckets = buckets.get(band);
+                Set<Long> bucket = bandBuckets.get(entry.bandKeys()[band]);
+
+                if (bucket != null) {
+                    bucket.remove(recipeId);
+
+                    if (bucket.isEmpty()) {
+                        bandBuckets.remove(entry.bandKeys()[band]);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.index;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeIngredient;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeStatistics;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.SuggestionType;
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.SuggestionProjection;
+import com.rodrigo.tastyhub.modules.recipes.domain.repository.IngredientRepository;
+import com.rodrigo.tastyhub.modules.recipes.domain.repository.RecipeRepository;
+import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+public class RecipeSuggestionIndex {
+    public record Suggestion(SuggestionType type, CompletionIndex.Entry entry) {}
+
+    private final RecipeRepository recipeRepository;
+    private final IngredientRepository ingredientRepository;
+    private final int maxOverlaySize;
+    private final Object lock = new Object();
+
+    private volatile Map<SuggestionType, CompletionIndex> indexes;
+    private List<Consumer<Map<SuggestionType, CompletionIndex>>> pendingChanges;
+
+    public RecipeSuggestionIndex(
+        RecipeRepository recipeRepository,
+        IngredientRepository ingredientRepository,
+        @Value("${app.suggestions.max-overlay-size:1000}") int maxOverlaySize
+    ) {
+        this.recipeRepository = recipeRepository;
+        this.ingredientRepository = ingredientRepository;
+        this.maxOverlaySize = maxOverlaySize;
+        this.indexes = emptyIndexes();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(
+        fixedDelayString = "${app.suggestions.rebuild-interval-ms:1800000}",
+        initialDelayString = "${app.suggestions.rebuild-interval-ms:1800000}"
+    )
+    public synchronized void rebuild() {
+        synchronized (lock) {
+            pendingChanges = new ArrayList<>();
+        }
+
+        Map<SuggestionType, CompletionIndex> rebuilt = emptyIndexes();
+
+        try {
+            rebuilt.get(SuggestionType.RECIPE).replaceAll(toEntries(recipeRepository.findTitleSuggestions()));
+            rebuilt.get(SuggestionType.TAG).replaceAll(toEntries(recipeRepository.findTagSuggestions()));
+            rebuilt.get(SuggestionType.INGREDIENT).replaceAll(toEntries(ingredientRepository.findNameSuggestions()));
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                pendingChanges = null;
+            }
+            throw e;
+        }
+
+        synchronized (lock) {
+            pendingChanges.forEach(change -> change.accept(rebuilt));
+            pendingChanges = null;
+            indexes = rebuilt;
+        }
+
+        log.debug("Recipe suggestion index rebuilt");
+    }
+
+    public List<Suggestion> suggest(String prefix, int limit, Collection<SuggestionType> types) {
+        Collection<SuggestionType> requested = types == null || types.isEmpty()
+            ? EnumSet.allOf(SuggestionType.class)
+            : types;
+
+        Map<SuggestionType, CompletionIndex> current = indexes;
+        List<Suggestion> suggestions = new ArrayList<>();
+
+        for (SuggestionType type : requested) {
+            current.get(type)
+                .complete(prefix, limit)
+                .forEach(entry -> suggestions.add(new Suggestion(type, entry)));
+        }
+
+        return suggestions.stream()
+            .sorted(Comparator.comparingLong((Suggestion suggestion) -> suggestion.entry().weight()).reversed())
+            .limit(limit)
+            .toList();
+    }
+
+    public void index(Recipe recipe) {
+        indexAll(List.of(recipe));
+    }
+
+    /**
+     * Indexes the recipes' titles and refreshes their tags and ingredients with how many recipes use
+     * them now, read in the caller's transaction so the counts include the recipes being written.
+     */
+    public void indexAll(Collection<Recipe> recipes) {
+        List<CompletionIndex.Entry> titles = new ArrayList<>();
+        List<Long> hiddenRecipeIds = new ArrayList<>();
+        Set<Long> tagIds = new HashSet<>();
+        Set<Long> ingredientIds = new HashSet<>();
+
+        for (Recipe recipe : recipes) {
+            User author = recipe.getAuthor();
+            boolean authorPrivate = author != null && author.getSettings() != null && author.isPrivate();
+            RecipeStatistics statistics = recipe.getStatistics();
+            long weight = statistics == null ? 0 : (long) statistics.getFavoritesCount() + statistics.getReviewsCount();
+
+            if (recipe.isPublic() && !authorPrivate) {
+                titles.add(new CompletionIndex.Entry(recipe.getId(), recipe.getTitle(), weight));
+            } else {
+                hiddenRecipeIds.add(recipe.getId());
+            }
+
+            recipe.getTags().forEach(tag -> tagIds.add(tag.getId()));
+            recipe.getIngredients()
+                .stream()
+                .map(RecipeIngredient::getIngredient)
+                .filter(Objects::nonNull)
+                .forEach(ingredient -> ingredientIds.add(ingredient.getId()));
+        }
+
+        tagIds.remove(null);
+        ingredientIds.remove(null);
+
+        List<CompletionIndex.Entry> tags = tagIds.isEmpty()
+            ? List.of()
+            : toEntries(recipeRepository.findTagSuggestionsByIds(tagIds));
+        List<CompletionIndex.Entry> ingredients = ingredientIds.isEmpty()
+            ? List.of()
+            : toEntries(ingredientRepository.findNameSuggestionsByIds(ingredientIds));
+
+        AfterCommit.run(() -> apply(current -> {
+            titles.forEach(current.get(SuggestionType.RECIPE)::upsert);
+            hiddenRecipeIds.forEach(current.get(SuggestionType.RECIPE)::remove);
+            tags.forEach(current.get(SuggestionType.TAG)::upsert);
+            ingredients.forEach(current.get(SuggestionType.INGREDIENT)::upsert);
+        }));
+    }
+
+    public void remove(Long recipeId) {
+        AfterCommit.run(() -> apply(current -> current.get(SuggestionType.RECIPE).remove(recipeId)));
+    }
+
+    private void apply(Consumer<Map<SuggestionType, CompletionIndex>> change) {
+        synchronized (lock) {
+            change.accept(indexes);
+
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        }
+    }
+
+    private Map<SuggestionType, CompletionIndex> emptyIndexes() {
+        Map<SuggestionType, CompletionIndex> empty = new EnumMap<>(SuggestionType.class);
+
+        for (SuggestionType type : SuggestionType.values()) {
+            empty.put(type, new CompletionIndex(maxOverlaySize));
+        }
+
+        return empty;
+    }
+
+    private static List<CompletionIndex.Entry> toEntries(List<SuggestionProjection> rows) {
+        return rows.stream()
+            .map(row -> new CompletionIndex.Entry(
+                row.id(),
+                row.text(),
+                row.weight() == null ? 0 : row.weight()
+            ))
+            .toList();
+    }
+}
@@ -0,0 +1,162 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.PreparationStep;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeIngredient;
+import com.rodrigo.tastyhub.modules.tags.domain.model.Tag;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.PooledSequences;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class RecipeBatchWriter {
+    private static final String RESERVE_IDS = """
+        SELECT nextval(pg_get_serial_sequence(?, 'id'))
+        FROM generate_series(1, ?)
+    """;
+
+    private static final String INSERT_RECIPE = """
+        INSERT INTO recipes (
+            id, title, description, cook_time_min, cook_time_max, estimated_cost, normalized_cost,
+            currency_id, user_id, language, difficulty_level, category, is_public, ingredient_count,
+            created_at, updated_at, published_at
+        ) VALUES (
+            ?, ?, ?, ?, ?, ?, ?, ?, ?, ?,
+            CAST(? AS difficulty_level_enum), CAST(? AS recipe_category_enum),
+            ?, ?, ?, ?, ?
+        )
+    """;
+
+    private static final String INSERT_STATISTICS = "INSERT INTO recipe_statistics (recipe_id) VALUES (?)";
+
+    private static final String INSERT_STEP = """
+        INSERT INTO preparation_steps (id, recipe_id, step_number, instruction) VALUES (?, ?, ?, ?)
+    """;
+
+    private static final String INSERT_INGREDIENT = """
+        INSERT INTO recipe_ingredients (id, recipe_id, ingredient_id, quantity, unit)
+        VALUES (?, ?, ?, ?, CAST(? AS ingredient_unit_enum))
+    """;
+
+    private static final String INSERT_TAG = "INSERT INTO recipe_tags (recipe_id, tag_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<Recipe> recipes) {
+        if (recipes.isEmpty()) {
+            return;
+        }
+
+        List<Long> recipeIds = reserveIds("recipes", recipes.size());
+        OffsetDateTime now = OffsetDateTime.now();
+
+        for (int i = 0; i < recipes.size(); i++) {
+            Recipe recipe = recipes.get(i);
+            recipe.setId(recipeIds.get(i));
+            recipe.setCreatedAt(now);
+            recipe.setUpdatedAt(now);
+            recipe.setPublishedAt(recipe.isPublic() ? now : null);
+        }
+
+        Timestamp timestamp = Timestamp.from(now.toInstant());
+
+        jdbcTemplate.batchUpdate(INSERT_RECIPE, recipes, recipes.size(), (ps, recipe) -> {
+            ps.setLong(1, recipe.getId());
+            ps.setString(2, recipe.getTitle());
+            ps.setString(3, recipe.getDescription());
+            ps.setObject(4, recipe.getCookTimeMin(), Types.INTEGER);
+            ps.setObject(5, recipe.getCookTimeMax(), Types.INTEGER);
+            ps.setBigDecimal(6, recipe.getEstimatedCost());
+            ps.setBigDecimal(7, recipe.getNormalizedCost());
+            ps.setObject(8, recipe.getCurrency() != null ? recipe.getCurrency().getId() : null, Types.SMALLINT);
+            ps.setLong(9, recipe.getAuthor().getId());
+            ps.setString(10, recipe.getLanguage());
+            ps.setString(11, recipe.getDifficultyLevel().name());
+            ps.setString(12, recipe.getCategory().name());
+            ps.setBoolean(13, recipe.isPublic());
+            ps.setInt(14, recipe.getIngredientCount());
+            ps.setTimestamp(15, timestamp);
+            ps.setTimestamp(16, timestamp);
+            ps.setTimestamp(17, recipe.isPublic() ? timestamp : null);
+        });
+
+        jdbcTemplate.batchUpdate(INSERT_STATISTICS, recipes, recipes.size(), (ps, recipe) ->
+            ps.setLong(1, recipe.getId())
+        );
+
+        List<PreparationStep> steps = new ArrayList<>();
+        List<RecipeIngredient> ingredients = new ArrayList<>();
+        List<Object[]> tags = new ArrayList<>();
+
+        for (Recipe recipe : recipes) {
+            steps.addAll(recipe.getSteps());
+            ingredients.addAll(recipe.getIngredients());
+
+            for (Tag tag : recipe.getTags()) {
+                tags.add(new Object[] { recipe.getId(), tag.getId() });
+            }
+        }
+
+        List<Long> stepIds = reserveIds("preparation_steps", steps.size());
+        List<Long> ingredientIds = reserveIds("recipe_ingredients", ingredients.size());
+
+        for (int i = 0; i < steps.size(); i++) {
+            steps.get(i).setId(stepIds.get(i));
+        }
+
+        for (int i = 0; i < ingredients.size(); i++) {
+            ingredients.get(i).setId(ingredientIds.get(i));
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_STEP, steps, steps.size(), (ps, step) -> {
+            ps.setLong(1, step.getId());
+            ps.setLong(2, step.getRecipe().getId());
+            ps.setInt(3, step.getStepNumber());
+            ps.setString(4, step.getInstruction());
+        });
+
+        jdbcTemplate.batchUpdate(INSERT_INGREDIENT, ingredients, ingredients.size(), (ps, ingredient) -> {
+            ps.setLong(1, ingredient.getId());
+            ps.setLong(2, ingredient.getRecipe().getId());
+            ps.setLong(3, ingredient.getIngredient().getId());
+            ps.setBigDecimal(4, ingredient.getQuantity());
+            ps.setString(5, ingredient.getUnit().name());
+        });
+
+        if (!tags.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TAG, tags);
+        }
+    }
+
+    /**
+     * Takes whole blocks from the table's pooled sequence, so each row costs one id instead of the
+     * sequence's increment. With pooled-lo, every value nextval returns starts a block of its own.
+     */
+    private List<Long> reserveIds(String table, int count) {
+        if (count == 0) {
+            return List.of();
+        }
+
+        List<Long> blocks = jdbcTemplate.queryForList(
+            RESERVE_IDS,
+            Long.class,
+            table,
+            (count + PooledSequences.ALLOCATION_SIZE - 1) / PooledSequences.ALLOCATION_SIZE
+        );
+        List<Long> ids = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            ids.add(blocks.get(i / PooledSequences.ALLOCATION_SIZE) + i % PooledSequences.ALLOCATION_SIZE);
+        }
+
+        return ids;
+    }
+}
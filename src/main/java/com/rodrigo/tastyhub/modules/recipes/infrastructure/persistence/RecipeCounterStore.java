@@ -0,0 +1,177 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeStatistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+public class RecipeCounterStore {
+    private static final String ADD_DELTA = """
+        INSERT INTO recipe_counter_deltas (
+            recipe_id, shard, favorites_delta, reviews_delta, rating_sum_delta,
+            one_star_delta, two_star_delta, three_star_delta, four_star_delta, five_star_delta, reviewers_delta
+        )
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT (recipe_id, shard) DO UPDATE
+        SET favorites_delta = recipe_counter_deltas.favorites_delta + EXCLUDED.favorites_delta,
+            reviews_delta = recipe_counter_deltas.reviews_delta + EXCLUDED.reviews_delta,
+            rating_sum_delta = recipe_counter_deltas.rating_sum_delta + EXCLUDED.rating_sum_delta,
+            one_star_delta = recipe_counter_deltas.one_star_delta + EXCLUDED.one_star_delta,
+            two_star_delta = recipe_counter_deltas.two_star_delta + EXCLUDED.two_star_delta,
+            three_star_delta = recipe_counter_deltas.three_star_delta + EXCLUDED.three_star_delta,
+            four_star_delta = recipe_counter_deltas.four_star_delta + EXCLUDED.four_star_delta,
+            five_star_delta = recipe_counter_deltas.five_star_delta + EXCLUDED.five_star_delta,
+            reviewers_delta = recipe_counter_deltas.reviewers_delta + EXCLUDED.reviewers_delta
+    """;
+
+    private static final String FOLD_TEMPLATE = """
+        WITH batch AS (
+            SELECT recipe_id, shard
+            FROM recipe_counter_deltas
+            %s
+            FOR UPDATE SKIP LOCKED
+        ),
+        folded AS (
+            DELETE FROM recipe_counter_deltas d
+            USING batch b
+            WHERE d.recipe_id = b.recipe_id AND d.shard = b.shard
+            RETURNING d.*
+        ),
+        totals AS (
+            SELECT recipe_id,
+                   SUM(favorites_delta) AS favorites_delta,
+                   SUM(reviews_delta) AS reviews_delta,
+                   SUM(rating_sum_delta) AS rating_sum_delta,
+                   SUM(one_star_delta) AS one_star_delta,
+                   SUM(two_star_delta) AS two_star_delta,
+                   SUM(three_star_delta) AS three_star_delta,
+                   SUM(four_star_delta) AS four_star_delta,
+                   SUM(five_star_delta) AS five_star_delta,
+                   SUM(reviewers_delta) AS reviewers_delta
+            FROM folded
+            GROUP BY recipe_id
+        )
+        INSERT INTO recipe_statistics AS s (
+            recipe_id, favorites_count, reviews_count, total_rating_sum, average_rating,
+            one_star_count, two_star_count, three_star_count, four_star_count, five_star_count, reviewers_count
+        )
+        SELECT t.recipe_id,
+               t.favorites_delta,
+               t.reviews_delta,
+               t.rating_sum_delta,
+               CASE
+                   WHEN t.reviews_delta > 0 THEN ROUND(t.rating_sum_delta / t.reviews_delta, 2)
+                   ELSE 0
+               END,
+               t.one_star_delta,
+               t.two_star_delta,
+               t.three_star_delta,
+               t.four_star_delta,
+               t.five_star_delta,
+               t.reviewers_delta
+        FROM totals t
+        ON CONFLICT (recipe_id) DO UPDATE
+        SET favorites_count = s.favorites_count + EXCLUDED.favorites_count,
+            reviews_count = s.reviews_count + EXCLUDED.reviews_count,
+            total_rating_sum = s.total_rating_sum + EXCLUDED.total_rating_sum,
+            one_star_count = s.one_star_count + EXCLUDED.one_star_count,
+            two_star_count = s.two_star_count + EXCLUDED.two_star_count,
+            three_star_count = s.three_star_count + EXCLUDED.three_star_count,
+            four_star_count = s.four_star_count + EXCLUDED.four_star_count,
+            five_star_count = s.five_star_count + EXCLUDED.five_star_count,
+            reviewers_count = s.reviewers_count + EXCLUDED.reviewers_count,
+            average_rating = CASE
+                WHEN s.reviews_count + EXCLUDED.reviews_count > 0
+                    THEN ROUND(
+                        (s.total_rating_sum + EXCLUDED.total_rating_sum) / (s.reviews_count + EXCLUDED.reviews_count),
+                        2
+                    )
+                ELSE 0
+            END
+        RETURNING s.recipe_id
+    """;
+
+    private static final String FOLD = FOLD_TEMPLATE.formatted("LIMIT ?");
+
+    private static final String FOLD_RECIPE = FOLD_TEMPLATE.formatted("WHERE recipe_id = ?");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+    private final int shards;
+
+    public RecipeCounterStore(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${app.recipe-counters.shards:16}") int shards
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.shards = Math.max(1, shards);
+    }
+
+    public void addFavorites(Long recipeId, int delta) {
+        add(recipeId, delta, 0, BigDecimal.ZERO, new int[5], 0);
+    }
+
+    public void addReviews(Long recipeId, int reviewsDelta, BigDecimal rating, int reviewersDelta) {
+        int[] starDeltas = new int[5];
+        starDeltas[RecipeStatistics.starsOf(rating) - 1] = reviewsDelta;
+
+        add(recipeId, 0, reviewsDelta, rating.multiply(BigDecimal.valueOf(reviewsDelta)), starDeltas, reviewersDelta);
+    }
+
+    public void changeRating(Long recipeId, BigDecimal previousRating, BigDecimal rating) {
+        int[] starDeltas = new int[5];
+        starDeltas[RecipeStatistics.starsOf(previousRating) - 1]--;
+        starDeltas[RecipeStatistics.starsOf(rating) - 1]++;
+
+        add(recipeId, 0, 0, rating.subtract(previousRating), starDeltas, 0);
+    }
+
+    public List<Long> fold(int batchSize) {
+        return jdbcTemplate.queryForList(FOLD, Long.class, batchSize);
+    }
+
+    /**
+     * Folds the pending deltas of a single recipe in its own transaction, so it can run from an
+     * after-commit callback. Shards locked by a concurrent fold are skipped; that fold applies them.
+     */
+    public boolean fold(Long recipeId) {
+        List<Long> folded = newTransaction.execute(status -> jdbcTemplate.queryForList(FOLD_RECIPE, Long.class, recipeId));
+
+        return folded != null && !folded.isEmpty();
+    }
+
+    private void add(
+        Long recipeId,
+        int favoritesDelta,
+        int reviewsDelta,
+        BigDecimal ratingSumDelta,
+        int[] starDeltas,
+        int reviewersDelta
+    ) {
+        jdbcTemplate.update(
+            ADD_DELTA,
+            recipeId,
+            (short) ThreadLocalRandom.current().nextInt(shards),
+            favoritesDelta,
+            reviewsDelta,
+            ratingSumDelta,
+            starDeltas[0],
+            starDeltas[1],
+            starDeltas[2],
+            starDeltas[3],
+            starDeltas[4],
+            reviewersDelta
+        );
+    }
+}
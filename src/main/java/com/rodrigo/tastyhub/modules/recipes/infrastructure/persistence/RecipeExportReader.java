@@ -0,0 +1,190 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence;
+
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.IngredientDto;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.PreparationStepDto;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.RecipeExportDto;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.DifficultyLevel;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.IngredientUnitEnum;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeCategory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+
+@Component
+public class RecipeExportReader {
+    private static final String SELECT_RECIPES = """
+        SELECT r.id, r.title, r.description, r.category, r.difficulty_level, r.language,
+               r.cook_time_min, r.cook_time_max, r.estimated_cost, c.code AS currency_code,
+               r.is_public, r.user_id, r.created_at
+        FROM recipes r
+        LEFT JOIN currencies c ON c.id = r.currency_id
+        LEFT JOIN user_settings s ON s.user_id = r.user_id
+        %s
+        AND (
+            (r.is_public AND (s.profile_visibility IS NULL OR s.profile_visibility <> 'PRIVATE'))
+            OR r.user_id = ?
+        )
+        ORDER BY r.id
+    """;
+
+    private static final String BY_AUTHOR = "WHERE r.user_id = ?";
+
+    private static final String BY_COLLECTION = """
+        JOIN recipe_collections rc ON rc.recipe_id = r.id
+        WHERE rc.collection_id = ?
+    """;
+
+    private static final String SELECT_INGREDIENTS = """
+        SELECT ri.recipe_id, ri.id, i.name, ri.ingredient_id, ri.quantity, ri.unit
+        FROM recipe_ingredients ri
+        JOIN ingredients i ON i.id = ri.ingredient_id
+        WHERE ri.recipe_id = ANY(?)
+        ORDER BY ri.recipe_id, ri.id
+    """;
+
+    private static final String SELECT_STEPS = """
+        SELECT recipe_id, id, step_number, instruction
+        FROM preparation_steps
+        WHERE recipe_id = ANY(?)
+        ORDER BY recipe_id, step_number
+    """;
+
+    private static final String SELECT_TAGS = """
+        SELECT rt.recipe_id, t.name
+        FROM recipe_tags rt
+        JOIN tags t ON t.id = rt.tag_id
+        WHERE rt.recipe_id = ANY(?)
+        ORDER BY rt.recipe_id, t.name
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate cursorTemplate;
+    private final int batchSize;
+
+    public RecipeExportReader(
+        JdbcTemplate jdbcTemplate,
+        DataSource dataSource,
+        @Value("${app.recipe-export.fetch-size:500}") int fetchSize,
+        @Value("${app.recipe-export.batch-size:200}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cursorTemplate = new JdbcTemplate(dataSource);
+        this.cursorTemplate.setFetchSize(Math.max(1, fetchSize));
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamByAuthor(Long authorId, Long requesterId, Consumer<RecipeExportDto> sink) {
+        stream(BY_AUTHOR, authorId, requesterId, sink);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamByCollection(Long collectionId, Long requesterId, Consumer<RecipeExportDto> sink) {
+        stream(BY_COLLECTION, collectionId, requesterId, sink);
+    }
+
+    private void stream(String filter, Long filterId, Long requesterId, Consumer<RecipeExportDto> sink) {
+        List<RecipeExportDto> batch = new ArrayList<>(batchSize);
+
+        cursorTemplate.query(
+            SELECT_RECIPES.formatted(filter),
+            ps -> {
+                ps.setLong(1, filterId);
+                ps.setObject(2, requesterId, Types.BIGINT);
+            },
+            (RowCallbackHandler) rs -> {
+                batch.add(mapRecipe(rs));
+
+                if (batch.size() == batchSize) {
+                    emit(batch, sink);
+                    batch.clear();
+                }
+            }
+        );
+
+        if (!batch.isEmpty()) {
+            emit(batch, sink);
+        }
+    }
+
+    private void emit(List<RecipeExportDto> batch, Consumer<RecipeExportDto> sink) {
+        Long[] recipeIds = batch.stream().map(RecipeExportDto::id).toArray(Long[]::new);
+
+        Map<Long, List<IngredientDto>> ingredients = new HashMap<>();
+        Map<Long, List<PreparationStepDto>> steps = new HashMap<>();
+        Map<Long, List<String>> tags = new HashMap<>();
+
+        queryChildren(SELECT_INGREDIENTS, recipeIds, rs -> ingredients
+            .computeIfAbsent(rs.getLong("recipe_id"), ignored -> new ArrayList<>())
+            .add(new IngredientDto(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getLong("ingredient_id"),
+                rs.getBigDecimal("quantity"),
+                IngredientUnitEnum.valueOf(rs.getString("unit"))
+            )));
+
+        queryChildren(SELECT_STEPS, recipeIds, rs -> steps
+            .computeIfAbsent(rs.getLong("recipe_id"), ignored -> new ArrayList<>())
+            .add(new PreparationStepDto(
+                rs.getLong("id"),
+                rs.getInt("step_number"),
+                rs.getString("instruction")
+            )));
+
+        queryChildren(SELECT_TAGS, recipeIds, rs -> tags
+            .computeIfAbsent(rs.getLong("recipe_id"), ignored -> new ArrayList<>())
+            .add(rs.getString("name")));
+
+        for (RecipeExportDto recipe : batch) {
+            sink.accept(recipe.withChildren(
+                tags.getOrDefault(recipe.id(), List.of()),
+                ingredients.getOrDefault(recipe.id(), List.of()),
+                steps.getOrDefault(recipe.id(), List.of())
+            ));
+        }
+    }
+
+    private void queryChildren(String sql, Long[] recipeIds, RowCallbackHandler handler) {
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql);
+                ps.setArray(1, connection.createArrayOf("bigint", recipeIds));
+                return ps;
+            },
+            handler
+        );
+    }
+
+    private static RecipeExportDto mapRecipe(ResultSet rs) throws SQLException {
+        return new RecipeExportDto(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("description"),
+            RecipeCategory.valueOf(rs.getString("category")),
+            DifficultyLevel.valueOf(rs.getString("difficulty_level")),
+            rs.getString("language"),
+            rs.getObject("cook_time_min", Integer.class),
+            rs.getObject("cook_time_max", Integer.class),
+            rs.getBigDecimal("estimated_cost"),
+            rs.getString("currency_code"),
+            rs.getBoolean("is_public"),
+            rs.getLong("user_id"),
+            rs.getObject("created_at", OffsetDateTime.class),
+            List.of(),
+            List.of(),
+            List.of()
+        );
+    }
+}
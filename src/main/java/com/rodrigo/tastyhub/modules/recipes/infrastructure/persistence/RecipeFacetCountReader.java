@@ -0,0 +1,152 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.DifficultyLevel;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeCategory;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.index.RecipeFacetIndex.FacetCounts;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.index.RecipeFacetIndex.Selection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Counts facets with SQL using the same rules as {@link com.rodrigo.tastyhub.modules.recipes.infrastructure.index.RecipeFacetIndex}:
+ * only visible recipes count, and each facet ignores its own selection. Used while the index is not
+ * ready or cannot hold every recipe id.
+ */
+@Component
+public class RecipeFacetCountReader {
+    private static final String VISIBLE_MATCHING = """
+        SELECT r.id
+        FROM recipes r
+        LEFT JOIN user_settings s ON s.user_id = r.user_id
+        WHERE r.is_public
+          AND (s.profile_visibility IS NULL OR s.profile_visibility <> 'PRIVATE')
+          AND (cardinality(?::text[]) = 0 OR r.category::text = ANY(?::text[]))
+          AND (cardinality(?::text[]) = 0 OR r.difficulty_level::text = ANY(?::text[]))
+          AND (cardinality(?::text[]) = 0 OR r.language = ANY(?::text[]))
+          AND (cardinality(?::text[]) = 0 OR EXISTS (
+              SELECT 1
+              FROM recipe_tags rt
+              JOIN tags t ON t.id = rt.tag_id
+              WHERE rt.recipe_id = r.id AND t.name = ANY(?::text[])
+          ))
+    """;
+
+    private static final String COUNT_TOTAL = "SELECT COUNT(*) FROM (" + VISIBLE_MATCHING + ") m";
+
+    private static final String COUNT_BY_COLUMN = """
+        SELECT r.%s::text AS facet_value, COUNT(*) AS recipe_count
+        FROM recipes r
+        WHERE r.id IN (%s)
+        GROUP BY r.%s
+    """;
+
+    private static final String COUNT_BY_TAG = """
+        SELECT t.name AS facet_value, COUNT(*) AS recipe_count
+        FROM recipe_tags rt
+        JOIN tags t ON t.id = rt.tag_id
+        WHERE rt.recipe_id IN (%s)
+        GROUP BY t.name
+        ORDER BY recipe_count DESC, t.name
+        LIMIT ?
+    """.formatted(VISIBLE_MATCHING);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RecipeFacetCountReader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public FacetCounts count(Selection selection, int tagLimit) {
+        Long total = jdbcTemplate.queryForObject(COUNT_TOTAL, Long.class, filters(selection));
+
+        Map<String, Integer> categoryCounts = countByColumn(
+            "category",
+            new Selection(selection.tags(), null, selection.difficultyLevels(), selection.languages())
+        );
+        Map<RecipeCategory, Integer> categories = new EnumMap<>(RecipeCategory.class);
+        for (RecipeCategory category : RecipeCategory.values()) {
+            categories.put(category, categoryCounts.getOrDefault(category.name(), 0));
+        }
+
+        Map<String, Integer> difficultyCounts = countByColumn(
+            "difficulty_level",
+            new Selection(selection.tags(), selection.categories(), null, selection.languages())
+        );
+        Map<DifficultyLevel, Integer> difficultyLevels = new EnumMap<>(DifficultyLevel.class);
+        for (DifficultyLevel difficultyLevel : DifficultyLevel.values()) {
+            difficultyLevels.put(difficultyLevel, difficultyCounts.getOrDefault(difficultyLevel.name(), 0));
+        }
+
+        Map<String, Integer> languages = sortedByCount(countByColumn(
+            "language",
+            new Selection(selection.tags(), selection.categories(), selection.difficultyLevels(), null)
+        ));
+
+        Map<String, Integer> tags = new LinkedHashMap<>();
+        jdbcTemplate.query(
+            COUNT_BY_TAG,
+            rs -> {
+                tags.put(rs.getString("facet_value"), rs.getInt("recipe_count"));
+            },
+            Stream.concat(
+                Arrays.stream(filters(new Selection(null, selection.categories(), selection.difficultyLevels(), selection.languages()))),
+                Stream.of(tagLimit)
+            ).toArray()
+        );
+
+        return new FacetCounts(total == null ? 0 : total.intValue(), categories, difficultyLevels, languages, tags);
+    }
+
+    private Map<String, Integer> countByColumn(String column, Selection selection) {
+        Map<String, Integer> counts = new HashMap<>();
+
+        jdbcTemplate.query(
+            COUNT_BY_COLUMN.formatted(column, VISIBLE_MATCHING, column),
+            rs -> {
+                counts.put(rs.getString("facet_value"), rs.getInt("recipe_count"));
+            },
+            filters(selection)
+        );
+
+        return counts;
+    }
+
+    private static Map<String, Integer> sortedByCount(Map<String, Integer> counts) {
+        Map<String, Integer> sorted = new LinkedHashMap<>();
+
+        counts.entrySet()
+            .stream()
+            .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+            .forEach(facet -> sorted.put(facet.getKey(), facet.getValue()));
+
+        return sorted;
+    }
+
+    private static Object[] filters(Selection selection) {
+        String[] categories = names(selection.categories());
+        String[] difficultyLevels = names(selection.difficultyLevels());
+        String[] languages = names(selection.languages());
+        String[] tags = names(selection.tags());
+
+        return new Object[] {
+            categories, categories,
+            difficultyLevels, difficultyLevels,
+            languages, languages,
+            tags, tags
+        };
+    }
+
+    private static String[] names(Collection<?> values) {
+        if (values == null) {
+            return new String[0];
+        }
+
+        return values.stream()
+            .filter(Objects::nonNull)
+            .map(value -> value instanceof Enum<?> constant ? constant.name() : value.toString())
+            .toArray(String[]::new);
+    }
+}
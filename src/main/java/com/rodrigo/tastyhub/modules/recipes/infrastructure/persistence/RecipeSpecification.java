@@ -1,47 +1,90 @@
 package com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence;
 
 import com.rodrigo.tastyhub.modules.recipes.application.dto.request.ListRecipesQuery;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.IngredientMatchMode;
 import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeIngredient;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeSortBy;
 import com.rodrigo.tastyhub.modules.settings.domain.model.ProfileVisibility;
+import com.rodrigo.tastyhub.shared.enums.SortDirection;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.PostgresSearchFunctionContributor;
 import jakarta.persistence.criteria.*;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 public class RecipeSpecification {
+    public static boolean isRankedSearch(ListRecipesQuery query) {
+        return query.sortBy() == RecipeSortBy.SEARCH_RANK && StringUtils.hasText(query.query());
+    }
+
+    public static Expression<Double> searchRank(Root<Recipe> root, CriteriaBuilder cb, String terms) {
+        return cb.function(
+            PostgresSearchFunctionContributor.RANK,
+            Double.class,
+            root.get("searchVector"),
+            cb.literal(terms.trim())
+        );
+    }
+
     public static Specification<Recipe> withFilters(ListRecipesQuery query, Long collectionId, Long currentUserId) {
+        return withFilters(query, collectionId, currentUserId, true);
+    }
+
+    public static Specification<Recipe> withFilters(
+        ListRecipesQuery query,
+        Long collectionId,
+        Long currentUserId,
+        boolean applyFacetFilters
+    ) {
         return (root, criteriaQuery, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
 
-            Join<Recipe, Object> authorJoin = root.join("author", JoinType.LEFT);
-            Join<Object, Object> settingsJoin = authorJoin.join("settings", JoinType.LEFT);
+            predicates.add(visibility(root, cb, currentUserId));
 
-            Predicate isPublicRecipe = cb.isTrue(root.get("isPublic"));
+            if (collectionId != null) {
+                Join<Recipe, Object> collectionsJoin = root.join("collections");
+                predicates.add(cb.equal(collectionsJoin.get("id"), collectionId));
+            }
 
-            Predicate authorNotPrivate = cb.notEqual(
-                settingsJoin.get("profileVisibility"),
-                ProfileVisibility.PRIVATE
-            );
+            if (StringUtils.hasText(query.query())) {
+                Expression<String> searchVector = root.get("searchVector");
+                Expression<String> searchTerms = cb.literal(query.query().trim());
 
-            Predicate visibleToAll = cb.and(isPublicRecipe, authorNotPrivate);
+                predicates.add(cb.isTrue(cb.function(
+                    PostgresSearchFunctionContributor.MATCHES,
+                    Boolean.class,
+                    searchVector,
+                    searchTerms
+                )));
 
-            if (currentUserId != null) {
-                Predicate isOwner = cb.equal(authorJoin.get("id"), currentUserId);
-                predicates.add(cb.or(visibleToAll, isOwner));
-            } else {
-                predicates.add(visibleToAll);
-            }
+                if (isRankedSearch(query) && !Long.class.equals(criteriaQuery.getResultType())) {
+                    Expression<Double> rank = searchRank(root, cb, query.query());
 
-            if (collectionId != null) {
-                Join<Recipe, Object> collectionsJoin = root.join("collections");
-                predicates.add(cb.equal(collectionsJoin.get("id"), collectionId));
+                    criteriaQuery.orderBy(
+                        query.direction() == SortDirection.ASC
+                            ? List.of(cb.asc(rank), cb.asc(root.get("id")))
+                            : List.of(cb.desc(rank), cb.desc(root.get("id")))
+                    );
+                }
             }
 
-            if (query.categories() != null && !query.categories().isEmpty()) {
+            if (applyFacetFilters && query.categories() != null && !query.categories().isEmpty()) {
                 predicates.add(root.get("category").in(query.categories()));
             }
 
+            if (applyFacetFilters && query.difficultyLevels() != null && !query.difficultyLevels().isEmpty()) {
+                predicates.add(root.get("difficultyLevel").in(query.difficultyLevels()));
+            }
+
+            if (applyFacetFilters && query.languages() != null && !query.languages().isEmpty()) {
+                predicates.add(root.get("language").in(query.languages()));
+            }
+
             if (query.minRating() != null || query.maxRating() != null) {
                 var stats = root.get("statistics");
 
@@ -54,7 +97,29 @@ public class RecipeSpecification {
                 }
             }
 
-            if (query.tags() != null && !query.tags().isEmpty()) {
+            if (query.minCost() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(
+                    root.get("normalizedCost"),
+                    BigDecimal.valueOf(query.minCost())
+                ));
+            }
+
+            if (query.maxCost() != null) {
+                predicates.add(cb.lessThanOrEqualTo(
+                    root.get("normalizedCost"),
+                    BigDecimal.valueOf(query.maxCost())
+                ));
+            }
+
+            if (query.minIngredients() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("ingredientCount"), query.minIngredients()));
+            }
+
+            if (query.maxIngredients() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("ingredientCount"), query.maxIngredients()));
+            }
+
+            if (applyFacetFilters && query.tags() != null && !query.tags().isEmpty()) {
                 Subquery<Long> subquery = criteriaQuery.subquery(Long.class);
                 Root<Recipe> subRoot = subquery.from(Recipe.class);
                 Join<Object, Object> subTags = subRoot.join("tags");
@@ -73,4 +138,62 @@ public class RecipeSpecification {
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    public static Specification<Recipe> visibleTo(Long currentUserId) {
+        return (root, criteriaQuery, cb) -> visibility(root, cb, currentUserId);
+    }
+
+    private static Predicate visibility(Root<Recipe> root, CriteriaBuilder cb, Long currentUserId) {
+        Join<Recipe, Object> authorJoin = root.join("author", JoinType.LEFT);
+        Join<Object, Object> settingsJoin = authorJoin.join("settings", JoinType.LEFT);
+
+        Predicate isPublicRecipe = cb.isTrue(root.get("isPublic"));
+
+        Predicate authorNotPrivate = cb.notEqual(
+            settingsJoin.get("profileVisibility"),
+            ProfileVisibility.PRIVATE
+        );
+
+        Predicate visibleToAll = cb.and(isPublicRecipe, authorNotPrivate);
+
+        if (currentUserId == null) {
+            return visibleToAll;
+        }
+
+        return cb.or(visibleToAll, cb.equal(authorJoin.get("id"), currentUserId));
+    }
+
+    public static Specification<Recipe> withIds(Collection<Long> recipeIds) {
+        return (root, criteriaQuery, cb) -> recipeIds.isEmpty()
+            ? cb.disjunction()
+            : root.get("id").in(recipeIds);
+    }
+
+    public static Specification<Recipe> withCurrencyIds(Collection<Short> currencyIds) {
+        return (root, criteriaQuery, cb) -> currencyIds.isEmpty()
+            ? cb.disjunction()
+            : root.get("currency").get("id").in(currencyIds);
+    }
+
+    public static Specification<Recipe> withIngredients(Collection<Long> ingredientIds, IngredientMatchMode mode) {
+        return (root, criteriaQuery, cb) -> {
+            if (ingredientIds == null || ingredientIds.isEmpty()) {
+                return cb.disjunction();
+            }
+
+            Subquery<Long> subquery = criteriaQuery.subquery(Long.class);
+            Root<RecipeIngredient> subRoot = subquery.from(RecipeIngredient.class);
+            Path<Long> recipeId = subRoot.get("recipe").get("id");
+            Path<Long> ingredientId = subRoot.get("ingredient").get("id");
+
+            subquery.select(recipeId).where(ingredientId.in(ingredientIds));
+
+            if (mode == IngredientMatchMode.ALL) {
+                subquery.groupBy(recipeId)
+                    .having(cb.equal(cb.countDistinct(ingredientId), (long) ingredientIds.size()));
+            }
+
+            return root.get("id").in(subquery);
+        };
+    }
 }
@@ -0,0 +1,114 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeSummaryProjection;
+import com.rodrigo.tastyhub.modules.recipes.domain.repository.RecipeSummaryRepository;
+import com.rodrigo.tastyhub.shared.enums.SortDirection;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.KeysetQueryExecutor;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.RowProjection;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.SliceQueryExecutor;
+import com.rodrigo.tastyhub.shared.kernel.pagination.KeysetWindow;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class RecipeSummaryRepositoryImpl implements RecipeSummaryRepository {
+    private static final RowProjection<Recipe, RecipeSummaryProjection> SUMMARY = new RowProjection<>() {
+        @Override
+        public List<Selection<?>> select(Root<Recipe> root, CriteriaBuilder cb) {
+            Join<Recipe, ?> author = reuseJoin(root, "author");
+            Join<Recipe, ?> statistics = reuseJoin(root, "statistics");
+
+            return List.of(
+                root.get("id"),
+                root.get("title"),
+                root.get("isPublic"),
+                root.get("cookTimeMin"),
+                root.get("cookTimeMax"),
+                root.get("coverUrl"),
+                root.get("coverAlt"),
+                author.get("id"),
+                author.get("firstName"),
+                author.get("lastName"),
+                author.get("username"),
+                author.get("profilePictureUrl"),
+                author.get("profilePictureAlt"),
+                root.get("ingredientCount"),
+                statistics.get("averageRating"),
+                statistics.get("favoritesCount"),
+                statistics.get("reviewsCount")
+            );
+        }
+
+        @Override
+        public RecipeSummaryProjection map(Object[] row) {
+            return new RecipeSummaryProjection(
+                (Long) row[0],
+                (String) row[1],
+                (Boolean) row[2],
+                (Integer) row[3],
+                (Integer) row[4],
+                (String) row[5],
+                (String) row[6],
+                (Long) row[7],
+                (String) row[8],
+                (String) row[9],
+                (String) row[10],
+                (String) row[11],
+                (String) row[12],
+                (Integer) row[13],
+                (Double) row[14],
+                (Integer) row[15],
+                (Integer) row[16]
+            );
+        }
+    };
+
+    private final SliceQueryExecutor sliceQueryExecutor;
+    private final KeysetQueryExecutor keysetQueryExecutor;
+
+    @Override
+    public Page<RecipeSummaryProjection> findSummaries(Specification<Recipe> specification, Pageable pageable) {
+        Slice<RecipeSummaryProjection> slice = findSummarySlice(specification, pageable);
+
+        boolean lastPageKnown = !slice.hasNext() && (slice.hasContent() || pageable.getOffset() == 0);
+
+        long total = lastPageKnown
+            ? pageable.getOffset() + slice.getNumberOfElements()
+            : sliceQueryExecutor.count(Recipe.class, specification);
+
+        return new PageImpl<>(slice.getContent(), pageable, total);
+    }
+
+    @Override
+    public Slice<RecipeSummaryProjection> findSummarySlice(Specification<Recipe> specification, Pageable pageable) {
+        return sliceQueryExecutor.fetch(Recipe.class, specification, pageable, SUMMARY);
+    }
+
+    @Override
+    public KeysetWindow<RecipeSummaryProjection> findSummaryWindow(
+        Specification<Recipe> specification,
+        KeysetQueryExecutor.SortKey<Recipe> sortKey,
+        SortDirection direction,
+        @Nullable String after,
+        int size
+    ) {
+        return keysetQueryExecutor.fetch(Recipe.class, specification, sortKey, direction, after, size, SUMMARY);
+    }
+
+    private static Join<Recipe, ?> reuseJoin(Root<Recipe> root, String attribute) {
+        return root.getJoins()
+            .stream()
+            .filter(join -> join.getAttribute().getName().equals(attribute) && join.getJoinType() == JoinType.LEFT)
+            .findFirst()
+            .orElseGet(() -> root.join(attribute, JoinType.LEFT));
+    }
+}
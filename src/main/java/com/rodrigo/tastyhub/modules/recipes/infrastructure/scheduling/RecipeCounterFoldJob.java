@@ -0,0 +1,51 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.scheduling;
+
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.cache.RecipeDetailCache;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence.RecipeCounterStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.recipe-counters.fold-enabled", havingValue = "true", matchIfMissing = true)
+public class RecipeCounterFoldJob {
+    private final RecipeCounterStore recipeCounterStore;
+    private final RecipeDetailCache recipeDetailCache;
+
+    @Value("${app.recipe-counters.fold-batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.recipe-counters.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    @Scheduled(
+        fixedDelayString = "${app.recipe-counters.fold-interval-ms:5000}",
+        initialDelayString = "${app.recipe-counters.initial-delay-ms:10000}"
+    )
+    public void fold() {
+        Set<Long> folded = new HashSet<>();
+        int batches = 0;
+        List<Long> recipeIds;
+
+        do {
+            recipeIds = recipeCounterStore.fold(batchSize);
+            folded.addAll(recipeIds);
+            batches++;
+        } while (!recipeIds.isEmpty() && batches < maxBatchesPerRun);
+
+        folded.forEach(recipeDetailCache::evict);
+
+        if (!folded.isEmpty()) {
+            log.debug("Folded pending counters of {} recipes", folded.size());
+        }
+    }
+}
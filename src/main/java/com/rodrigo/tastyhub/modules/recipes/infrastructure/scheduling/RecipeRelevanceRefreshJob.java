@@ -0,0 +1,81 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.scheduling;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.repository.RecipeStatisticsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.relevance.enabled", havingValue = "true", matchIfMissing = true)
+public class RecipeRelevanceRefreshJob {
+    private final RecipeStatisticsRepository recipeStatisticsRepository;
+
+    @Value("${app.relevance.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.relevance.max-score-age-minutes:60}")
+    private long maxScoreAgeMinutes;
+
+    @Value("${app.relevance.velocity-window-days:7}")
+    private long velocityWindowDays;
+
+    @Value("${app.relevance.half-life-days:14}")
+    private double halfLifeDays;
+
+    @Value("${app.relevance.prior-weight:10}")
+    private double priorWeight;
+
+    @Value("${app.relevance.weights.rating:1.0}")
+    private double ratingWeight;
+
+    @Value("${app.relevance.weights.favorites:0.5}")
+    private double favoritesWeight;
+
+    @Value("${app.relevance.weights.velocity:0.75}")
+    private double velocityWeight;
+
+    @Value("${app.relevance.weights.recency:1.0}")
+    private double recencyWeight;
+
+    @Scheduled(
+        fixedDelayString = "${app.relevance.refresh-interval-ms:60000}",
+        initialDelayString = "${app.relevance.initial-delay-ms:30000}"
+    )
+    public void refresh() {
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime staleBefore = now.minus(Duration.ofMinutes(maxScoreAgeMinutes));
+        OffsetDateTime velocitySince = now.minus(Duration.ofDays(velocityWindowDays));
+        double priorMean = recipeStatisticsRepository.findMeanRating();
+
+        int refreshed = 0;
+        int updated;
+
+        do {
+            updated = recipeStatisticsRepository.refreshRelevanceScores(
+                staleBefore,
+                velocitySince,
+                priorMean,
+                priorWeight,
+                ratingWeight,
+                favoritesWeight,
+                velocityWeight,
+                recencyWeight,
+                halfLifeDays,
+                batchSize
+            );
+            refreshed += updated;
+        } while (updated == batchSize);
+
+        if (refreshed > 0) {
+            log.debug("Refreshed relevance score of {} recipes", refreshed);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.rodrigo.tastyhub.modules.recipes.interfaces.rest;
+
+import com.rodrigo.tastyhub.modules.recipes.application.dto.request.UpdateExchangeRateDto;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.ExchangeRateDto;
+import com.rodrigo.tastyhub.modules.recipes.application.mapper.CurrencyMapper;
+import com.rodrigo.tastyhub.modules.recipes.domain.service.CurrencyService;
+import com.rodrigo.tastyhub.shared.dto.response.ErrorResponseDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(
+    name = "Currencies",
+    description = "Currency management routes. Exchange rates are maintained locally and used to normalize recipe costs."
+)
+@RestController
+@RequestMapping("/api/currencies")
+public class CurrencyController {
+    private final CurrencyService currencyService;
+
+    public CurrencyController(CurrencyService currencyService) {
+        this.currencyService = currencyService;
+    }
+
+    @Operation(
+        summary = "Update a currency exchange rate",
+        description = "Sets the rate used to convert the currency into USD and re-normalizes the cost of every recipe priced in it. Restricted to administrators.",
+        security = { @SecurityRequirement(name = "bearerAuth") }
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Exchange rate updated successfully"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid exchange rate",
+            content = @Content(
+                schema = @Schema(implementation = ErrorResponseDto.class),
+                examples = @ExampleObject(
+                    value = "{\"message\": \"Rate must be greater than zero\", \"status\": 400, \"timestamp\": \"2026-03-07T14:00:00\"}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "User is not an administrator",
+            content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Currency not found",
+            content = @Content(
+                schema = @Schema(implementation = ErrorResponseDto.class),
+                examples = @ExampleObject(
+                    value = "{\"message\": \"Currency not found with the provided code\", \"status\": 404}"
+                )
+            )
+        )
+    })
+    @PutMapping("/{code}/exchange-rate")
+    public ResponseEntity<ExchangeRateDto> updateExchangeRate(
+        @Parameter(description = "ISO code of the currency", required = true, example = "BRL")
+        @PathVariable("code")
+        String code,
+
+        @Valid @RequestBody UpdateExchangeRateDto request
+    ) {
+        return ResponseEntity.ok(
+            CurrencyMapper.toExchangeRateDto(
+                currencyService.updateExchangeRate(code, request.rateToBase())
+            )
+        );
+    }
+}
@@ -0,0 +1,59 @@
+package com.rodrigo.tastyhub.modules.recipes.interfaces.rest;
+
+import com.rodrigo.tastyhub.modules.recipes.application.dto.request.IngredientSearchQuery;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.IngredientSummaryDto;
+import com.rodrigo.tastyhub.modules.recipes.domain.service.IngredientService;
+import com.rodrigo.tastyhub.shared.dto.response.ErrorResponseDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(
+    name = "Ingredients",
+    description = "Ingredient catalog routes. Used by recipe authoring to look ingredients up by name."
+)
+@RestController
+@RequestMapping("/api/ingredients")
+public class IngredientController {
+    private final IngredientService ingredientService;
+
+    public IngredientController(IngredientService ingredientService) {
+        this.ingredientService = ingredientService;
+    }
+
+    @Operation(
+        summary = "Search ingredients by name",
+        description = "Fuzzy, accent-insensitive lookup over ingredient names. Names starting with the term come first, then the closest trigram matches."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Matching ingredients retrieved successfully"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Search term missing or invalid limit",
+            content = @Content(
+                schema = @Schema(implementation = ErrorResponseDto.class),
+                examples = @ExampleObject(
+                    value = "{\"message\": \"Invalid search parameters provided\", \"status\": 400, \"timestamp\": \"2026-03-07T14:00:00\"}"
+                )
+            )
+        )
+    })
+    @GetMapping
+    public ResponseEntity<List<IngredientSummaryDto>> searchIngredients(
+        @ParameterObject @Valid IngredientSearchQuery request
+    ) {
+        return ResponseEntity.ok(ingredientService.search(request.q(), request.limit()));
+    }
+}
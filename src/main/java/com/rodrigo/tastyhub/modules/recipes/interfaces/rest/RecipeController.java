@@ -2,11 +2,20 @@ package com.rodrigo.tastyhub.modules.recipes.interfaces.rest;
 
 import com.rodrigo.tastyhub.modules.recipes.application.dto.request.CreateRecipeDto;
 import com.rodrigo.tastyhub.modules.recipes.application.dto.request.ListRecipesQuery;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.request.PantryQuery;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.request.RecipeFacetsQuery;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.request.SuggestionQuery;
 import com.rodrigo.tastyhub.modules.recipes.application.dto.request.UpdateRecipeDto;
 import com.rodrigo.tastyhub.modules.recipes.application.dto.response.FullRecipeDto;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.PantryMatchDto;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.RecipeFacetsDto;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.RecipeImportReportDto;
 import com.rodrigo.tastyhub.modules.recipes.application.dto.response.RecipePagination;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.SimilarRecipeDto;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.SuggestionDto;
 import com.rodrigo.tastyhub.modules.recipes.application.usecases.*;
 import com.rodrigo.tastyhub.modules.user.application.dto.response.UserSummaryDto;
+import com.rodrigo.tastyhub.shared.enums.ExportFormat;
 import com.rodrigo.tastyhub.shared.dto.response.ErrorResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,15 +27,22 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.net.URI;
+import java.util.List;
 
 @Tag(
     name = "Recipes",
@@ -39,27 +55,45 @@ public class RecipeController {
     private final ListRecipesUseCase listRecipes;
     private final UpdateRecipeUseCase updateRecipe;
     private final CreateRecipeUseCase createRecipe;
+    private final ImportRecipesUseCase importRecipes;
     private final GetRecipeByIdUseCase getRecipeById;
+    private final GetSimilarRecipesUseCase getSimilarRecipes;
+    private final GetRecipeFacetsUseCase getRecipeFacets;
+    private final GetSuggestionsUseCase getSuggestions;
+    private final MatchPantryUseCase matchPantry;
     private final DeleteRecipeUseCase deleteRecipeById;
     private final UpdateRecipeCoverUseCase updateRecipeCover;
     private final ListRecipesByCollectionUseCase listRecipesByCollection;
+    private final ExportRecipesUseCase exportRecipes;
 
     public RecipeController(
         ListRecipesUseCase listRecipes,
         CreateRecipeUseCase createRecipe,
+        ImportRecipesUseCase importRecipes,
         UpdateRecipeUseCase updateRecipe,
         GetRecipeByIdUseCase getRecipeById,
+        GetSimilarRecipesUseCase getSimilarRecipes,
+        GetRecipeFacetsUseCase getRecipeFacets,
+        GetSuggestionsUseCase getSuggestions,
+        MatchPantryUseCase matchPantry,
         DeleteRecipeUseCase deleteRecipeById,
         UpdateRecipeCoverUseCase updateRecipeCover,
-        ListRecipesByCollectionUseCase listRecipesByCollection
+        ListRecipesByCollectionUseCase listRecipesByCollection,
+        ExportRecipesUseCase exportRecipes
     ) {
         this.listRecipes = listRecipes;
         this.createRecipe = createRecipe;
+        this.importRecipes = importRecipes;
         this.updateRecipe = updateRecipe;
         this.getRecipeById = getRecipeById;
+        this.getSimilarRecipes = getSimilarRecipes;
+        this.getRecipeFacets = getRecipeFacets;
+        this.getSuggestions = getSuggestions;
+        this.matchPantry = matchPantry;
         this.deleteRecipeById = deleteRecipeById;
         this.updateRecipeCover = updateRecipeCover;
         this.listRecipesByCollection = listRecipesByCollection;
+        this.exportRecipes = exportRecipes;
     }
 
     @Operation(
@@ -131,6 +165,53 @@ public class RecipeController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+        summary = "Get Similar Recipes",
+        description = """
+            Returns visible recipes sharing the most ingredients and tags with the given recipe,
+            most similar first. Private or unknown recipes have no neighbors.
+        """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Similar recipes successfully retrieved"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid recipe ID or limit",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDto.class),
+                examples = @ExampleObject(
+                    value = """
+                        {
+                          "message": "The recipe ID must be a positive number",
+                          "status": 400,
+                          "timestamp": "2026-08-15T13:15:36"
+                        }
+                    """
+                )
+            )
+        )
+    })
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<SimilarRecipeDto>> getSimilarRecipes(
+        @Parameter(description = "ID of the recipe to compare against", required = true, example = "1")
+        @PathVariable("id")
+        @Min(value = 1, message = "The recipe ID must be a positive number")
+        Long id,
+
+        @Parameter(description = "Maximum number of similar recipes")
+        @RequestParam(value = "limit", required = false, defaultValue = "10")
+        @Min(1)
+        @Max(50)
+        Integer limit
+    ) {
+        List<SimilarRecipeDto> response = this.getSimilarRecipes.execute(id, limit);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
         summary = "List and Filter Recipes",
         description = """
@@ -171,6 +252,122 @@ public class RecipeController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+        summary = "Count Recipe Facets",
+        description = """
+            Returns how many visible recipes match each category, difficulty level, language and tag
+            for the current selection. Values within a facet are combined with OR and facets with AND;
+            each facet's own counts ignore its selection so the UI can show alternatives.
+        """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Facet counts successfully retrieved",
+            content = @Content(schema = @Schema(implementation = RecipeFacetsDto.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid facet parameters provided",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDto.class),
+                examples = @ExampleObject(
+                    value = """
+                        {
+                          "message": "Invalid facet parameters provided",
+                          "status": 400,
+                          "timestamp": "2026-03-12T12:30:00"
+                        }
+                    """
+                )
+            )
+        )
+    })
+    @GetMapping("/facets")
+    public ResponseEntity<RecipeFacetsDto> getRecipeFacets(
+        @ParameterObject @Valid RecipeFacetsQuery request
+    ) {
+        RecipeFacetsDto response = this.getRecipeFacets.execute(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+        summary = "Autocomplete Recipes, Tags and Ingredients",
+        description = """
+            Returns the most popular recipe titles, tag names and ingredient names containing a word
+            that starts with the given prefix. Matching ignores case and accents.
+        """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Suggestions successfully retrieved"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Prefix missing or invalid limit",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDto.class),
+                examples = @ExampleObject(
+                    value = """
+                        {
+                          "message": "Invalid suggestion parameters provided",
+                          "status": 400,
+                          "timestamp": "2026-03-12T12:30:00"
+                        }
+                    """
+                )
+            )
+        )
+    })
+    @GetMapping("/suggestions")
+    public ResponseEntity<List<SuggestionDto>> getSuggestions(
+        @ParameterObject @Valid SuggestionQuery request
+    ) {
+        List<SuggestionDto> response = this.getSuggestions.execute(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+        summary = "Find Recipes From Pantry",
+        description = """
+            Ranks visible recipes by how fully the given pantry ingredients cover them. Recipes missing
+            up to maxMissing ingredients are included, fewest missing first, along with what is missing.
+        """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Matching recipes successfully retrieved"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Pantry missing or invalid parameters",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDto.class),
+                examples = @ExampleObject(
+                    value = """
+                        {
+                          "message": "Invalid pantry parameters provided",
+                          "status": 400,
+                          "timestamp": "2026-03-12T12:30:00"
+                        }
+                    """
+                )
+            )
+        )
+    })
+    @GetMapping("/pantry")
+    public ResponseEntity<List<PantryMatchDto>> matchPantry(
+        @ParameterObject @Valid PantryQuery request
+    ) {
+        List<PantryMatchDto> response = this.matchPantry.execute(request);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
         summary = "List and Filter Recipes By Collections",
         description = """
@@ -218,6 +415,72 @@ public class RecipeController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+        summary = "Export an author's recipes",
+        description = """
+            Streams every recipe of the author visible to the requester, with tags, ingredients and steps,
+            as newline-delimited JSON or CSV. Rows are read through a database cursor, so exports of any size
+            start immediately and use constant memory.
+        """
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Export stream started"),
+        @ApiResponse(
+            responseCode = "404",
+            description = "User not found with the provided ID",
+            content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))
+        )
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportRecipesByAuthor(
+        @Parameter(description = "ID of the author whose recipes are exported", required = true, example = "1")
+        @RequestParam("authorId")
+        @Min(value = 1, message = "The author ID must be a positive number")
+        Long authorId,
+
+        @Parameter(description = "Output format", example = "CSV")
+        @RequestParam(value = "format", defaultValue = "NDJSON")
+        ExportFormat format
+    ) {
+        StreamingResponseBody body = this.exportRecipes.byAuthor(authorId, format);
+        return exportResponse(body, format, "recipes-author-" + authorId);
+    }
+
+    @Operation(
+        summary = "Export the recipes of a collection",
+        description = """
+            Streams every recipe of the collection visible to the requester as newline-delimited JSON or CSV.
+            Private collections can only be exported by their owner.
+        """
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Export stream started"),
+        @ApiResponse(
+            responseCode = "403",
+            description = "The collection is private",
+            content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Collection not found with the provided ID",
+            content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))
+        )
+    })
+    @GetMapping("/collections/{collectionId}/export")
+    public ResponseEntity<StreamingResponseBody> exportRecipesByCollection(
+        @Parameter(description = "ID of the collection to export", required = true, example = "1")
+        @PathVariable("collectionId")
+        @Min(value = 1, message = "The collection ID must be a positive number")
+        Long collectionId,
+
+        @Parameter(description = "Output format", example = "NDJSON")
+        @RequestParam(value = "format", defaultValue = "NDJSON")
+        ExportFormat format
+    ) {
+        StreamingResponseBody body = this.exportRecipes.byCollection(collectionId, format);
+        return exportResponse(body, format, "recipes-collection-" + collectionId);
+    }
+
     @Operation(
         summary = "Create a new recipe",
         security = { @SecurityRequirement(name = "bearerAuth") },
@@ -256,6 +519,45 @@ public class RecipeController {
         return ResponseEntity.created(uri).body(fullRecipeDto);
     }
 
+    @Operation(
+        summary = "Bulk import recipes",
+        security = { @SecurityRequirement(name = "bearerAuth") },
+        description = """
+            Streams newline-delimited JSON, one recipe per line using the same shape as the create payload.
+            Lines are imported in chunks, each committed in its own transaction, so a rejected line never
+            blocks the rest of the file. Restricted to administrators.
+        """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "File processed; per-line failures are listed in the report",
+            content = @Content(schema = @Schema(implementation = RecipeImportReportDto.class))
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Only administrators can import recipes",
+            content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Author not found with the provided ID",
+            content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))
+        )
+    })
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<RecipeImportReportDto> importRecipes(
+        @Parameter(description = "Author of the imported recipes; defaults to the authenticated user", example = "1")
+        @RequestParam(value = "authorId", required = false)
+        @Min(value = 1, message = "The author ID must be a positive number")
+        Long authorId,
+
+        InputStream content
+    ) {
+        RecipeImportReportDto response = this.importRecipes.execute(content, authorId);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
         summary = "Delete a recipe",
         security = { @SecurityRequirement(name = "bearerAuth") },
@@ -343,4 +645,18 @@ public class RecipeController {
 
         return ResponseEntity.created(uri).body(recipe);
     }
+
+    private static ResponseEntity<StreamingResponseBody> exportResponse(
+        StreamingResponseBody body,
+        ExportFormat format,
+        String baseName
+    ) {
+        boolean csv = format == ExportFormat.CSV;
+        String fileName = baseName + (csv ? ".csv" : ".ndjson");
+
+        return ResponseEntity.ok()
+            .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+            .body(body);
+    }
 }
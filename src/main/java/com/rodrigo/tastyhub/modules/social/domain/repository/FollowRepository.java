@@ -3,8 +3,12 @@ package com.rodrigo.tastyhub.modules.social.domain.repository;
 import com.rodrigo.tastyhub.modules.social.domain.model.Follow;
 import com.rodrigo.tastyhub.modules.social.domain.model.FollowId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +17,21 @@ public interface FollowRepository extends JpaRepository<Follow, FollowId> {
     long countByIdFollowerId(Long followerId);
     Optional<Follow> findByIdFollowerIdAndIdFollowingId(Long followerId, Long followingId);
     boolean existsByIdFollowerIdAndIdFollowingId(Long followerId, Long followingId);
+
+    @Query(
+        "SELECT f.id.followingId FROM Follow f " +
+        "GROUP BY f.id.followingId " +
+        "HAVING COUNT(f) >= :minFollowers"
+    )
+    List<Long> findFollowingIdsWithAtLeast(@Param("minFollowers") long minFollowers);
+
+    @Query(
+        "SELECT f.id.followingId FROM Follow f " +
+        "WHERE f.id.followerId = :followerId " +
+        "AND f.id.followingId IN :candidateIds"
+    )
+    List<Long> findFollowingIdsAmong(
+        @Param("followerId") Long followerId,
+        @Param("candidateIds") Collection<Long> candidateIds
+    );
 }
@@ -9,6 +9,9 @@ import com.rodrigo.tastyhub.shared.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class FollowService {
@@ -26,6 +29,18 @@ public class FollowService {
         return followRepository.countByIdFollowerId(userId);
     }
 
+    public List<Long> findUserIdsWithFollowersAtLeast(long minFollowers) {
+        return followRepository.findFollowingIdsWithAtLeast(minFollowers);
+    }
+
+    public List<Long> findFollowedAmong(Long followerId, Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+
+        return followRepository.findFollowingIdsAmong(followerId, userIds);
+    }
+
     public void follow(User follower, User following) {
         FollowId followId = new FollowId(follower.getId(), following.getId());
 
@@ -2,6 +2,8 @@ package com.rodrigo.tastyhub.modules.tags.domain.repository;
 
 import com.rodrigo.tastyhub.modules.tags.domain.model.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
@@ -13,4 +15,29 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
     Boolean existsByName(String name);
     Optional<Tag> findByName(String name);
     List<Tag> findByNameIn(Collection<String> name);
+
+    @Query(
+        value = """
+            SELECT uft.tag_id
+            FROM user_following_tags uft
+            GROUP BY uft.tag_id
+            HAVING COUNT(*) >= :minFollowers
+            """,
+        nativeQuery = true
+    )
+    List<Long> findIdsWithFollowersAtLeast(@Param("minFollowers") long minFollowers);
+
+    @Query(
+        value = """
+            SELECT uft.tag_id
+            FROM user_following_tags uft
+            WHERE uft.user_id = :userId
+              AND uft.tag_id IN (:candidateIds)
+            """,
+        nativeQuery = true
+    )
+    List<Long> findFollowedIdsAmong(
+        @Param("userId") Long userId,
+        @Param("candidateIds") Collection<Long> candidateIds
+    );
 }
@@ -20,6 +20,18 @@ public class TagService {
         return tagRepository.findAllById(tagIds);
     }
 
+    public List<Long> findIdsWithFollowersAtLeast(long minFollowers) {
+        return tagRepository.findIdsWithFollowersAtLeast(minFollowers);
+    }
+
+    public List<Long> findFollowedAmong(Long userId, Collection<Long> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return List.of();
+        }
+
+        return tagRepository.findFollowedIdsAmong(userId, tagIds);
+    }
+
     public List<Tag> syncAll(Collection<Long> tagIds) {
         List<Tag> tags = this.findAllById(tagIds);
 
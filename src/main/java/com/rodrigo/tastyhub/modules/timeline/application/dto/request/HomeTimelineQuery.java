@@ -0,0 +1,20 @@
+package com.rodrigo.tastyhub.modules.timeline.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+@Schema(description = "Parameters for reading the home timeline")
+public record HomeTimelineQuery(
+    @Schema(description = "Cursor returned as `nextCursor` by the previous page")
+    String after,
+
+    @Min(1)
+    @Max(50)
+    @Schema(description = "Number of recipes per page", defaultValue = "20")
+    Integer size
+) {
+    public HomeTimelineQuery {
+        size = (size == null) ? 20 : size;
+    }
+}
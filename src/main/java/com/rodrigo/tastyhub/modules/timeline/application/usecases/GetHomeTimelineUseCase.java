@@ -0,0 +1,47 @@
+package com.rodrigo.tastyhub.modules.timeline.application.usecases;
+
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.RecipePagination;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.SummaryRecipeDto;
+import com.rodrigo.tastyhub.modules.recipes.domain.service.RecipeService;
+import com.rodrigo.tastyhub.modules.timeline.application.dto.request.HomeTimelineQuery;
+import com.rodrigo.tastyhub.modules.timeline.domain.service.TimelineService;
+import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import com.rodrigo.tastyhub.shared.config.security.SecurityService;
+import com.rodrigo.tastyhub.shared.dto.response.PaginationMetadata;
+import com.rodrigo.tastyhub.shared.enums.SortDirection;
+import com.rodrigo.tastyhub.shared.kernel.pagination.KeysetWindow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class GetHomeTimelineUseCase {
+    private final SecurityService securityService;
+    private final TimelineService timelineService;
+    private final RecipeService recipeService;
+
+    public RecipePagination execute(HomeTimelineQuery query) {
+        User user = securityService.getCurrentUser();
+
+        KeysetWindow<Long> window = timelineService.findHomeTimeline(user.getId(), query.after(), query.size());
+
+        Map<Long, SummaryRecipeDto> recipes = window.content().isEmpty()
+            ? Map.of()
+            : recipeService.findSummariesByIds(window.content(), user);
+
+        List<SummaryRecipeDto> content = window.content()
+            .stream()
+            .map(recipes::get)
+            .filter(Objects::nonNull)
+            .toList();
+
+        return new RecipePagination(
+            content,
+            PaginationMetadata.ofCursor(query.size(), SortDirection.DESC, query.after() != null, window, null)
+        );
+    }
+}
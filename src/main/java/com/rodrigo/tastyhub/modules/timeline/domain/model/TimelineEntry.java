@@ -0,0 +1,23 @@
+package com.rodrigo.tastyhub.modules.timeline.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "home_timeline_entries")
+public class TimelineEntry {
+    @EmbeddedId
+    private TimelineEntryId id;
+
+    @Column(name = "published_at", nullable = false)
+    private OffsetDateTime publishedAt;
+}
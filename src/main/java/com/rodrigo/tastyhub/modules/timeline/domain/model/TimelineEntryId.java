@@ -0,0 +1,15 @@
+package com.rodrigo.tastyhub.modules.timeline.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+
+@Embeddable
+public record TimelineEntryId(
+    @Column(name = "user_id")
+    Long userId,
+
+    @Column(name = "recipe_id")
+    Long recipeId
+) implements Serializable {}
@@ -0,0 +1,5 @@
+package com.rodrigo.tastyhub.modules.timeline.domain.projections;
+
+import java.time.OffsetDateTime;
+
+public record TimelineItemProjection(Long recipeId, OffsetDateTime publishedAt) {}
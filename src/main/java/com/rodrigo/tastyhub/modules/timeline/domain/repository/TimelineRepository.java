@@ -0,0 +1,218 @@
+package com.rodrigo.tastyhub.modules.timeline.domain.repository;
+
+import com.rodrigo.tastyhub.modules.timeline.domain.model.TimelineEntry;
+import com.rodrigo.tastyhub.modules.timeline.domain.model.TimelineEntryId;
+import com.rodrigo.tastyhub.modules.timeline.domain.projections.TimelineItemProjection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TimelineRepository extends JpaRepository<TimelineEntry, TimelineEntryId> {
+    @Query(
+        "SELECT new com.rodrigo.tastyhub.modules.timeline.domain.projections.TimelineItemProjection(" +
+        "t.id.recipeId, t.publishedAt) " +
+        "FROM TimelineEntry t JOIN Recipe r ON r.id = t.id.recipeId " +
+        "JOIN r.author a LEFT JOIN a.settings s " +
+        "WHERE t.id.userId = :userId " +
+        "AND r.isPublic = true " +
+        "AND (s.profileVisibility IS NULL " +
+        "OR s.profileVisibility <> com.rodrigo.tastyhub.modules.settings.domain.model.ProfileVisibility.PRIVATE) " +
+        "AND (t.publishedAt, t.id.recipeId) < (:publishedAt, :recipeId) " +
+        "ORDER BY t.publishedAt DESC, t.id.recipeId DESC"
+    )
+    List<TimelineItemProjection> findPage(
+        @Param("userId") Long userId,
+        @Param("publishedAt") OffsetDateTime publishedAt,
+        @Param("recipeId") Long recipeId,
+        Pageable pageable
+    );
+
+    @Query(
+        "SELECT new com.rodrigo.tastyhub.modules.timeline.domain.projections.TimelineItemProjection(" +
+        "r.id, r.publishedAt) " +
+        "FROM Recipe r JOIN r.author a LEFT JOIN a.settings s " +
+        "WHERE a.id IN :authorIds " +
+        "AND r.isPublic = true " +
+        "AND (s.profileVisibility IS NULL " +
+        "OR s.profileVisibility <> com.rodrigo.tastyhub.modules.settings.domain.model.ProfileVisibility.PRIVATE) " +
+        "AND (r.publishedAt, r.id) < (:publishedAt, :recipeId) " +
+        "ORDER BY r.publishedAt DESC, r.id DESC"
+    )
+    List<TimelineItemProjection> findPageByAuthors(
+        @Param("authorIds") Collection<Long> authorIds,
+        @Param("publishedAt") OffsetDateTime publishedAt,
+        @Param("recipeId") Long recipeId,
+        Pageable pageable
+    );
+
+    @Query(
+        "SELECT new com.rodrigo.tastyhub.modules.timeline.domain.projections.TimelineItemProjection(" +
+        "r.id, r.publishedAt) " +
+        "FROM Recipe r JOIN r.author a LEFT JOIN a.settings s " +
+        "WHERE EXISTS (SELECT 1 FROM Recipe tr JOIN tr.tags t WHERE tr.id = r.id AND t.id IN :tagIds) " +
+        "AND a.id <> :userId " +
+        "AND r.isPublic = true " +
+        "AND (s.profileVisibility IS NULL " +
+        "OR s.profileVisibility <> com.rodrigo.tastyhub.modules.settings.domain.model.ProfileVisibility.PRIVATE) " +
+        "AND (r.publishedAt, r.id) < (:publishedAt, :recipeId) " +
+        "ORDER BY r.publishedAt DESC, r.id DESC"
+    )
+    List<TimelineItemProjection> findPageByTags(
+        @Param("userId") Long userId,
+        @Param("tagIds") Collection<Long> tagIds,
+        @Param("publishedAt") OffsetDateTime publishedAt,
+        @Param("recipeId") Long recipeId,
+        Pageable pageable
+    );
+
+    @Modifying
+    @Query(
+        value = """
+            INSERT INTO home_timeline_entries (user_id, recipe_id, published_at)
+            SELECT f.follower_user_id, :recipeId, :publishedAt
+            FROM follows f
+            WHERE f.following_user_id = :authorId
+            ON CONFLICT DO NOTHING
+            """,
+        nativeQuery = true
+    )
+    int fanOutToFollowers(
+        @Param("recipeId") Long recipeId,
+        @Param("authorId") Long authorId,
+        @Param("publishedAt") OffsetDateTime publishedAt
+    );
+
+    @Modifying
+    @Query(
+        value = """
+            INSERT INTO home_timeline_entries (user_id, recipe_id, published_at)
+            SELECT DISTINCT uft.user_id, :recipeId, :publishedAt
+            FROM user_following_tags uft
+            WHERE uft.tag_id IN (:tagIds)
+              AND uft.user_id <> :authorId
+            ON CONFLICT DO NOTHING
+            """,
+        nativeQuery = true
+    )
+    int fanOutToTagFollowers(
+        @Param("recipeId") Long recipeId,
+        @Param("authorId") Long authorId,
+        @Param("tagIds") Collection<Long> tagIds,
+        @Param("publishedAt") OffsetDateTime publishedAt
+    );
+
+    @Modifying
+    @Query(
+        value = """
+            INSERT INTO home_timeline_entries (user_id, recipe_id, published_at)
+            SELECT :userId, r.id, r.published_at
+            FROM recipes r
+            WHERE r.is_public = TRUE
+              AND r.published_at IS NOT NULL
+              AND r.user_id <> :userId
+              AND (
+                  r.user_id IN (
+                      SELECT f.following_user_id
+                      FROM follows f
+                      WHERE f.follower_user_id = :userId
+                  )
+                  OR EXISTS (
+                      SELECT 1
+                      FROM recipe_tags rt
+                      JOIN user_following_tags uft ON uft.tag_id = rt.tag_id
+                      WHERE rt.recipe_id = r.id
+                        AND uft.user_id = :userId
+                  )
+              )
+            ORDER BY r.published_at DESC, r.id DESC
+            LIMIT :capacity
+            ON CONFLICT DO NOTHING
+            """,
+        nativeQuery = true
+    )
+    int backfill(@Param("userId") Long userId, @Param("capacity") int capacity);
+
+    @Modifying
+    @Query(
+        value = """
+            WITH touched AS (
+                SELECT DISTINCT e.user_id
+                FROM home_timeline_entries e
+                WHERE e.published_at >= :since
+            ),
+            overflow AS (
+                SELECT o.user_id, o.recipe_id
+                FROM touched u
+                CROSS JOIN LATERAL (
+                    SELECT e.user_id, e.recipe_id
+                    FROM home_timeline_entries e
+                    WHERE e.user_id = u.user_id
+                    ORDER BY e.published_at DESC, e.recipe_id DESC
+                    OFFSET :capacity
+                ) o
+            )
+            DELETE FROM home_timeline_entries h
+            USING overflow o
+            WHERE h.user_id = o.user_id
+              AND h.recipe_id = o.recipe_id
+            """,
+        nativeQuery = true
+    )
+    int trimRecentlyTouched(@Param("since") OffsetDateTime since, @Param("capacity") int capacity);
+
+    @Modifying
+    @Query(
+        value = """
+            DELETE FROM home_timeline_entries h
+            USING (
+                SELECT e.recipe_id
+                FROM home_timeline_entries e
+                WHERE e.user_id = :userId
+                ORDER BY e.published_at DESC, e.recipe_id DESC
+                OFFSET :capacity
+            ) o
+            WHERE h.user_id = :userId
+              AND h.recipe_id = o.recipe_id
+            """,
+        nativeQuery = true
+    )
+    int trimUser(@Param("userId") Long userId, @Param("capacity") int capacity);
+
+    @Modifying
+    @Query(
+        value = """
+            INSERT INTO timeline_backfill_requests (user_id)
+            VALUES (:userId)
+            ON CONFLICT DO NOTHING
+            """,
+        nativeQuery = true
+    )
+    int requestBackfill(@Param("userId") Long userId);
+
+    @Query(
+        value = """
+            SELECT b.user_id
+            FROM timeline_backfill_requests b
+            ORDER BY b.requested_at
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+            """,
+        nativeQuery = true
+    )
+    List<Long> lockPendingBackfills(@Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query(
+        value = "DELETE FROM timeline_backfill_requests WHERE user_id IN (:userIds)",
+        nativeQuery = true
+    )
+    int deleteBackfillRequests(@Param("userIds") Collection<Long> userIds);
+}
@@ -0,0 +1,175 @@
+package com.rodrigo.tastyhub.modules.timeline.domain.service;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.social.domain.service.FollowService;
+import com.rodrigo.tastyhub.modules.tags.domain.model.Tag;
+import com.rodrigo.tastyhub.modules.tags.domain.service.TagService;
+import com.rodrigo.tastyhub.modules.timeline.domain.projections.TimelineItemProjection;
+import com.rodrigo.tastyhub.modules.timeline.domain.repository.TimelineRepository;
+import com.rodrigo.tastyhub.modules.timeline.infrastructure.cache.PopularAuthorCache;
+import com.rodrigo.tastyhub.modules.timeline.infrastructure.cache.PopularTagCache;
+import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import com.rodrigo.tastyhub.shared.enums.SortDirection;
+import com.rodrigo.tastyhub.shared.kernel.pagination.KeysetCursor;
+import com.rodrigo.tastyhub.shared.kernel.pagination.KeysetWindow;
+import jakarta.annotation.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+@Service
+public class TimelineService {
+    private static final String SORT_KEY = "publishedAt";
+    private static final TimelineItemProjection FIRST_PAGE = new TimelineItemProjection(
+        Long.MAX_VALUE,
+        OffsetDateTime.of(9999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC)
+    );
+    private static final Comparator<TimelineItemProjection> NEWEST_FIRST = Comparator
+        .comparing(TimelineItemProjection::publishedAt)
+        .thenComparing(TimelineItemProjection::recipeId)
+        .reversed();
+
+    private final TimelineRepository timelineRepository;
+    private final FollowService followService;
+    private final TagService tagService;
+    private final PopularAuthorCache popularAuthorCache;
+    private final PopularTagCache popularTagCache;
+    private final int capacity;
+
+    public TimelineService(
+        TimelineRepository timelineRepository,
+        FollowService followService,
+        TagService tagService,
+        PopularAuthorCache popularAuthorCache,
+        PopularTagCache popularTagCache,
+        @Value("${app.timeline.capacity:800}") int capacity
+    ) {
+        this.timelineRepository = timelineRepository;
+        this.followService = followService;
+        this.tagService = tagService;
+        this.popularAuthorCache = popularAuthorCache;
+        this.popularTagCache = popularTagCache;
+        this.capacity = capacity;
+    }
+
+    @Transactional
+    public void publish(Recipe recipe) {
+        User author = recipe.getAuthor();
+        boolean authorPrivate = author.getSettings() != null && author.isPrivate();
+
+        if (!recipe.isPublic() || authorPrivate) {
+            return;
+        }
+
+        // Fan-out rows carry the recipe's own publish time, which the fan-out-on-read queries seek on too.
+        OffsetDateTime publishedAt = recipe.getPublishedAt();
+
+        if (!popularAuthorCache.isPopular(author.getId())) {
+            timelineRepository.fanOutToFollowers(recipe.getId(), author.getId(), publishedAt);
+        }
+
+        List<Long> tagIds = recipe.getTags()
+            .stream()
+            .map(Tag::getId)
+            .filter(Objects::nonNull)
+            .filter(tagId -> !popularTagCache.isPopular(tagId))
+            .toList();
+
+        if (!tagIds.isEmpty()) {
+            timelineRepository.fanOutToTagFollowers(recipe.getId(), author.getId(), tagIds, publishedAt);
+        }
+    }
+
+    public KeysetWindow<Long> findHomeTimeline(Long userId, @Nullable String after, int size) {
+        TimelineItemProjection cursor = FIRST_PAGE;
+
+        if (after != null && !after.isBlank()) {
+            KeysetCursor decoded = KeysetCursor.decode(after, SORT_KEY, SortDirection.DESC);
+            cursor = new TimelineItemProjection(
+                decoded.id(),
+                (OffsetDateTime) decoded.typedValue(OffsetDateTime.class)
+            );
+        }
+
+        PageRequest window = PageRequest.of(0, size + 1);
+        List<TimelineItemProjection> items = new ArrayList<>(
+            timelineRepository.findPage(userId, cursor.publishedAt(), cursor.recipeId(), window)
+        );
+
+        List<Long> popularAuthors = followService.findFollowedAmong(userId, popularAuthorCache.getAuthorIds());
+
+        if (!popularAuthors.isEmpty()) {
+            items.addAll(timelineRepository.findPageByAuthors(
+                popularAuthors,
+                cursor.publishedAt(),
+                cursor.recipeId(),
+                window
+            ));
+        }
+
+        List<Long> popularTags = tagService.findFollowedAmong(userId, popularTagCache.getTagIds());
+
+        if (!popularTags.isEmpty()) {
+            items.addAll(timelineRepository.findPageByTags(
+                userId,
+                popularTags,
+                cursor.publishedAt(),
+                cursor.recipeId(),
+                window
+            ));
+        }
+
+        Set<Long> seen = new HashSet<>();
+        List<TimelineItemProjection> merged = items.stream()
+            .sorted(NEWEST_FIRST)
+            .filter(item -> seen.add(item.recipeId()))
+            .limit(size + 1L)
+            .toList();
+
+        boolean hasNext = merged.size() > size;
+        List<TimelineItemProjection> page = hasNext ? merged.subList(0, size) : merged;
+        String nextCursor = null;
+
+        if (hasNext) {
+            TimelineItemProjection last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.of(SORT_KEY, SortDirection.DESC, last.recipeId(), last.publishedAt()).encode();
+        }
+
+        return new KeysetWindow<>(
+            page.stream().map(TimelineItemProjection::recipeId).toList(),
+            hasNext,
+            nextCursor
+        );
+    }
+
+    @Transactional
+    public void requestBackfill(Long userId) {
+        timelineRepository.requestBackfill(userId);
+    }
+
+    @Transactional
+    public int backfillPending(int batchSize) {
+        List<Long> userIds = timelineRepository.lockPendingBackfills(batchSize);
+
+        for (Long userId : userIds) {
+            timelineRepository.backfill(userId, capacity);
+            timelineRepository.trimUser(userId, capacity);
+        }
+
+        if (!userIds.isEmpty()) {
+            timelineRepository.deleteBackfillRequests(userIds);
+        }
+
+        return userIds.size();
+    }
+
+    @Transactional
+    public int trim(OffsetDateTime since) {
+        return timelineRepository.trimRecentlyTouched(since, capacity);
+    }
+}
@@ -0,0 +1,51 @@
+package com.rodrigo.tastyhub.modules.timeline.infrastructure.cache;
+
+import com.rodrigo.tastyhub.modules.social.domain.service.FollowService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Slf4j
+@Component
+public class PopularAuthorCache {
+    private final FollowService followService;
+    private final long minFollowers;
+
+    private volatile Set<Long> authorIds = Set.of();
+
+    public PopularAuthorCache(
+        FollowService followService,
+        @Value("${app.timeline.fan-out-max-followers:10000}") long minFollowers
+    ) {
+        this.followService = followService;
+        this.minFollowers = minFollowers;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    @Scheduled(
+        fixedDelayString = "${app.timeline.popular-authors-refresh-interval-ms:600000}",
+        initialDelayString = "${app.timeline.popular-authors-refresh-interval-ms:600000}"
+    )
+    public void refresh() {
+        authorIds = Set.copyOf(followService.findUserIdsWithFollowersAtLeast(minFollowers));
+
+        log.debug("Found {} authors served by fan-out on read", authorIds.size());
+    }
+
+    public boolean isPopular(Long authorId) {
+        return authorIds.contains(authorId);
+    }
+
+    public Set<Long> getAuthorIds() {
+        return authorIds;
+    }
+}
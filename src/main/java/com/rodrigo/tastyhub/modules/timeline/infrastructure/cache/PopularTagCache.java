@@ -0,0 +1,51 @@
+package com.rodrigo.tastyhub.modules.timeline.infrastructure.cache;
+
+import com.rodrigo.tastyhub.modules.tags.domain.service.TagService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Slf4j
+@Component
+public class PopularTagCache {
+    private final TagService tagService;
+    private final long minFollowers;
+
+    private volatile Set<Long> tagIds = Set.of();
+
+    public PopularTagCache(
+        TagService tagService,
+        @Value("${app.timeline.tag-fan-out-max-followers:10000}") long minFollowers
+    ) {
+        this.tagService = tagService;
+        this.minFollowers = minFollowers;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    @Scheduled(
+        fixedDelayString = "${app.timeline.popular-authors-refresh-interval-ms:600000}",
+        initialDelayString = "${app.timeline.popular-authors-refresh-interval-ms:600000}"
+    )
+    public void refresh() {
+        tagIds = Set.copyOf(tagService.findIdsWithFollowersAtLeast(minFollowers));
+
+        log.debug("Found {} tags served by fan-out on read", tagIds.size());
+    }
+
+    public boolean isPopular(Long tagId) {
+        return tagIds.contains(tagId);
+    }
+
+    public Set<Long> getTagIds() {
+        return tagIds;
+    }
+}
@@ -0,0 +1,56 @@
+package com.rodrigo.tastyhub.modules.timeline.infrastructure.scheduling;
+
+import com.rodrigo.tastyhub.modules.timeline.domain.service.TimelineService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.timeline.maintenance.enabled", havingValue = "true", matchIfMissing = true)
+public class TimelineMaintenanceJob {
+    private final TimelineService timelineService;
+
+    @Value("${app.timeline.backfill-batch-size:50}")
+    private int backfillBatchSize;
+
+    @Value("${app.timeline.trim-lookback-minutes:60}")
+    private long trimLookbackMinutes;
+
+    @Scheduled(
+        fixedDelayString = "${app.timeline.backfill-interval-ms:15000}",
+        initialDelayString = "${app.timeline.backfill-interval-ms:15000}"
+    )
+    public void backfill() {
+        int backfilled = 0;
+        int processed;
+
+        do {
+            processed = timelineService.backfillPending(backfillBatchSize);
+            backfilled += processed;
+        } while (processed == backfillBatchSize);
+
+        if (backfilled > 0) {
+            log.debug("Backfilled home timeline of {} users", backfilled);
+        }
+    }
+
+    @Scheduled(
+        fixedDelayString = "${app.timeline.trim-interval-ms:900000}",
+        initialDelayString = "${app.timeline.trim-interval-ms:900000}"
+    )
+    public void trim() {
+        int trimmed = timelineService.trim(OffsetDateTime.now().minus(Duration.ofMinutes(trimLookbackMinutes)));
+
+        if (trimmed > 0) {
+            log.debug("Trimmed {} entries from home timelines", trimmed);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.rodrigo.tastyhub.modules.timeline.interfaces.rest;
+
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.RecipePagination;
+import com.rodrigo.tastyhub.modules.timeline.application.dto.request.HomeTimelineQuery;
+import com.rodrigo.tastyhub.modules.timeline.application.usecases.GetHomeTimelineUseCase;
+import com.rodrigo.tastyhub.shared.dto.response.ErrorResponseDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(
+    name = "Timeline",
+    description = "Home timeline with the newest recipes from followed authors and followed tags."
+)
+@RestController
+@RequestMapping("/api/timeline")
+public class TimelineController {
+    private final GetHomeTimelineUseCase getHomeTimeline;
+
+    public TimelineController(GetHomeTimelineUseCase getHomeTimeline) {
+        this.getHomeTimeline = getHomeTimeline;
+    }
+
+    @Operation(
+        summary = "Get Home Timeline",
+        security = { @SecurityRequirement(name = "bearerAuth") },
+        description = """
+            Returns the newest public recipes from the authors and tags the current user follows,
+            newest first. Use `nextCursor` as `after` to read the following page.
+        """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Timeline successfully retrieved",
+            content = @Content(schema = @Schema(implementation = RecipePagination.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor or page size",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDto.class),
+                examples = @ExampleObject(
+                    value = """
+                        {
+                          "message": "Invalid pagination cursor",
+                          "status": 400,
+                          "timestamp": "2026-03-12T12:30:00"
+                        }
+                    """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - User must be logged in",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDto.class),
+                examples = @ExampleObject(
+                    value = """
+                        {
+                          "message": "Jwt was expired or incorrect",
+                          "status": 401,
+                          "timestamp": "2026-08-15T13:15:36"
+                        }
+                    """
+                )
+            )
+        )
+    })
+    @GetMapping
+    public ResponseEntity<RecipePagination> getHomeTimeline(
+        @ParameterObject @Valid HomeTimelineQuery request
+    ) {
+        RecipePagination response = this.getHomeTimeline.execute(request);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,5 +1,6 @@
 package com.rodrigo.tastyhub.modules.user.application.usecases;
 
+import com.rodrigo.tastyhub.modules.timeline.domain.service.TimelineService;
 import com.rodrigo.tastyhub.modules.user.application.dto.request.OnboardingConnectionsRequest;
 import com.rodrigo.tastyhub.modules.user.application.dto.response.OnboardingProgressDto;
 import com.rodrigo.tastyhub.modules.user.domain.model.User;
@@ -19,6 +20,7 @@ public class OnboardingSelectInitialUsersUseCase {
     private final UserService userService;
     private final SecurityService securityService;
     private final OnboardingService onboardingService;
+    private final TimelineService timelineService;
 
     @Transactional
     public OnboardingProgressDto execute(OnboardingConnectionsRequest request, boolean shouldSkip) {
@@ -36,6 +38,8 @@ public class OnboardingSelectInitialUsersUseCase {
             shouldSkip
         );
 
+        timelineService.requestBackfill(user.getId());
+
         return new OnboardingProgressDto(
             user.getOnboardingStatus(),
             user.getOnboardingStatus().getNext(),
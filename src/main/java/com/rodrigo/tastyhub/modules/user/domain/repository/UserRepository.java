@@ -1,5 +1,6 @@
 package com.rodrigo.tastyhub.modules.user.domain.repository;
 
+import com.rodrigo.tastyhub.modules.settings.domain.model.ProfileVisibility;
 import com.rodrigo.tastyhub.modules.user.domain.model.User;
 import com.rodrigo.tastyhub.modules.user.domain.projections.UserProfileProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -19,6 +20,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsernameAndIdNot(String username, Long id);
     Boolean existsByIdIn(Collection<Long> id);
 
+    @Query("SELECT s.profileVisibility FROM UserSettings s WHERE s.user.id = :userId")
+    Optional<ProfileVisibility> findProfileVisibilityById(@Param("userId") Long userId);
+
     @Query("""
         SELECT
             u.id AS id,
@@ -1,5 +1,6 @@
 package com.rodrigo.tastyhub.modules.user.domain.service;
 
+import com.rodrigo.tastyhub.modules.settings.domain.model.ProfileVisibility;
 import com.rodrigo.tastyhub.modules.user.application.dto.response.UserSummaryDto;
 import com.rodrigo.tastyhub.modules.user.application.mapper.UserMapper;
 import com.rodrigo.tastyhub.modules.user.domain.model.User;
@@ -49,6 +50,12 @@ public class UserService {
         return foundUsers;
     }
 
+    public boolean isPrivate(Long userId) {
+        return userRepository.findProfileVisibilityById(userId)
+            .map(ProfileVisibility.PRIVATE::equals)
+            .orElse(false);
+    }
+
     public boolean existsById(Long userId) {
         return userRepository.existsById(userId);
     }
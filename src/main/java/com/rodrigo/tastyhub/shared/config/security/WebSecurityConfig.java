@@ -53,10 +53,14 @@ public class WebSecurityConfig {
                 ).permitAll()
                 .requestMatchers("/api/auth/user/**").hasAnyRole("USER", "ADMIN")
                 .requestMatchers("/api/auth/admin/**").hasAuthority("ROLE_ADMIN")
+                .requestMatchers(HttpMethod.PUT, "/api/currencies/*/exchange-rate").hasAuthority("ROLE_ADMIN")
+                .requestMatchers(HttpMethod.POST, "/api/recipes/import").hasAuthority("ROLE_ADMIN")
+                .requestMatchers(HttpMethod.DELETE, "/api/comments/users/*/reviews").hasAuthority("ROLE_ADMIN")
                 .requestMatchers(
                     HttpMethod.GET,
                     "/api/users/**",
                     "/api/recipes/**",
+                    "/api/ingredients/**",
                     "/api/comments/**",
                     "/api/articles/**",
                     "/api/collections/**"
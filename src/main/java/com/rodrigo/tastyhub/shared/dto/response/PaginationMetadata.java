@@ -1,20 +1,24 @@
 package com.rodrigo.tastyhub.shared.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.rodrigo.tastyhub.shared.enums.SortDirection;
+import com.rodrigo.tastyhub.shared.kernel.pagination.KeysetWindow;
 import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Slice;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "Metadata for paginated responses, providing navigation details.")
 public record PaginationMetadata(
-    @Schema(description = "Current page number (starting from 0)", example = "0")
+    @Schema(description = "Current page number (starting from 0). Always 0 in cursor mode", example = "0")
     int page,
 
     @Schema(description = "Number of items per page", example = "10")
     int pageSize,
 
-    @Schema(description = "Total number of pages available", example = "5")
+    @Schema(description = "Total number of pages available, or -1 when it is not computed (slice and cursor modes)", example = "5")
     int totalPages,
 
-    @Schema(description = "Total number of items across all pages", example = "48")
+    @Schema(description = "Total number of items across all pages, or -1 when it is not computed (slice and cursor modes)", example = "48")
     long totalItems,
 
     @Schema(description = "Sort direction of the results")
@@ -24,5 +28,59 @@ public record PaginationMetadata(
     boolean hasNext,
 
     @Schema(description = "Indicates if there is a previous page available", example = "false")
-    boolean hasPrevious
-) {}
+    boolean hasPrevious,
+
+    @Schema(description = "Opaque token to pass as `after` to fetch the next page in cursor mode", example = "Y3JlYXRlZEF0H0RFU0MfNDIfPTIwMjYtMDMtMDdUMTI6MDU6MDBa")
+    String nextCursor,
+
+    @Schema(description = "Approximate number of items, only present in slice or cursor mode when `estimateTotal` is requested", example = "1200")
+    Long estimatedTotal
+) {
+    public static final int NOT_COMPUTED = -1;
+
+    public PaginationMetadata(
+        int page,
+        int pageSize,
+        int totalPages,
+        long totalItems,
+        SortDirection direction,
+        boolean hasNext,
+        boolean hasPrevious
+    ) {
+        this(page, pageSize, totalPages, totalItems, direction, hasNext, hasPrevious, null, null);
+    }
+
+    public static PaginationMetadata ofSlice(Slice<?> slice, SortDirection direction, Long estimatedTotal) {
+        return new PaginationMetadata(
+            slice.getNumber(),
+            slice.getSize(),
+            NOT_COMPUTED,
+            NOT_COMPUTED,
+            direction,
+            slice.hasNext(),
+            slice.hasPrevious(),
+            null,
+            estimatedTotal
+        );
+    }
+
+    public static PaginationMetadata ofCursor(
+        int pageSize,
+        SortDirection direction,
+        boolean hasPrevious,
+        KeysetWindow<?> window,
+        Long estimatedTotal
+    ) {
+        return new PaginationMetadata(
+            0,
+            pageSize,
+            NOT_COMPUTED,
+            NOT_COMPUTED,
+            direction,
+            window.hasNext(),
+            hasPrevious,
+            window.nextCursor(),
+            estimatedTotal
+        );
+    }
+}
@@ -0,0 +1,5 @@
+package com.rodrigo.tastyhub.shared.enums;
+
+public enum ExportFormat {
+    NDJSON, CSV
+}
@@ -0,0 +1,5 @@
+package com.rodrigo.tastyhub.shared.enums;
+
+public enum PaginationMode {
+    OFFSET, SLICE, CURSOR
+}
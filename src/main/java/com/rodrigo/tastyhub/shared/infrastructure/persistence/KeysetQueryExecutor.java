@@ -0,0 +1,169 @@
+package com.rodrigo.tastyhub.shared.infrastructure.persistence;
+
+import com.rodrigo.tastyhub.shared.enums.SortDirection;
+import com.rodrigo.tastyhub.shared.kernel.pagination.KeysetCursor;
+import com.rodrigo.tastyhub.shared.kernel.pagination.KeysetWindow;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiFunction;
+
+@Component
+public class KeysetQueryExecutor {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public record SortKey<T>(
+        String name,
+        BiFunction<Root<T>, CriteriaBuilder, Expression<?>> expression,
+        boolean nullable
+    ) {
+        public static <T> SortKey<T> of(String name, String attributePath, boolean nullable) {
+            return new SortKey<>(name, (root, cb) -> resolvePath(root, attributePath), nullable);
+        }
+    }
+
+    public <T> KeysetWindow<T> fetch(
+        Class<T> entityType,
+        Specification<T> specification,
+        SortKey<T> sortKey,
+        SortDirection direction,
+        @Nullable String after,
+        int size
+    ) {
+        return fetch(entityType, specification, sortKey, direction, after, size, RowProjection.entity(entityType));
+    }
+
+    public <T, R> KeysetWindow<R> fetch(
+        Class<T> entityType,
+        Specification<T> specification,
+        SortKey<T> sortKey,
+        SortDirection direction,
+        @Nullable String after,
+        int size,
+        RowProjection<T, R> projection
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityType);
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate filters = specification.toPredicate(root, query, cb);
+
+        if (filters != null) {
+            predicates.add(filters);
+        }
+
+        List<Selection<?>> projected = projection.select(root, cb);
+        Expression<?> key = sortKey.expression().apply(root, cb);
+        Path<Long> id = root.get("id");
+
+        if (after != null && !after.isBlank()) {
+            KeysetCursor cursor = KeysetCursor.decode(after, sortKey.name(), direction);
+            predicates.add(seek(
+                cb,
+                key,
+                id,
+                cursor.typedValue(key.getJavaType()),
+                cursor.id(),
+                direction,
+                sortKey.nullable()
+            ));
+        }
+
+        List<Selection<?>> selections = new ArrayList<>(List.of(key, id));
+        selections.addAll(projected);
+
+        query.multiselect(selections)
+            .where(predicates.toArray(new Predicate[0]))
+            .orderBy(direction == SortDirection.ASC
+                ? List.of(cb.asc(key), cb.asc(id))
+                : List.of(cb.desc(key), cb.desc(id)));
+
+        List<Tuple> rows = entityManager.createQuery(query)
+            .setMaxResults(size + 1)
+            .getResultList();
+
+        boolean hasNext = rows.size() > size;
+        List<Tuple> window = hasNext ? rows.subList(0, size) : rows;
+
+        List<R> content = window.stream()
+            .map(row -> {
+                Object[] values = row.toArray();
+                return projection.map(Arrays.copyOfRange(values, 2, values.length));
+            })
+            .toList();
+
+        String nextCursor = null;
+
+        if (hasNext) {
+            Tuple last = window.get(window.size() - 1);
+            nextCursor = KeysetCursor.of(sortKey.name(), direction, last.get(1, Long.class), last.get(0)).encode();
+        }
+
+        return new KeysetWindow<>(content, hasNext, nextCursor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate seek(
+        CriteriaBuilder cb,
+        Expression<?> rawKey,
+        Path<Long> id,
+        Object rawValue,
+        Long lastId,
+        SortDirection direction,
+        boolean nullable
+    ) {
+        Expression<Comparable<Object>> key = (Expression<Comparable<Object>>) rawKey;
+        Comparable<Object> value = (Comparable<Object>) rawValue;
+        boolean ascending = direction == SortDirection.ASC;
+
+        if (value == null) {
+            Predicate nullTail = cb.and(
+                cb.isNull(key),
+                ascending ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId)
+            );
+
+            return ascending ? nullTail : cb.or(nullTail, cb.isNotNull(key));
+        }
+
+        Predicate afterKey = ascending
+            ? cb.and(
+                cb.greaterThanOrEqualTo(key, value),
+                cb.or(cb.greaterThan(key, value), cb.greaterThan(id, lastId))
+            )
+            : cb.and(
+                cb.lessThanOrEqualTo(key, value),
+                cb.or(cb.lessThan(key, value), cb.lessThan(id, lastId))
+            );
+
+        return ascending && nullable ? cb.or(afterKey, cb.isNull(key)) : afterKey;
+    }
+
+    private static Path<?> resolvePath(Root<?> root, String attributePath) {
+        String[] attributes = attributePath.split("\\.");
+        From<?, ?> from = root;
+
+        for (int i = 0; i < attributes.length - 1; i++) {
+            From<?, ?> parent = from;
+            String attribute = attributes[i];
+
+            from = parent.getJoins()
+                .stream()
+                .filter(join -> join.getAttribute().getName().equals(attribute))
+                .<From<?, ?>>map(join -> join)
+                .findFirst()
+                .orElseGet(() -> parent.join(attribute));
+        }
+
+        return from.get(attributes[attributes.length - 1]);
+    }
+}
@@ -0,0 +1,7 @@
+package com.rodrigo.tastyhub.shared.infrastructure.persistence;
+
+public final class PooledSequences {
+    public static final int ALLOCATION_SIZE = 50;
+
+    private PooledSequences() {}
+}
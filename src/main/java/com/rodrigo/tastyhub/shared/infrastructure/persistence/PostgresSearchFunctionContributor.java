@@ -0,0 +1,31 @@
+package com.rodrigo.tastyhub.shared.infrastructure.persistence;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+public class PostgresSearchFunctionContributor implements FunctionContributor {
+    public static final String MATCHES = "fts_matches";
+    public static final String RANK = "fts_rank";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry registry = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        BasicType<Boolean> booleanType = registry.resolve(StandardBasicTypes.BOOLEAN);
+        BasicType<Double> doubleType = registry.resolve(StandardBasicTypes.DOUBLE);
+
+        functionContributions.getFunctionRegistry().registerPattern(
+            MATCHES,
+            "(?1 @@ websearch_to_tsquery('tastyhub_search', ?2))",
+            booleanType
+        );
+
+        functionContributions.getFunctionRegistry().registerPattern(
+            RANK,
+            "ts_rank_cd(?1, websearch_to_tsquery('tastyhub_search', ?2))",
+            doubleType
+        );
+    }
+}
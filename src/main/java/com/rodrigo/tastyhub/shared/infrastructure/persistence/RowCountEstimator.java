@@ -0,0 +1,33 @@
+package com.rodrigo.tastyhub.shared.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Caches exact counts of the rows a listing can show for a short while, so that paging through a
+ * listing counts it at most once per TTL. Counts always come from the listing's own specification,
+ * which already applies visibility.
+ */
+@Component
+public class RowCountEstimator {
+    private final Cache<String, Long> counts;
+
+    public RowCountEstimator(
+        @Value("${app.pagination.estimate-maximum-size:1000}") long maximumSize,
+        @Value("${app.pagination.estimate-ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.counts = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+    }
+
+    public long estimate(String table, String filterKey, Supplier<Long> exactCount) {
+        return counts.get(table + ":" + filterKey, key -> exactCount.get());
+    }
+}
@@ -0,0 +1,27 @@
+package com.rodrigo.tastyhub.shared.infrastructure.persistence;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.List;
+
+public interface RowProjection<T, R> {
+    List<Selection<?>> select(Root<T> root, CriteriaBuilder cb);
+
+    R map(Object[] row);
+
+    static <T> RowProjection<T, T> entity(Class<T> entityType) {
+        return new RowProjection<>() {
+            @Override
+            public List<Selection<?>> select(Root<T> root, CriteriaBuilder cb) {
+                return List.of(root);
+            }
+
+            @Override
+            public T map(Object[] row) {
+                return entityType.cast(row[0]);
+            }
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package com.rodrigo.tastyhub.shared.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class SliceQueryExecutor {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <T> Slice<T> fetch(Class<T> entityType, Specification<T> specification, Pageable pageable) {
+        return fetch(entityType, specification, pageable, RowProjection.entity(entityType));
+    }
+
+    public <T, R> Slice<R> fetch(
+        Class<T> entityType,
+        Specification<T> specification,
+        Pageable pageable,
+        RowProjection<T, R> projection
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityType);
+
+        Predicate filters = specification.toPredicate(root, query, cb);
+
+        query.multiselect(projection.select(root, cb));
+
+        if (filters != null) {
+            query.where(filters);
+        }
+
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        List<R> rows = entityManager.createQuery(query)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize() + 1)
+            .getResultList()
+            .stream()
+            .map(row -> projection.map(row.toArray()))
+            .toList();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(
+            hasNext ? rows.subList(0, pageable.getPageSize()) : rows,
+            pageable,
+            hasNext
+        );
+    }
+
+    public <T> long count(Class<T> entityType, Specification<T> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entityType);
+
+        Predicate filters = specification.toPredicate(root, query, cb);
+
+        query.select(query.isDistinct() ? cb.countDistinct(root) : cb.count(root));
+
+        if (filters != null) {
+            query.where(filters);
+        }
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
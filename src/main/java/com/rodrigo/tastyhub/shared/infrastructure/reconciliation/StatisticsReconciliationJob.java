@@ -0,0 +1,133 @@
+package com.rodrigo.tastyhub.shared.infrastructure.reconciliation;
+
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.cache.RecipeDetailCache;
+import com.rodrigo.tastyhub.shared.infrastructure.reconciliation.StatisticsReconciliationStore.ChunkResult;
+import com.rodrigo.tastyhub.shared.infrastructure.reconciliation.StatisticsReconciliationStore.Progress;
+import com.rodrigo.tastyhub.shared.infrastructure.reconciliation.StatisticsReconciliationStore.RunReport;
+import com.rodrigo.tastyhub.shared.infrastructure.reconciliation.StatisticsReconciliationStore.Target;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.statistics-reconciliation.enabled", havingValue = "true", matchIfMissing = true)
+public class StatisticsReconciliationJob {
+    private record Step(ChunkResult chunk, RunReport completed) {}
+
+    private final StatisticsReconciliationStore store;
+    private final RecipeDetailCache recipeDetailCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final long pauseBetweenChunksMs;
+    private final long statementTimeoutMs;
+
+    public StatisticsReconciliationJob(
+        StatisticsReconciliationStore store,
+        RecipeDetailCache recipeDetailCache,
+        PlatformTransactionManager transactionManager,
+        @Value("${app.statistics-reconciliation.chunk-size:5000}") int chunkSize,
+        @Value("${app.statistics-reconciliation.max-chunks-per-run:20}") int maxChunksPerRun,
+        @Value("${app.statistics-reconciliation.pause-between-chunks-ms:200}") long pauseBetweenChunksMs,
+        @Value("${app.statistics-reconciliation.statement-timeout-ms:30000}") long statementTimeoutMs
+    ) {
+        this.store = store;
+        this.recipeDetailCache = recipeDetailCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxChunksPerRun = Math.max(1, maxChunksPerRun);
+        this.pauseBetweenChunksMs = Math.max(0, pauseBetweenChunksMs);
+        this.statementTimeoutMs = statementTimeoutMs;
+    }
+
+    @Scheduled(
+        fixedDelayString = "${app.statistics-reconciliation.interval-ms:300000}",
+        initialDelayString = "${app.statistics-reconciliation.initial-delay-ms:120000}"
+    )
+    public void reconcile() {
+        for (Target target : Target.values()) {
+            reconcile(target).ifPresent(report -> log.info(
+                "Reconciled {}: {} rows scanned, {} rows corrected",
+                report.target().table(), report.scanned(), report.corrected()
+            ));
+        }
+    }
+
+    public Optional<RunReport> reconcile(Target target) {
+        for (int chunks = 0; chunks < maxChunksPerRun; chunks++) {
+            Step step = transactionTemplate.execute(status -> reconcileNextChunk(target));
+
+            if (step == null) {
+                return Optional.empty();
+            }
+
+            List<Long> correctedIds = step.chunk().correctedIds();
+
+            if (target == Target.RECIPES) {
+                correctedIds.forEach(recipeDetailCache::evict);
+            }
+
+            if (!correctedIds.isEmpty()) {
+                log.debug("Corrected {} {} rows: {}", correctedIds.size(), target.table(), correctedIds);
+            }
+
+            if (step.completed() != null) {
+                return Optional.of(step.completed());
+            }
+
+            if (!pause()) {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private Step reconcileNextChunk(Target target) {
+        store.limitStatementTime(statementTimeoutMs);
+
+        Optional<Progress> progress = store.lockProgress(target);
+
+        if (progress.isEmpty()) {
+            return null;
+        }
+
+        ChunkResult chunk = store.reconcileChunk(target, progress.get().lastId(), chunkSize);
+
+        store.advance(target, chunk);
+
+        if (chunk.scanned() < chunkSize) {
+            store.completeRun(target);
+
+            return new Step(chunk, new RunReport(
+                target,
+                progress.get().runScanned() + chunk.scanned(),
+                progress.get().runCorrected() + chunk.correctedIds().size()
+            ));
+        }
+
+        return new Step(chunk, null);
+    }
+
+    private boolean pause() {
+        if (pauseBetweenChunksMs == 0) {
+            return true;
+        }
+
+        try {
+            Thread.sleep(pauseBetweenChunksMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
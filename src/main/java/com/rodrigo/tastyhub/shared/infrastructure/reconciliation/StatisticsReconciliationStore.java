@@ -0,0 +1,258 @@
+package com.rodrigo.tastyhub.shared.infrastructure.reconciliation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class StatisticsReconciliationStore {
+    public enum Target {
+        RECIPES("recipe_statistics", """
+            WITH chunk AS (
+                SELECT s.recipe_id, s.favorites_count, s.reviews_count, s.total_rating_sum,
+                       s.one_star_count, s.two_star_count, s.three_star_count, s.four_star_count, s.five_star_count,
+                       s.reviewers_count
+                FROM recipe_statistics s
+                WHERE s.recipe_id > ?
+                ORDER BY s.recipe_id
+                LIMIT ?
+            ),
+            reviews AS (
+                SELECT c.recipe_id,
+                       COUNT(*) AS reviews_count,
+                       SUM(c.rating) AS rating_sum,
+                       COUNT(*) FILTER (WHERE LEAST(GREATEST(TRUNC(c.rating), 1), 5) = 1) AS one_star_count,
+                       COUNT(*) FILTER (WHERE LEAST(GREATEST(TRUNC(c.rating), 1), 5) = 2) AS two_star_count,
+                       COUNT(*) FILTER (WHERE LEAST(GREATEST(TRUNC(c.rating), 1), 5) = 3) AS three_star_count,
+                       COUNT(*) FILTER (WHERE LEAST(GREATEST(TRUNC(c.rating), 1), 5) = 4) AS four_star_count,
+                       COUNT(*) FILTER (WHERE LEAST(GREATEST(TRUNC(c.rating), 1), 5) = 5) AS five_star_count,
+                       COUNT(DISTINCT c.user_id) AS reviewers_count
+                FROM comments c
+                JOIN chunk ON chunk.recipe_id = c.recipe_id
+                GROUP BY c.recipe_id
+            ),
+            favorites AS (
+                SELECT rc.recipe_id, COUNT(*) AS favorites_count
+                FROM recipe_collections rc
+                JOIN chunk ON chunk.recipe_id = rc.recipe_id
+                GROUP BY rc.recipe_id
+            ),
+            pending AS (
+                SELECT d.recipe_id,
+                       SUM(d.favorites_delta) AS favorites_delta,
+                       SUM(d.reviews_delta) AS reviews_delta,
+                       SUM(d.rating_sum_delta) AS rating_sum_delta,
+                       SUM(d.one_star_delta) AS one_star_delta,
+                       SUM(d.two_star_delta) AS two_star_delta,
+                       SUM(d.three_star_delta) AS three_star_delta,
+                       SUM(d.four_star_delta) AS four_star_delta,
+                       SUM(d.five_star_delta) AS five_star_delta,
+                       SUM(d.reviewers_delta) AS reviewers_delta
+                FROM recipe_counter_deltas d
+                JOIN chunk ON chunk.recipe_id = d.recipe_id
+                GROUP BY d.recipe_id
+            ),
+            expected AS (
+                SELECT chunk.*,
+                       COALESCE(f.favorites_count, 0) - COALESCE(p.favorites_delta, 0) AS expected_favorites,
+                       COALESCE(r.reviews_count, 0) - COALESCE(p.reviews_delta, 0) AS expected_reviews,
+                       COALESCE(r.rating_sum, 0) - COALESCE(p.rating_sum_delta, 0) AS expected_rating_sum,
+                       COALESCE(r.one_star_count, 0) - COALESCE(p.one_star_delta, 0) AS expected_one_star,
+                       COALESCE(r.two_star_count, 0) - COALESCE(p.two_star_delta, 0) AS expected_two_star,
+                       COALESCE(r.three_star_count, 0) - COALESCE(p.three_star_delta, 0) AS expected_three_star,
+                       COALESCE(r.four_star_count, 0) - COALESCE(p.four_star_delta, 0) AS expected_four_star,
+                       COALESCE(r.five_star_count, 0) - COALESCE(p.five_star_delta, 0) AS expected_five_star,
+                       COALESCE(r.reviewers_count, 0) - COALESCE(p.reviewers_delta, 0) AS expected_reviewers
+                FROM chunk
+                LEFT JOIN reviews r ON r.recipe_id = chunk.recipe_id
+                LEFT JOIN favorites f ON f.recipe_id = chunk.recipe_id
+                LEFT JOIN pending p ON p.recipe_id = chunk.recipe_id
+            ),
+            scored AS (
+                SELECT e.*,
+                       CASE
+                           WHEN e.expected_reviews > 0
+                               THEN ROUND(e.expected_rating_sum / e.expected_reviews, 2)
+                           ELSE 0
+                       END AS expected_average
+                FROM expected e
+            ),
+            corrected AS (
+                UPDATE recipe_statistics s
+                SET favorites_count = sc.expected_favorites,
+                    reviews_count = sc.expected_reviews,
+                    total_rating_sum = sc.expected_rating_sum,
+                    average_rating = sc.expected_average,
+                    one_star_count = sc.expected_one_star,
+                    two_star_count = sc.expected_two_star,
+                    three_star_count = sc.expected_three_star,
+                    four_star_count = sc.expected_four_star,
+                    five_star_count = sc.expected_five_star,
+                    reviewers_count = sc.expected_reviewers
+                FROM scored sc
+                WHERE s.recipe_id = sc.recipe_id
+                  AND s.favorites_count = sc.favorites_count
+                  AND s.reviews_count = sc.reviews_count
+                  AND s.total_rating_sum = sc.total_rating_sum
+                  AND s.one_star_count = sc.one_star_count
+                  AND s.two_star_count = sc.two_star_count
+                  AND s.three_star_count = sc.three_star_count
+                  AND s.four_star_count = sc.four_star_count
+                  AND s.five_star_count = sc.five_star_count
+                  AND s.reviewers_count = sc.reviewers_count
+                  AND (
+                      s.favorites_count <> sc.expected_favorites
+                      OR s.reviews_count <> sc.expected_reviews
+                      OR s.total_rating_sum <> sc.expected_rating_sum
+                      OR s.average_rating <> sc.expected_average
+                      OR s.one_star_count <> sc.expected_one_star
+                      OR s.two_star_count <> sc.expected_two_star
+                      OR s.three_star_count <> sc.expected_three_star
+                      OR s.four_star_count <> sc.expected_four_star
+                      OR s.five_star_count <> sc.expected_five_star
+                      OR s.reviewers_count <> sc.expected_reviewers
+                  )
+                RETURNING s.recipe_id
+            )
+            SELECT (SELECT MAX(recipe_id) FROM chunk) AS last_id,
+                   (SELECT COUNT(*) FROM chunk) AS scanned,
+                   ARRAY(SELECT recipe_id FROM corrected) AS corrected_ids
+        """),
+
+        ARTICLES("article_statistics", """
+            WITH chunk AS (
+                SELECT s.article_id, s.comments_count, s.favorites_count
+                FROM article_statistics s
+                WHERE s.article_id > ?
+                ORDER BY s.article_id
+                LIMIT ?
+            ),
+            comment_totals AS (
+                SELECT c.article_id, COUNT(*) AS comments_count
+                FROM comments c
+                JOIN chunk ON chunk.article_id = c.article_id
+                GROUP BY c.article_id
+            ),
+            favorites AS (
+                SELECT ac.article_id, COUNT(*) AS favorites_count
+                FROM article_collections ac
+                JOIN chunk ON chunk.article_id = ac.article_id
+                GROUP BY ac.article_id
+            ),
+            expected AS (
+                SELECT chunk.article_id,
+                       chunk.comments_count,
+                       chunk.favorites_count,
+                       COALESCE(ct.comments_count, 0) AS expected_comments,
+                       COALESCE(f.favorites_count, 0) AS expected_favorites
+                FROM chunk
+                LEFT JOIN comment_totals ct ON ct.article_id = chunk.article_id
+                LEFT JOIN favorites f ON f.article_id = chunk.article_id
+            ),
+            corrected AS (
+                UPDATE article_statistics s
+                SET comments_count = e.expected_comments,
+                    favorites_count = e.expected_favorites
+                FROM expected e
+                WHERE s.article_id = e.article_id
+                  AND s.comments_count = e.comments_count
+                  AND s.favorites_count = e.favorites_count
+                  AND (s.comments_count <> e.expected_comments OR s.favorites_count <> e.expected_favorites)
+                RETURNING s.article_id
+            )
+            SELECT (SELECT MAX(article_id) FROM chunk) AS last_id,
+                   (SELECT COUNT(*) FROM chunk) AS scanned,
+                   ARRAY(SELECT article_id FROM corrected) AS corrected_ids
+        """);
+
+        private final String table;
+        private final String reconcileChunk;
+
+        Target(String table, String reconcileChunk) {
+            this.table = table;
+            this.reconcileChunk = reconcileChunk;
+        }
+
+        public String table() {
+            return table;
+        }
+    }
+
+    public record Progress(long lastId, long runScanned, long runCorrected) {}
+
+    public record ChunkResult(long lastId, int scanned, List<Long> correctedIds) {}
+
+    public record RunReport(Target target, long scanned, long corrected) {}
+
+    private static final String LOCK_PROGRESS = """
+        SELECT last_id, run_scanned, run_corrected
+        FROM statistics_reconciliation_progress
+        WHERE target = ?
+        FOR UPDATE SKIP LOCKED
+    """;
+
+    private static final String ADVANCE_PROGRESS = """
+        UPDATE statistics_reconciliation_progress
+        SET last_id = ?,
+            run_scanned = run_scanned + ?,
+            run_corrected = run_corrected + ?,
+            run_started_at = COALESCE(run_started_at, now())
+        WHERE target = ?
+    """;
+
+    private static final String COMPLETE_RUN = """
+        UPDATE statistics_reconciliation_progress
+        SET last_id = 0,
+            last_run_scanned = run_scanned,
+            last_run_corrected = run_corrected,
+            last_completed_at = now(),
+            run_scanned = 0,
+            run_corrected = 0,
+            run_started_at = NULL
+        WHERE target = ?
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void limitStatementTime(long timeoutMs) {
+        jdbcTemplate.execute("SET LOCAL statement_timeout = " + Math.max(0, timeoutMs));
+    }
+
+    public Optional<Progress> lockProgress(Target target) {
+        return jdbcTemplate.query(
+            LOCK_PROGRESS,
+            rs -> rs.next()
+                ? Optional.of(new Progress(rs.getLong("last_id"), rs.getLong("run_scanned"), rs.getLong("run_corrected")))
+                : Optional.empty(),
+            target.table()
+        );
+    }
+
+    public ChunkResult reconcileChunk(Target target, long afterId, int chunkSize) {
+        return jdbcTemplate.queryForObject(
+            target.reconcileChunk,
+            (rs, rowNum) -> new ChunkResult(rs.getLong("last_id"), rs.getInt("scanned"), toIds(rs.getArray("corrected_ids"))),
+            afterId,
+            chunkSize
+        );
+    }
+
+    public void advance(Target target, ChunkResult chunk) {
+        jdbcTemplate.update(ADVANCE_PROGRESS, chunk.lastId(), chunk.scanned(), chunk.correctedIds().size(), target.table());
+    }
+
+    public void completeRun(Target target) {
+        jdbcTemplate.update(COMPLETE_RUN, target.table());
+    }
+
+    private static List<Long> toIds(Array array) throws SQLException {
+        return Arrays.stream((Long[]) array.getArray()).toList();
+    }
+}
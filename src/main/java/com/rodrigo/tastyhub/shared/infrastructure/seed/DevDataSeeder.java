@@ -4,8 +4,10 @@ import com.rodrigo.tastyhub.modules.collections.domain.model.UserCollection;
 import com.rodrigo.tastyhub.modules.collections.domain.repository.UserCollectionRepository;
 import com.rodrigo.tastyhub.modules.recipes.domain.model.*;
 import com.rodrigo.tastyhub.modules.recipes.domain.repository.CurrencyRepository;
-import com.rodrigo.tastyhub.modules.recipes.domain.repository.IngredientRepository;
 import com.rodrigo.tastyhub.modules.recipes.domain.repository.RecipeRepository;
+import com.rodrigo.tastyhub.modules.recipes.domain.service.CurrencyService;
+import com.rodrigo.tastyhub.modules.recipes.domain.service.IngredientService;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence.RecipeCounterStore;
 import com.rodrigo.tastyhub.modules.settings.domain.model.UserSettings;
 import com.rodrigo.tastyhub.modules.social.domain.model.Follow;
 import com.rodrigo.tastyhub.modules.social.domain.model.FollowId;
@@ -43,8 +45,10 @@ public class DevDataSeeder implements CommandLineRunner {
     private final FollowRepository followRepository;
     private final CurrencyRepository currencyRepository;
     private final RecipeRepository recipeRepository;
-    private final IngredientRepository ingredientRepository;
+    private final IngredientService ingredientService;
     private final UserCollectionRepository userCollectionRepository;
+    private final CurrencyService currencyService;
+    private final RecipeCounterStore recipeCounterStore;
     private static final Logger log = LoggerFactory.getLogger(DevDataSeeder.class);
 
     public DevDataSeeder(
@@ -55,8 +59,10 @@ public class DevDataSeeder implements CommandLineRunner {
         TagRepository tagRepository,
         FollowRepository followRepository,
         RecipeRepository recipeRepository,
-        IngredientRepository ingredientRepository,
-        UserCollectionRepository userCollectionRepository
+        IngredientService ingredientService,
+        UserCollectionRepository userCollectionRepository,
+        CurrencyService currencyService,
+        RecipeCounterStore recipeCounterStore
     ) {
         this.roleRepository = roleRepository;
         this.userRepository = userRepository;
@@ -65,8 +71,10 @@ public class DevDataSeeder implements CommandLineRunner {
         this.tagRepository = tagRepository;
         this.followRepository = followRepository;
         this.recipeRepository = recipeRepository;
-        this.ingredientRepository = ingredientRepository;
+        this.ingredientService = ingredientService;
         this.userCollectionRepository = userCollectionRepository;
+        this.currencyService = currencyService;
+        this.recipeCounterStore = recipeCounterStore;
     }
 
     @Transactional
@@ -150,12 +158,12 @@ public class DevDataSeeder implements CommandLineRunner {
         Tag tagAsian = tagRepository.save(new Tag(null, "Asian Food"));
         Tag tagHealthy = tagRepository.save(new Tag(null, "Healthy"));
 
-        Ingredient pastaIng = ingredientRepository.save(new Ingredient(null, "Spaghetti"));
-        Ingredient eggIng = ingredientRepository.save(new Ingredient(null, "Eggs"));
-        Ingredient cheeseIng = ingredientRepository.save(new Ingredient(null, "Pecorino Romano"));
-        Ingredient porkIng = ingredientRepository.save(new Ingredient(null, "Guanciale"));
-        Ingredient tortillas = ingredientRepository.save(new Ingredient(null, "Corn Tortillas"));
-        Ingredient pork = ingredientRepository.save(new Ingredient(null, "Pork Shoulder"));
+        Ingredient pastaIng = ingredientService.create("Spaghetti");
+        Ingredient eggIng = ingredientService.create("Eggs");
+        Ingredient cheeseIng = ingredientService.create("Pecorino Romano");
+        Ingredient porkIng = ingredientService.create("Guanciale");
+        Ingredient tortillas = ingredientService.create("Corn Tortillas");
+        Ingredient pork = ingredientService.create("Pork Shoulder");
 
         createRecipeOne(liam, usd, tagPasta, pastaIng, eggIng, cheeseIng, porkIng, valentina, ahmed, sofia);
         createRecipeTwo(olivia, usd, tagBakery, tanaka, jean, thiago, lari, klaus);
@@ -163,6 +171,9 @@ public class DevDataSeeder implements CommandLineRunner {
         createRecipeFour(moretti, usd, pork, tortillas);
         createRecipeFive(tanaka, usd, new HashSet<>(Set.of(tagJapanese, tagHealthy, tagAsian, tagFishFood)));
         createRecipeSix(amarantos, brl, tagBrazillian, tagHealthy);
+
+        currencyService.updateExchangeRate(usd.getCode(), BigDecimal.ONE);
+        currencyService.updateExchangeRate(brl.getCode(), new BigDecimal("0.18"));
     }
 
     private void seedFollows() {
@@ -257,13 +268,18 @@ public class DevDataSeeder implements CommandLineRunner {
         recipe.addComment(ahmed, BigDecimal.valueOf(5), "Cursus mi pretium tellus duis convallis tempus leo. Arcu dignissim velit aliquam imperdiet mollis nullam volutpat. Montes nascetur ridiculus mus donec rhoncus eros lobortis. Adipiscing elit quisque faucibus ex sapien vitae pellentesque. 👏🏾🥰");
         recipe.addComment(sofia, BigDecimal.valueOf(4), "itae pellentesque sem placerat in id cursus mi. Euismod quam justo lectus commodo augue arcu dignissim.");
 
-        Recipe savedRecipe = recipeRepository.save(recipe);
+        Recipe savedRecipe = recipeRepository.saveAndFlush(recipe);
+
+        savedRecipe.getComments().forEach(comment ->
+            recipeCounterStore.addReviews(savedRecipe.getId(), 1, comment.getRating(), 1)
+        );
 
         UserCollection valentinaFavorites = valentina.getFavoritesCollection();
         UserCollection ahmedFavorites = ahmed.getFavoritesCollection();
 
         valentinaFavorites.addRecipe(savedRecipe);
         ahmedFavorites.addRecipe(savedRecipe);
+        recipeCounterStore.addFavorites(savedRecipe.getId(), 2);
 
         userCollectionRepository.saveAll(new ArrayList<>(List.of(valentinaFavorites, ahmedFavorites)));
 
@@ -280,10 +296,10 @@ public class DevDataSeeder implements CommandLineRunner {
         User lari,
         User klaus
     ) {
-        Ingredient water = ingredientRepository.save(new Ingredient(null, "Water"));
-        Ingredient flour = ingredientRepository.save(new Ingredient(null, "Flour"));
-        Ingredient salt = ingredientRepository.save(new Ingredient(null, "Salt"));
-        Ingredient yeast = ingredientRepository.save(new Ingredient(null, "Yeast"));
+        Ingredient water = ingredientService.create("Water");
+        Ingredient flour = ingredientService.create("Flour");
+        Ingredient salt = ingredientService.create("Salt");
+        Ingredient yeast = ingredientService.create("Yeast");
 
         RecipeStatistics statistics = new RecipeStatistics();
 
@@ -315,7 +331,7 @@ public class DevDataSeeder implements CommandLineRunner {
         recipe.addStep(new PreparationStep(null, 4, "Vitae pellentesque sem placerat in id cursus mi. Euismod quam justo lectus commodo augue arcu dignissim.", recipe));
         recipe.addStep(new PreparationStep(null, 5, "Natoque penatibus et magnis dis parturient montes nascetur.", recipe));
 
-        Recipe savedRecipe = recipeRepository.save(recipe);
+        Recipe savedRecipe = recipeRepository.saveAndFlush(recipe);
 
         UserCollection tanakaFavorites = tanaka.getFavoritesCollection();
         UserCollection jeanFavorites = jean.getFavoritesCollection();
@@ -328,6 +344,7 @@ public class DevDataSeeder implements CommandLineRunner {
         thiagoFavorites.addRecipe(savedRecipe);
         lariFavorites.addRecipe(savedRecipe);
         klausFavorites.addRecipe(savedRecipe);
+        recipeCounterStore.addFavorites(savedRecipe.getId(), 5);
 
         userCollectionRepository.saveAll(new ArrayList<>(List.of(tanakaFavorites, jeanFavorites, thiagoFavorites, lariFavorites, klausFavorites)));
 
@@ -336,20 +353,20 @@ public class DevDataSeeder implements CommandLineRunner {
 
     private void createRecipeThree(User author, Currency currency, Tag tag, Ingredient pork, Ingredient tortillas) {
         // Moqueca
-        Ingredient fish = ingredientRepository.save(new Ingredient(null, "White Fish Fillet"));
-        Ingredient coconutMilk = ingredientRepository.save(new Ingredient(null, "Coconut Milk"));
-        Ingredient dendeOil = ingredientRepository.save(new Ingredient(null, "Dendê Oil"));
-        Ingredient bellPeppers = ingredientRepository.save(new Ingredient(null, "Bell Peppers"));
+        Ingredient fish = ingredientService.create("White Fish Fillet");
+        Ingredient coconutMilk = ingredientService.create("Coconut Milk");
+        Ingredient dendeOil = ingredientService.create("Dendê Oil");
+        Ingredient bellPeppers = ingredientService.create("Bell Peppers");
 
         // Tacos
-        Ingredient pineapple = ingredientRepository.save(new Ingredient(null, "Fresh Pineapple"));
-        Ingredient achiote = ingredientRepository.save(new Ingredient(null, "Achiote Paste"));
+        Ingredient pineapple = ingredientService.create("Fresh Pineapple");
+        Ingredient achiote = ingredientService.create("Achiote Paste");
 
         // Tacacá
-        Ingredient tucupi = ingredientRepository.save(new Ingredient(null, "Tucupi Liquid"));
-        Ingredient jambu = ingredientRepository.save(new Ingredient(null, "Jambu Leaves"));
-        Ingredient driedShrimp = ingredientRepository.save(new Ingredient(null, "Dried Shrimp"));
-        Ingredient maniocStarch = ingredientRepository.save(new Ingredient(null, "Manioc Starch (Goma)"));
+        Ingredient tucupi = ingredientService.create("Tucupi Liquid");
+        Ingredient jambu = ingredientService.create("Jambu Leaves");
+        Ingredient driedShrimp = ingredientService.create("Dried Shrimp");
+        Ingredient maniocStarch = ingredientService.create("Manioc Starch (Goma)");
 
         RecipeStatistics statistics1 = new RecipeStatistics();
 
@@ -453,13 +470,13 @@ public class DevDataSeeder implements CommandLineRunner {
         Tag tagDessert = tagRepository.save(new Tag(null, "Dessert"));
         Tag tagMeat = tagRepository.save(new Tag(null, "Meat"));
 
-        Ingredient pineapple = ingredientRepository.save(new Ingredient(null, "Pineapple"));
-        Ingredient creamCheese = ingredientRepository.save(new Ingredient(null, "Cream Cheese"));
-        Ingredient berries = ingredientRepository.save(new Ingredient(null, "Mixed Berries"));
-        Ingredient jackfruit = ingredientRepository.save(new Ingredient(null, "Green Jackfruit"));
-        Ingredient bbqSauce = ingredientRepository.save(new Ingredient(null, "BBQ Sauce"));
-        Ingredient spaghetti = ingredientRepository.save(new Ingredient(null, "Spaghetti Pasta"));
-        Ingredient groundBeef = ingredientRepository.save(new Ingredient(null, "Ground Beef"));
+        Ingredient pineapple = ingredientService.create("Pineapple");
+        Ingredient creamCheese = ingredientService.create("Cream Cheese");
+        Ingredient berries = ingredientService.create("Mixed Berries");
+        Ingredient jackfruit = ingredientService.create("Green Jackfruit");
+        Ingredient bbqSauce = ingredientService.create("BBQ Sauce");
+        Ingredient spaghetti = ingredientService.create("Spaghetti Pasta");
+        Ingredient groundBeef = ingredientService.create("Ground Beef");
 
         RecipeStatistics statistics1 = new RecipeStatistics();
 
@@ -568,12 +585,12 @@ public class DevDataSeeder implements CommandLineRunner {
     }
 
     private void createRecipeFive(User author, Currency currency, Set<Tag> tags) {
-        Ingredient porkBones = ingredientRepository.save(new Ingredient(null, "Pork Marrow Bones"));
-        Ingredient ramenNoodles = ingredientRepository.save(new Ingredient(null, "Fresh Ramen Noodles"));
-        Ingredient porkBelly = ingredientRepository.save(new Ingredient(null, "Pork Belly (Chashu)"));
-        Ingredient softBoiledEgg = ingredientRepository.save(new Ingredient(null, "Marinated Ajitama Egg"));
-        Ingredient kombu = ingredientRepository.save(new Ingredient(null, "Dried Kombu (Seaweed)"));
-        Ingredient greenOnions = ingredientRepository.save(new Ingredient(null, "Green Onions"));
+        Ingredient porkBones = ingredientService.create("Pork Marrow Bones");
+        Ingredient ramenNoodles = ingredientService.create("Fresh Ramen Noodles");
+        Ingredient porkBelly = ingredientService.create("Pork Belly (Chashu)");
+        Ingredient softBoiledEgg = ingredientService.create("Marinated Ajitama Egg");
+        Ingredient kombu = ingredientService.create("Dried Kombu (Seaweed)");
+        Ingredient greenOnions = ingredientService.create("Green Onions");
 
         RecipeStatistics statistics = new RecipeStatistics();
 
@@ -610,11 +627,11 @@ public class DevDataSeeder implements CommandLineRunner {
     }
 
     private void createRecipeSix(User user, Currency brl, Tag tagHealthy, Tag tagMeal) {
-        Ingredient abobora = ingredientRepository.save(new Ingredient(null, "Abóbora Cabotiá"));
-        Ingredient leiteCoco = ingredientRepository.save(new Ingredient(null, "Leite de Coco"));
-        Ingredient gengibre = ingredientRepository.save(new Ingredient(null, "Gengibre Fresco"));
-        Ingredient sementeAbobora = ingredientRepository.save(new Ingredient(null, "Sementes de Abóbora"));
-        Ingredient caldoLegumes = ingredientRepository.save(new Ingredient(null, "Caldo de Legumes"));
+        Ingredient abobora = ingredientService.create("Abóbora Cabotiá");
+        Ingredient leiteCoco = ingredientService.create("Leite de Coco");
+        Ingredient gengibre = ingredientService.create("Gengibre Fresco");
+        Ingredient sementeAbobora = ingredientService.create("Sementes de Abóbora");
+        Ingredient caldoLegumes = ingredientService.create("Caldo de Legumes");
 
         RecipeStatistics statistics9 = new RecipeStatistics();
 
@@ -642,11 +659,11 @@ public class DevDataSeeder implements CommandLineRunner {
         recipe9.addStep(new PreparationStep(null, 3, "Bata tudo no liquidificador até obter uma textura lisa e retorne para a panela.", recipe9));
         recipe9.addStep(new PreparationStep(null, 4, "Adicione o leite de coco, acerte o sal e sirva com as sementes tostadas por cima.", recipe9));
 
-        Ingredient fileMignon = ingredientRepository.save(new Ingredient(null, "Filé Mignon"));
-        Ingredient vinhoTinto = ingredientRepository.save(new Ingredient(null, "Vinho Tinto Seco"));
-        Ingredient manteiga = ingredientRepository.save(new Ingredient(null, "Manteiga Sem Sal"));
-        Ingredient alecrim = ingredientRepository.save(new Ingredient(null, "Alecrim Fresco"));
-        Ingredient batataAsterix = ingredientRepository.save(new Ingredient(null, "Batata Asterix"));
+        Ingredient fileMignon = ingredientService.create("Filé Mignon");
+        Ingredient vinhoTinto = ingredientService.create("Vinho Tinto Seco");
+        Ingredient manteiga = ingredientService.create("Manteiga Sem Sal");
+        Ingredient alecrim = ingredientService.create("Alecrim Fresco");
+        Ingredient batataAsterix = ingredientService.create("Batata Asterix");
 
         RecipeStatistics statistics10 = new RecipeStatistics();
 
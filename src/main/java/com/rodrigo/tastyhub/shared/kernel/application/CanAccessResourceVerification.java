@@ -2,6 +2,7 @@ package com.rodrigo.tastyhub.shared.kernel.application;
 
 import com.rodrigo.tastyhub.modules.social.domain.service.FollowService;
 import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import com.rodrigo.tastyhub.shared.exception.ForbiddenException;
 import com.rodrigo.tastyhub.shared.exception.UnauthorizedException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -12,19 +13,23 @@ public class CanAccessResourceVerification {
     private final FollowService followService;
 
     public void verify(User owner, Long requesterId) {
-        if (owner.isPrivate()) {
+        verify(owner.getId(), owner.isPrivate(), requesterId);
+    }
+
+    public void verify(Long ownerId, boolean ownerPrivate, Long requesterId) {
+        if (ownerPrivate) {
             if (requesterId == null) {
                 throw new UnauthorizedException("This is a private resource. Please, authenticate to access.");
             }
 
             if (
-                !owner.getId().equals(requesterId)
+                !ownerId.equals(requesterId)
                 && !followService.isFollowing(
                     requesterId,
-                    owner.getId()
+                    ownerId
                 )
             ) {
-                throw new UnauthorizedException("You can not access this resource!");
+                throw new ForbiddenException("You can not access this resource!");
             }
         }
     }
@@ -0,0 +1,91 @@
+package com.rodrigo.tastyhub.shared.kernel.pagination;
+
+import com.rodrigo.tastyhub.shared.enums.SortDirection;
+import com.rodrigo.tastyhub.shared.exception.DomainException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+
+public record KeysetCursor(
+    String sortKey,
+    SortDirection direction,
+    Long id,
+    String value
+) {
+    private static final String SEPARATOR = "\u001F";
+    private static final String NULL_VALUE = "~";
+    private static final String VALUE_PREFIX = "=";
+
+    public static KeysetCursor of(String sortKey, SortDirection direction, Long id, Object value) {
+        String rawValue = null;
+
+        if (value instanceof BigDecimal decimal) {
+            rawValue = decimal.toPlainString();
+        } else if (value != null) {
+            rawValue = value.toString();
+        }
+
+        return new KeysetCursor(sortKey, direction, id, rawValue);
+    }
+
+    public String encode() {
+        String payload = String.join(
+            SEPARATOR,
+            sortKey,
+            direction.name(),
+            id.toString(),
+            value == null ? NULL_VALUE : VALUE_PREFIX + value
+        );
+
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token, String expectedSortKey, SortDirection expectedDirection) {
+        try {
+            String payload = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = payload.split(SEPARATOR, 4);
+
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+
+            KeysetCursor cursor = new KeysetCursor(
+                parts[0],
+                SortDirection.valueOf(parts[1]),
+                Long.valueOf(parts[2]),
+                parts[3].equals(NULL_VALUE) ? null : parts[3].substring(VALUE_PREFIX.length())
+            );
+
+            if (!cursor.sortKey().equals(expectedSortKey) || cursor.direction() != expectedDirection) {
+                throw new DomainException("The cursor does not match the requested sorting. Restart from the first page.");
+            }
+
+            return cursor;
+        } catch (IllegalArgumentException | IndexOutOfBoundsException exception) {
+            throw new DomainException("Invalid pagination cursor");
+        }
+    }
+
+    public Object typedValue(Class<?> type) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            if (type == String.class) return value;
+            if (type == Integer.class || type == int.class) return Integer.valueOf(value);
+            if (type == Long.class || type == long.class) return Long.valueOf(value);
+            if (type == Double.class || type == double.class) return Double.valueOf(value);
+            if (type == BigDecimal.class) return new BigDecimal(value);
+            if (type == OffsetDateTime.class) return OffsetDateTime.parse(value);
+        } catch (RuntimeException exception) {
+            throw new DomainException("Invalid pagination cursor");
+        }
+
+        throw new IllegalStateException("Unsupported keyset sort type: " + type.getName());
+    }
+}
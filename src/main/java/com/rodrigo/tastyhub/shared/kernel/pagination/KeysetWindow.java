@@ -0,0 +1,9 @@
+package com.rodrigo.tastyhub.shared.kernel.pagination;
+
+import java.util.List;
+
+public record KeysetWindow<T>(
+    List<T> content,
+    boolean hasNext,
+    String nextCursor
+) {}
@@ -0,0 +1,74 @@
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+CREATE TEXT SEARCH CONFIGURATION tastyhub_search (COPY = simple);
+
+ALTER TEXT SEARCH CONFIGURATION tastyhub_search
+    ALTER MAPPING FOR asciiword, asciihword, hword_asciipart, word, hword, hword_part
+    WITH unaccent, simple;
+
+ALTER TABLE recipes ADD COLUMN search_vector TSVECTOR;
+
+CREATE OR REPLACE FUNCTION build_recipe_search_vector(
+    p_recipe_id BIGINT,
+    p_title TEXT,
+    p_description TEXT
+) RETURNS TSVECTOR AS $$
+    SELECT
+        setweight(to_tsvector('tastyhub_search', coalesce(p_title, '')), 'A') ||
+        setweight(to_tsvector('tastyhub_search', coalesce(p_description, '')), 'B') ||
+        setweight(to_tsvector('tastyhub_search', coalesce((
+            SELECT string_agg(t.name, ' ')
+            FROM recipe_tags rt
+            JOIN tags t ON t.id = rt.tag_id
+            WHERE rt.recipe_id = p_recipe_id
+        ), '')), 'C');
+$$ LANGUAGE sql STABLE;
+
+CREATE OR REPLACE FUNCTION recipes_search_vector_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector := build_recipe_search_vector(NEW.id, NEW.title, NEW.description);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_recipes_search_vector
+    BEFORE INSERT OR UPDATE OF title, description ON recipes
+    FOR EACH ROW EXECUTE FUNCTION recipes_search_vector_trigger();
+
+CREATE OR REPLACE FUNCTION recipe_tags_search_vector_trigger() RETURNS TRIGGER AS $$
+DECLARE
+    v_recipe_id BIGINT := CASE WHEN TG_OP = 'DELETE' THEN OLD.recipe_id ELSE NEW.recipe_id END;
+BEGIN
+    UPDATE recipes
+    SET search_vector = build_recipe_search_vector(id, title, description)
+    WHERE id = v_recipe_id;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_recipe_tags_search_vector
+    AFTER INSERT OR DELETE ON recipe_tags
+    FOR EACH ROW EXECUTE FUNCTION recipe_tags_search_vector_trigger();
+
+CREATE OR REPLACE FUNCTION tags_search_vector_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE recipes r
+    SET search_vector = build_recipe_search_vector(r.id, r.title, r.description)
+    FROM recipe_tags rt
+    WHERE rt.recipe_id = r.id
+      AND rt.tag_id = NEW.id;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_tags_search_vector
+    AFTER UPDATE OF name ON tags
+    FOR EACH ROW
+    WHEN (OLD.name IS DISTINCT FROM NEW.name)
+    EXECUTE FUNCTION tags_search_vector_trigger();
+
+UPDATE recipes SET search_vector = build_recipe_search_vector(id, title, description);
+
+CREATE INDEX idx_recipes_search_vector ON recipes USING GIN (search_vector);
@@ -0,0 +1,5 @@
+CREATE INDEX idx_recipe_ingredients_ingredient_recipe ON recipe_ingredients (ingredient_id, recipe_id);
+
+CREATE INDEX idx_recipe_ingredients_recipe ON recipe_ingredients (recipe_id);
+
+CREATE INDEX idx_ingredients_lower_name ON ingredients (LOWER(name));
@@ -0,0 +1,22 @@
+CREATE TABLE exchange_rates (
+    currency_id SMALLINT PRIMARY KEY,
+    rate_to_base NUMERIC(18, 8) NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_exchange_rates_currency FOREIGN KEY (currency_id) REFERENCES currencies (id) ON DELETE CASCADE,
+    CONSTRAINT chk_exchange_rates_positive CHECK (rate_to_base > 0)
+);
+
+INSERT INTO exchange_rates (currency_id, rate_to_base)
+SELECT id, 1 FROM currencies WHERE code = 'USD';
+
+ALTER TABLE recipes ADD COLUMN normalized_cost NUMERIC(12, 2);
+
+UPDATE recipes r
+SET normalized_cost = ROUND(r.estimated_cost * er.rate_to_base, 2)
+FROM exchange_rates er
+WHERE er.currency_id = r.currency_id
+  AND r.estimated_cost IS NOT NULL;
+
+CREATE INDEX idx_recipes_normalized_cost ON recipes (normalized_cost, id);
+
+CREATE INDEX idx_recipes_currency_normalized_cost ON recipes (currency_id, normalized_cost);
@@ -0,0 +1,12 @@
+ALTER TABLE recipes ADD COLUMN ingredient_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE recipes r
+SET ingredient_count = counts.total
+FROM (
+    SELECT recipe_id, COUNT(*) AS total
+    FROM recipe_ingredients
+    GROUP BY recipe_id
+) counts
+WHERE counts.recipe_id = r.id;
+
+CREATE INDEX idx_recipes_ingredient_count ON recipes (ingredient_count);
@@ -0,0 +1,17 @@
+CREATE INDEX idx_recipes_created_at_id ON recipes (created_at, id);
+CREATE INDEX idx_recipes_title_id ON recipes (title, id);
+
+DROP INDEX IF EXISTS idx_recipes_ingredient_count;
+CREATE INDEX idx_recipes_ingredient_count_id ON recipes (ingredient_count, id);
+
+CREATE INDEX idx_recipe_statistics_average_rating ON recipe_statistics (average_rating, recipe_id);
+CREATE INDEX idx_recipe_statistics_favorites_count ON recipe_statistics (favorites_count, recipe_id);
+
+CREATE INDEX idx_articles_created_at_id ON articles (created_at, id);
+CREATE INDEX idx_articles_title_id ON articles (title, id);
+
+CREATE INDEX idx_article_statistics_likes_count ON article_statistics (likes_count, article_id);
+CREATE INDEX idx_article_statistics_favorites_count ON article_statistics (favorites_count, article_id);
+
+CREATE INDEX idx_comments_recipe_created_at_id ON comments (recipe_id, created_at, id);
+CREATE INDEX idx_comments_recipe_rating_id ON comments (recipe_id, rating, id);
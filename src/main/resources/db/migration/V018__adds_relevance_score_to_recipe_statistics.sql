@@ -0,0 +1,28 @@
+ALTER TABLE recipe_statistics
+    ADD COLUMN bayesian_rating DOUBLE PRECISION DEFAULT 0 NOT NULL,
+    ADD COLUMN relevance_score DOUBLE PRECISION DEFAULT 0 NOT NULL,
+    ADD COLUMN score_stale BOOLEAN DEFAULT TRUE NOT NULL,
+    ADD COLUMN score_refreshed_at TIMESTAMP WITH TIME ZONE;
+
+CREATE OR REPLACE FUNCTION recipe_statistics_score_stale_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.score_stale := TRUE;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_recipe_statistics_score_stale
+    BEFORE UPDATE OF favorites_count, reviews_count, average_rating ON recipe_statistics
+    FOR EACH ROW
+    WHEN (
+        OLD.favorites_count IS DISTINCT FROM NEW.favorites_count
+        OR OLD.reviews_count IS DISTINCT FROM NEW.reviews_count
+        OR OLD.average_rating IS DISTINCT FROM NEW.average_rating
+    )
+    EXECUTE FUNCTION recipe_statistics_score_stale_trigger();
+
+CREATE INDEX idx_recipe_statistics_relevance_score ON recipe_statistics (relevance_score, recipe_id);
+CREATE INDEX idx_recipe_statistics_bayesian_rating ON recipe_statistics (bayesian_rating, recipe_id);
+
+CREATE INDEX idx_recipe_statistics_score_stale ON recipe_statistics (recipe_id) WHERE score_stale;
+CREATE INDEX idx_recipe_statistics_score_refreshed_at ON recipe_statistics (score_refreshed_at);
@@ -0,0 +1,24 @@
+CREATE TABLE home_timeline_entries (
+    user_id BIGINT NOT NULL,
+    recipe_id BIGINT NOT NULL,
+    published_at TIMESTAMP WITH TIME ZONE NOT NULL,
+
+    PRIMARY KEY (user_id, recipe_id),
+    CONSTRAINT fk_home_timeline_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE,
+    CONSTRAINT fk_home_timeline_recipe FOREIGN KEY (recipe_id) REFERENCES recipes (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_home_timeline_user_published ON home_timeline_entries (user_id, published_at DESC, recipe_id DESC);
+CREATE INDEX idx_home_timeline_recipe ON home_timeline_entries (recipe_id);
+CREATE INDEX idx_home_timeline_published ON home_timeline_entries (published_at);
+
+CREATE TABLE timeline_backfill_requests (
+    user_id BIGINT PRIMARY KEY,
+    requested_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_timeline_backfill_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_follows_following_follower ON follows (following_user_id, follower_user_id);
+CREATE INDEX idx_user_following_tags_tag_user ON user_following_tags (tag_id, user_id);
+CREATE INDEX idx_recipes_user_created_at_id ON recipes (user_id, created_at DESC, id DESC);
@@ -0,0 +1,3 @@
+ALTER TABLE preparation_steps
+    DROP CONSTRAINT uk_recipe_step_number,
+    ADD CONSTRAINT uk_recipe_step_number UNIQUE (recipe_id, step_number) DEFERRABLE INITIALLY DEFERRED;
@@ -0,0 +1,6 @@
+ALTER SEQUENCE recipes_id_seq INCREMENT BY 50;
+ALTER SEQUENCE preparation_steps_id_seq INCREMENT BY 50;
+ALTER SEQUENCE recipe_ingredients_id_seq INCREMENT BY 50;
+ALTER SEQUENCE recipe_media_id_seq INCREMENT BY 50;
+ALTER SEQUENCE comments_id_seq INCREMENT BY 50;
+ALTER SEQUENCE user_collections_id_seq INCREMENT BY 50;
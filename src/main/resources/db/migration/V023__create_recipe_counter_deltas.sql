@@ -0,0 +1,12 @@
+CREATE TABLE recipe_counter_deltas (
+    recipe_id BIGINT NOT NULL,
+    shard SMALLINT NOT NULL,
+    favorites_delta INTEGER NOT NULL DEFAULT 0,
+    reviews_delta INTEGER NOT NULL DEFAULT 0,
+    rating_sum_delta INTEGER NOT NULL DEFAULT 0,
+
+    PRIMARY KEY (recipe_id, shard),
+    CONSTRAINT fk_recipe_counter_deltas_recipe FOREIGN KEY (recipe_id) REFERENCES recipes (id) ON DELETE CASCADE
+);
+
+ALTER TABLE recipe_statistics DROP COLUMN IF EXISTS version;
@@ -0,0 +1,16 @@
+CREATE TABLE statistics_reconciliation_progress (
+    target VARCHAR(40) PRIMARY KEY,
+    last_id BIGINT NOT NULL DEFAULT 0,
+    run_scanned BIGINT NOT NULL DEFAULT 0,
+    run_corrected BIGINT NOT NULL DEFAULT 0,
+    run_started_at TIMESTAMP WITH TIME ZONE,
+    last_completed_at TIMESTAMP WITH TIME ZONE,
+    last_run_scanned BIGINT,
+    last_run_corrected BIGINT
+);
+
+INSERT INTO statistics_reconciliation_progress (target) VALUES ('recipe_statistics'), ('article_statistics');
+
+CREATE INDEX idx_recipe_collections_recipe ON recipe_collections (recipe_id);
+CREATE INDEX idx_article_collections_article ON article_collections (article_id);
+CREATE INDEX idx_comments_article ON comments (article_id) WHERE article_id IS NOT NULL;
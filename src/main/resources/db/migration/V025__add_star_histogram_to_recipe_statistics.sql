@@ -0,0 +1,39 @@
+ALTER TABLE recipe_statistics
+    ADD COLUMN one_star_count INTEGER DEFAULT 0 NOT NULL,
+    ADD COLUMN two_star_count INTEGER DEFAULT 0 NOT NULL,
+    ADD COLUMN three_star_count INTEGER DEFAULT 0 NOT NULL,
+    ADD COLUMN four_star_count INTEGER DEFAULT 0 NOT NULL,
+    ADD COLUMN five_star_count INTEGER DEFAULT 0 NOT NULL,
+    ADD COLUMN reviewers_count INTEGER DEFAULT 0 NOT NULL;
+
+ALTER TABLE recipe_counter_deltas
+    ADD COLUMN one_star_delta INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN two_star_delta INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN three_star_delta INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN four_star_delta INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN five_star_delta INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN reviewers_delta INTEGER NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_comments_recipe_user ON comments (recipe_id, user_id) WHERE recipe_id IS NOT NULL;
+
+WITH histogram AS (
+    SELECT c.recipe_id,
+           COUNT(*) FILTER (WHERE LEAST(GREATEST(TRUNC(c.rating), 1), 5) = 1) AS one_star_count,
+           COUNT(*) FILTER (WHERE LEAST(GREATEST(TRUNC(c.rating), 1), 5) = 2) AS two_star_count,
+           COUNT(*) FILTER (WHERE LEAST(GREATEST(TRUNC(c.rating), 1), 5) = 3) AS three_star_count,
+           COUNT(*) FILTER (WHERE LEAST(GREATEST(TRUNC(c.rating), 1), 5) = 4) AS four_star_count,
+           COUNT(*) FILTER (WHERE LEAST(GREATEST(TRUNC(c.rating), 1), 5) = 5) AS five_star_count,
+           COUNT(DISTINCT c.user_id) AS reviewers_count
+    FROM comments c
+    WHERE c.recipe_id IS NOT NULL
+    GROUP BY c.recipe_id
+)
+UPDATE recipe_statistics s
+SET one_star_count = h.one_star_count,
+    two_star_count = h.two_star_count,
+    three_star_count = h.three_star_count,
+    four_star_count = h.four_star_count,
+    five_star_count = h.five_star_count,
+    reviewers_count = h.reviewers_count
+FROM histogram h
+WHERE s.recipe_id = h.recipe_id;
@@ -0,0 +1 @@
+CREATE INDEX idx_comments_user_recipe ON comments (user_id, recipe_id) WHERE recipe_id IS NOT NULL;
@@ -0,0 +1,15 @@
+ALTER TABLE recipe_statistics ALTER COLUMN total_rating_sum TYPE NUMERIC(12, 1);
+
+ALTER TABLE recipe_counter_deltas ALTER COLUMN rating_sum_delta TYPE NUMERIC(12, 1);
+
+WITH ratings AS (
+    SELECT c.recipe_id, SUM(c.rating) AS rating_sum, COUNT(*) AS reviews_count
+    FROM comments c
+    WHERE c.recipe_id IS NOT NULL
+    GROUP BY c.recipe_id
+)
+UPDATE recipe_statistics s
+SET total_rating_sum = r.rating_sum,
+    average_rating = ROUND(r.rating_sum / r.reviews_count, 2)
+FROM ratings r
+WHERE s.recipe_id = r.recipe_id;
@@ -0,0 +1 @@
+CREATE INDEX idx_recipe_tags_tag_recipe ON recipe_tags (tag_id, recipe_id);
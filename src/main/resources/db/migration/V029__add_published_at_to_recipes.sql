@@ -0,0 +1,19 @@
+ALTER TABLE recipes ADD COLUMN published_at TIMESTAMP WITH TIME ZONE;
+
+UPDATE recipes r
+SET published_at = COALESCE(
+    (SELECT MIN(e.published_at) FROM home_timeline_entries e WHERE e.recipe_id = r.id),
+    r.created_at,
+    CURRENT_TIMESTAMP
+)
+WHERE r.is_public = TRUE;
+
+UPDATE home_timeline_entries e
+SET published_at = r.published_at
+FROM recipes r
+WHERE r.id = e.recipe_id
+  AND r.published_at IS NOT NULL
+  AND e.published_at <> r.published_at;
+
+CREATE INDEX idx_recipes_published_at_id ON recipes (published_at DESC, id DESC) WHERE published_at IS NOT NULL;
+CREATE INDEX idx_recipes_user_published_at_id ON recipes (user_id, published_at DESC, id DESC) WHERE published_at IS NOT NULL;
@@ -6,10 +6,15 @@ import com.rodrigo.tastyhub.modules.articles.domain.model.ArticleSortBy;
 import com.rodrigo.tastyhub.modules.articles.domain.repository.ArticleRepository;
 import com.rodrigo.tastyhub.modules.collections.domain.model.UserCollection;
 import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import com.rodrigo.tastyhub.shared.enums.PaginationMode;
 import com.rodrigo.tastyhub.shared.enums.SortDirection;
 import com.rodrigo.tastyhub.shared.exception.DomainException;
 import com.rodrigo.tastyhub.shared.exception.ForbiddenException;
 import com.rodrigo.tastyhub.shared.exception.ResourceNotFoundException;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.KeysetQueryExecutor;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.RowCountEstimator;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.SliceQueryExecutor;
+import com.rodrigo.tastyhub.shared.kernel.pagination.KeysetWindow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -35,6 +40,15 @@ class ArticleServiceTest {
     @Mock
     private ArticleRepository articleRepository;
 
+    @Mock
+    private KeysetQueryExecutor keysetQueryExecutor;
+
+    @Mock
+    private SliceQueryExecutor sliceQueryExecutor;
+
+    @Mock
+    private RowCountEstimator rowCountEstimator;
+
     @InjectMocks
     private ArticleService articleService;
 
@@ -128,6 +142,9 @@ class ArticleServiceTest {
                 null,
                 null,
                 null,
+                null,
+                null,
+                null,
                 null
             );
 
@@ -171,6 +188,9 @@ class ArticleServiceTest {
                 null,
                 null,
                 null,
+                null,
+                null,
+                null,
                 null
             );
 
@@ -181,6 +201,83 @@ class ArticleServiceTest {
 
             verify(articleRepository).findAll(any(Specification.class), any(Pageable.class));
         }
+
+        @Test
+        @DisplayName("Should continue from the cursor on the sort key and id")
+        void shouldFetchKeysetWindowFromCursor() {
+            ListArticlesQuery query = new ListArticlesQuery(
+                null,
+                null,
+                20,
+                ArticleSortBy.LIKES,
+                SortDirection.DESC,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                PaginationMode.CURSOR,
+                "opaque-cursor",
+                null
+            );
+
+            when(keysetQueryExecutor.fetch(
+                eq(Article.class),
+                any(Specification.class),
+                any(KeysetQueryExecutor.SortKey.class),
+                eq(SortDirection.DESC),
+                eq("opaque-cursor"),
+                eq(20)
+            )).thenReturn(new KeysetWindow<>(List.of(fakeArticle), false, null));
+
+            KeysetWindow<Article> result = articleService.findWindow(query, null);
+
+            assertEquals(List.of(fakeArticle), result.content());
+            assertFalse(result.hasNext());
+
+            ArgumentCaptor<KeysetQueryExecutor.SortKey> sortKeyCaptor =
+                ArgumentCaptor.forClass(KeysetQueryExecutor.SortKey.class);
+            verify(keysetQueryExecutor).fetch(
+                eq(Article.class),
+                any(Specification.class),
+                sortKeyCaptor.capture(),
+                any(),
+                any(),
+                anyInt()
+            );
+            assertEquals("statistics.favoritesCount", sortKeyCaptor.getValue().name());
+            verify(articleRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Should take the estimated total of an unfiltered listing from the cached count")
+        void shouldEstimateUnfilteredTotalFromCachedCount() {
+            ListArticlesQuery query = new ListArticlesQuery(
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                PaginationMode.SLICE,
+                null,
+                true
+            );
+
+            when(rowCountEstimator.estimate(eq("articles"), anyString(), any()))
+                .thenReturn(5_000L);
+
+            assertEquals(5_000L, articleService.estimateTotal(query, null));
+            verify(articleRepository, never()).count(any(Specification.class));
+        }
     }
 
     @Nested
@@ -325,6 +325,8 @@ class UserCollectionServiceTest {
 
             assertTrue(favorites.getRecipes().contains(mockRecipe));
             verify(collectionRepository, times(1)).saveAndFlush(favorites);
+            verify(recipeService).evictCachedDetail(recipeId);
+            verify(recipeService).adjustFavorites(recipeId, 1);
         }
 
         @Test
@@ -350,6 +352,7 @@ class UserCollectionServiceTest {
 
             assertEquals("Recipe is already in your favorites collection", ex.getMessage());
             verify(collectionRepository, never()).saveAndFlush(any());
+            verify(recipeService, never()).adjustFavorites(anyLong(), anyInt());
         }
 
         @Test
@@ -395,6 +398,8 @@ class UserCollectionServiceTest {
 
             assertFalse(favorites.getRecipes().contains(mockRecipe), "The recipe should be removed");
             verify(collectionRepository, times(1)).saveAndFlush(favorites);
+            verify(recipeService).evictCachedDetail(recipeId);
+            verify(recipeService).adjustFavorites(recipeId, -1);
         }
 
         @Test
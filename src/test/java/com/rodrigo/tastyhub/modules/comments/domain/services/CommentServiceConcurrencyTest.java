@@ -0,0 +1,307 @@
+package com.rodrigo.tastyhub.modules.comments.domain.services;
+
+import com.rodrigo.tastyhub.modules.comments.application.dto.request.ReviewRequestDto;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.DifficultyLevel;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeCategory;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence.RecipeCounterStore;
+import com.rodrigo.tastyhub.modules.user.domain.model.OnboardingStatus;
+import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import com.rodrigo.tastyhub.modules.user.domain.model.UserStatus;
+import com.rodrigo.tastyhub.shared.config.security.SecurityService;
+import com.rodrigo.tastyhub.shared.exception.ResourceNotFoundException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = "app.recipe-counters.fold-enabled=false")
+class CommentServiceConcurrencyTest {
+    private static final int WRITERS = 16;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private RecipeCounterStore recipeCounterStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private SecurityService securityService;
+
+    private User reviewer;
+
+    private Long authorId;
+
+    private Long recipeId;
+
+    @BeforeEach
+    void setup() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User author = persistUser("author", suffix);
+            reviewer = persistUser("reviewer", suffix);
+
+            Recipe recipe = new Recipe(
+                "Contested recipe",
+                "Recipe whose reviews are edited concurrently",
+                author,
+                true,
+                "en-US",
+                DifficultyLevel.BEGINNER,
+                RecipeCategory.DESSERT,
+                10,
+                20,
+                null,
+                null,
+                List.of(),
+                new ArrayList<>(),
+                new ArrayList<>()
+            );
+
+            entityManager.persist(recipe);
+
+            authorId = author.getId();
+            recipeId = recipe.getId();
+        });
+
+        when(securityService.getCurrentUser()).thenReturn(reviewer);
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM comments WHERE recipe_id = ?", recipeId);
+        jdbcTemplate.update("DELETE FROM recipes WHERE id = ?", recipeId);
+        jdbcTemplate.update("DELETE FROM users WHERE id IN (?, ?)", authorId, reviewer.getId());
+    }
+
+    private User persistUser(String role, String suffix) {
+        User user = User.builder()
+            .firstName("Concurrent")
+            .lastName(role)
+            .email(role + "-" + suffix + "@tastyhub.test")
+            .username(role + "_" + suffix)
+            .password("secret")
+            .profilePictureUrl("avatar.png")
+            .status(UserStatus.ACTIVE)
+            .onboardingStatus(OnboardingStatus.COMPLETED)
+            .settings(null)
+            .build();
+
+        entityManager.persist(user);
+
+        return user;
+    }
+
+    private Long review(String rating) {
+        return commentService.reviewRecipeById(
+            recipeId,
+            new ReviewRequestDto("A review worth fighting over", new BigDecimal(rating))
+        ).getId();
+    }
+
+    private void foldAll() {
+        List<Long> folded;
+
+        do {
+            folded = recipeCounterStore.fold(1000);
+        } while (!folded.isEmpty());
+    }
+
+    private Map<String, Object> statistics() {
+        return jdbcTemplate.queryForMap("SELECT * FROM recipe_statistics WHERE recipe_id = ?", recipeId);
+    }
+
+    private static int count(Map<String, Object> statistics, String column) {
+        return ((Number) statistics.get(column)).intValue();
+    }
+
+    private List<Throwable> race(List<Callable<Object>> tasks) throws Exception {
+        ExecutorService writers = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> futures = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+
+        try {
+            for (Callable<Object> task : tasks) {
+                futures.add(writers.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<Object> future : futures) {
+                try {
+                    future.get(60, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+        } finally {
+            writers.shutdownNow();
+        }
+
+        return failures;
+    }
+
+    @Test
+    @DisplayName("Should keep the histogram and rating sum exact while the same review is edited concurrently")
+    void shouldApplyConcurrentEditsExactlyOnce() throws Exception {
+        Long reviewId = review("1.0");
+        List<Callable<Object>> edits = new ArrayList<>();
+
+        for (int i = 0; i < WRITERS; i++) {
+            String rating = (2 + i % 4) + ".0";
+
+            edits.add(() -> commentService.editReview(
+                reviewId,
+                new ReviewRequestDto("Edited while others edit", new BigDecimal(rating))
+            ));
+        }
+
+        assertEquals(List.of(), race(edits));
+
+        foldAll();
+
+        BigDecimal finalRating = jdbcTemplate.queryForObject(
+            "SELECT rating FROM comments WHERE id = ?",
+            BigDecimal.class,
+            reviewId
+        );
+        int finalStars = finalRating.intValue();
+        Map<String, Object> statistics = statistics();
+        String[] buckets = { "one_star_count", "two_star_count", "three_star_count", "four_star_count", "five_star_count" };
+
+        assertEquals(1, count(statistics, "reviews_count"));
+        assertEquals(0, finalRating.compareTo((BigDecimal) statistics.get("total_rating_sum")));
+
+        for (int stars = 1; stars <= 5; stars++) {
+            assertEquals(stars == finalStars ? 1 : 0, count(statistics, buckets[stars - 1]), buckets[stars - 1]);
+        }
+    }
+
+    @Test
+    @DisplayName("Should count the reviewer once when their first reviews of a recipe are posted concurrently")
+    void shouldCountReviewerOnceForConcurrentFirstReviews() throws Exception {
+        List<Callable<Object>> reviews = new ArrayList<>();
+
+        for (int i = 0; i < WRITERS; i++) {
+            reviews.add(() -> review("3.0"));
+        }
+
+        assertEquals(List.of(), race(reviews));
+
+        foldAll();
+
+        Map<String, Object> statistics = statistics();
+
+        assertEquals(WRITERS, count(statistics, "reviews_count"));
+        assertEquals(WRITERS, count(statistics, "three_star_count"));
+        assertEquals(1, count(statistics, "reviewers_count"));
+    }
+
+    @Test
+    @DisplayName("Should reflect a review in the statistics as soon as it commits, without the fold job")
+    void shouldFoldReviewAfterCommit() {
+        Long reviewId = review("4.5");
+
+        Map<String, Object> statistics = statistics();
+
+        assertEquals(1, count(statistics, "reviews_count"));
+        assertEquals(0, new BigDecimal("4.50").compareTo((BigDecimal) statistics.get("average_rating")));
+
+        commentService.deleteReview(reviewId);
+
+        statistics = statistics();
+
+        assertEquals(0, count(statistics, "reviews_count"));
+        assertEquals(0, count(statistics, "reviewers_count"));
+        assertEquals(0, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM recipe_counter_deltas WHERE recipe_id = ?",
+            Integer.class,
+            recipeId
+        ));
+    }
+
+    @Test
+    @DisplayName("Should withdraw a review once when it is deleted concurrently")
+    void shouldWithdrawConcurrentDeletesOnce() throws Exception {
+        Long reviewId = review("4.0");
+        List<Callable<Object>> deletes = new ArrayList<>();
+
+        for (int i = 0; i < WRITERS; i++) {
+            deletes.add(() -> {
+                commentService.deleteReview(reviewId);
+                return null;
+            });
+        }
+
+        List<Throwable> failures = race(deletes);
+
+        foldAll();
+
+        Map<String, Object> statistics = statistics();
+
+        assertEquals(WRITERS - 1, failures.size());
+        assertTrue(failures.stream().allMatch(ResourceNotFoundException.class::isInstance));
+        assertEquals(0, count(statistics, "reviews_count"));
+        assertEquals(0, count(statistics, "four_star_count"));
+        assertEquals(0, count(statistics, "reviewers_count"));
+    }
+
+    @Test
+    @DisplayName("Should withdraw the reviewer when their reviews of a recipe are deleted concurrently")
+    void shouldWithdrawReviewerWhenAllReviewsDeletedConcurrently() throws Exception {
+        List<Long> reviewIds = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            reviewIds.add(review("3.0"));
+        }
+
+        List<Callable<Object>> deletes = new ArrayList<>();
+
+        for (Long reviewId : reviewIds) {
+            deletes.add(() -> {
+                commentService.deleteReview(reviewId);
+                return null;
+            });
+        }
+
+        assertEquals(List.of(), race(deletes));
+
+        foldAll();
+
+        Map<String, Object> statistics = statistics();
+
+        assertEquals(0, count(statistics, "reviews_count"));
+        assertEquals(0, count(statistics, "three_star_count"));
+        assertEquals(0, count(statistics, "reviewers_count"));
+    }
+}
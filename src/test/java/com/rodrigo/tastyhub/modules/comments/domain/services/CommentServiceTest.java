@@ -1,22 +1,29 @@
 package com.rodrigo.tastyhub.modules.comments.domain.services;
 
 import com.rodrigo.tastyhub.modules.comments.application.dto.request.ReviewRequestDto;
+import com.rodrigo.tastyhub.modules.comments.application.dto.response.ReviewModerationReportDto;
 import com.rodrigo.tastyhub.modules.comments.application.dto.response.ReviewPagination;
 import com.rodrigo.tastyhub.modules.comments.application.dto.response.ReviewStarOverview;
 import com.rodrigo.tastyhub.modules.comments.application.dto.response.ReviewSummaryDto;
 import com.rodrigo.tastyhub.modules.comments.domain.model.Comment;
 import com.rodrigo.tastyhub.modules.comments.domain.model.CommentSortBy;
-import com.rodrigo.tastyhub.modules.comments.domain.model.ReviewStatsProjection;
 import com.rodrigo.tastyhub.modules.comments.domain.repository.CommentRepository;
+import com.rodrigo.tastyhub.modules.comments.infrastructure.persistence.ReviewModerationStore;
+import com.rodrigo.tastyhub.modules.comments.infrastructure.persistence.ReviewerLock;
 import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeStatistics;
 import com.rodrigo.tastyhub.modules.recipes.domain.service.RecipeService;
 import com.rodrigo.tastyhub.modules.user.domain.model.User;
 import com.rodrigo.tastyhub.shared.config.security.SecurityService;
 import com.rodrigo.tastyhub.shared.dto.response.PaginationMetadata;
+import com.rodrigo.tastyhub.shared.enums.PaginationMode;
 import com.rodrigo.tastyhub.shared.enums.SortDirection;
 import com.rodrigo.tastyhub.shared.exception.DomainException;
+import com.rodrigo.tastyhub.shared.exception.ForbiddenException;
 import com.rodrigo.tastyhub.shared.exception.ResourceNotFoundException;
 import com.rodrigo.tastyhub.shared.exception.UnauthorizedException;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.KeysetQueryExecutor;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.SliceQueryExecutor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -28,11 +35,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -49,6 +57,18 @@ class CommentServiceTest {
     @Mock
     private SecurityService securityService;
 
+    @Mock
+    private KeysetQueryExecutor keysetQueryExecutor;
+
+    @Mock
+    private SliceQueryExecutor sliceQueryExecutor;
+
+    @Mock
+    private ReviewModerationStore reviewModerationStore;
+
+    @Mock
+    private ReviewerLock reviewerLock;
+
     @InjectMocks
     private CommentService service;
 
@@ -72,6 +92,7 @@ class CommentServiceTest {
 
             when(securityService.getCurrentUser()).thenReturn(mockAuthor);
             when(recipeService.findByIdOrThrow(recipeId)).thenReturn(mockRecipe);
+            when(commentRepository.findReviewsOfReviewerForUpdate(recipeId, 10L)).thenReturn(List.of());
 
             when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -85,6 +106,28 @@ class CommentServiceTest {
 
             verify(commentRepository, times(1)).save(any(Comment.class));
             verify(recipeService).findByIdOrThrow(recipeId);
+            verify(recipeService).evictCachedDetail(recipeId);
+            verify(recipeService).recordReview(recipeId, new BigDecimal("4.0"), true);
+        }
+
+        @Test
+        @DisplayName("Should not count the reviewer again when they already reviewed the recipe")
+        void shouldNotCountRepeatReviewer() {
+            Long recipeId = 1L;
+            User author = new User();
+            author.setId(10L);
+
+            Recipe recipe = new Recipe();
+            recipe.setId(recipeId);
+
+            when(securityService.getCurrentUser()).thenReturn(author);
+            when(recipeService.findByIdOrThrow(recipeId)).thenReturn(recipe);
+            when(commentRepository.findReviewsOfReviewerForUpdate(recipeId, 10L)).thenReturn(List.of(new Comment()));
+            when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            service.reviewRecipeById(recipeId, new ReviewRequestDto("Still delicious!", new BigDecimal("3.5")));
+
+            verify(recipeService).recordReview(recipeId, new BigDecimal("3.5"), false);
         }
 
         @Test
@@ -125,6 +168,189 @@ class CommentServiceTest {
         }
     }
 
+    private static Comment review(Long reviewId, Long authorId, Long recipeId, String rating) {
+        User author = new User();
+        author.setId(authorId);
+
+        Recipe recipe = new Recipe();
+        recipe.setId(recipeId);
+
+        return Comment.builder()
+            .id(reviewId)
+            .user(author)
+            .recipe(recipe)
+            .content("Original review content")
+            .rating(new BigDecimal(rating))
+            .build();
+    }
+
+    @Nested
+    @DisplayName("Tests for Edit Review Method")
+    class EditReviewTests {
+        @Test
+        @DisplayName("Should update the review and move its rating between star buckets")
+        void shouldEditReviewAndAdjustRating() {
+            User author = new User();
+            author.setId(10L);
+
+            when(securityService.getCurrentUser()).thenReturn(author);
+            when(commentRepository.findReviewForUpdate(5L)).thenReturn(Optional.of(review(5L, 10L, 1L, "2.0")));
+            when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            Comment result = service.editReview(5L, new ReviewRequestDto("Better the second time", new BigDecimal("4.5")));
+
+            assertEquals(new BigDecimal("4.5"), result.getRating());
+            assertEquals("Better the second time", result.getContent());
+            verify(recipeService).changeReviewRating(1L, new BigDecimal("2.0"), new BigDecimal("4.5"));
+            verify(recipeService).evictCachedDetail(1L);
+        }
+
+        @Test
+        @DisplayName("Should throw ForbiddenException when the user is not the author")
+        void shouldRejectEditByAnotherUser() {
+            User intruder = new User();
+            intruder.setId(99L);
+
+            when(securityService.getCurrentUser()).thenReturn(intruder);
+            when(commentRepository.findReviewForUpdate(5L)).thenReturn(Optional.of(review(5L, 10L, 1L, "2.0")));
+
+            assertThrows(ForbiddenException.class, () ->
+                service.editReview(5L, new ReviewRequestDto("Not my review at all", new BigDecimal("5.0")))
+            );
+
+            verify(commentRepository, never()).save(any());
+            verifyNoInteractions(recipeService);
+        }
+
+        @Test
+        @DisplayName("Should throw DomainException and leave the counters alone when the rating is invalid")
+        void shouldRejectInvalidRating() {
+            User author = new User();
+            author.setId(10L);
+
+            when(securityService.getCurrentUser()).thenReturn(author);
+            when(commentRepository.findReviewForUpdate(5L)).thenReturn(Optional.of(review(5L, 10L, 1L, "2.0")));
+
+            assertThrows(DomainException.class, () ->
+                service.editReview(5L, new ReviewRequestDto("Rating is out of range", new BigDecimal("7.0")))
+            );
+
+            verifyNoInteractions(recipeService);
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException when the review does not exist")
+        void shouldThrowWhenReviewNotFound() {
+            when(securityService.getCurrentUser()).thenReturn(new User());
+            when(commentRepository.findReviewForUpdate(5L)).thenReturn(Optional.empty());
+
+            assertThrows(ResourceNotFoundException.class, () ->
+                service.editReview(5L, new ReviewRequestDto("Review that is gone", new BigDecimal("3.0")))
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for Delete Review Method")
+    class DeleteReviewTests {
+        @Test
+        @DisplayName("Should delete the review and withdraw the reviewer when it was their last review")
+        void shouldDeleteLastReviewOfReviewer() {
+            User author = new User();
+            author.setId(10L);
+            Comment review = review(5L, 10L, 1L, "3.5");
+
+            when(securityService.getCurrentUser()).thenReturn(author);
+            when(commentRepository.findRecipeIdByReviewId(5L)).thenReturn(Optional.of(1L));
+            when(commentRepository.findReviewsOfReviewerForUpdate(1L, 10L)).thenReturn(List.of(review));
+
+            service.deleteReview(5L);
+
+            verify(commentRepository).delete(review);
+            verify(recipeService).withdrawReview(1L, new BigDecimal("3.5"), true);
+            verify(recipeService).evictCachedDetail(1L);
+        }
+
+        @Test
+        @DisplayName("Should keep the reviewer counted when they have other reviews of the recipe")
+        void shouldKeepReviewerWithOtherReviews() {
+            User author = new User();
+            author.setId(10L);
+
+            when(securityService.getCurrentUser()).thenReturn(author);
+            when(commentRepository.findRecipeIdByReviewId(5L)).thenReturn(Optional.of(1L));
+            when(commentRepository.findReviewsOfReviewerForUpdate(1L, 10L))
+                .thenReturn(List.of(review(4L, 10L, 1L, "5.0"), review(5L, 10L, 1L, "3.5")));
+
+            service.deleteReview(5L);
+
+            verify(recipeService).withdrawReview(1L, new BigDecimal("3.5"), false);
+        }
+
+        @Test
+        @DisplayName("Should throw ForbiddenException when the user is not the author")
+        void shouldRejectDeleteByAnotherUser() {
+            User intruder = new User();
+            intruder.setId(99L);
+
+            when(securityService.getCurrentUser()).thenReturn(intruder);
+            when(commentRepository.findRecipeIdByReviewId(5L)).thenReturn(Optional.of(1L));
+            when(commentRepository.findReviewsOfReviewerForUpdate(1L, 99L)).thenReturn(List.of());
+            when(commentRepository.findByIdAndRecipeIsNotNull(5L)).thenReturn(Optional.of(review(5L, 10L, 1L, "3.5")));
+
+            assertThrows(ForbiddenException.class, () -> service.deleteReview(5L));
+
+            verify(commentRepository, never()).delete(any());
+            verifyNoInteractions(recipeService);
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException when the review was deleted while waiting for the lock")
+        void shouldRejectReviewDeletedConcurrently() {
+            User author = new User();
+            author.setId(10L);
+
+            when(securityService.getCurrentUser()).thenReturn(author);
+            when(commentRepository.findRecipeIdByReviewId(5L)).thenReturn(Optional.of(1L));
+            when(commentRepository.findReviewsOfReviewerForUpdate(1L, 10L)).thenReturn(List.of(review(4L, 10L, 1L, "5.0")));
+            when(commentRepository.findByIdAndRecipeIsNotNull(5L)).thenReturn(Optional.empty());
+
+            assertThrows(ResourceNotFoundException.class, () -> service.deleteReview(5L));
+
+            verify(commentRepository, never()).delete(any());
+            verifyNoInteractions(recipeService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for Remove Reviews By User Method")
+    class RemoveReviewsByUserTests {
+        @Test
+        @DisplayName("Should remove the reviews in one statement and evict every affected recipe")
+        void shouldRemoveReviewsAndEvictRecipes() {
+            when(reviewModerationStore.removeReviewsByUser(7L))
+                .thenReturn(new ReviewModerationStore.Removal(5, List.of(1L, 2L)));
+
+            ReviewModerationReportDto result = service.removeReviewsByUser(7L);
+
+            assertEquals(5, result.removedReviews());
+            assertEquals(2, result.affectedRecipes());
+            verify(recipeService).evictCachedDetail(1L);
+            verify(recipeService).evictCachedDetail(2L);
+            verify(recipeService).refreshStatistics(1L);
+            verify(recipeService).refreshStatistics(2L);
+            verifyNoInteractions(commentRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw DomainException when userId is invalid")
+        void shouldRejectInvalidUserId() {
+            assertThrows(DomainException.class, () -> service.removeReviewsByUser(0L));
+
+            verifyNoInteractions(reviewModerationStore);
+        }
+    }
+
     @Nested
     @DisplayName("Tests for List Reviews By Recipe Id Method")
     class ListReviewsTests {
@@ -159,7 +385,7 @@ class CommentServiceTest {
                 .thenReturn(mockPage);
 
             ReviewPagination result = service.listReviewsByRecipeId(
-                recipeId, pageNumber, size, CommentSortBy.CREATED_AT, SortDirection.DESC
+                recipeId, pageNumber, size, CommentSortBy.CREATED_AT, SortDirection.DESC, PaginationMode.OFFSET, null
             );
 
             assertNotNull(result);
@@ -176,7 +402,7 @@ class CommentServiceTest {
             Long invalidId = -1L;
 
             DomainException ex = assertThrows(DomainException.class, () ->
-                service.listReviewsByRecipeId(invalidId, 0, 10, null, null)
+                service.listReviewsByRecipeId(invalidId, 0, 10, null, null, null, null)
             );
 
             assertEquals("Recipe ID is required", ex.getMessage());
@@ -202,7 +428,9 @@ class CommentServiceTest {
                 1,
                 5,
                 CommentSortBy.RATING,
-                SortDirection.ASC
+                SortDirection.ASC,
+                PaginationMode.OFFSET,
+                null
             );
 
             PaginationMetadata meta = result.metadata();
@@ -211,6 +439,32 @@ class CommentServiceTest {
             assertTrue(meta.hasPrevious());
             assertTrue(meta.hasNext());
         }
+
+        @Test
+        @DisplayName("4. Should read a slice and take the total from the review summary")
+        @SuppressWarnings("unchecked")
+        void shouldReadSliceWithoutCounting() {
+            Long recipeId = 1L;
+
+            when(recipeService.findStatistics(recipeId)).thenReturn(Optional.of(statistics(12, 12, 4.0, 0, 0, 2, 8, 2)));
+            when(sliceQueryExecutor.fetch(eq(Comment.class), any(Specification.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 5), true));
+
+            ReviewPagination result = service.listReviewsByRecipeId(
+                recipeId,
+                0,
+                5,
+                CommentSortBy.CREATED_AT,
+                SortDirection.DESC,
+                PaginationMode.SLICE,
+                null
+            );
+
+            assertTrue(result.metadata().hasNext());
+            assertEquals(-1, result.metadata().totalPages());
+            assertEquals(12L, result.metadata().estimatedTotal());
+            verify(commentRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+        }
     }
 
     @Nested
@@ -220,41 +474,30 @@ class CommentServiceTest {
         @DisplayName("1. Should return empty summary when no reviews exist")
         void shouldReturnEmptySummaryWhenNoReviews() {
             Long recipeId = 1L;
-            when(commentRepository.getReviewStatsByRecipeId(recipeId)).thenReturn(null);
+            when(recipeService.findStatistics(recipeId)).thenReturn(Optional.of(statistics(0, 0, 0.0, 0, 0, 0, 0, 0)));
 
             ReviewSummaryDto result = service.buildReviewSummary(recipeId);
 
             assertEquals(0, result.totalReviews());
             assertEquals(0.0, result.averageRating());
             assertTrue(result.ratingBreakdown().isEmpty());
+            verifyNoInteractions(commentRepository);
         }
 
         @Test
         @DisplayName("2. Should calculate percentages correctly and include all star levels")
         void shouldCalculateSummaryCorrectly() {
-            // GIVEN
             Long recipeId = 1L;
-            int totalReviews = 10;
-
-            ReviewStatsProjection mockStats = mock(ReviewStatsProjection.class);
-            when(mockStats.getTotalReviews()).thenReturn(totalReviews);
-            when(mockStats.getTotalUsers()).thenReturn(8);
-            when(mockStats.getAverageRating()).thenReturn(4.5);
-
-            List<Map<String, Object>> rawBreakdown = List.of(
-                Map.of("ratingValue", 5.0, "count", 8),
-                Map.of("ratingValue", 4.0, "count", 2)
-            );
-
-            when(commentRepository.getReviewStatsByRecipeId(recipeId)).thenReturn(mockStats);
-            when(commentRepository.getRatingCountBreakdown(recipeId)).thenReturn(rawBreakdown);
+            when(recipeService.findStatistics(recipeId)).thenReturn(Optional.of(statistics(10, 8, 4.5, 0, 0, 0, 2, 8)));
 
             ReviewSummaryDto result = service.buildReviewSummary(recipeId);
 
             assertEquals(10, result.totalReviews());
+            assertEquals(8, result.totalUsers());
             assertEquals(4.5, result.averageRating());
 
             assertEquals(5, result.ratingBreakdown().size());
+            assertEquals(5, result.ratingBreakdown().get(0).ratingValue());
 
             ReviewStarOverview fiveStars = result.ratingBreakdown().stream()
                 .filter(o -> o.ratingValue() == 5).findFirst().orElseThrow();
@@ -268,26 +511,72 @@ class CommentServiceTest {
         }
 
         @Test
-        @DisplayName("3. Should handle edge case ratings (< 1 star) as 1 star")
-        void shouldHandleEdgeCaseRatings() {
-            Long recipeId = 1L;
-            ReviewStatsProjection mockStats = mock(ReviewStatsProjection.class);
-            when(mockStats.getTotalReviews()).thenReturn(1);
+        @DisplayName("3. Should return an empty summary when the recipe has no statistics")
+        void shouldReturnEmptySummaryWhenStatisticsAreMissing() {
+            when(recipeService.findStatistics(1L)).thenReturn(Optional.empty());
 
-            List<Map<String, Object>> rawBreakdown = List.of(
-                Map.of("ratingValue", 0.5, "count", 1)
-            );
+            ReviewSummaryDto result = service.buildReviewSummary(1L);
+
+            assertEquals(0, result.totalUsers());
+            assertTrue(result.ratingBreakdown().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("getReviewSummary Tests")
+    class GetReviewSummaryTests {
+        @Test
+        @DisplayName("1. Should read the summary from the recipe statistics")
+        void shouldReadSummaryFromStatistics() {
+            when(recipeService.findStatistics(1L)).thenReturn(Optional.of(statistics(4, 3, 3.5, 1, 0, 1, 0, 2)));
 
-            when(commentRepository.getReviewStatsByRecipeId(recipeId)).thenReturn(mockStats);
-            when(commentRepository.getRatingCountBreakdown(recipeId)).thenReturn(rawBreakdown);
+            ReviewSummaryDto result = service.getReviewSummary(1L);
 
-            ReviewSummaryDto result = service.buildReviewSummary(recipeId);
+            assertEquals(4, result.totalReviews());
+            assertEquals(3, result.totalUsers());
+            assertEquals(50.0, result.ratingBreakdown().get(0).percentage());
+            assertEquals(25.0, result.ratingBreakdown().get(4).percentage());
+            verifyNoInteractions(commentRepository);
+        }
 
-            ReviewStarOverview oneStar = result.ratingBreakdown().stream()
-                .filter(o -> o.ratingValue() == 1).findFirst().orElseThrow();
+        @Test
+        @DisplayName("2. Should throw ResourceNotFoundException when the recipe does not exist")
+        void shouldThrowWhenRecipeNotFound() {
+            when(recipeService.findStatistics(99L)).thenReturn(Optional.empty());
+
+            assertThrows(ResourceNotFoundException.class, () -> service.getReviewSummary(99L));
+        }
+
+        @Test
+        @DisplayName("3. Should throw DomainException when recipeId is invalid")
+        void shouldThrowWhenIdIsInvalid() {
+            assertThrows(DomainException.class, () -> service.getReviewSummary(-1L));
 
-            assertEquals(1, oneStar.count());
-            assertEquals(100.0, oneStar.percentage());
+            verifyNoInteractions(recipeService);
         }
     }
-}
\ No newline at end of file
+
+    private static RecipeStatistics statistics(
+        int reviews,
+        int reviewers,
+        double averageRating,
+        int oneStar,
+        int twoStars,
+        int threeStars,
+        int fourStars,
+        int fiveStars
+    ) {
+        RecipeStatistics statistics = mock(RecipeStatistics.class);
+
+        lenient().when(statistics.getReviewsCount()).thenReturn(reviews);
+        lenient().when(statistics.getReviewersCount()).thenReturn(reviewers);
+        lenient().when(statistics.getAverageRating()).thenReturn(averageRating);
+        lenient().when(statistics.countForStars(1)).thenReturn(oneStar);
+        lenient().when(statistics.countForStars(2)).thenReturn(twoStars);
+        lenient().when(statistics.countForStars(3)).thenReturn(threeStars);
+        lenient().when(statistics.countForStars(4)).thenReturn(fourStars);
+        lenient().when(statistics.countForStars(5)).thenReturn(fiveStars);
+
+        return statistics;
+    }
+}
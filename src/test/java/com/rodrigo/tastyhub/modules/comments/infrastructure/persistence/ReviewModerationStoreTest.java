@@ -0,0 +1,186 @@
+package com.rodrigo.tastyhub.modules.comments.infrastructure.persistence;
+
+import com.rodrigo.tastyhub.modules.comments.infrastructure.persistence.ReviewModerationStore.Removal;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.DifficultyLevel;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeCategory;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence.RecipeCounterStore;
+import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "app.recipe-counters.fold-enabled=false")
+class ReviewModerationStoreTest {
+    @Autowired
+    private ReviewModerationStore reviewModerationStore;
+
+    @Autowired
+    private RecipeCounterStore recipeCounterStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<Long> userIds = new ArrayList<>();
+
+    private final List<Long> recipeIds = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User author = persistUser("author");
+            User spammer = persistUser("spammer");
+            User reviewer = persistUser("reviewer");
+
+            Recipe first = persistRecipe(author, "Spammed recipe");
+            Recipe second = persistRecipe(author, "Another spammed recipe");
+
+            userIds.addAll(List.of(author.getId(), spammer.getId(), reviewer.getId()));
+            recipeIds.addAll(List.of(first.getId(), second.getId()));
+        });
+
+        review(userIds.get(1), recipeIds.get(0), "1.0", true);
+        review(userIds.get(1), recipeIds.get(0), "2.5", false);
+        review(userIds.get(1), recipeIds.get(1), "5.0", true);
+        review(userIds.get(2), recipeIds.get(0), "4.0", true);
+
+        foldAll();
+    }
+
+    @AfterEach
+    void cleanup() {
+        recipeIds.forEach(id -> jdbcTemplate.update("DELETE FROM comments WHERE recipe_id = ?", id));
+        recipeIds.forEach(id -> jdbcTemplate.update("DELETE FROM recipes WHERE id = ?", id));
+        userIds.forEach(id -> jdbcTemplate.update("DELETE FROM users WHERE id = ?", id));
+    }
+
+    private User persistUser(String role) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        User user = User.builder()
+            .firstName("Moderated")
+            .lastName(role)
+            .email(role + "-" + suffix + "@tastyhub.test")
+            .username(role + "_" + suffix)
+            .password("secret")
+            .profilePictureUrl("avatar.png")
+            .settings(null)
+            .build();
+
+        entityManager.persist(user);
+
+        return user;
+    }
+
+    private Recipe persistRecipe(User author, String title) {
+        Recipe recipe = new Recipe(
+            title,
+            "Recipe used to moderate reviews",
+            author,
+            true,
+            "en-US",
+            DifficultyLevel.BEGINNER,
+            RecipeCategory.DESSERT,
+            10,
+            20,
+            null,
+            null,
+            List.of(),
+            new ArrayList<>(),
+            new ArrayList<>()
+        );
+
+        entityManager.persist(recipe);
+
+        return recipe;
+    }
+
+    private void review(Long userId, Long recipeId, String rating, boolean firstByReviewer) {
+        jdbcTemplate.update(
+            "INSERT INTO comments (user_id, recipe_id, rating, content) VALUES (?, ?, ?, 'Review content here')",
+            userId,
+            recipeId,
+            new BigDecimal(rating)
+        );
+        recipeCounterStore.addReviews(recipeId, 1, new BigDecimal(rating), firstByReviewer ? 1 : 0);
+    }
+
+    private void foldAll() {
+        List<Long> folded;
+
+        do {
+            folded = recipeCounterStore.fold(1000);
+        } while (!folded.isEmpty());
+    }
+
+    private Map<String, Object> statistics(Long recipeId) {
+        return jdbcTemplate.queryForMap("SELECT * FROM recipe_statistics WHERE recipe_id = ?", recipeId);
+    }
+
+    private static int count(Map<String, Object> statistics, String column) {
+        return ((Number) statistics.get(column)).intValue();
+    }
+
+    @Test
+    @DisplayName("Should remove every review of the user and subtract exact deltas from each recipe")
+    void shouldRemoveReviewsAndApplyDeltasPerRecipe() {
+        Removal removal = transactionTemplate.execute(status -> reviewModerationStore.removeReviewsByUser(userIds.get(1)));
+
+        foldAll();
+
+        Map<String, Object> first = statistics(recipeIds.get(0));
+        Map<String, Object> second = statistics(recipeIds.get(1));
+
+        assertNotNull(removal);
+        assertEquals(3, removal.removedReviews());
+        assertEquals(recipeIds.stream().sorted().toList(), removal.recipeIds().stream().sorted().toList());
+
+        assertEquals(1, count(first, "reviews_count"));
+        assertEquals(0, new BigDecimal("4.0").compareTo((BigDecimal) first.get("total_rating_sum")));
+        assertEquals(0, count(first, "one_star_count"));
+        assertEquals(0, count(first, "two_star_count"));
+        assertEquals(1, count(first, "four_star_count"));
+        assertEquals(1, count(first, "reviewers_count"));
+        assertEquals(0, new BigDecimal("4.00").compareTo((BigDecimal) first.get("average_rating")));
+
+        assertEquals(0, count(second, "reviews_count"));
+        assertEquals(0, count(second, "five_star_count"));
+        assertEquals(0, count(second, "reviewers_count"));
+        assertEquals(0, BigDecimal.ZERO.compareTo((BigDecimal) second.get("total_rating_sum")));
+
+        assertEquals(0, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM comments WHERE user_id = ?",
+            Integer.class,
+            userIds.get(1)
+        ));
+    }
+
+    @Test
+    @DisplayName("Should report nothing when the user has no reviews")
+    void shouldReportNothingForUserWithoutReviews() {
+        Removal removal = reviewModerationStore.removeReviewsByUser(userIds.get(0));
+
+        assertEquals(0, removal.removedReviews());
+        assertTrue(removal.recipeIds().isEmpty());
+    }
+}
@@ -2,14 +2,18 @@ package com.rodrigo.tastyhub.modules.comments.interfaces.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rodrigo.tastyhub.modules.comments.application.dto.request.ReviewRequestDto;
+import com.rodrigo.tastyhub.modules.comments.application.dto.response.ReviewModerationReportDto;
 import com.rodrigo.tastyhub.modules.comments.application.dto.response.ReviewPagination;
+import com.rodrigo.tastyhub.modules.comments.application.dto.response.ReviewStarOverview;
 import com.rodrigo.tastyhub.modules.comments.application.dto.response.ReviewSummaryDto;
 import com.rodrigo.tastyhub.modules.comments.domain.model.Comment;
 import com.rodrigo.tastyhub.modules.comments.domain.model.CommentSortBy;
 import com.rodrigo.tastyhub.modules.comments.domain.services.CommentService;
 import com.rodrigo.tastyhub.modules.user.domain.model.User;
 import com.rodrigo.tastyhub.shared.dto.response.PaginationMetadata;
+import com.rodrigo.tastyhub.shared.enums.PaginationMode;
 import com.rodrigo.tastyhub.shared.enums.SortDirection;
+import com.rodrigo.tastyhub.shared.exception.ForbiddenException;
 import com.rodrigo.tastyhub.shared.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -38,6 +42,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 
 @WebMvcTest(CommentController.class)
 @WithMockUser
@@ -159,7 +165,8 @@ class CommentControllerTest {
                 eq(recipeId),
                 eq(0),
                 eq(10),
-                eq(CommentSortBy.CREATED_AT), eq(SortDirection.DESC))
+                eq(CommentSortBy.CREATED_AT), eq(SortDirection.DESC),
+                eq(PaginationMode.OFFSET), isNull())
             ).thenReturn(mockPagination);
 
             mockMvc.perform(get("/api/comments/recipe/{id}", recipeId)
@@ -175,7 +182,8 @@ class CommentControllerTest {
             Long recipeId = 1L;
 
             when(commentService.listReviewsByRecipeId(
-                eq(recipeId), eq(2), eq(5), eq(CommentSortBy.RATING), eq(SortDirection.ASC))
+                eq(recipeId), eq(2), eq(5), eq(CommentSortBy.RATING), eq(SortDirection.ASC),
+                eq(PaginationMode.OFFSET), isNull())
             ).thenReturn(null);
 
             mockMvc.perform(get("/api/comments/recipe/{id}", recipeId)
@@ -186,11 +194,27 @@ class CommentControllerTest {
                     .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk());
 
-            verify(commentService).listReviewsByRecipeId(1L, 2, 5, CommentSortBy.RATING, SortDirection.ASC);
+            verify(commentService).listReviewsByRecipeId(
+                1L, 2, 5, CommentSortBy.RATING, SortDirection.ASC, PaginationMode.OFFSET, null
+            );
+        }
+
+        @Test
+        @DisplayName("3. Should forward the cursor when cursor mode is requested")
+        void shouldForwardCursorInCursorMode() throws Exception {
+            mockMvc.perform(get("/api/comments/recipe/{id}", 1L)
+                    .param("mode", "CURSOR")
+                    .param("after", "opaque-cursor")
+                    .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+            verify(commentService).listReviewsByRecipeId(
+                1L, 0, 10, CommentSortBy.CREATED_AT, SortDirection.DESC, PaginationMode.CURSOR, "opaque-cursor"
+            );
         }
 
         @Test
-        @DisplayName("3. Should return 400 when recipeId is invalid (ConstraintViolation)")
+        @DisplayName("4. Should return 400 when recipeId is invalid (ConstraintViolation)")
         void shouldReturn400WhenIdIsInvalid() throws Exception {
             Long invalidId = 0L;
 
@@ -198,4 +222,114 @@ class CommentControllerTest {
                 .andExpect(status().isBadRequest());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("GET /api/comments/recipe/{id}/summary")
+    class RecipeReviewSummaryTests {
+        @Test
+        @DisplayName("1. Should return 200 and the star breakdown")
+        void shouldReturnReviewSummary() throws Exception {
+            when(commentService.getReviewSummary(1L)).thenReturn(new ReviewSummaryDto(
+                3,
+                4,
+                4.25,
+                List.of(new ReviewStarOverview(5, 50.0, 2), new ReviewStarOverview(4, 25.0, 1))
+            ));
+
+            mockMvc.perform(get("/api/comments/recipe/{id}/summary", 1L)
+                    .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalUsers").value(3))
+                .andExpect(jsonPath("$.totalReviews").value(4))
+                .andExpect(jsonPath("$.ratingBreakdown[0].ratingValue").value(5))
+                .andExpect(jsonPath("$.ratingBreakdown[0].count").value(2));
+        }
+
+        @Test
+        @DisplayName("2. Should return 404 when the recipe does not exist")
+        void shouldReturn404WhenRecipeNotFound() throws Exception {
+            when(commentService.getReviewSummary(99L))
+                .thenThrow(new ResourceNotFoundException("Recipe not found with the provided ID"));
+
+            mockMvc.perform(get("/api/comments/recipe/{id}/summary", 99L))
+                .andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("PUT /api/comments/{id}")
+    class EditReviewTests {
+        @Test
+        @DisplayName("1. Should return 200 with the edited review")
+        void shouldReturnEditedReview() throws Exception {
+            Comment edited = new Comment();
+            edited.setId(500L);
+            edited.setRating(new BigDecimal("3.5"));
+            edited.setContent("Changed my mind about it");
+            edited.setUser(User.builder().id(1L).firstName("John").lastName("Doe").username("chef_johndoe").build());
+
+            when(commentService.editReview(eq(500L), any(ReviewRequestDto.class))).thenReturn(edited);
+
+            mockMvc.perform(put("/api/comments/{id}", 500L)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(
+                        new ReviewRequestDto("Changed my mind about it", new BigDecimal("3.5"))
+                    )))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(500L))
+                .andExpect(jsonPath("$.rating").value(3.5));
+        }
+
+        @Test
+        @DisplayName("2. Should return 403 when the user is not the author")
+        void shouldReturn403WhenNotAuthor() throws Exception {
+            when(commentService.editReview(eq(500L), any(ReviewRequestDto.class)))
+                .thenThrow(new ForbiddenException("You are not the author of this review and cannot modify it."));
+
+            mockMvc.perform(put("/api/comments/{id}", 500L)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(
+                        new ReviewRequestDto("Someone else's review", new BigDecimal("1.0"))
+                    )))
+                .andExpect(status().isForbidden());
+        }
+    }
+
+    @Nested
+    @DisplayName("DELETE /api/comments/{id}")
+    class DeleteReviewTests {
+        @Test
+        @DisplayName("1. Should return 204 when the review is deleted")
+        void shouldReturn204WhenDeleted() throws Exception {
+            mockMvc.perform(delete("/api/comments/{id}", 500L))
+                .andExpect(status().isNoContent());
+
+            verify(commentService).deleteReview(500L);
+        }
+
+        @Test
+        @DisplayName("2. Should return 404 when the review does not exist")
+        void shouldReturn404WhenReviewNotFound() throws Exception {
+            doThrow(new ResourceNotFoundException("Review not found with the provided ID"))
+                .when(commentService).deleteReview(999L);
+
+            mockMvc.perform(delete("/api/comments/{id}", 999L))
+                .andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("DELETE /api/comments/users/{userId}/reviews")
+    class RemoveReviewsByUserTests {
+        @Test
+        @DisplayName("1. Should return 200 with the moderation report")
+        void shouldReturnModerationReport() throws Exception {
+            when(commentService.removeReviewsByUser(7L)).thenReturn(new ReviewModerationReportDto(5, 2));
+
+            mockMvc.perform(delete("/api/comments/users/{userId}/reviews", 7L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.removedReviews").value(5))
+                .andExpect(jsonPath("$.affectedRecipes").value(2));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.rodrigo.tastyhub.modules.recipes.application.usecases;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.DifficultyLevel;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeCategory;
+import com.rodrigo.tastyhub.modules.user.domain.model.OnboardingStatus;
+import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import com.rodrigo.tastyhub.modules.user.domain.model.UserStatus;
+import com.rodrigo.tastyhub.shared.config.security.SecurityService;
+import com.rodrigo.tastyhub.shared.exception.ForbiddenException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = "app.recipe-counters.fold-enabled=false")
+class GetRecipeByIdUseCaseTest {
+    @Autowired
+    private GetRecipeByIdUseCase getRecipeByIdUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private SecurityService securityService;
+
+    private Long authorId;
+
+    private Long strangerId;
+
+    private Long recipeId;
+
+    @BeforeEach
+    void setup() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User author = buildUser("author", suffix);
+            author.initializeSettings();
+            entityManager.persist(author);
+
+            User stranger = buildUser("stranger", suffix);
+            stranger.setSettings(null);
+            entityManager.persist(stranger);
+
+            Recipe recipe = new Recipe(
+                "Cached recipe",
+                "Recipe whose author turns private after it is cached",
+                author,
+                true,
+                "en-US",
+                DifficultyLevel.BEGINNER,
+                RecipeCategory.DESSERT,
+                10,
+                20,
+                null,
+                null,
+                List.of(),
+                new ArrayList<>(),
+                new ArrayList<>()
+            );
+
+            entityManager.persist(recipe);
+
+            authorId = author.getId();
+            strangerId = stranger.getId();
+            recipeId = recipe.getId();
+
+            when(securityService.getCurrentUserOptional()).thenReturn(Optional.of(stranger));
+        });
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM recipes WHERE id = ?", recipeId);
+        jdbcTemplate.update("DELETE FROM user_settings WHERE user_id IN (?, ?)", authorId, strangerId);
+        jdbcTemplate.update("DELETE FROM users WHERE id IN (?, ?)", authorId, strangerId);
+    }
+
+    private User buildUser(String role, String suffix) {
+        return User.builder()
+            .firstName("Cached")
+            .lastName(role)
+            .email(role + "-" + suffix + "@tastyhub.test")
+            .username(role + "_" + suffix)
+            .password("secret")
+            .profilePictureUrl("avatar.png")
+            .status(UserStatus.ACTIVE)
+            .onboardingStatus(OnboardingStatus.COMPLETED)
+            .build();
+    }
+
+    @Test
+    @DisplayName("Should deny a cached recipe to strangers once its author turns private")
+    void shouldDenyCachedRecipeAfterAuthorTurnsPrivate() {
+        assertEquals(recipeId, getRecipeByIdUseCase.execute(recipeId).id());
+
+        jdbcTemplate.update("UPDATE user_settings SET profile_visibility = 'PRIVATE' WHERE user_id = ?", authorId);
+
+        assertThrows(ForbiddenException.class, () -> getRecipeByIdUseCase.execute(recipeId));
+    }
+}
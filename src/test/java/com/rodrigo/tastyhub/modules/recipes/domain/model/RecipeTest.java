@@ -0,0 +1,182 @@
+package com.rodrigo.tastyhub.modules.recipes.domain.model;
+
+import com.rodrigo.tastyhub.shared.exception.DomainException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecipeTest {
+    private Recipe recipe;
+    private Ingredient flour;
+    private Ingredient sugar;
+
+    @BeforeEach
+    void setUp() {
+        flour = Ingredient.builder().id(1L).name("Flour").build();
+        sugar = Ingredient.builder().id(2L).name("Sugar").build();
+
+        recipe = Recipe.builder().id(10L).build();
+        recipe.setSteps(new ArrayList<>(List.of(
+            step(100L, 1, "Mix"),
+            step(101L, 2, "Rest"),
+            step(102L, 3, "Bake at 180C")
+        )));
+        recipe.setIngredients(new ArrayList<>(List.of(
+            recipeIngredient(200L, flour, "500"),
+            recipeIngredient(201L, sugar, "100")
+        )));
+    }
+
+    private PreparationStep step(Long id, int stepNumber, String instruction) {
+        return PreparationStep.builder()
+            .id(id)
+            .stepNumber(stepNumber)
+            .instruction(instruction)
+            .recipe(recipe)
+            .build();
+    }
+
+    private RecipeIngredient recipeIngredient(Long id, Ingredient ingredient, String quantity) {
+        return RecipeIngredient.builder()
+            .id(id)
+            .ingredient(ingredient)
+            .quantity(new BigDecimal(quantity))
+            .unit(IngredientUnitEnum.GRAM)
+            .recipe(recipe)
+            .build();
+    }
+
+    @Nested
+    @DisplayName("Tests for Update Steps Method")
+    class UpdateStepsTests {
+        @Test
+        @DisplayName("Should edit only the changed step and keep the existing rows")
+        void shouldEditChangedStepInPlace() {
+            List<PreparationStep> original = List.copyOf(recipe.getSteps());
+
+            recipe.updateSteps(List.of(
+                step(100L, 1, "Mix"),
+                step(101L, 2, "Rest"),
+                step(102L, 3, "Bake at 200C")
+            ));
+
+            assertEquals(original, recipe.getSteps());
+            assertEquals("Bake at 200C", recipe.getSteps().get(2).getInstruction());
+            assertEquals("Mix", recipe.getSteps().get(0).getInstruction());
+        }
+
+        @Test
+        @DisplayName("Should renumber reordered steps without replacing them")
+        void shouldRenumberReorderedSteps() {
+            PreparationStep mix = recipe.getSteps().get(0);
+            PreparationStep bake = recipe.getSteps().get(2);
+
+            recipe.updateSteps(List.of(
+                step(102L, 1, "Bake at 180C"),
+                step(100L, 2, "Mix")
+            ));
+
+            assertEquals(List.of(bake, mix), recipe.getSteps());
+            assertEquals(1, bake.getStepNumber());
+            assertEquals(2, mix.getStepNumber());
+        }
+
+        @Test
+        @DisplayName("Should reuse existing rows positionally when steps are sent without IDs")
+        void shouldReuseRowsForStepsWithoutIds() {
+            List<PreparationStep> original = List.copyOf(recipe.getSteps());
+
+            recipe.updateSteps(List.of(
+                step(null, 1, "Mix"),
+                step(null, 2, "Rest"),
+                step(null, 3, "Bake at 200C"),
+                step(null, 4, "Serve")
+            ));
+
+            assertEquals(4, recipe.getSteps().size());
+            assertEquals(original, recipe.getSteps().subList(0, 3));
+            assertNull(recipe.getSteps().get(3).getId());
+            assertSame(recipe, recipe.getSteps().get(3).getRecipe());
+            assertEquals(4, recipe.getSteps().get(3).getStepNumber());
+        }
+
+        @Test
+        @DisplayName("Should throw DomainException when no steps are provided")
+        void shouldThrowWhenEmpty() {
+            assertThrows(DomainException.class, () -> recipe.updateSteps(List.of()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for Update Ingredients Method")
+    class UpdateIngredientsTests {
+        @Test
+        @DisplayName("Should update matching rows in place and remove the missing ones")
+        void shouldUpdateInPlaceAndRemoveMissing() {
+            RecipeIngredient flourRow = recipe.getIngredients().get(0);
+
+            recipe.updateIngredients(List.of(recipeIngredient(200L, null, "750")));
+
+            assertEquals(List.of(flourRow), recipe.getIngredients());
+            assertEquals(0, new BigDecimal("750").compareTo(flourRow.getQuantity()));
+            assertEquals(1, recipe.getIngredientCount());
+        }
+
+        @Test
+        @DisplayName("Should reuse the row of the same ingredient when it is sent without an ID")
+        void shouldReuseRowOfSameIngredient() {
+            RecipeIngredient sugarRow = recipe.getIngredients().get(1);
+            Ingredient salt = Ingredient.builder().id(3L).name("Salt").build();
+
+            recipe.updateIngredients(List.of(
+                recipeIngredient(200L, null, "500"),
+                recipeIngredient(null, sugar, "150"),
+                recipeIngredient(null, salt, "5")
+            ));
+
+            assertEquals(3, recipe.getIngredients().size());
+            assertSame(sugarRow, recipe.getIngredients().get(1));
+            assertEquals(0, new BigDecimal("150").compareTo(sugarRow.getQuantity()));
+            assertNull(recipe.getIngredients().get(2).getId());
+            assertEquals(3, recipe.getIngredientCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for Mark Published Method")
+    class MarkPublishedTests {
+        @Test
+        @DisplayName("Should keep the first publish time when a recipe is made private and public again")
+        void shouldKeepFirstPublishTime() {
+            recipe.setPublic(false);
+            recipe.setPublishedAt(null);
+
+            recipe.update(null, null, null, null, null, true, null, null, null, null, null, null, null);
+            OffsetDateTime firstPublishedAt = recipe.getPublishedAt();
+
+            recipe.update(null, null, null, null, null, false, null, null, null, null, null, null, null);
+            recipe.update(null, null, null, null, null, true, null, null, null, null, null, null, null);
+
+            assertNotNull(firstPublishedAt);
+            assertEquals(firstPublishedAt, recipe.getPublishedAt());
+        }
+
+        @Test
+        @DisplayName("Should not stamp a private recipe")
+        void shouldNotStampPrivateRecipe() {
+            recipe.setPublic(false);
+
+            recipe.markPublished();
+
+            assertNull(recipe.getPublishedAt());
+        }
+    }
+}
@@ -1,18 +1,28 @@
 package com.rodrigo.tastyhub.modules.recipes.domain.service;
 
 import com.rodrigo.tastyhub.modules.recipes.domain.model.Currency;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.ExchangeRate;
 import com.rodrigo.tastyhub.modules.recipes.domain.repository.CurrencyRepository;
+import com.rodrigo.tastyhub.modules.recipes.domain.repository.ExchangeRateRepository;
+import com.rodrigo.tastyhub.modules.recipes.domain.repository.RecipeRepository;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.cache.ReferenceDataCache;
 import com.rodrigo.tastyhub.shared.exception.DomainException;
+import com.rodrigo.tastyhub.shared.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -21,6 +31,15 @@ class CurrencyServiceTest {
     @Mock
     private CurrencyRepository currencyRepository;
 
+    @Mock
+    private ExchangeRateRepository exchangeRateRepository;
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Spy
+    private ReferenceDataCache referenceDataCache = new ReferenceDataCache(60, 100, 60);
+
     @InjectMocks
     private CurrencyService currencyService;
 
@@ -39,12 +58,27 @@ class CurrencyServiceTest {
             currency.setCode("USD");
             currency.setSymbol("$");
 
-            when(currencyRepository.findById(currencyId)).thenReturn(Optional.of(currency));
+            when(currencyRepository.findAllById(Set.of(currencyId))).thenReturn(List.of(currency));
+
+            Currency response = currencyService.findById(currencyId);
+
+            assertEquals(currency, response);
+            verify(currencyRepository, times(1)).findAllById(eq(Set.of(currencyId)));
+        }
 
+        @Test
+        @DisplayName("Should serve repeated lookups from the reference data cache")
+        void shouldServeRepeatedLookupsFromCache() {
+            Short currencyId = 2;
+            Currency currency = new Currency(currencyId, "BRL", "Real", "R$");
+
+            when(currencyRepository.findAllById(Set.of(currencyId))).thenReturn(List.of(currency));
+
+            currencyService.findById(currencyId);
             Currency response = currencyService.findById(currencyId);
 
             assertEquals(currency, response);
-            verify(currencyRepository, times(1)).findById(eq(currencyId));
+            verify(currencyRepository, times(1)).findAllById(any());
         }
 
         @Test
@@ -52,9 +86,113 @@ class CurrencyServiceTest {
         void shouldThrowsDomainExceptionWhenCurrencyIsNotFound() {
             Short currencyId = 1;
 
-            when(currencyRepository.findById(currencyId)).thenReturn(Optional.empty());
+            when(currencyRepository.findAllById(Set.of(currencyId))).thenReturn(List.of());
 
             assertThrows(DomainException.class, () -> currencyService.findById(currencyId));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Tests for Find Ids By Codes Method")
+    class FindIdsByCodesTests {
+        @Test
+        @DisplayName("Should resolve codes case-insensitively and serve repeated lookups from the cache")
+        void shouldResolveCodesOnce() {
+            Currency real = new Currency((short) 2, "BRL", "Real", "R$");
+
+            when(currencyRepository.findAllByCodeIn(Set.of("BRL"))).thenReturn(List.of(real));
+
+            assertEquals(Set.of((short) 2), currencyService.findIdsByCodes(List.of("brl")));
+            assertEquals(Set.of((short) 2), currencyService.findIdsByCodes(List.of("BRL")));
+            verify(currencyRepository, times(1)).findAllByCodeIn(any());
+        }
+
+        @Test
+        @DisplayName("Should return no ids for unknown codes")
+        void shouldIgnoreUnknownCodes() {
+            when(currencyRepository.findAllByCodeIn(Set.of("XYZ"))).thenReturn(List.of());
+
+            assertEquals(Set.of(), currencyService.findIdsByCodes(List.of("xyz")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for To Base Currency Method")
+    class ToBaseCurrencyTests {
+        @Test
+        @DisplayName("Should convert the amount using the stored exchange rate")
+        void shouldConvertAmountUsingStoredRate() {
+            Currency currency = new Currency((short) 2, "BRL", "Real Brasileiro", "R$");
+            ExchangeRate rate = ExchangeRate.builder()
+                .currencyId((short) 2)
+                .currency(currency)
+                .rateToBase(new BigDecimal("0.18"))
+                .build();
+
+            when(exchangeRateRepository.findById((short) 2)).thenReturn(Optional.of(rate));
+
+            BigDecimal result = currencyService.toBaseCurrency(new BigDecimal("50.00"), currency);
+
+            assertEquals(new BigDecimal("9.00"), result);
+        }
+
+        @Test
+        @DisplayName("Should return null when the currency has no exchange rate")
+        void shouldReturnNullWhenCurrencyHasNoRate() {
+            Currency currency = new Currency((short) 3, "EUR", "Euro", "€");
+
+            when(exchangeRateRepository.findById((short) 3)).thenReturn(Optional.empty());
+
+            assertNull(currencyService.toBaseCurrency(new BigDecimal("10.00"), currency));
+        }
+
+        @Test
+        @DisplayName("Should return null without querying when amount is missing")
+        void shouldReturnNullWhenAmountIsMissing() {
+            Currency currency = new Currency((short) 1, "USD", "US Dollar", "$");
+
+            assertNull(currencyService.toBaseCurrency(null, currency));
+            verifyNoInteractions(exchangeRateRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for Update Exchange Rate Method")
+    class UpdateExchangeRateTests {
+        @Test
+        @DisplayName("Should store the rate and re-normalize the recipes priced in the currency")
+        void shouldStoreRateAndRenormalizeRecipes() {
+            Currency currency = new Currency((short) 2, "BRL", "Real Brasileiro", "R$");
+            BigDecimal newRate = new BigDecimal("0.19");
+
+            when(currencyRepository.findByCode("BRL")).thenReturn(Optional.of(currency));
+            when(exchangeRateRepository.findById((short) 2)).thenReturn(Optional.empty());
+            when(exchangeRateRepository.saveAndFlush(any(ExchangeRate.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            ExchangeRate result = currencyService.updateExchangeRate("brl", newRate);
+
+            assertEquals(newRate, result.getRateToBase());
+            assertEquals(currency, result.getCurrency());
+            verify(recipeRepository, times(1)).renormalizeCostByCurrencyId(eq((short) 2), eq(newRate));
+        }
+
+        @Test
+        @DisplayName("Should throw DomainException when rate is not positive")
+        void shouldThrowDomainExceptionWhenRateIsNotPositive() {
+            assertThrows(DomainException.class, () -> currencyService.updateExchangeRate("BRL", BigDecimal.ZERO));
+            verifyNoInteractions(recipeRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException when currency does not exist")
+        void shouldThrowResourceNotFoundWhenCurrencyDoesNotExist() {
+            when(currencyRepository.findByCode("XYZ")).thenReturn(Optional.empty());
+
+            assertThrows(
+                ResourceNotFoundException.class,
+                () -> currencyService.updateExchangeRate("XYZ", BigDecimal.ONE)
+            );
+            verifyNoInteractions(recipeRepository);
+        }
+    }
+}
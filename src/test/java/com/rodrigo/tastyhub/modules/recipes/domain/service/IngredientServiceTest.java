@@ -1,16 +1,29 @@
 package com.rodrigo.tastyhub.modules.recipes.domain.service;
 
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.IngredientSummaryDto;
 import com.rodrigo.tastyhub.modules.recipes.domain.model.Ingredient;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.IngredientUnitEnum;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeIngredient;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeIngredientCommand;
 import com.rodrigo.tastyhub.modules.recipes.domain.repository.IngredientRepository;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.cache.IngredientSearchCache;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.cache.ReferenceDataCache;
+import com.rodrigo.tastyhub.shared.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import static org.mockito.Mockito.*;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -19,6 +32,12 @@ class IngredientServiceTest {
     @Mock
     private IngredientRepository ingredientRepository;
 
+    @Mock
+    private IngredientSearchCache ingredientSearchCache;
+
+    @Spy
+    private ReferenceDataCache referenceDataCache = new ReferenceDataCache(60, 100, 60);
+
     @InjectMocks
     private IngredientService ingredientService;
 
@@ -59,4 +78,145 @@ class IngredientServiceTest {
             verify(ingredientRepository, times(1)).findById(eq(ingredientId));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Tests for Find All By Ids Or Throw Method")
+    class FindAllByIdsOrThrowTests {
+        @Test
+        @DisplayName("Should load uncached ingredients in one query and serve repeats from the cache")
+        void shouldBatchAndCacheLookups() {
+            Ingredient eggs = new Ingredient(1L, "Eggs");
+            Ingredient flour = new Ingredient(2L, "Flour");
+
+            when(ingredientRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(eggs, flour));
+
+            Map<Long, Ingredient> first = ingredientService.findAllByIdsOrThrow(List.of(1L, 2L, 1L));
+            Map<Long, Ingredient> second = ingredientService.findAllByIdsOrThrow(List.of(2L));
+
+            assertEquals(Map.of(1L, eggs, 2L, flour), first);
+            assertEquals(Map.of(2L, flour), second);
+            verify(ingredientRepository, times(1)).findAllById(any());
+        }
+
+        @Test
+        @DisplayName("Should list every missing ingredient ID")
+        void shouldReportMissingIds() {
+            when(ingredientRepository.findAllById(Set.of(1L, 8L, 9L))).thenReturn(List.of(new Ingredient(1L, "Eggs")));
+
+            ResourceNotFoundException exception = assertThrows(
+                ResourceNotFoundException.class,
+                () -> ingredientService.findAllByIdsOrThrow(List.of(1L, 8L, 9L))
+            );
+
+            assertEquals("Ingredients not found with IDs: [8, 9]", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for Preparer All Method")
+    class PreparerAllTests {
+        @Test
+        @DisplayName("Should resolve all new ingredients with a single batched lookup")
+        void shouldResolveNewIngredientsInOneQuery() {
+            Recipe recipe = new Recipe();
+
+            when(ingredientRepository.findAllById(Set.of(3L, 4L)))
+                .thenReturn(List.of(new Ingredient(3L, "Salt"), new Ingredient(4L, "Pepper")));
+
+            List<RecipeIngredient> result = ingredientService.preparerAll(List.of(
+                new RecipeIngredientCommand(10L, null, new BigDecimal("1.00"), IngredientUnitEnum.UNIT),
+                new RecipeIngredientCommand(null, 3L, new BigDecimal("2.00"), IngredientUnitEnum.PINCH),
+                new RecipeIngredientCommand(null, 4L, null, IngredientUnitEnum.TO_TASTE)
+            ), recipe);
+
+            assertEquals(3, result.size());
+            assertNull(result.get(0).getIngredient());
+            assertEquals("Salt", result.get(1).getIngredient().getName());
+            assertEquals("Pepper", result.get(2).getIngredient().getName());
+            verify(ingredientRepository, times(1)).findAllById(any());
+            verify(ingredientRepository, never()).findById(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for Find All By Names Method")
+    class FindAllByNamesTests {
+        @Test
+        @DisplayName("Should normalize names and resolve them in a single query")
+        void shouldNormalizeNamesAndResolveInSingleQuery() {
+            List<Ingredient> ingredients = List.of(new Ingredient(1L, "Eggs"), new Ingredient(2L, "Flour"));
+
+            when(ingredientRepository.findAllByLowerNameIn(Set.of("eggs", "flour"))).thenReturn(ingredients);
+
+            List<Ingredient> result = ingredientService.findAllByNames(List.of(" Eggs ", "FLOUR", "eggs", " "));
+
+            assertEquals(ingredients, result);
+            verify(ingredientRepository, times(1)).findAllByLowerNameIn(eq(Set.of("eggs", "flour")));
+        }
+
+        @Test
+        @DisplayName("Should not query the database when no names are given")
+        void shouldNotQueryWhenNoNamesAreGiven() {
+            List<Ingredient> result = ingredientService.findAllByNames(List.of());
+
+            assertTrue(result.isEmpty());
+            verify(ingredientRepository, never()).findAllByLowerNameIn(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for Search Method")
+    class SearchTests {
+        @Test
+        @DisplayName("Should search with the accent-free term and cache the result")
+        void shouldSearchAndCacheResult() {
+            when(ingredientSearchCache.get("manjericao", 10)).thenReturn(Optional.empty());
+            when(ingredientRepository.searchByName("manjericao", 10))
+                .thenReturn(List.of(new Ingredient(3L, "Manjericão")));
+
+            List<IngredientSummaryDto> result = ingredientService.search("  Manjericão ", 10);
+
+            assertEquals(List.of(new IngredientSummaryDto(3L, "Manjericão")), result);
+            verify(ingredientSearchCache, times(1)).put("manjericao", 10, result);
+        }
+
+        @Test
+        @DisplayName("Should answer from the cache without querying the database")
+        void shouldReturnCachedResult() {
+            List<IngredientSummaryDto> cached = List.of(new IngredientSummaryDto(1L, "Tomato"));
+
+            when(ingredientSearchCache.get("tomatoe", 10)).thenReturn(Optional.of(cached));
+
+            List<IngredientSummaryDto> result = ingredientService.search("Tomatoe", 10);
+
+            assertEquals(cached, result);
+            verify(ingredientRepository, never()).searchByName(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should not query the database for a blank term")
+        void shouldIgnoreBlankTerm() {
+            List<IngredientSummaryDto> result = ingredientService.search("   ", 10);
+
+            assertTrue(result.isEmpty());
+            verify(ingredientRepository, never()).searchByName(any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for Create Method")
+    class CreateTests {
+        @Test
+        @DisplayName("Should evict cached searches so the new ingredient shows up")
+        void shouldEvictSearchCacheOnCreate() {
+            Ingredient saved = new Ingredient(7L, "Basil");
+
+            when(ingredientRepository.save(any(Ingredient.class))).thenReturn(saved);
+
+            Ingredient result = ingredientService.create("Basil");
+
+            assertEquals(saved, result);
+            verify(ingredientSearchCache, times(1)).evictAll();
+        }
+    }
+}
@@ -1,14 +1,31 @@
 package com.rodrigo.tastyhub.modules.recipes.domain.service;
 
 import com.rodrigo.tastyhub.modules.recipes.application.dto.request.*;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.PantryMatchDto;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.RecipeFacetsDto;
 import com.rodrigo.tastyhub.modules.recipes.application.dto.response.RecipePagination;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.SimilarRecipeDto;
 import com.rodrigo.tastyhub.modules.recipes.domain.model.*;
 import com.rodrigo.tastyhub.modules.recipes.domain.model.Currency;
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeSummaryProjection;
 import com.rodrigo.tastyhub.modules.recipes.domain.repository.RecipeRepository;
+import com.rodrigo.tastyhub.modules.recipes.domain.repository.RecipeStatisticsRepository;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.cache.RecipeDetailCache;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.index.RecipeFacetIndex;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.index.RecipePantryIndex;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.index.RecipeSimilarityIndex;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.index.RecipeSuggestionIndex;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence.RecipeBatchWriter;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence.RecipeCounterStore;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence.RecipeFacetCountReader;
 import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import com.rodrigo.tastyhub.shared.enums.PaginationMode;
 import com.rodrigo.tastyhub.shared.enums.SortDirection;
 import com.rodrigo.tastyhub.shared.exception.ForbiddenException;
 import com.rodrigo.tastyhub.shared.exception.ResourceNotFoundException;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.KeysetQueryExecutor;
+import com.rodrigo.tastyhub.shared.infrastructure.persistence.RowCountEstimator;
+import com.rodrigo.tastyhub.shared.kernel.pagination.KeysetWindow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,6 +38,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
@@ -38,6 +56,42 @@ class RecipeServiceTest {
     @Mock
     private RecipeRepository recipeRepository;
 
+    @Mock
+    private IngredientService ingredientService;
+
+    @Mock
+    private CurrencyService currencyService;
+
+    @Mock
+    private RowCountEstimator rowCountEstimator;
+
+    @Mock
+    private RecipeDetailCache recipeDetailCache;
+
+    @Mock
+    private RecipeFacetIndex recipeFacetIndex;
+
+    @Mock
+    private RecipeFacetCountReader recipeFacetCountReader;
+
+    @Mock
+    private RecipeSuggestionIndex recipeSuggestionIndex;
+
+    @Mock
+    private RecipePantryIndex recipePantryIndex;
+
+    @Mock
+    private RecipeSimilarityIndex recipeSimilarityIndex;
+
+    @Mock
+    private RecipeBatchWriter recipeBatchWriter;
+
+    @Mock
+    private RecipeCounterStore recipeCounterStore;
+
+    @Mock
+    private RecipeStatisticsRepository recipeStatisticsRepository;
+
     @InjectMocks
     private RecipeService recipeService;
 
@@ -57,10 +111,12 @@ class RecipeServiceTest {
         fakeRecipe.setCoverAlt("Alternative");
         fakeRecipe.setEstimatedCost(new BigDecimal("10.5"));
 
-        RecipeStatistics recipeStatistics = new RecipeStatistics();
-
-        recipeStatistics.incrementRating(new BigDecimal("4.5"));
-        recipeStatistics.setFavoritesCount(0);
+        RecipeStatistics recipeStatistics = RecipeStatistics.builder()
+            .reviewsCount(1)
+            .totalRatingSum(new BigDecimal("4.0"))
+            .averageRating(4.0)
+            .favoritesCount(0)
+            .build();
 
         fakeRecipe.setStatistics(recipeStatistics);
 
@@ -153,6 +209,34 @@ class RecipeServiceTest {
 
             assertThrows(ResourceNotFoundException.class, () -> recipeService.findByIdOrThrow(recipeId));
         }
+
+        @Test
+        @DisplayName("Should load the full recipe with the graph plus one query per collection")
+        void shouldLoadFullRecipeInThreeQueries() {
+            Long recipeId = 1L;
+
+            when(recipeRepository.findFullById(recipeId)).thenReturn(Optional.of(fakeRecipe));
+
+            Recipe response = recipeService.findFullByIdOrThrow(recipeId);
+
+            assertEquals(fakeRecipe, response);
+            verify(recipeRepository).findFullById(recipeId);
+            verify(recipeRepository).fetchStepsById(recipeId);
+            verify(recipeRepository).fetchTagsById(recipeId);
+            verify(recipeRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Should not load the collections when the full recipe is not found")
+        void shouldThrowWhenFullRecipeIsNotFound() {
+            Long recipeId = 1L;
+
+            when(recipeRepository.findFullById(recipeId)).thenReturn(Optional.empty());
+
+            assertThrows(ResourceNotFoundException.class, () -> recipeService.findFullByIdOrThrow(recipeId));
+            verify(recipeRepository, never()).fetchStepsById(any());
+            verify(recipeRepository, never()).fetchTagsById(any());
+        }
     }
 
     @Nested
@@ -169,6 +253,18 @@ class RecipeServiceTest {
             verify(recipeRepository, times(1)).save(fakeRecipe);
         }
 
+        @Test
+        @DisplayName("Should store the cost normalized to the base currency")
+        void shouldStoreNormalizedCost() {
+            when(currencyService.toBaseCurrency(fakeRecipe.getEstimatedCost(), fakeRecipe.getCurrency()))
+                .thenReturn(new BigDecimal("10.50"));
+            when(recipeRepository.save(any(Recipe.class))).thenReturn(fakeRecipe);
+
+            recipeService.create(fakeRecipe);
+
+            assertEquals(new BigDecimal("10.50"), fakeRecipe.getNormalizedCost());
+        }
+
         @Test
         @DisplayName("Should throw exception when recipe has no steps")
         void shouldThrowExceptionWhenNoSteps() {
@@ -201,6 +297,90 @@ class RecipeServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Tests for Import All Method")
+    class ImportAllTests {
+        @Test
+        @DisplayName("Should normalize costs with one rate lookup and write the chunk in a single batch")
+        void shouldNormalizeAndBatchWrite() {
+            Recipe withoutCost = new Recipe();
+            withoutCost.setId(2L);
+
+            when(currencyService.findRatesToBase(Set.of((short) 1)))
+                .thenReturn(Map.of((short) 1, new BigDecimal("0.2")));
+            when(currencyService.toBaseAmount(new BigDecimal("10.5"), new BigDecimal("0.2")))
+                .thenReturn(new BigDecimal("2.10"));
+
+            List<Recipe> imported = recipeService.importAll(List.of(fakeRecipe, withoutCost));
+
+            assertEquals(2, imported.size());
+            assertEquals(new BigDecimal("2.10"), fakeRecipe.getNormalizedCost());
+            assertNull(withoutCost.getNormalizedCost());
+            verify(currencyService, times(1)).findRatesToBase(any());
+            verify(recipeBatchWriter).insertAll(List.of(fakeRecipe, withoutCost));
+            verify(recipeRepository, never()).save(any());
+            verify(recipeFacetIndex).index(fakeRecipe);
+            verify(recipeSimilarityIndex).index(withoutCost);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for Counter Methods")
+    class CounterTests {
+        @Test
+        @DisplayName("Should record favorite changes as deltas without touching the statistics entity")
+        void shouldRecordFavoriteDelta() {
+            recipeService.adjustFavorites(1L, -1);
+
+            verify(recipeCounterStore).addFavorites(1L, -1);
+            verify(recipeRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should record a review together with its first-time reviewer")
+        void shouldRecordReviewDelta() {
+            recipeService.recordReview(1L, new BigDecimal("4.5"), true);
+
+            verify(recipeCounterStore).addReviews(1L, 1, new BigDecimal("4.5"), 1);
+            verify(recipeCounterStore).fold(1L);
+            verify(recipeDetailCache).evict(1L);
+        }
+
+        @Test
+        @DisplayName("Should not count a returning reviewer twice")
+        void shouldRecordReturningReviewer() {
+            recipeService.recordReview(1L, new BigDecimal("2.0"), false);
+
+            verify(recipeCounterStore).addReviews(1L, 1, new BigDecimal("2.0"), 0);
+        }
+
+        @Test
+        @DisplayName("Should move an edited review between star buckets")
+        void shouldRecordRatingChange() {
+            recipeService.changeReviewRating(1L, new BigDecimal("2.0"), new BigDecimal("4.5"));
+
+            verify(recipeCounterStore).changeRating(1L, new BigDecimal("2.0"), new BigDecimal("4.5"));
+            verify(recipeCounterStore).fold(1L);
+        }
+
+        @Test
+        @DisplayName("Should skip the delta when an edit keeps the rating")
+        void shouldSkipUnchangedRating() {
+            recipeService.changeReviewRating(1L, new BigDecimal("4.0"), new BigDecimal("4.00"));
+
+            verifyNoInteractions(recipeCounterStore);
+        }
+
+        @Test
+        @DisplayName("Should withdraw a deleted review and its reviewer")
+        void shouldRecordWithdrawnReview() {
+            recipeService.withdrawReview(1L, new BigDecimal("3.5"), true);
+
+            verify(recipeCounterStore).addReviews(1L, -1, new BigDecimal("3.5"), -1);
+            verify(recipeCounterStore).fold(1L);
+        }
+    }
+
     @Nested
     @DisplayName("Tests for List Recipes Method")
     class ListRecipes {
@@ -222,13 +402,22 @@ class RecipeServiceTest {
                 null,
                 null,
                 null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null
             );
 
-            Recipe fakeRecipe = createFakeRecipe();
-            Page<Recipe> recipePage = new PageImpl<>(List.of(fakeRecipe), PageRequest.of(0, 10), 1);
+            Page<RecipeSummaryProjection> recipePage = new PageImpl<>(
+                List.of(createFakeSummary()),
+                PageRequest.of(0, 10),
+                1
+            );
 
-            when(recipeRepository.findAll(any(Specification.class), any(Pageable.class)))
+            when(recipeRepository.findSummaries(any(Specification.class), any(Pageable.class)))
                 .thenReturn(recipePage);
 
             RecipePagination result = recipeService.findAll(query, null, null);
@@ -240,7 +429,7 @@ class RecipeServiceTest {
             assertEquals(1L, result.metadata().totalItems());
 
             ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-            verify(recipeRepository).findAll(any(Specification.class), pageableCaptor.capture());
+            verify(recipeRepository).findSummaries(any(Specification.class), pageableCaptor.capture());
 
             Pageable capturedPageable = pageableCaptor.getValue();
             assertEquals(0, capturedPageable.getPageNumber());
@@ -266,18 +455,435 @@ class RecipeServiceTest {
                 null,
                 null,
                 null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null
             );
-            Page<Recipe> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
+            Page<RecipeSummaryProjection> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
 
-            when(recipeRepository.findAll(any(Specification.class), any(Pageable.class)))
+            when(recipeRepository.findSummaries(any(Specification.class), any(Pageable.class)))
                 .thenReturn(emptyPage);
 
             RecipePagination result = recipeService.findAll(query, null, null);
 
             assertTrue(result.recipes().isEmpty());
             assertEquals(0, result.metadata().totalItems());
-            verify(recipeRepository).findAll(any(Specification.class), any(Pageable.class));
+            verify(recipeRepository).findSummaries(any(Specification.class), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Should sort by the denormalized ingredient count")
+        void shouldSortByIngredientCount() {
+            ListRecipesQuery query = new ListRecipesQuery(
+                null,
+                0,
+                10,
+                RecipeSortBy.INGREDIENTS_SIZE,
+                SortDirection.ASC,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                2,
+                8,
+                null,
+                null,
+                null
+            );
+
+            when(recipeRepository.findSummaries(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(createFakeSummary()), PageRequest.of(0, 10), 1));
+
+            RecipePagination result = recipeService.findAll(query, null, null);
+
+            ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+            verify(recipeRepository).findSummaries(any(Specification.class), pageableCaptor.capture());
+
+            assertTrue(pageableCaptor.getValue().getSort().getOrderFor("ingredientCount").isAscending());
+            assertEquals(1, result.recipes().get(0).ingredientsCount());
+        }
+
+        @Test
+        @DisplayName("Should sort by the precomputed relevance score when sorting by relevance")
+        void shouldSortByRelevanceScore() {
+            ListRecipesQuery query = new ListRecipesQuery(
+                null,
+                0,
+                10,
+                RecipeSortBy.RELEVANCE,
+                SortDirection.DESC,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+
+            when(recipeRepository.findSummaries(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(createFakeSummary()), PageRequest.of(0, 10), 1));
+
+            recipeService.findAll(query, null, null);
+
+            ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+            verify(recipeRepository).findSummaries(any(Specification.class), pageableCaptor.capture());
+
+            assertTrue(pageableCaptor.getValue().getSort().getOrderFor("statistics.relevanceScore").isDescending());
+        }
+
+        @Test
+        @DisplayName("Should resolve ingredient names in a single batched lookup")
+        void shouldResolveIngredientNamesInSingleLookup() {
+            ListRecipesQuery query = new ListRecipesQuery(
+                null,
+                0,
+                10,
+                RecipeSortBy.CREATION_DATE,
+                SortDirection.DESC,
+                null,
+                null,
+                null,
+                null,
+                List.of(" Eggs", "flour", "EGGS"),
+                IngredientMatchMode.ANY,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+
+            when(ingredientService.findAllByNames(anyCollection()))
+                .thenReturn(List.of(new Ingredient(1L, "Eggs"), new Ingredient(2L, "Flour")));
+            when(recipeRepository.findSummaries(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 10), 0));
+
+            recipeService.findAll(query, null, null);
+
+            verify(ingredientService, times(1)).findAllByNames(eq(Set.of("eggs", "flour")));
+            verify(recipeRepository).findSummaries(any(Specification.class), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Should skip ingredient lookup when no ingredient filter is given")
+        void shouldSkipIngredientLookupWhenNoFilterIsGiven() {
+            ListRecipesQuery query = new ListRecipesQuery(
+                null,
+                0,
+                10,
+                RecipeSortBy.CREATION_DATE,
+                SortDirection.DESC,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+
+            when(recipeRepository.findSummaries(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 10), 0));
+
+            recipeService.findAll(query, null, null);
+
+            verify(ingredientService, never()).findAllByNames(any());
+        }
+
+        @Test
+        @DisplayName("Should delegate ordering to the search rank when sorting by SEARCH_RANK with a query")
+        void shouldDelegateOrderingToSearchRank() {
+            ListRecipesQuery query = new ListRecipesQuery(
+                "carbonara",
+                0,
+                10,
+                RecipeSortBy.SEARCH_RANK,
+                SortDirection.DESC,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+
+            when(recipeRepository.findSummaries(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 10), 0));
+
+            recipeService.findAll(query, null, null);
+
+            ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+            verify(recipeRepository).findSummaries(any(Specification.class), pageableCaptor.capture());
+
+            assertTrue(pageableCaptor.getValue().getSort().isUnsorted());
+        }
+
+        @Test
+        @DisplayName("Should fall back to creation date when sorting by SEARCH_RANK without a query")
+        void shouldFallBackToCreationDateWhenSearchRankHasNoQuery() {
+            ListRecipesQuery query = new ListRecipesQuery(
+                "  ",
+                0,
+                10,
+                RecipeSortBy.SEARCH_RANK,
+                SortDirection.DESC,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+
+            when(recipeRepository.findSummaries(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 10), 0));
+
+            recipeService.findAll(query, null, null);
+
+            ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+            verify(recipeRepository).findSummaries(any(Specification.class), pageableCaptor.capture());
+
+            assertTrue(pageableCaptor.getValue().getSort().getOrderFor("createdAt").isDescending());
+        }
+
+        @Test
+        @DisplayName("Should read a keyset window instead of an offset page in cursor mode")
+        void shouldReadKeysetWindowInCursorMode() {
+            ListRecipesQuery query = new ListRecipesQuery(
+                null,
+                3,
+                10,
+                RecipeSortBy.CREATION_DATE,
+                SortDirection.DESC,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                PaginationMode.CURSOR,
+                null,
+                null
+            );
+
+            when(recipeRepository.findSummaryWindow(
+                any(Specification.class),
+                any(KeysetQueryExecutor.SortKey.class),
+                eq(SortDirection.DESC),
+                isNull(),
+                eq(10)
+            )).thenReturn(new KeysetWindow<>(List.of(createFakeSummary()), true, "next-token"));
+
+            RecipePagination result = recipeService.findAll(query, null, null);
+
+            assertEquals(1, result.recipes().size());
+            assertEquals("next-token", result.metadata().nextCursor());
+            assertTrue(result.metadata().hasNext());
+            assertFalse(result.metadata().hasPrevious());
+            assertEquals(-1, result.metadata().totalPages());
+            verify(recipeRepository, never()).findSummaries(any(Specification.class), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Should skip the count query in slice mode and attach the estimated total")
+        void shouldSkipCountInSliceMode() {
+            ListRecipesQuery query = new ListRecipesQuery(
+                null,
+                2,
+                10,
+                RecipeSortBy.CREATION_DATE,
+                SortDirection.DESC,
+                null,
+                List.of(RecipeCategory.DESSERT),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                PaginationMode.SLICE,
+                null,
+                true
+            );
+
+            when(rowCountEstimator.estimate(eq("recipes"), anyString(), any()))
+                .thenReturn(240L);
+            when(recipeRepository.findSummarySlice(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(createFakeSummary()), PageRequest.of(2, 10), true));
+
+            RecipePagination result = recipeService.findAll(query, null, null);
+
+            assertEquals(2, result.metadata().page());
+            assertTrue(result.metadata().hasNext());
+            assertTrue(result.metadata().hasPrevious());
+            assertEquals(-1L, result.metadata().totalItems());
+            assertEquals(240L, result.metadata().estimatedTotal());
+            verify(recipeRepository, never()).findSummaries(any(Specification.class), any(Pageable.class));
+            verify(recipeRepository, never()).count(any(Specification.class));
+            verify(recipeRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for Count Facets Method")
+    class CountFacetsTests {
+        private final RecipeFacetIndex.FacetCounts counts = new RecipeFacetIndex.FacetCounts(
+            3,
+            Map.of(RecipeCategory.DESSERT, 3),
+            Map.of(DifficultyLevel.BEGINNER, 3),
+            Map.of("en-US", 3),
+            Map.of("Vegan", 2)
+        );
+
+        @Test
+        @DisplayName("Should answer from the index when it is ready")
+        void shouldCountFromIndex() {
+            RecipeFacetsQuery query = new RecipeFacetsQuery(List.of("Vegan"), null, null, null, null);
+
+            when(recipeFacetIndex.countFacets(any(), eq(20))).thenReturn(Optional.of(counts));
+
+            assertEquals(3, recipeService.countFacets(query).total());
+            verify(recipeFacetCountReader, never()).count(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should count with SQL when the index cannot answer")
+        void shouldFallBackToSql() {
+            RecipeFacetsQuery query = new RecipeFacetsQuery(List.of("Vegan"), null, null, null, 5);
+
+            when(recipeFacetIndex.countFacets(any(), eq(5))).thenReturn(Optional.empty());
+            when(recipeFacetCountReader.count(any(), eq(5))).thenReturn(counts);
+
+            RecipeFacetsDto result = recipeService.countFacets(query);
+
+            assertEquals(3, result.total());
+            assertEquals("Vegan", result.tags().get(0).value());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for Match Pantry Method")
+    class MatchPantryTests {
+        @Test
+        @DisplayName("Should keep the index ranking and resolve missing ingredients")
+        void shouldReturnRankedMatches() {
+            PantryQuery query = new PantryQuery(List.of(1L, 2L, 3L), 1, 10);
+
+            when(recipePantryIndex.match(query.ingredientIds(), 1, 10)).thenReturn(List.of(
+                new RecipePantryIndex.Match(1L, 3, 4, List.of(9L)),
+                new RecipePantryIndex.Match(2L, 2, 3, List.of(8L))
+            ));
+            when(recipeRepository.findSummarySlice(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(createFakeSummary())));
+            when(ingredientService.findAllByIds(Set.of(8L, 9L)))
+                .thenReturn(List.of(new Ingredient(9L, "Basil"), new Ingredient(8L, "Garlic")));
+
+            List<PantryMatchDto> result = recipeService.matchPantry(query, null);
+
+            assertEquals(1, result.size());
+            assertEquals(1L, result.get(0).recipe().id());
+            assertEquals(3, result.get(0).matchedCount());
+            assertEquals(0.75, result.get(0).coverage());
+            assertEquals("Basil", result.get(0).missingIngredients().get(0).name());
+        }
+
+        @Test
+        @DisplayName("Should not query the database when nothing matches")
+        void shouldReturnEmptyWithoutMatches() {
+            PantryQuery query = new PantryQuery(List.of(1L), null, null);
+
+            when(recipePantryIndex.match(query.ingredientIds(), 2, 20)).thenReturn(List.of());
+
+            assertTrue(recipeService.matchPantry(query, null).isEmpty());
+            verify(recipeRepository, never()).findSummarySlice(any(Specification.class), any(Pageable.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for Find Similar Method")
+    class FindSimilarTests {
+        @Test
+        @DisplayName("Should return neighbors in index order with their similarity")
+        void shouldReturnNeighbors() {
+            when(recipeSimilarityIndex.findSimilar(5L, 10)).thenReturn(List.of(
+                new RecipeSimilarityIndex.Neighbor(1L, 0.8),
+                new RecipeSimilarityIndex.Neighbor(7L, 0.4)
+            ));
+            when(recipeRepository.findSummarySlice(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(createFakeSummary())));
+
+            List<SimilarRecipeDto> result = recipeService.findSimilar(5L, 10, null);
+
+            assertEquals(1, result.size());
+            assertEquals(1L, result.get(0).recipe().id());
+            assertEquals(0.8, result.get(0).similarity());
         }
     }
 
@@ -306,6 +912,7 @@ class RecipeServiceTest {
             recipeService.deleteById(recipeId, 10L);
 
             verify(recipeRepository, times(1)).delete(recipe);
+            verify(recipeDetailCache).evict(recipeId);
         }
 
         @Test
@@ -342,6 +949,7 @@ class RecipeServiceTest {
             );
 
             verify(recipeRepository, never()).delete(any(Recipe.class));
+            verify(recipeDetailCache, never()).evict(any());
         }
     }
 
@@ -357,6 +965,7 @@ class RecipeServiceTest {
 
             assertNotNull(updatedRecipe);
             verify(recipeRepository, times(1)).save(fakeRecipe);
+            verify(recipeDetailCache).evict(fakeRecipe.getId());
         }
     }
 
@@ -458,28 +1067,25 @@ class RecipeServiceTest {
         }
     }
 
-    private Recipe createFakeRecipe() {
-        Recipe recipe = new Recipe();
-        recipe.setId(1L);
-        recipe.setTitle("Test Recipe");
-        recipe.setAuthor(new User());
-        recipe.setStatistics(new RecipeStatistics());
-        recipe.setCreatedAt(OffsetDateTime.now());
-
-        User user = User
-            .builder()
-            .id(1L)
-            .firstName("Mock")
-            .lastName("Last Name")
-            .username("usernamemock")
-            .profilePictureUrl("/profile")
-            .profilePictureAlt("alt profile")
-            .bio("lorem ipsum dolor sit amet")
-            .coverPhotoUrl("/cover")
-            .coverPhotoAlt("alt cover")
-            .build();
-
-        recipe.setAuthor(user);
-        return recipe;
+    private RecipeSummaryProjection createFakeSummary() {
+        return new RecipeSummaryProjection(
+            1L,
+            "Test Recipe",
+            true,
+            10,
+            20,
+            null,
+            null,
+            1L,
+            "Mock",
+            "Last Name",
+            "usernamemock",
+            "/profile",
+            "alt profile",
+            1,
+            4.5,
+            3,
+            2
+        );
     }
 }
\ No newline at end of file
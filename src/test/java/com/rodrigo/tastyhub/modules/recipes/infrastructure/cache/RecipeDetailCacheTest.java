@@ -0,0 +1,67 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.cache;
+
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.FullRecipeDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class RecipeDetailCacheTest {
+    private RecipeDetailCache recipeDetailCache;
+    private FullRecipeDto fakeRecipe;
+
+    @BeforeEach
+    void setUp() {
+        recipeDetailCache = new RecipeDetailCache(100, 10);
+        fakeRecipe = mock(FullRecipeDto.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should return the cached recipe together with its author")
+    void shouldReturnCachedEntry() {
+        recipeDetailCache.put(1L, 10L, fakeRecipe);
+
+        RecipeDetailCache.Entry entry = recipeDetailCache.get(1L).orElseThrow();
+
+        assertEquals(10L, entry.authorId());
+        assertSame(fakeRecipe, entry.recipe());
+        assertTrue(recipeDetailCache.get(2L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should drop the entry immediately when evicted outside a transaction")
+    void shouldEvictImmediately() {
+        recipeDetailCache.put(1L, 10L, fakeRecipe);
+
+        recipeDetailCache.evict(1L);
+
+        assertTrue(recipeDetailCache.get(1L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should evict again when the surrounding transaction completes")
+    void shouldEvictAgainAfterTransactionCompletes() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        recipeDetailCache.put(1L, 10L, fakeRecipe);
+        recipeDetailCache.evict(1L);
+        recipeDetailCache.put(1L, 10L, fakeRecipe);
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertTrue(recipeDetailCache.get(1L).isEmpty());
+    }
+}
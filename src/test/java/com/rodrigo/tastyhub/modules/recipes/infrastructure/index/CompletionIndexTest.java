@@ -0,0 +1,78 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompletionIndexTest {
+    private CompletionIndex completionIndex;
+
+    @BeforeEach
+    void setUp() {
+        completionIndex = new CompletionIndex(2);
+        completionIndex.replaceAll(List.of(
+            new CompletionIndex.Entry(1L, "Chocolate Cake", 40),
+            new CompletionIndex.Entry(2L, "Chicken Curry", 90),
+            new CompletionIndex.Entry(3L, "Carrot Cake", 10),
+            new CompletionIndex.Entry(4L, "Crème Brûlée", 25)
+        ));
+    }
+
+    @Test
+    @DisplayName("Should return prefix matches ordered by weight")
+    void shouldCompleteByWeight() {
+        List<CompletionIndex.Entry> result = completionIndex.complete("ch", 10);
+
+        assertEquals(List.of(2L, 1L), result.stream().map(CompletionIndex.Entry::id).toList());
+    }
+
+    @Test
+    @DisplayName("Should match the start of any word once per entry")
+    void shouldMatchInnerWords() {
+        List<CompletionIndex.Entry> result = completionIndex.complete("cake", 10);
+
+        assertEquals(List.of(1L, 3L), result.stream().map(CompletionIndex.Entry::id).toList());
+        assertEquals(1, completionIndex.complete("c", 1).size());
+        assertEquals(4, completionIndex.complete("c", 10).size());
+    }
+
+    @Test
+    @DisplayName("Should ignore case and accents")
+    void shouldNormalizeInput() {
+        List<CompletionIndex.Entry> result = completionIndex.complete("  CREME bru", 10);
+
+        assertEquals(1, result.size());
+        assertEquals("Crème Brûlée", result.get(0).text());
+    }
+
+    @Test
+    @DisplayName("Should reflect updates and removals without a rebuild")
+    void shouldApplyIncrementalChanges() {
+        completionIndex.upsert(new CompletionIndex.Entry(3L, "Carrot Cake Deluxe", 500));
+        completionIndex.remove(2L);
+        completionIndex.upsert(new CompletionIndex.Entry(5L, "Cheesecake", 60));
+
+        List<CompletionIndex.Entry> cakes = completionIndex.complete("cake", 10);
+        List<CompletionIndex.Entry> ch = completionIndex.complete("ch", 10);
+
+        assertEquals(List.of(3L, 1L), cakes.stream().map(CompletionIndex.Entry::id).toList());
+        assertEquals(List.of(5L, 1L), ch.stream().map(CompletionIndex.Entry::id).toList());
+        assertFalse(completionIndex.contains(2L));
+        assertTrue(completionIndex.contains(5L));
+    }
+
+    @Test
+    @DisplayName("Should drop the previous words when an overlaid entry is renamed")
+    void shouldReplaceOverlaidKeys() {
+        completionIndex.upsert(new CompletionIndex.Entry(6L, "Lemon Tart", 70));
+        completionIndex.upsert(new CompletionIndex.Entry(6L, "Lime Tart", 70));
+
+        assertTrue(completionIndex.complete("lemon", 10).isEmpty());
+        assertEquals(List.of(6L), completionIndex.complete("tart", 10).stream().map(CompletionIndex.Entry::id).toList());
+        assertEquals(List.of(6L), completionIndex.complete("lime t", 10).stream().map(CompletionIndex.Entry::id).toList());
+    }
+}
@@ -0,0 +1,156 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.index;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.DifficultyLevel;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeCategory;
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeFacetProjection;
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeTagProjection;
+import com.rodrigo.tastyhub.modules.recipes.domain.repository.RecipeRepository;
+import com.rodrigo.tastyhub.modules.settings.domain.model.ProfileVisibility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RecipeFacetIndexTest {
+    private RecipeRepository recipeRepository;
+    private RecipeFacetIndex recipeFacetIndex;
+
+    @BeforeEach
+    void setUp() {
+        recipeRepository = mock(RecipeRepository.class);
+        recipeFacetIndex = new RecipeFacetIndex(recipeRepository, 2);
+
+        when(recipeRepository.findAllFacets()).thenReturn(List.of(
+            new RecipeFacetProjection(1L, RecipeCategory.VEGAN, DifficultyLevel.BEGINNER, "en-US", true, ProfileVisibility.PUBLIC),
+            new RecipeFacetProjection(2L, RecipeCategory.VEGAN, DifficultyLevel.EXPERT, "pt-BR", true, ProfileVisibility.PUBLIC),
+            new RecipeFacetProjection(3L, RecipeCategory.PASTA, DifficultyLevel.BEGINNER, "en-US", true, ProfileVisibility.PUBLIC),
+            new RecipeFacetProjection(4L, RecipeCategory.VEGAN, DifficultyLevel.BEGINNER, "en-US", false, ProfileVisibility.PUBLIC)
+        ));
+        when(recipeRepository.findAllTagNames()).thenReturn(List.of(
+            new RecipeTagProjection(1L, "Easy"),
+            new RecipeTagProjection(3L, "Easy"),
+            new RecipeTagProjection(2L, "Party")
+        ));
+
+        recipeFacetIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should intersect facets and union values within a facet")
+    void shouldReturnCandidateIds() {
+        Optional<List<Long>> candidates = recipeFacetIndex.findCandidateIds(new RecipeFacetIndex.Selection(
+            List.of("Easy", "Party"),
+            List.of(RecipeCategory.VEGAN),
+            null,
+            null
+        ));
+
+        assertEquals(Optional.of(List.of(1L, 2L)), candidates);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the database when candidates exceed the limit")
+    void shouldSkipLargeCandidateSets() {
+        Optional<List<Long>> candidates = recipeFacetIndex.findCandidateIds(new RecipeFacetIndex.Selection(
+            null,
+            List.of(RecipeCategory.VEGAN),
+            null,
+            null
+        ));
+
+        assertTrue(candidates.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should count only visible recipes and ignore each facet's own selection")
+    void shouldCountFacets() {
+        RecipeFacetIndex.FacetCounts counts = recipeFacetIndex.countFacets(
+            new RecipeFacetIndex.Selection(null, List.of(RecipeCategory.VEGAN), null, null),
+            10
+        ).orElseThrow();
+
+        assertEquals(2, counts.total());
+        assertEquals(2, counts.categories().get(RecipeCategory.VEGAN));
+        assertEquals(1, counts.categories().get(RecipeCategory.PASTA));
+        assertEquals(1, counts.difficultyLevels().get(DifficultyLevel.BEGINNER));
+        assertEquals(1, counts.tags().get("Easy"));
+        assertEquals(1, counts.tags().get("Party"));
+    }
+
+    @Test
+    @DisplayName("Should drop a removed recipe from every bitmap")
+    void shouldRemoveRecipe() {
+        recipeFacetIndex.remove(1L);
+
+        RecipeFacetIndex.FacetCounts counts = recipeFacetIndex.countFacets(
+            new RecipeFacetIndex.Selection(null, null, null, null),
+            10
+        ).orElseThrow();
+
+        assertEquals(2, counts.total());
+        assertEquals(1, counts.tags().get("Easy"));
+        assertEquals(1, counts.categories().get(RecipeCategory.VEGAN));
+    }
+
+    @Test
+    @DisplayName("Should defer to SQL instead of blocking the request while the index is not ready")
+    void shouldNotRebuildOnRequestThread() {
+        RecipeFacetIndex notReady = new RecipeFacetIndex(recipeRepository, 2);
+        RecipeFacetIndex.Selection selection = new RecipeFacetIndex.Selection(null, null, null, null);
+
+        assertTrue(notReady.countFacets(selection, 10).isEmpty());
+        assertTrue(notReady.findCandidateIds(selection).isEmpty());
+        verify(recipeRepository, times(1)).findAllFacets();
+    }
+
+    @Test
+    @DisplayName("Should count recipes whose ids are far apart")
+    void shouldCountSparseIds() {
+        when(recipeRepository.findAllFacets()).thenReturn(List.of(
+            new RecipeFacetProjection(1L, RecipeCategory.VEGAN, DifficultyLevel.BEGINNER, "en-US", true, ProfileVisibility.PUBLIC),
+            new RecipeFacetProjection(1_000_051L, RecipeCategory.VEGAN, DifficultyLevel.EXPERT, "en-US", true, ProfileVisibility.PUBLIC),
+            new RecipeFacetProjection((long) Integer.MAX_VALUE, RecipeCategory.PASTA, DifficultyLevel.BEGINNER, "en-US", true, ProfileVisibility.PUBLIC)
+        ));
+        when(recipeRepository.findAllTagNames()).thenReturn(List.of(
+            new RecipeTagProjection(1_000_051L, "Easy"),
+            new RecipeTagProjection((long) Integer.MAX_VALUE, "Easy")
+        ));
+
+        recipeFacetIndex.rebuild();
+
+        RecipeFacetIndex.FacetCounts counts = recipeFacetIndex.countFacets(
+            new RecipeFacetIndex.Selection(List.of("Easy"), null, null, null),
+            10
+        ).orElseThrow();
+
+        assertEquals(2, counts.total());
+        assertEquals(1, counts.categories().get(RecipeCategory.VEGAN));
+        assertEquals(1, counts.categories().get(RecipeCategory.PASTA));
+        assertEquals(2, counts.tags().get("Easy"));
+        assertEquals(
+            Optional.of(List.of(1_000_051L, (long) Integer.MAX_VALUE)),
+            recipeFacetIndex.findCandidateIds(new RecipeFacetIndex.Selection(List.of("Easy"), null, null, null))
+        );
+    }
+
+    @Test
+    @DisplayName("Should defer to SQL once a recipe id does not fit in a bitmap")
+    void shouldFallBackWhenIdOverflows() {
+        when(recipeRepository.findAllFacets()).thenReturn(List.of(
+            new RecipeFacetProjection(1L, RecipeCategory.VEGAN, DifficultyLevel.BEGINNER, "en-US", true, ProfileVisibility.PUBLIC),
+            new RecipeFacetProjection(Integer.MAX_VALUE + 1L, RecipeCategory.VEGAN, DifficultyLevel.BEGINNER, "en-US", true, ProfileVisibility.PUBLIC)
+        ));
+
+        recipeFacetIndex.rebuild();
+
+        RecipeFacetIndex.Selection selection = new RecipeFacetIndex.Selection(List.of("Easy"), null, null, null);
+
+        assertTrue(recipeFacetIndex.countFacets(selection, 10).isEmpty());
+        assertTrue(recipeFacetIndex.findCandidateIds(selection).isEmpty());
+    }
+}
@@ -0,0 +1,69 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.index;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeIngredientLinkProjection;
+import com.rodrigo.tastyhub.modules.recipes.domain.repository.RecipeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RecipePantryIndexTest {
+    private RecipePantryIndex recipePantryIndex;
+
+    @BeforeEach
+    void setUp() {
+        RecipeRepository recipeRepository = mock(RecipeRepository.class);
+        recipePantryIndex = new RecipePantryIndex(recipeRepository, 1);
+
+        when(recipeRepository.findVisibleIngredientLinks()).thenReturn(List.of(
+            new RecipeIngredientLinkProjection(1L, 10L),
+            new RecipeIngredientLinkProjection(1L, 20L),
+            new RecipeIngredientLinkProjection(2L, 10L),
+            new RecipeIngredientLinkProjection(2L, 20L),
+            new RecipeIngredientLinkProjection(2L, 30L),
+            new RecipeIngredientLinkProjection(3L, 10L),
+            new RecipeIngredientLinkProjection(3L, 40L),
+            new RecipeIngredientLinkProjection(3L, 50L),
+            new RecipeIngredientLinkProjection(4L, 60L)
+        ));
+
+        recipePantryIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should rank fully covered recipes before those missing ingredients")
+    void shouldRankByCoverage() {
+        List<RecipePantryIndex.Match> matches = recipePantryIndex.match(List.of(20L, 10L, 10L), 2, 10);
+
+        assertEquals(List.of(1L, 2L, 3L), matches.stream().map(RecipePantryIndex.Match::recipeId).toList());
+        assertEquals(List.of(), matches.get(0).missingIngredientIds());
+        assertEquals(List.of(30L), matches.get(1).missingIngredientIds());
+        assertEquals(List.of(40L, 50L), matches.get(2).missingIngredientIds());
+        assertEquals(1.0, matches.get(0).coverage());
+    }
+
+    @Test
+    @DisplayName("Should drop recipes missing more than allowed and respect the limit")
+    void shouldApplyMaxMissingAndLimit() {
+        List<RecipePantryIndex.Match> matches = recipePantryIndex.match(List.of(10L, 20L), 1, 1);
+
+        assertEquals(1, matches.size());
+        assertEquals(1L, matches.get(0).recipeId());
+        assertTrue(recipePantryIndex.match(List.of(10L), 0, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reflect removals without a rebuild")
+    void shouldApplyRemovals() {
+        recipePantryIndex.remove(1L);
+
+        List<RecipePantryIndex.Match> matches = recipePantryIndex.match(List.of(10L, 20L), 1, 10);
+
+        assertEquals(List.of(2L), matches.stream().map(RecipePantryIndex.Match::recipeId).toList());
+    }
+}
@@ -0,0 +1,97 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.index;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Ingredient;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeIngredient;
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeIngredientLinkProjection;
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeTagLinkProjection;
+import com.rodrigo.tastyhub.modules.recipes.domain.repository.RecipeRepository;
+import com.rodrigo.tastyhub.modules.tags.domain.model.Tag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RecipeSimilarityIndexTest {
+    private RecipeSimilarityIndex recipeSimilarityIndex;
+
+    @BeforeEach
+    void setUp() {
+        RecipeRepository recipeRepository = mock(RecipeRepository.class);
+        recipeSimilarityIndex = new RecipeSimilarityIndex(recipeRepository, 20, 3, 100);
+
+        when(recipeRepository.findVisibleIngredientLinks()).thenReturn(List.of(
+            new RecipeIngredientLinkProjection(1L, 10L),
+            new RecipeIngredientLinkProjection(1L, 20L),
+            new RecipeIngredientLinkProjection(1L, 30L),
+            new RecipeIngredientLinkProjection(2L, 10L),
+            new RecipeIngredientLinkProjection(2L, 20L),
+            new RecipeIngredientLinkProjection(2L, 30L),
+            new RecipeIngredientLinkProjection(3L, 40L),
+            new RecipeIngredientLinkProjection(3L, 50L)
+        ));
+        when(recipeRepository.findVisibleTagLinks()).thenReturn(List.of(
+            new RecipeTagLinkProjection(1L, 10L),
+            new RecipeTagLinkProjection(2L, 10L),
+            new RecipeTagLinkProjection(3L, 20L)
+        ));
+
+        recipeSimilarityIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should return recipes with the same ingredients and tags and skip unrelated ones")
+    void shouldFindSimilarRecipes() {
+        List<RecipeSimilarityIndex.Neighbor> neighbors = recipeSimilarityIndex.findSimilar(1L, 10);
+
+        assertEquals(List.of(new RecipeSimilarityIndex.Neighbor(2L, 1.0)), neighbors);
+    }
+
+    @Test
+    @DisplayName("Should return nothing for recipes outside the index")
+    void shouldReturnEmptyForUnknownRecipe() {
+        assertTrue(recipeSimilarityIndex.findSimilar(99L, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should move a recipe between buckets when its ingredients and tags change")
+    void shouldReindexUpdatedRecipe() {
+        Recipe updated = Recipe.builder()
+            .id(3L)
+            .isPublic(true)
+            .ingredients(List.of(
+                RecipeIngredient.builder().ingredient(new Ingredient(10L, "Eggs")).build(),
+                RecipeIngredient.builder().ingredient(new Ingredient(20L, "Flour")).build(),
+                RecipeIngredient.builder().ingredient(new Ingredient(30L, "Milk")).build()
+            ))
+            .tags(Set.of(new Tag(10L, "Baking")))
+            .build();
+
+        recipeSimilarityIndex.index(updated);
+
+        assertEquals(
+            List.of(3L, 2L),
+            recipeSimilarityIndex.findSimilar(1L, 10).stream().map(RecipeSimilarityIndex.Neighbor::recipeId).toList()
+        );
+
+        recipeSimilarityIndex.remove(2L);
+
+        assertEquals(
+            List.of(3L),
+            recipeSimilarityIndex.findSimilar(1L, 10).stream().map(RecipeSimilarityIndex.Neighbor::recipeId).toList()
+        );
+    }
+
+    @Test
+    @DisplayName("Should compute exact Jaccard similarity over sorted feature sets")
+    void shouldComputeJaccard() {
+        assertEquals(0.5, RecipeSimilarityIndex.jaccard(new long[] {1, 2, 3}, new long[] {2, 3, 4}));
+        assertEquals(0.0, RecipeSimilarityIndex.jaccard(new long[] {1}, new long[] {2}));
+    }
+}
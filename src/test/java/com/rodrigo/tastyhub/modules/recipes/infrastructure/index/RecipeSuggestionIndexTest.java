@@ -0,0 +1,80 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.index;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Ingredient;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeIngredient;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.SuggestionType;
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.SuggestionProjection;
+import com.rodrigo.tastyhub.modules.recipes.domain.repository.IngredientRepository;
+import com.rodrigo.tastyhub.modules.recipes.domain.repository.RecipeRepository;
+import com.rodrigo.tastyhub.modules.tags.domain.model.Tag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RecipeSuggestionIndexTest {
+    private RecipeRepository recipeRepository;
+    private IngredientRepository ingredientRepository;
+    private RecipeSuggestionIndex recipeSuggestionIndex;
+
+    private final Recipe pie = Recipe.builder()
+        .id(2L)
+        .title("Apple Pie")
+        .isPublic(true)
+        .ingredients(List.of(RecipeIngredient.builder().ingredient(new Ingredient(20L, "Apple")).build()))
+        .tags(Set.of(new Tag(10L, "Baking")))
+        .build();
+
+    @BeforeEach
+    void setUp() {
+        recipeRepository = mock(RecipeRepository.class);
+        ingredientRepository = mock(IngredientRepository.class);
+        recipeSuggestionIndex = new RecipeSuggestionIndex(recipeRepository, ingredientRepository, 100);
+
+        when(recipeRepository.findTitleSuggestions()).thenReturn(List.of(new SuggestionProjection(1L, "Banana Bread", 5L)));
+        when(recipeRepository.findTagSuggestions()).thenReturn(List.of(new SuggestionProjection(10L, "Baking", 7L)));
+        when(ingredientRepository.findNameSuggestions()).thenReturn(List.of(new SuggestionProjection(20L, "Apple", 3L)));
+        when(recipeRepository.findTagSuggestionsByIds(any())).thenReturn(List.of(new SuggestionProjection(10L, "Baking", 8L)));
+        when(ingredientRepository.findNameSuggestionsByIds(any())).thenReturn(List.of(new SuggestionProjection(20L, "Apple", 4L)));
+    }
+
+    @Test
+    @DisplayName("Should give incrementally indexed tags and ingredients their recipe counts")
+    void shouldCarryRealWeights() {
+        recipeSuggestionIndex.rebuild();
+        recipeSuggestionIndex.index(pie);
+
+        List<RecipeSuggestionIndex.Suggestion> tags = recipeSuggestionIndex.suggest("bak", 10, List.of(SuggestionType.TAG));
+        List<RecipeSuggestionIndex.Suggestion> ingredients = recipeSuggestionIndex.suggest("app", 10, List.of(SuggestionType.INGREDIENT));
+
+        assertEquals(8, tags.get(0).entry().weight());
+        assertEquals(4, ingredients.get(0).entry().weight());
+    }
+
+    @Test
+    @DisplayName("Should replay changes made while a rebuild was loading")
+    void shouldReplayChangesDuringRebuild() {
+        when(recipeRepository.findTitleSuggestions()).thenAnswer(invocation -> {
+            recipeSuggestionIndex.index(pie);
+            return List.of(new SuggestionProjection(1L, "Banana Bread", 5L));
+        });
+
+        recipeSuggestionIndex.rebuild();
+
+        List<Long> recipeIds = recipeSuggestionIndex.suggest("a", 10, List.of(SuggestionType.RECIPE))
+            .stream()
+            .map(suggestion -> suggestion.entry().id())
+            .toList();
+
+        assertEquals(List.of(1L, 2L), recipeIds);
+        assertEquals(8, recipeSuggestionIndex.suggest("bak", 10, List.of(SuggestionType.TAG)).get(0).entry().weight());
+    }
+}
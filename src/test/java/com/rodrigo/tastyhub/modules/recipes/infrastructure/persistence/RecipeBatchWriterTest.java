@@ -0,0 +1,116 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.DifficultyLevel;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.PreparationStep;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeCategory;
+import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "app.recipe-counters.fold-enabled=false")
+class RecipeBatchWriterTest {
+    @Autowired
+    private RecipeBatchWriter recipeBatchWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User author;
+
+    private final List<Long> recipeIds = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            author = User.builder()
+                .firstName("Batch")
+                .lastName("Author")
+                .email("batch-" + suffix + "@tastyhub.test")
+                .username("batch_" + suffix)
+                .password("secret")
+                .profilePictureUrl("avatar.png")
+                .settings(null)
+                .build();
+
+            entityManager.persist(author);
+        });
+    }
+
+    @AfterEach
+    void cleanup() {
+        recipeIds.forEach(recipeId -> jdbcTemplate.update("DELETE FROM recipes WHERE id = ?", recipeId));
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", author.getId());
+    }
+
+    private Recipe recipe(String title, int steps) {
+        List<PreparationStep> preparation = new ArrayList<>();
+
+        for (int i = 1; i <= steps; i++) {
+            preparation.add(new PreparationStep(i, "Step " + i));
+        }
+
+        return new Recipe(
+            title,
+            "Recipe imported in a batch",
+            author,
+            true,
+            "en-US",
+            DifficultyLevel.BEGINNER,
+            RecipeCategory.DESSERT,
+            10,
+            20,
+            null,
+            null,
+            List.of(),
+            preparation,
+            new ArrayList<>()
+        );
+    }
+
+    @Test
+    @DisplayName("Should give child rows consecutive ids from one reserved block")
+    void shouldAssignStepIdsFromReservedBlock() {
+        List<Recipe> recipes = List.of(recipe("First batch recipe", 3), recipe("Second batch recipe", 2));
+
+        transactionTemplate.executeWithoutResult(status -> recipeBatchWriter.insertAll(recipes));
+        recipes.forEach(recipe -> recipeIds.add(recipe.getId()));
+
+        List<Long> stepIds = recipes.stream()
+            .flatMap(recipe -> recipe.getSteps().stream())
+            .map(PreparationStep::getId)
+            .toList();
+
+        for (int i = 1; i < stepIds.size(); i++) {
+            assertEquals(stepIds.get(0) + i, stepIds.get(i));
+        }
+
+        assertEquals(stepIds, jdbcTemplate.queryForList(
+            "SELECT id FROM preparation_steps WHERE recipe_id IN (?, ?) ORDER BY id",
+            Long.class,
+            recipeIds.get(0),
+            recipeIds.get(1)
+        ));
+    }
+}
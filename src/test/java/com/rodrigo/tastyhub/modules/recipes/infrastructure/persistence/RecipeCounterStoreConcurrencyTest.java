@@ -0,0 +1,223 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.DifficultyLevel;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeCategory;
+import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "app.recipe-counters.fold-enabled=false")
+class RecipeCounterStoreConcurrencyTest {
+    private static final int FAVORITERS = 400;
+    private static final int UNFAVORITERS = 100;
+
+    @Autowired
+    private RecipeCounterStore recipeCounterStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long authorId;
+
+    private Long recipeId;
+
+    @BeforeEach
+    void setup() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User author = User.builder()
+                .firstName("Counter")
+                .lastName("Author")
+                .email("counter-" + suffix + "@tastyhub.test")
+                .username("counter_" + suffix)
+                .password("secret")
+                .profilePictureUrl("avatar.png")
+                .settings(null)
+                .build();
+
+            entityManager.persist(author);
+
+            Recipe recipe = new Recipe(
+                "Viral recipe",
+                "Recipe used to count concurrent favorites",
+                author,
+                true,
+                "en-US",
+                DifficultyLevel.BEGINNER,
+                RecipeCategory.DESSERT,
+                10,
+                20,
+                null,
+                null,
+                List.of(),
+                new ArrayList<>(),
+                new ArrayList<>()
+            );
+
+            entityManager.persist(recipe);
+
+            authorId = author.getId();
+            recipeId = recipe.getId();
+        });
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM recipes WHERE id = ?", recipeId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", authorId);
+    }
+
+    private void foldAll() {
+        List<Long> folded;
+
+        do {
+            folded = recipeCounterStore.fold(1000);
+        } while (!folded.isEmpty());
+    }
+
+    private Map<String, Object> statistics() {
+        return jdbcTemplate.queryForMap(
+            "SELECT * FROM recipe_statistics WHERE recipe_id = ?",
+            recipeId
+        );
+    }
+
+    @Test
+    @DisplayName("Should not lose any favorite while hundreds of writers race with the folding job")
+    void shouldNotLoseFavoritesUnderContention() throws Exception {
+        ExecutorService writers = Executors.newFixedThreadPool(32);
+        ExecutorService folder = Executors.newSingleThreadExecutor();
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < FAVORITERS + UNFAVORITERS; i++) {
+                int delta = i < FAVORITERS ? 1 : -1;
+
+                futures.add(writers.submit(() -> {
+                    start.await();
+                    recipeCounterStore.addFavorites(recipeId, delta);
+                    return null;
+                }));
+            }
+
+            Future<?> folding = folder.submit(() -> {
+                while (writing.get()) {
+                    recipeCounterStore.fold(50);
+                }
+            });
+
+            start.countDown();
+
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+
+            writing.set(false);
+            folding.get(60, TimeUnit.SECONDS);
+        } finally {
+            writers.shutdownNow();
+            folder.shutdownNow();
+        }
+
+        foldAll();
+
+        assertEquals(FAVORITERS - UNFAVORITERS, ((Number) statistics().get("favorites_count")).intValue());
+        assertEquals(0, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM recipe_counter_deltas WHERE recipe_id = ?",
+            Integer.class,
+            recipeId
+        ));
+    }
+
+    @Test
+    @DisplayName("Should fold review deltas into the count, rating sum, average and star histogram")
+    void shouldFoldReviewDeltas() {
+        recipeCounterStore.addReviews(recipeId, 1, new BigDecimal("5.0"), 1);
+        recipeCounterStore.addReviews(recipeId, 1, new BigDecimal("4.5"), 1);
+        recipeCounterStore.addReviews(recipeId, 1, new BigDecimal("3.0"), 0);
+        recipeCounterStore.addReviews(recipeId, 1, new BigDecimal("0.5"), 1);
+
+        foldAll();
+
+        Map<String, Object> statistics = statistics();
+
+        assertEquals(4, ((Number) statistics.get("reviews_count")).intValue());
+        assertEquals(0, new BigDecimal("13.0").compareTo((BigDecimal) statistics.get("total_rating_sum")));
+        assertEquals(0, new BigDecimal("3.25").compareTo((BigDecimal) statistics.get("average_rating")));
+        assertEquals(1, ((Number) statistics.get("one_star_count")).intValue());
+        assertEquals(0, ((Number) statistics.get("two_star_count")).intValue());
+        assertEquals(1, ((Number) statistics.get("three_star_count")).intValue());
+        assertEquals(1, ((Number) statistics.get("four_star_count")).intValue());
+        assertEquals(1, ((Number) statistics.get("five_star_count")).intValue());
+        assertEquals(3, ((Number) statistics.get("reviewers_count")).intValue());
+    }
+
+    @Test
+    @DisplayName("Should average fractional ratings exactly instead of truncating them to whole stars")
+    void shouldAverageFractionalRatingsExactly() {
+        recipeCounterStore.addReviews(recipeId, 1, new BigDecimal("4.5"), 1);
+        recipeCounterStore.addReviews(recipeId, 1, new BigDecimal("4.5"), 1);
+
+        foldAll();
+
+        Map<String, Object> statistics = statistics();
+
+        assertEquals(0, new BigDecimal("9.0").compareTo((BigDecimal) statistics.get("total_rating_sum")));
+        assertEquals(0, new BigDecimal("4.50").compareTo((BigDecimal) statistics.get("average_rating")));
+        assertEquals(2, ((Number) statistics.get("four_star_count")).intValue());
+
+        recipeCounterStore.changeRating(recipeId, new BigDecimal("4.5"), new BigDecimal("3.5"));
+
+        foldAll();
+
+        statistics = statistics();
+
+        assertEquals(0, new BigDecimal("8.0").compareTo((BigDecimal) statistics.get("total_rating_sum")));
+        assertEquals(0, new BigDecimal("4.00").compareTo((BigDecimal) statistics.get("average_rating")));
+    }
+
+    @Test
+    @DisplayName("Should create the statistics row instead of dropping deltas when it is missing")
+    void shouldKeepDeltasForRecipeWithoutStatisticsRow() {
+        jdbcTemplate.update("DELETE FROM recipe_statistics WHERE recipe_id = ?", recipeId);
+
+        recipeCounterStore.addFavorites(recipeId, 3);
+        recipeCounterStore.addReviews(recipeId, 1, new BigDecimal("4.0"), 1);
+
+        foldAll();
+
+        Map<String, Object> statistics = statistics();
+
+        assertEquals(3, ((Number) statistics.get("favorites_count")).intValue());
+        assertEquals(1, ((Number) statistics.get("reviews_count")).intValue());
+        assertEquals(1, ((Number) statistics.get("four_star_count")).intValue());
+        assertEquals(0, new BigDecimal("4.00").compareTo((BigDecimal) statistics.get("average_rating")));
+    }
+}
@@ -0,0 +1,118 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.DifficultyLevel;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeCategory;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.index.RecipeFacetIndex.FacetCounts;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.index.RecipeFacetIndex.Selection;
+import com.rodrigo.tastyhub.modules.tags.domain.model.Tag;
+import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class RecipeFacetCountReaderTest {
+    @Autowired
+    private RecipeFacetCountReader recipeFacetCountReader;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private String tagName;
+
+    @BeforeEach
+    void setup() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        tagName = "facet" + suffix;
+
+        User author = User.builder()
+            .firstName("Facet")
+            .lastName("Author")
+            .email("facet-" + suffix + "@tastyhub.test")
+            .username("facet_" + suffix)
+            .password("secret")
+            .profilePictureUrl("avatar.png")
+            .settings(null)
+            .build();
+
+        entityManager.persist(author);
+
+        Tag tag = new Tag();
+        tag.setName(tagName);
+        entityManager.persist(tag);
+
+        persistRecipe(author, tag, RecipeCategory.VEGAN, DifficultyLevel.BEGINNER, "en-US", true);
+        persistRecipe(author, tag, RecipeCategory.VEGAN, DifficultyLevel.EXPERT, "pt-BR", true);
+        persistRecipe(author, tag, RecipeCategory.PASTA, DifficultyLevel.BEGINNER, "en-US", true);
+        persistRecipe(author, tag, RecipeCategory.VEGAN, DifficultyLevel.BEGINNER, "en-US", false);
+
+        entityManager.flush();
+    }
+
+    private void persistRecipe(
+        User author,
+        Tag tag,
+        RecipeCategory category,
+        DifficultyLevel difficultyLevel,
+        String language,
+        boolean isPublic
+    ) {
+        entityManager.persist(new Recipe(
+            "Faceted recipe",
+            "Recipe used to count facets with SQL",
+            author,
+            isPublic,
+            language,
+            difficultyLevel,
+            category,
+            10,
+            20,
+            null,
+            null,
+            List.of(tag),
+            new ArrayList<>(),
+            new ArrayList<>()
+        ));
+    }
+
+    @Test
+    @DisplayName("Should count only visible recipes and ignore each facet's own selection")
+    void shouldCountFacetsLikeTheIndex() {
+        FacetCounts counts = recipeFacetCountReader.count(
+            new Selection(List.of(tagName), List.of(RecipeCategory.VEGAN), null, null),
+            10
+        );
+
+        assertEquals(2, counts.total());
+        assertEquals(2, counts.categories().get(RecipeCategory.VEGAN));
+        assertEquals(1, counts.categories().get(RecipeCategory.PASTA));
+        assertEquals(1, counts.difficultyLevels().get(DifficultyLevel.BEGINNER));
+        assertEquals(1, counts.difficultyLevels().get(DifficultyLevel.EXPERT));
+        assertEquals(1, counts.languages().get("en-US"));
+        assertEquals(1, counts.languages().get("pt-BR"));
+    }
+
+    @Test
+    @DisplayName("Should count the selected tag among the tag facets")
+    void shouldCountTags() {
+        FacetCounts counts = recipeFacetCountReader.count(
+            new Selection(List.of(tagName), List.of(RecipeCategory.PASTA), null, null),
+            Integer.MAX_VALUE
+        );
+
+        assertEquals(1, counts.total());
+        assertEquals(1, counts.tags().get(tagName));
+    }
+}
@@ -0,0 +1,149 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.*;
+import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class RecipeInsertBatchingBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(RecipeInsertBatchingBenchmarkTest.class);
+
+    private static final int RECIPES = 10;
+    private static final int STEPS_PER_RECIPE = 20;
+    private static final int INGREDIENTS_PER_RECIPE = 30;
+
+    private record Run(long statements, long elapsedMillis) {}
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Long authorId;
+
+    private List<Long> ingredientIds;
+
+    @BeforeEach
+    void setup() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        User author = User.builder()
+            .firstName("Batch")
+            .lastName("Author")
+            .email("batch-" + suffix + "@tastyhub.test")
+            .username("batch_" + suffix)
+            .password("secret")
+            .profilePictureUrl("avatar.png")
+            .settings(null)
+            .build();
+
+        entityManager.persist(author);
+
+        List<Ingredient> ingredients = IntStream.range(0, INGREDIENTS_PER_RECIPE)
+            .mapToObj(i -> Ingredient.builder().name("batch-" + suffix + "-" + i).build())
+            .toList();
+
+        ingredients.forEach(entityManager::persist);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        authorId = author.getId();
+        ingredientIds = ingredients.stream().map(Ingredient::getId).toList();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private Run createLargeRecipes(Integer jdbcBatchSize) {
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(jdbcBatchSize);
+
+        User author = entityManager.getReference(User.class, authorId);
+        List<RecipeIngredient> recipeIngredients = ingredientIds.stream()
+            .map(id -> new RecipeIngredient(
+                BigDecimal.TEN,
+                IngredientUnitEnum.GRAM,
+                entityManager.getReference(Ingredient.class, id)
+            ))
+            .toList();
+
+        statistics.clear();
+        long start = System.nanoTime();
+
+        for (int i = 0; i < RECIPES; i++) {
+            List<PreparationStep> steps = new ArrayList<>();
+
+            for (int step = 1; step <= STEPS_PER_RECIPE; step++) {
+                steps.add(new PreparationStep(step, "Step " + step));
+            }
+
+            entityManager.persist(new Recipe(
+                "Large recipe " + i,
+                "Recipe used to count insert statements",
+                author,
+                true,
+                "en-US",
+                DifficultyLevel.BEGINNER,
+                RecipeCategory.MEAL,
+                10,
+                20,
+                null,
+                null,
+                List.of(),
+                steps,
+                recipeIngredients
+            ));
+        }
+
+        entityManager.flush();
+
+        Run run = new Run(statistics.getPrepareStatementCount(), (System.nanoTime() - start) / 1_000_000);
+
+        entityManager.clear();
+        session.setJdbcBatchSize(null);
+
+        return run;
+    }
+
+    @Test
+    @DisplayName("Should insert large recipes with a fraction of the statements when batching is enabled")
+    void shouldBatchLargeRecipeInserts() {
+        Run unbatched = createLargeRecipes(1);
+        Run batched = createLargeRecipes(null);
+
+        log.info(
+            "Creating {} recipes with {} steps and {} ingredients each: unbatched {} statements in {} ms, batched {} statements in {} ms",
+            RECIPES, STEPS_PER_RECIPE, INGREDIENTS_PER_RECIPE,
+            unbatched.statements(), unbatched.elapsedMillis(),
+            batched.statements(), batched.elapsedMillis()
+        );
+
+        long rows = (long) RECIPES * (2 + STEPS_PER_RECIPE + INGREDIENTS_PER_RECIPE);
+
+        assertTrue(unbatched.statements() >= rows);
+        assertTrue(batched.statements() * 10 < unbatched.statements());
+    }
+}
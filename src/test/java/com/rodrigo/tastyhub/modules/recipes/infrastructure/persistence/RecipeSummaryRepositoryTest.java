@@ -0,0 +1,193 @@
+package com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence;
+
+import com.rodrigo.tastyhub.modules.recipes.application.dto.request.ListRecipesQuery;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.DifficultyLevel;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeCategory;
+import com.rodrigo.tastyhub.modules.recipes.domain.projections.RecipeSummaryProjection;
+import com.rodrigo.tastyhub.modules.recipes.domain.repository.RecipeRepository;
+import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class RecipeSummaryRepositoryTest {
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Specification<Recipe> ownRecipes;
+
+    private User author;
+
+    @BeforeEach
+    void setup() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        author = User.builder()
+            .firstName("Summary")
+            .lastName("Author")
+            .email("summary-" + suffix + "@tastyhub.test")
+            .username("summary_" + suffix)
+            .password("secret")
+            .profilePictureUrl("avatar.png")
+            .settings(null)
+            .build();
+
+        entityManager.persist(author);
+
+        for (int i = 0; i < 120; i++) {
+            entityManager.persist(new Recipe(
+                "Summary recipe " + i,
+                "Recipe used to count statements",
+                author,
+                true,
+                "en-US",
+                DifficultyLevel.BEGINNER,
+                RecipeCategory.DESSERT,
+                10,
+                20,
+                null,
+                null,
+                List.of(),
+                new ArrayList<>(),
+                new ArrayList<>()
+            ));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        ownRecipes = RecipeSpecification.withFilters(
+            new ListRecipesQuery(
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            ),
+            null,
+            author.getId()
+        );
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Should read a 100-item slice of summaries in a single statement")
+    void shouldReadSliceInSingleStatement() {
+        statistics.clear();
+
+        Slice<RecipeSummaryProjection> slice = recipeRepository.findSummarySlice(
+            ownRecipes,
+            PageRequest.of(0, 100, Sort.by("createdAt").descending())
+        );
+
+        assertEquals(100, slice.getNumberOfElements());
+        assertTrue(slice.hasNext());
+        assertEquals("summary_", slice.getContent().get(0).authorUsername().substring(0, 8));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Should keep the statement count constant regardless of the page size")
+    void shouldKeepStatementCountConstant() {
+        statistics.clear();
+        recipeRepository.findSummaries(ownRecipes, PageRequest.of(0, 10, Sort.by("statistics.averageRating")));
+        long smallPageStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        recipeRepository.findSummaries(ownRecipes, PageRequest.of(0, 100, Sort.by("statistics.averageRating")));
+        long largePageStatements = statistics.getPrepareStatementCount();
+
+        assertEquals(smallPageStatements, largePageStatements);
+        assertTrue(largePageStatements <= 2);
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Should hide private recipes from other viewers when loading summaries by id")
+    void shouldApplyVisibilityWhenLoadingByIds() {
+        Recipe hidden = new Recipe(
+            "Hidden recipe",
+            "Recipe only its author may see",
+            author,
+            false,
+            "en-US",
+            DifficultyLevel.BEGINNER,
+            RecipeCategory.DESSERT,
+            10,
+            20,
+            null,
+            null,
+            List.of(),
+            new ArrayList<>(),
+            new ArrayList<>()
+        );
+
+        entityManager.persist(hidden);
+        entityManager.flush();
+
+        Specification<Recipe> byId = RecipeSpecification.withIds(List.of(hidden.getId()));
+
+        Slice<RecipeSummaryProjection> asAuthor = recipeRepository.findSummarySlice(
+            byId.and(RecipeSpecification.visibleTo(author.getId())),
+            PageRequest.of(0, 1)
+        );
+        Slice<RecipeSummaryProjection> asStranger = recipeRepository.findSummarySlice(
+            byId.and(RecipeSpecification.visibleTo(author.getId() + 1_000_000)),
+            PageRequest.of(0, 1)
+        );
+        Slice<RecipeSummaryProjection> asAnonymous = recipeRepository.findSummarySlice(
+            byId.and(RecipeSpecification.visibleTo(null)),
+            PageRequest.of(0, 1)
+        );
+
+        assertEquals(1, asAuthor.getNumberOfElements());
+        assertFalse(asStranger.hasContent());
+        assertFalse(asAnonymous.hasContent());
+    }
+}
@@ -0,0 +1,90 @@
+package com.rodrigo.tastyhub.modules.recipes.interfaces.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.request.UpdateExchangeRateDto;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Currency;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.ExchangeRate;
+import com.rodrigo.tastyhub.modules.recipes.domain.service.CurrencyService;
+import com.rodrigo.tastyhub.shared.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CurrencyController.class)
+@WithMockUser(roles = "ADMIN")
+@AutoConfigureMockMvc(addFilters = false)
+class CurrencyControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private CurrencyService currencyService;
+
+    private static final String BASE_URL = "/api/currencies";
+
+    @Nested
+    @DisplayName("PUT /api/currencies/{code}/exchange-rate")
+    class UpdateExchangeRateTests {
+        @Test
+        @DisplayName("1. Should return 200 with the stored exchange rate")
+        void shouldReturn200WhenRateIsUpdated() throws Exception {
+            Currency currency = new Currency((short) 2, "BRL", "Real Brasileiro", "R$");
+            ExchangeRate exchangeRate = ExchangeRate.builder()
+                .currencyId((short) 2)
+                .currency(currency)
+                .rateToBase(new BigDecimal("0.18"))
+                .build();
+
+            when(currencyService.updateExchangeRate(eq("BRL"), any(BigDecimal.class))).thenReturn(exchangeRate);
+
+            mockMvc.perform(put(BASE_URL + "/{code}/exchange-rate", "BRL")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new UpdateExchangeRateDto(new BigDecimal("0.18")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currencyCode").value("BRL"))
+                .andExpect(jsonPath("$.baseCurrencyCode").value("USD"))
+                .andExpect(jsonPath("$.rateToBase").value(0.18));
+        }
+
+        @Test
+        @DisplayName("2. Should return 400 when rate is not positive")
+        void shouldReturn400WhenRateIsNotPositive() throws Exception {
+            mockMvc.perform(put(BASE_URL + "/{code}/exchange-rate", "BRL")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new UpdateExchangeRateDto(new BigDecimal("-1")))))
+                .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(currencyService);
+        }
+
+        @Test
+        @DisplayName("3. Should return 404 when currency does not exist")
+        void shouldReturn404WhenCurrencyDoesNotExist() throws Exception {
+            when(currencyService.updateExchangeRate(eq("XYZ"), any(BigDecimal.class)))
+                .thenThrow(new ResourceNotFoundException("Currency not found with the provided code"));
+
+            mockMvc.perform(put(BASE_URL + "/{code}/exchange-rate", "XYZ")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new UpdateExchangeRateDto(BigDecimal.ONE))))
+                .andExpect(status().isNotFound());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.rodrigo.tastyhub.modules.recipes.interfaces.rest;
+
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.IngredientSummaryDto;
+import com.rodrigo.tastyhub.modules.recipes.domain.service.IngredientService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(IngredientController.class)
+@WithMockUser
+@AutoConfigureMockMvc(addFilters = false)
+class IngredientControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private IngredientService ingredientService;
+
+    private static final String BASE_URL = "/api/ingredients";
+
+    @Nested
+    @DisplayName("GET /api/ingredients")
+    class SearchIngredientsTests {
+        @Test
+        @DisplayName("1. Should return 200 with the matching ingredients")
+        void shouldReturnMatchingIngredients() throws Exception {
+            when(ingredientService.search("tomatoe", 10))
+                .thenReturn(List.of(new IngredientSummaryDto(1L, "Tomato")));
+
+            mockMvc.perform(get(BASE_URL)
+                    .param("q", "tomatoe")
+                    .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].name").value("Tomato"));
+        }
+
+        @Test
+        @DisplayName("2. Should return 400 when the search term is missing")
+        void shouldReturn400WhenTermIsMissing() throws Exception {
+            mockMvc.perform(get(BASE_URL)
+                    .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+            verify(ingredientService, never()).search(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("3. Should return 400 when the limit is out of range")
+        void shouldReturn400WhenLimitIsOutOfRange() throws Exception {
+            mockMvc.perform(get(BASE_URL)
+                    .param("q", "tomato")
+                    .param("limit", "500")
+                    .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+        }
+    }
+}
@@ -3,9 +3,20 @@ package com.rodrigo.tastyhub.modules.recipes.interfaces.rest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rodrigo.tastyhub.modules.recipes.application.dto.request.CreateRecipeDto;
 import com.rodrigo.tastyhub.modules.recipes.application.dto.request.ListRecipesQuery;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.request.PantryQuery;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.request.RecipeFacetsQuery;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.request.SuggestionQuery;
 import com.rodrigo.tastyhub.modules.recipes.application.dto.request.UpdateRecipeDto;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.FacetCountDto;
 import com.rodrigo.tastyhub.modules.recipes.application.dto.response.FullRecipeDto;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.IngredientSummaryDto;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.PantryMatchDto;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.RecipeFacetsDto;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.RecipeImportErrorDto;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.RecipeImportReportDto;
 import com.rodrigo.tastyhub.modules.recipes.application.dto.response.RecipePagination;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.SimilarRecipeDto;
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.SuggestionDto;
 import com.rodrigo.tastyhub.modules.recipes.application.mapper.PreparationStepMapper;
 import com.rodrigo.tastyhub.modules.recipes.application.mapper.RecipeIngredientMapper;
 import com.rodrigo.tastyhub.modules.recipes.application.mapper.RecipeMapper;
@@ -15,6 +26,7 @@ import com.rodrigo.tastyhub.modules.recipes.domain.service.RecipeService;
 import com.rodrigo.tastyhub.modules.user.domain.model.User;
 import com.rodrigo.tastyhub.shared.config.security.SecurityService;
 import com.rodrigo.tastyhub.shared.dto.response.PaginationMetadata;
+import com.rodrigo.tastyhub.shared.enums.ExportFormat;
 import com.rodrigo.tastyhub.shared.enums.SortDirection;
 import com.rodrigo.tastyhub.shared.exception.ForbiddenException;
 import com.rodrigo.tastyhub.shared.exception.ResourceNotFoundException;
@@ -32,16 +44,22 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 
 import static org.hamcrest.Matchers.containsString;
 
@@ -70,6 +88,9 @@ class RecipeControllerTest {
     @MockitoBean
     private CreateRecipeUseCase createRecipe;
 
+    @MockitoBean
+    private ImportRecipesUseCase importRecipes;
+
     @MockitoBean
     private UpdateRecipeCoverUseCase updateRecipeCover;
 
@@ -82,12 +103,27 @@ class RecipeControllerTest {
     @MockitoBean
     private GetRecipeByIdUseCase getRecipeById;
 
+    @MockitoBean
+    private GetSimilarRecipesUseCase getSimilarRecipes;
+
+    @MockitoBean
+    private GetRecipeFacetsUseCase getRecipeFacets;
+
+    @MockitoBean
+    private GetSuggestionsUseCase getSuggestions;
+
+    @MockitoBean
+    private MatchPantryUseCase matchPantry;
+
     @MockitoBean
     private DeleteRecipeUseCase deleteRecipeById;
 
     @MockitoBean
     private ListRecipesByCollectionUseCase listRecipesByCollection;
 
+    @MockitoBean
+    private ExportRecipesUseCase exportRecipes;
+
     private Recipe fakeRecipe;
 
     @BeforeEach
@@ -117,10 +153,12 @@ class RecipeControllerTest {
         fakeRecipe.setCoverAlt("Alternative");
         fakeRecipe.setEstimatedCost(new BigDecimal("10.5"));
 
-        RecipeStatistics recipeStatistics = new RecipeStatistics();
-
-        recipeStatistics.incrementRating(new BigDecimal("4.5"));
-        recipeStatistics.setFavoritesCount(0);
+        RecipeStatistics recipeStatistics = RecipeStatistics.builder()
+            .reviewsCount(1)
+            .totalRatingSum(new BigDecimal("4.0"))
+            .averageRating(4.0)
+            .favoritesCount(0)
+            .build();
 
         fakeRecipe.setStatistics(recipeStatistics);
 
@@ -285,6 +323,203 @@ class RecipeControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/recipes/facets")
+    class GetRecipeFacetsTests {
+        @Test
+        @DisplayName("Should return 200 with facet counts for the selection")
+        void shouldReturnFacetCounts() throws Exception {
+            when(getRecipeFacets.execute(any(RecipeFacetsQuery.class)))
+                .thenReturn(new RecipeFacetsDto(
+                    3,
+                    List.of(new FacetCountDto("VEGAN", 3)),
+                    List.of(new FacetCountDto("BEGINNER", 2)),
+                    List.of(new FacetCountDto("en-US", 3)),
+                    List.of(new FacetCountDto("Easy", 1))
+                ));
+
+            mockMvc.perform(get("/api/recipes/facets")
+                    .param("categories", "VEGAN")
+                    .param("tags", "Easy")
+                    .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.categories[0].value").value("VEGAN"))
+                .andExpect(jsonPath("$.tags[0].count").value(1));
+
+            verify(getRecipeFacets).execute(argThat(query ->
+                query.categories().contains(RecipeCategory.VEGAN) &&
+                query.tags().contains("Easy") &&
+                query.tagLimit() == 20
+            ));
+        }
+
+        @Test
+        @DisplayName("Should return 400 when tag limit is out of range")
+        void shouldReturn400OnInvalidTagLimit() throws Exception {
+            mockMvc.perform(get("/api/recipes/facets")
+                    .param("tagLimit", "0")
+                    .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/recipes/suggestions")
+    class GetSuggestionsTests {
+        @Test
+        @DisplayName("Should return 200 with suggestions for the prefix")
+        void shouldReturnSuggestions() throws Exception {
+            when(getSuggestions.execute(any(SuggestionQuery.class)))
+                .thenReturn(List.of(
+                    new SuggestionDto("Chocolate Cake", SuggestionType.RECIPE, 1L),
+                    new SuggestionDto("Chocolate", SuggestionType.INGREDIENT, 7L)
+                ));
+
+            mockMvc.perform(get("/api/recipes/suggestions")
+                    .param("q", "choc")
+                    .param("types", "RECIPE", "INGREDIENT")
+                    .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].text").value("Chocolate Cake"))
+                .andExpect(jsonPath("$[1].type").value("INGREDIENT"));
+
+            verify(getSuggestions).execute(argThat(query ->
+                query.q().equals("choc") &&
+                query.limit() == 10 &&
+                query.types().containsAll(List.of(SuggestionType.RECIPE, SuggestionType.INGREDIENT))
+            ));
+        }
+
+        @Test
+        @DisplayName("Should return 400 when the prefix is missing")
+        void shouldReturn400WhenPrefixIsMissing() throws Exception {
+            mockMvc.perform(get("/api/recipes/suggestions")
+                    .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/recipes/{id}/similar")
+    class GetSimilarRecipesTests {
+        @Test
+        @DisplayName("Should return 200 with the nearest recipes")
+        void shouldReturnSimilarRecipes() throws Exception {
+            when(getSimilarRecipes.execute(1L, 5))
+                .thenReturn(List.of(new SimilarRecipeDto(RecipeMapper.toSummaryDto(fakeRecipe), 0.5)));
+
+            mockMvc.perform(get("/api/recipes/1/similar")
+                    .param("limit", "5")
+                    .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].similarity").value(0.5));
+        }
+
+        @Test
+        @DisplayName("Should default the limit to 10")
+        void shouldUseDefaultLimit() throws Exception {
+            when(getSimilarRecipes.execute(1L, 10)).thenReturn(List.of());
+
+            mockMvc.perform(get("/api/recipes/1/similar")
+                    .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+
+            verify(getSimilarRecipes).execute(1L, 10);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/recipes/pantry")
+    class MatchPantryTests {
+        @Test
+        @DisplayName("Should return 200 with recipes ranked by pantry coverage")
+        void shouldReturnPantryMatches() throws Exception {
+            when(matchPantry.execute(any(PantryQuery.class)))
+                .thenReturn(List.of(new PantryMatchDto(
+                    RecipeMapper.toSummaryDto(fakeRecipe),
+                    3,
+                    0.75,
+                    List.of(new IngredientSummaryDto(9L, "Basil"))
+                )));
+
+            mockMvc.perform(get("/api/recipes/pantry")
+                    .param("ingredientIds", "1", "4", "7")
+                    .param("maxMissing", "1")
+                    .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].matchedCount").value(3))
+                .andExpect(jsonPath("$[0].missingIngredients[0].name").value("Basil"));
+
+            verify(matchPantry).execute(argThat(query ->
+                query.ingredientIds().equals(List.of(1L, 4L, 7L)) &&
+                query.maxMissing() == 1 &&
+                query.limit() == 20
+            ));
+        }
+
+        @Test
+        @DisplayName("Should return 400 when the pantry is empty")
+        void shouldReturn400WhenPantryIsEmpty() throws Exception {
+            mockMvc.perform(get("/api/recipes/pantry")
+                    .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+            verify(matchPantry, never()).execute(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/recipes/export")
+    class ExportRecipesTests {
+        @Test
+        @DisplayName("Should stream an author's recipes as an NDJSON attachment by default")
+        void shouldStreamNdjsonByDefault() throws Exception {
+            StreamingResponseBody body = output -> output.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+
+            when(exportRecipes.byAuthor(3L, ExportFormat.NDJSON)).thenReturn(body);
+
+            MvcResult result = mockMvc.perform(get("/api/recipes/export").param("authorId", "3"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", containsString("application/x-ndjson")))
+                .andExpect(header().string("Content-Disposition", containsString("recipes-author-3.ndjson")))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+        }
+
+        @Test
+        @DisplayName("Should stream a collection as CSV when requested")
+        void shouldStreamCollectionAsCsv() throws Exception {
+            StreamingResponseBody body = output -> output.write("id,title\n1,Soup\n".getBytes(StandardCharsets.UTF_8));
+
+            when(exportRecipes.byCollection(5L, ExportFormat.CSV)).thenReturn(body);
+
+            MvcResult result = mockMvc.perform(get("/api/recipes/collections/5/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", containsString("text/csv")))
+                .andExpect(header().string("Content-Disposition", containsString("recipes-collection-5.csv")))
+                .andExpect(content().string("id,title\n1,Soup\n"));
+        }
+
+        @Test
+        @DisplayName("Should return 403 before streaming when the collection is private")
+        void shouldReturn403ForPrivateCollection() throws Exception {
+            when(exportRecipes.byCollection(6L, ExportFormat.NDJSON))
+                .thenThrow(new ForbiddenException("This collection is private and can only be exported by its owner."));
+
+            mockMvc.perform(get("/api/recipes/collections/6/export"))
+                .andExpect(status().isForbidden());
+        }
+    }
+
     @Nested
     @DisplayName("POST /api/recipes (Create Recipe)")
     class CreateRecipeTests {
@@ -399,6 +634,53 @@ class RecipeControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/recipes/import")
+    class ImportRecipesTests {
+        @Test
+        @DisplayName("Should stream the NDJSON body to the import and return its report")
+        void shouldReturnImportReport() throws Exception {
+            String body = "{\"title\":\"First\"}\n{\"title\":\"Second\"}\n";
+
+            when(importRecipes.execute(any(InputStream.class), eq(7L))).thenAnswer(invocation -> {
+                String received = new String(
+                    invocation.getArgument(0, InputStream.class).readAllBytes(),
+                    StandardCharsets.UTF_8
+                );
+
+                return new RecipeImportReportDto(
+                    received.lines().count(),
+                    1,
+                    1,
+                    List.of(new RecipeImportErrorDto(2, "Ingredient not found with ID 9"))
+                );
+            });
+
+            mockMvc.perform(post("/api/recipes/import")
+                    .param("authorId", "7")
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processedCount").value(2))
+                .andExpect(jsonPath("$.importedCount").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(2))
+                .andExpect(jsonPath("$.errors[0].message").value("Ingredient not found with ID 9"));
+        }
+
+        @Test
+        @DisplayName("Should return 404 when the target author does not exist")
+        void shouldReturn404WhenAuthorIsMissing() throws Exception {
+            when(importRecipes.execute(any(InputStream.class), eq(99L)))
+                .thenThrow(new ResourceNotFoundException("User not found"));
+
+            mockMvc.perform(post("/api/recipes/import")
+                    .param("authorId", "99")
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .content("{}\n"))
+                .andExpect(status().isNotFound());
+        }
+    }
+
     @Nested
     @DisplayName("DELETE /api/recipes/{id}")
     class DeleteRecipeTests {
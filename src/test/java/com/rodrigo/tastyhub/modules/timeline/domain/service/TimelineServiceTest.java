@@ -0,0 +1,211 @@
+package com.rodrigo.tastyhub.modules.timeline.domain.service;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.social.domain.service.FollowService;
+import com.rodrigo.tastyhub.modules.tags.domain.model.Tag;
+import com.rodrigo.tastyhub.modules.tags.domain.service.TagService;
+import com.rodrigo.tastyhub.modules.timeline.domain.projections.TimelineItemProjection;
+import com.rodrigo.tastyhub.modules.timeline.domain.repository.TimelineRepository;
+import com.rodrigo.tastyhub.modules.timeline.infrastructure.cache.PopularAuthorCache;
+import com.rodrigo.tastyhub.modules.timeline.infrastructure.cache.PopularTagCache;
+import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import com.rodrigo.tastyhub.shared.enums.SortDirection;
+import com.rodrigo.tastyhub.shared.kernel.pagination.KeysetCursor;
+import com.rodrigo.tastyhub.shared.kernel.pagination.KeysetWindow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimelineServiceTest {
+    @Mock
+    private TimelineRepository timelineRepository;
+
+    @Mock
+    private FollowService followService;
+
+    @Mock
+    private TagService tagService;
+
+    @Mock
+    private PopularAuthorCache popularAuthorCache;
+
+    @Mock
+    private PopularTagCache popularTagCache;
+
+    private TimelineService timelineService;
+
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2026, 5, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    @BeforeEach
+    void setUp() {
+        timelineService = new TimelineService(
+            timelineRepository,
+            followService,
+            tagService,
+            popularAuthorCache,
+            popularTagCache,
+            800
+        );
+    }
+
+    private Recipe recipe(boolean isPublic, Set<Tag> tags) {
+        return Recipe.builder()
+            .id(10L)
+            .author(User.builder().id(1L).build())
+            .isPublic(isPublic)
+            .tags(tags)
+            .createdAt(NOW)
+            .publishedAt(NOW)
+            .build();
+    }
+
+    @Nested
+    @DisplayName("Tests for Publish Method")
+    class PublishTests {
+        @Test
+        @DisplayName("Should push the recipe to followers and tag followers")
+        void shouldFanOutToFollowersAndTags() {
+            when(popularAuthorCache.isPopular(1L)).thenReturn(false);
+
+            timelineService.publish(recipe(true, Set.of(new Tag(3L, "Vegan"))));
+
+            verify(timelineRepository).fanOutToFollowers(eq(10L), eq(1L), any(OffsetDateTime.class));
+            verify(timelineRepository).fanOutToTagFollowers(eq(10L), eq(1L), eq(List.of(3L)), any(OffsetDateTime.class));
+        }
+
+        @Test
+        @DisplayName("Should fan out at the recipe's publish time so it merges with recipes read on demand")
+        void shouldPublishAtRecipePublishTime() {
+            when(popularAuthorCache.isPopular(1L)).thenReturn(false);
+
+            timelineService.publish(recipe(true, Set.of()));
+
+            verify(timelineRepository).fanOutToFollowers(10L, 1L, NOW);
+        }
+
+        @Test
+        @DisplayName("Should leave followers of popular tags to fan-out on read")
+        void shouldSkipFollowersOfPopularTags() {
+            when(popularAuthorCache.isPopular(1L)).thenReturn(false);
+            when(popularTagCache.isPopular(3L)).thenReturn(true);
+            when(popularTagCache.isPopular(4L)).thenReturn(false);
+
+            timelineService.publish(recipe(true, Set.of(new Tag(3L, "Vegan"), new Tag(4L, "Quick"))));
+
+            verify(timelineRepository).fanOutToTagFollowers(eq(10L), eq(1L), eq(List.of(4L)), any(OffsetDateTime.class));
+        }
+
+        @Test
+        @DisplayName("Should leave followers of popular authors to fan-out on read")
+        void shouldSkipFollowersOfPopularAuthors() {
+            when(popularAuthorCache.isPopular(1L)).thenReturn(true);
+
+            timelineService.publish(recipe(true, Set.of()));
+
+            verify(timelineRepository, never()).fanOutToFollowers(any(), any(), any());
+            verify(timelineRepository, never()).fanOutToTagFollowers(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should not publish private recipes")
+        void shouldIgnorePrivateRecipes() {
+            timelineService.publish(recipe(false, Set.of(new Tag(3L, "Vegan"))));
+
+            verifyNoInteractions(timelineRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for Find Home Timeline Method")
+    class FindHomeTimelineTests {
+        @Test
+        @DisplayName("Should merge pushed entries with recipes of followed popular authors")
+        void shouldMergePushedAndPulledEntries() {
+            when(popularAuthorCache.getAuthorIds()).thenReturn(Set.of(99L));
+            when(followService.findFollowedAmong(1L, Set.of(99L))).thenReturn(List.of(99L));
+            when(timelineRepository.findPage(eq(1L), any(), eq(Long.MAX_VALUE), any())).thenReturn(List.of(
+                new TimelineItemProjection(5L, NOW),
+                new TimelineItemProjection(3L, NOW.minusDays(2))
+            ));
+            when(timelineRepository.findPageByAuthors(eq(List.of(99L)), any(), eq(Long.MAX_VALUE), any())).thenReturn(List.of(
+                new TimelineItemProjection(4L, NOW.minusDays(1)),
+                new TimelineItemProjection(3L, NOW.minusDays(2))
+            ));
+
+            KeysetWindow<Long> window = timelineService.findHomeTimeline(1L, null, 2);
+
+            assertEquals(List.of(5L, 4L), window.content());
+            assertTrue(window.hasNext());
+
+            KeysetCursor cursor = KeysetCursor.decode(window.nextCursor(), "publishedAt", SortDirection.DESC);
+            assertEquals(4L, cursor.id());
+            assertEquals(NOW.minusDays(1), cursor.typedValue(OffsetDateTime.class));
+        }
+
+        @Test
+        @DisplayName("Should merge recipes of followed popular tags read at request time")
+        void shouldMergeRecipesOfPopularTags() {
+            when(popularAuthorCache.getAuthorIds()).thenReturn(Set.of());
+            when(followService.findFollowedAmong(1L, Set.of())).thenReturn(List.of());
+            when(popularTagCache.getTagIds()).thenReturn(Set.of(3L));
+            when(tagService.findFollowedAmong(1L, Set.of(3L))).thenReturn(List.of(3L));
+            when(timelineRepository.findPage(eq(1L), any(), any(), any()))
+                .thenReturn(List.of(new TimelineItemProjection(5L, NOW.minusDays(1))));
+            when(timelineRepository.findPageByTags(eq(1L), eq(List.of(3L)), any(), eq(Long.MAX_VALUE), any()))
+                .thenReturn(List.of(new TimelineItemProjection(6L, NOW)));
+
+            KeysetWindow<Long> window = timelineService.findHomeTimeline(1L, null, 10);
+
+            assertEquals(List.of(6L, 5L), window.content());
+            assertFalse(window.hasNext());
+        }
+
+        @Test
+        @DisplayName("Should read only the pushed timeline when no popular author is followed")
+        void shouldReadPushedTimelineOnly() {
+            when(popularAuthorCache.getAuthorIds()).thenReturn(Set.of());
+            when(followService.findFollowedAmong(1L, Set.of())).thenReturn(List.of());
+            when(timelineRepository.findPage(eq(1L), any(), any(), any()))
+                .thenReturn(List.of(new TimelineItemProjection(5L, NOW)));
+
+            KeysetWindow<Long> window = timelineService.findHomeTimeline(1L, null, 10);
+
+            assertEquals(List.of(5L), window.content());
+            assertFalse(window.hasNext());
+            assertNull(window.nextCursor());
+            verify(timelineRepository, never()).findPageByAuthors(any(), any(), any(), any());
+            verify(timelineRepository, never()).findPageByTags(any(), any(), any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for Backfill Pending Method")
+    class BackfillPendingTests {
+        @Test
+        @DisplayName("Should backfill, trim and dequeue every claimed user")
+        void shouldBackfillClaimedUsers() {
+            when(timelineRepository.lockPendingBackfills(10)).thenReturn(List.of(7L, 8L));
+
+            int processed = timelineService.backfillPending(10);
+
+            assertEquals(2, processed);
+            verify(timelineRepository).backfill(7L, 800);
+            verify(timelineRepository).trimUser(8L, 800);
+            verify(timelineRepository).deleteBackfillRequests(List.of(7L, 8L));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.rodrigo.tastyhub.modules.timeline.interfaces.rest;
+
+import com.rodrigo.tastyhub.modules.recipes.application.dto.response.RecipePagination;
+import com.rodrigo.tastyhub.modules.timeline.application.dto.request.HomeTimelineQuery;
+import com.rodrigo.tastyhub.modules.timeline.application.usecases.GetHomeTimelineUseCase;
+import com.rodrigo.tastyhub.shared.dto.response.PaginationMetadata;
+import com.rodrigo.tastyhub.shared.enums.SortDirection;
+import com.rodrigo.tastyhub.shared.kernel.pagination.KeysetWindow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TimelineController.class)
+@WithMockUser
+@AutoConfigureMockMvc(addFilters = false)
+class TimelineControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private GetHomeTimelineUseCase getHomeTimeline;
+
+    @Nested
+    @DisplayName("GET /api/timeline")
+    class GetHomeTimelineTests {
+        @Test
+        @DisplayName("1. Should return 200 with the next cursor")
+        void shouldReturnTimelinePage() throws Exception {
+            when(getHomeTimeline.execute(any(HomeTimelineQuery.class))).thenReturn(new RecipePagination(
+                List.of(),
+                PaginationMetadata.ofCursor(5, SortDirection.DESC, true, new KeysetWindow<>(List.of(), true, "next"), null)
+            ));
+
+            mockMvc.perform(get("/api/timeline")
+                    .param("after", "abc")
+                    .param("size", "5")
+                    .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.metadata.nextCursor").value("next"));
+
+            verify(getHomeTimeline).execute(argThat(query ->
+                query.after().equals("abc") && query.size() == 5
+            ));
+        }
+
+        @Test
+        @DisplayName("2. Should return 400 when the page size is too large")
+        void shouldReturn400WhenSizeIsTooLarge() throws Exception {
+            mockMvc.perform(get("/api/timeline")
+                    .param("size", "500")
+                    .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+            verify(getHomeTimeline, never()).execute(any());
+        }
+    }
+}
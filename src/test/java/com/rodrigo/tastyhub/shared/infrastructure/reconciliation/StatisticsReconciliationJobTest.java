@@ -0,0 +1,266 @@
+package com.rodrigo.tastyhub.shared.infrastructure.reconciliation;
+
+import com.rodrigo.tastyhub.modules.recipes.domain.model.DifficultyLevel;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.Recipe;
+import com.rodrigo.tastyhub.modules.recipes.domain.model.RecipeCategory;
+import com.rodrigo.tastyhub.modules.recipes.infrastructure.persistence.RecipeCounterStore;
+import com.rodrigo.tastyhub.modules.user.domain.model.User;
+import com.rodrigo.tastyhub.shared.infrastructure.reconciliation.StatisticsReconciliationStore.RunReport;
+import com.rodrigo.tastyhub.shared.infrastructure.reconciliation.StatisticsReconciliationStore.Target;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "app.recipe-counters.fold-enabled=false",
+    "app.statistics-reconciliation.pause-between-chunks-ms=0"
+})
+class StatisticsReconciliationJobTest {
+    @Autowired
+    private StatisticsReconciliationJob reconciliationJob;
+
+    @Autowired
+    private RecipeCounterStore recipeCounterStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Long authorId;
+
+    private Long recipeId;
+
+    private Long collectionId;
+
+    @BeforeEach
+    void setup() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User author = User.builder()
+                .firstName("Reconciled")
+                .lastName("Author")
+                .email("reconciled-" + suffix + "@tastyhub.test")
+                .username("reconciled_" + suffix)
+                .password("secret")
+                .profilePictureUrl("avatar.png")
+                .settings(null)
+                .build();
+
+            entityManager.persist(author);
+
+            Recipe recipe = new Recipe(
+                "Drifting recipe",
+                "Recipe whose counters drifted",
+                author,
+                true,
+                "en-US",
+                DifficultyLevel.BEGINNER,
+                RecipeCategory.DESSERT,
+                10,
+                20,
+                null,
+                null,
+                List.of(),
+                new ArrayList<>(),
+                new ArrayList<>()
+            );
+
+            entityManager.persist(recipe);
+
+            authorId = author.getId();
+            recipeId = recipe.getId();
+        });
+
+        collectionId = jdbcTemplate.queryForObject(
+            "INSERT INTO user_collections (name, user_id) VALUES ('Saved', ?) RETURNING id",
+            Long.class,
+            authorId
+        );
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM comments WHERE article_id IN (SELECT id FROM articles WHERE user_id = ?)", authorId);
+        jdbcTemplate.update("DELETE FROM articles WHERE user_id = ?", authorId);
+        jdbcTemplate.update("DELETE FROM recipes WHERE id = ?", recipeId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", authorId);
+    }
+
+    private RunReport reconcileRecipes() {
+        return reconcileFully(Target.RECIPES);
+    }
+
+    private RunReport reconcileFully(Target target) {
+        Optional<RunReport> report;
+
+        do {
+            report = reconciliationJob.reconcile(target);
+        } while (report.isEmpty());
+
+        return report.get();
+    }
+
+    private void awaitBlockedWriter() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+
+        while (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pg_locks WHERE NOT granted", Integer.class) == 0) {
+            assertTrue(System.nanoTime() < deadline, "Reconciliation never waited on the locked row");
+            Thread.sleep(20);
+        }
+    }
+
+    private Map<String, Object> statistics() {
+        return jdbcTemplate.queryForMap(
+            "SELECT favorites_count, reviews_count, total_rating_sum, five_star_count, reviewers_count FROM recipe_statistics WHERE recipe_id = ?",
+            recipeId
+        );
+    }
+
+    @Test
+    @DisplayName("Should recompute drifted counters from collections and comments and report the correction")
+    void shouldCorrectDriftedCounters() {
+        jdbcTemplate.update("INSERT INTO recipe_collections (collection_id, recipe_id) VALUES (?, ?)", collectionId, recipeId);
+        jdbcTemplate.update(
+            "UPDATE recipe_statistics SET favorites_count = 42, reviews_count = 7, total_rating_sum = 30, five_star_count = 6, reviewers_count = 5 WHERE recipe_id = ?",
+            recipeId
+        );
+
+        RunReport report = reconcileRecipes();
+
+        Map<String, Object> statistics = statistics();
+
+        assertEquals(1, ((Number) statistics.get("favorites_count")).intValue());
+        assertEquals(0, ((Number) statistics.get("reviews_count")).intValue());
+        assertEquals(0, ((Number) statistics.get("total_rating_sum")).intValue());
+        assertEquals(0, ((Number) statistics.get("five_star_count")).intValue());
+        assertEquals(0, ((Number) statistics.get("reviewers_count")).intValue());
+        assertTrue(report.corrected() >= 1);
+        assertTrue(report.scanned() >= 1);
+        assertEquals(0L, jdbcTemplate.queryForObject(
+            "SELECT last_id FROM statistics_reconciliation_progress WHERE target = 'recipe_statistics'",
+            Long.class
+        ));
+    }
+
+    @Test
+    @DisplayName("Should leave counters alone when the difference is still waiting in pending deltas")
+    void shouldAccountForPendingDeltas() {
+        jdbcTemplate.update("INSERT INTO recipe_collections (collection_id, recipe_id) VALUES (?, ?)", collectionId, recipeId);
+        recipeCounterStore.addFavorites(recipeId, 1);
+
+        reconcileRecipes();
+
+        assertEquals(0, ((Number) statistics().get("favorites_count")).intValue());
+
+        List<Long> folded;
+
+        do {
+            folded = recipeCounterStore.fold(1000);
+        } while (!folded.isEmpty());
+
+        assertEquals(1, ((Number) statistics().get("favorites_count")).intValue());
+    }
+
+    @Test
+    @DisplayName("Should skip a drifted row that changes between the chunk read and the update")
+    void shouldSkipRowChangedConcurrently() throws Exception {
+        jdbcTemplate.update("INSERT INTO recipe_collections (collection_id, recipe_id) VALUES (?, ?)", collectionId, recipeId);
+        jdbcTemplate.update("UPDATE recipe_statistics SET favorites_count = 42 WHERE recipe_id = ?", recipeId);
+
+        ExecutorService reconciler = Executors.newSingleThreadExecutor();
+
+        try (Connection writer = dataSource.getConnection()) {
+            writer.setAutoCommit(false);
+
+            try (PreparedStatement update = writer.prepareStatement(
+                "UPDATE recipe_statistics SET favorites_count = 99 WHERE recipe_id = ?"
+            )) {
+                update.setLong(1, recipeId);
+                update.executeUpdate();
+            }
+
+            Future<RunReport> run = reconciler.submit(this::reconcileRecipes);
+
+            awaitBlockedWriter();
+            writer.commit();
+
+            run.get(60, TimeUnit.SECONDS);
+        } finally {
+            reconciler.shutdownNow();
+        }
+
+        assertEquals(99, ((Number) statistics().get("favorites_count")).intValue());
+
+        reconcileRecipes();
+
+        assertEquals(1, ((Number) statistics().get("favorites_count")).intValue());
+    }
+
+    @Test
+    @DisplayName("Should recompute drifted article counters from comments and collections")
+    void shouldCorrectDriftedArticleCounters() {
+        Long articleId = jdbcTemplate.queryForObject(
+            "INSERT INTO articles (title, content, user_id) VALUES ('Drifting article', 'Article whose counters drifted', ?) RETURNING id",
+            Long.class,
+            authorId
+        );
+
+        jdbcTemplate.update(
+            "INSERT INTO article_statistics (article_id, comments_count, favorites_count) VALUES (?, 9, 4) " +
+            "ON CONFLICT (article_id) DO UPDATE SET comments_count = 9, favorites_count = 4",
+            articleId
+        );
+        jdbcTemplate.update(
+            "INSERT INTO comments (user_id, article_id, rating, content) VALUES (?, ?, 5.0, 'Nice read')",
+            authorId,
+            articleId
+        );
+        jdbcTemplate.update("INSERT INTO article_collections (collection_id, article_id) VALUES (?, ?)", collectionId, articleId);
+
+        RunReport report = reconcileFully(Target.ARTICLES);
+
+        Map<String, Object> statistics = jdbcTemplate.queryForMap(
+            "SELECT comments_count, favorites_count FROM article_statistics WHERE article_id = ?",
+            articleId
+        );
+
+        assertEquals(1, ((Number) statistics.get("comments_count")).intValue());
+        assertEquals(1, ((Number) statistics.get("favorites_count")).intValue());
+        assertEquals(Target.ARTICLES, report.target());
+        assertTrue(report.corrected() >= 1);
+        assertEquals(0L, jdbcTemplate.queryForObject(
+            "SELECT last_id FROM statistics_reconciliation_progress WHERE target = 'article_statistics'",
+            Long.class
+        ));
+    }
+}